@@ -2,6 +2,14 @@ package de.wwu.mulib;
 
 import de.wwu.mulib.model.classes.java.lang.IntegerReplacement;
 import de.wwu.mulib.model.classes.java.lang.NumberReplacement;
+import de.wwu.mulib.model.classes.java.util.ArrayListReplacement;
+import de.wwu.mulib.model.classes.java.util.CollectionReplacement;
+import de.wwu.mulib.model.classes.java.util.HashMapReplacement;
+import de.wwu.mulib.model.classes.java.util.IteratorReplacement;
+import de.wwu.mulib.model.classes.java.util.ListReplacement;
+import de.wwu.mulib.model.classes.java.util.MapEntryReplacement;
+import de.wwu.mulib.model.classes.java.util.MapReplacement;
+import de.wwu.mulib.model.classes.java.util.SetReplacement;
 import de.wwu.mulib.search.choice_points.Backtrack;
 import de.wwu.mulib.search.executors.MulibExecutor;
 import de.wwu.mulib.search.executors.SearchStrategy;
@@ -17,6 +25,7 @@ import de.wwu.mulib.util.TriConsumer;
 import java.io.PrintStream;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -68,14 +77,58 @@ public class MulibConfig {
      * {@link MulibConfig#SEARCH_ADDITIONAL_PARALLEL_STRATEGIES}?
      */
     public final Optional<Long> SEARCH_ACTIVATE_PARALLEL_FOR;
+    /**
+     * If set to true, the number of active executors is adapted at runtime instead of activating the
+     * {@link MulibConfig#SEARCH_ADDITIONAL_PARALLEL_STRATEGIES} once {@link MulibConfig#SEARCH_ACTIVATE_PARALLEL_FOR}
+     * choice options are available. The size of the choice option deque, the throughput of evaluated paths per executor,
+     * the time spent in the constraint solver, and the number of available processors are sampled to grow or shrink the set
+     * of active executors. Executors that are not needed are parked together with their solver managers.
+     * If more executors than additional strategies are permitted, the additional strategies are reused in-order.
+     */
+    public final boolean SEARCH_ADAPTIVE_PARALLELISM;
+    /**
+     * If {@link MulibConfig#SEARCH_ADAPTIVE_PARALLELISM} is set, the maximum number of executors that are active at the same
+     * time, including the executor of {@link MulibConfig#SEARCH_MAIN_STRATEGY}. Is additionally restricted by the number of
+     * available processors.
+     */
+    public final int SEARCH_ADAPTIVE_PARALLELISM_MAX_EXECUTORS;
+    /**
+     * If {@link MulibConfig#SEARCH_ADAPTIVE_PARALLELISM} is set, the minimum time between two samples of the controller deciding
+     * on the number of active executors
+     */
+    public final long SEARCH_ADAPTIVE_PARALLELISM_SAMPLING_INTERVAL_IN_MS;
+    /**
+     * The factory used to create the threads on which the executors of {@link MulibConfig#SEARCH_ADDITIONAL_PARALLEL_STRATEGIES}
+     * run. If none is specified, platform threads are used. On runtimes that support them, a factory for virtual threads
+     * can be passed to interleave many executions per core. Each execution carries its state via its own
+     * {@link de.wwu.mulib.search.executors.SymbolicExecution} so that no further thread-bound state is required.
+     * Note that virtual threads are pinned to their carrier thread while they call into a native solver, e.g., Z3 via JNI,
+     * or while they hold a monitor. Since solver calls make up most of the time of a search, the number of executors
+     * that effectively run in parallel is thus still bounded by the number of carrier threads.
+     */
+    public final Optional<ThreadFactory> SEARCH_PARALLEL_THREAD_FACTORY;
     /**
      * True, if we want to execute the search region in concolc mode, false leads to a purely symbolic search
      */
     public final boolean SEARCH_CONCOLIC;
+    /**
+     * Only has an effect if {@link MulibConfig#SEARCH_CONCOLIC} is set.
+     * If set to true, after each concolic run, all alternatives of the choices encountered during this run are checked for
+     * satisfiability in a batch, starting from the deepest choice. This is done incrementally using the solver stack of the
+     * run. Unsatisfiable alternatives are pruned without any further concolic run. Satisfiable ones form the next generation
+     * and are reinserted into the choice option deque, so that their next concolic runs do not need to check them again.
+     */
+    public final boolean SEARCH_CONCOLIC_GENERATIONAL;
     /**
      * Whether we throw an exception once we find an {@link Throwable} in the search region, or not
      */
     public final boolean SEARCH_ALLOW_EXCEPTIONS;
+    /**
+     * Should the elements of arrays of objects in the arguments of the search region and in the static fields only be
+     * copied for an execution once they are accessed? The transformed inputs are shared between all executions. Is ignored
+     * if {@link MulibConfig#SEARCH_CONCOLIC} is set
+     */
+    public final boolean SEARCH_COPY_ARRAY_ELEMENTS_OF_INPUTS_LAZILY;
     /**
      * Useful for debugging: Should the result be labeled?
      */
@@ -98,6 +151,11 @@ public class MulibConfig {
      * Log the time for finding only the first path solution
      */
     public final boolean LOG_TIME_FOR_FIRST_PATH_SOLUTION;
+    /**
+     * Count the concrete numbers that are allocated since they are not cached and log them with the other statistics.
+     * This helps to tune {@link MulibConfig#VALS_CONC_CACHE_LB} and {@link MulibConfig#VALS_CONC_CACHE_UB}
+     */
+    public final boolean LOG_CONC_ALLOCATIONS;
     /* Callbacks */
     /**
      * Callback that is invoked after finding each path solution
@@ -186,6 +244,18 @@ public class MulibConfig {
      * explicitly activated
      */
     public final boolean VALS_TREAT_BOOLEANS_AS_INTS;
+    /**
+     * The lower bound of the concrete ints, longs, and integral doubles that are cached instead of being allocated,
+     * see {@link de.wwu.mulib.substitutions.primitives.ConcSnumberCache}. The cache is shared by all contexts and is
+     * widened to the ranges of all of them, as long as at most
+     * {@link de.wwu.mulib.substitutions.primitives.ConcSnumberCache#MAX_NUMBER_CACHED_VALUES} values are cached
+     */
+    public final int VALS_CONC_CACHE_LB;
+    /**
+     * The upper bound of the concrete ints, longs, chars, and integral doubles that are cached instead of being allocated,
+     * see {@link MulibConfig#VALS_CONC_CACHE_LB}
+     */
+    public final int VALS_CONC_CACHE_UB;
 
     /* Free Arrays */
     /**
@@ -201,6 +271,14 @@ public class MulibConfig {
      * Should the symbolic execution check for out-of-bounds exceptions that are possible in arrays?
      */
     public final boolean ARRAYS_THROW_EXCEPTION_ON_OOB;
+    /**
+     * Arrays with primitive elements that are not yet represented in the constraint solver and that have at most this
+     * many elements are unrolled: Each element is an individual value and selects and stores with symbolic indexes are
+     * represented via if-then-else expressions over all elements. For arrays with a symbolic length, the maximum length
+     * is taken from {@link MulibConfig#VALS_SYMSINT_UB}, if the length is an input. 0 disables unrolling. Unrolling is not
+     * used if {@link MulibConfig#SEARCH_CONCOLIC} is set
+     */
+    public final int ARRAYS_UNROLL_LENGTH_THRESHOLD;
     /* Solver */
     /**
      * The solver that is used for the search strategy/search strategies
@@ -247,6 +325,17 @@ public class MulibConfig {
      * The maximal number of exceeded budgets encountered during search
      */
     public final Optional<Long> BUDGETS_MAX_EXCEEDED_BUDGET;
+    /**
+     * The memory in bytes that may be occupied before the search reduces its memory footprint, e.g., by evicting
+     * caches of the constraint solvers. The occupied memory comprises the used heap and an approximation of the
+     * native memory, e.g., of the constraint solver
+     */
+    public final Optional<Long> BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES;
+    /**
+     * The memory in bytes that may be occupied before the search is stopped. The path solutions found so far are
+     * returned
+     */
+    public final Optional<Long> BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES;
 
     /* Free Initialization */
     /**
@@ -262,6 +351,17 @@ public class MulibConfig {
      * of subsequently initialized objects?
      */
     public final boolean FREE_INIT_ALIASING_FOR_FREE_OBJECTS;
+    /**
+     * Should symmetries between aliasing targets be broken? If set, once a path has been fully executed, of two free
+     * objects of the same class that were initialized one after another and that stayed untouched on this path, i.e.,
+     * none of their fields or elements were accessed, they were not stored in other objects, and no constraint on
+     * their identifier, on whether they are null, or on their length was added, the second one can only be aliased by
+     * a subsequently initialized object if the first one was aliased before. The search itself still regards all
+     * aliasing targets; this mainly reduces the number of equivalent solutions, e.g., for
+     * {@link MulibContext#getUpToNSolutions(int, Object...)}. Requires
+     * {@link MulibConfig#FREE_INIT_ALIASING_FOR_FREE_OBJECTS}
+     */
+    public final boolean FREE_INIT_ALIASING_SYMMETRY_BREAKING;
 
     /* Transformation */
     private final boolean TRANSF_USE_DEFAULT_MODEL_CLASSES;
@@ -276,6 +376,15 @@ public class MulibConfig {
      * replaced methods?
      */
     public final boolean TRANSF_USE_DEFAULT_METHODS_TO_REPLACE_METHOD_CALLS_OF_NON_SUBSTITUTED_CLASS_WITH;
+    /**
+     * Should java.util.Collection, java.util.List, java.util.ArrayList, java.util.Iterator, java.util.Set, java.util.Map,
+     * java.util.Map.Entry, and java.util.HashMap be replaced by the array-backed model classes in
+     * {@link de.wwu.mulib.model.classes.java.util}? The models avoid hashing and branching on resizing logic, but only
+     * model the commonly used methods. The views of maps, i.e., the key set, the values, and the entry set, are modelled.
+     * Other implementations of these interfaces, e.g., java.util.HashSet, cannot be used in the search region if this
+     * is set
+     */
+    public final boolean TRANSF_USE_COLLECTION_MODEL_CLASSES;
     /**
      * A map of (original method, replacement method)-pairs. In the search region, all occurrences of calls to
      * 'original method' will be replaced by calls to 'replacement method'.
@@ -331,10 +440,49 @@ public class MulibConfig {
      * Where should we try to write the generated partner classes?
      */
     public final String TRANSF_GENERATED_CLASSES_PATH;
+    /**
+     * If set, the partner classes generated by the {@link de.wwu.mulib.transformations.MulibTransformer} are stored in
+     * this directory. The stored partner classes are keyed by the hash of the bytecode of the transformed classes and the
+     * transformation-relevant options of this configuration. If an up-to-date entry exists, the partner classes are
+     * loaded from the directory without running the bytecode transformation.
+     */
+    public final Optional<String> TRANSF_CACHE_DIRECTORY;
+    /**
+     * If true, the {@link de.wwu.mulib.transformations.MulibTransformer} is shared by all {@link de.wwu.mulib.MulibContext}s
+     * the configurations of which yield the same partner classes. Classes that have already been transformed for
+     * another search region are reused and are not defined anew. Further classes are transformed incrementally.
+     * Since the choice points of all search regions transformed by the shared transformer are numbered consecutively,
+     * this cannot be combined with {@link MulibConfig#TRANSF_CFG_GENERATE_CHOICE_POINTS_WITH_ID}.
+     */
+    public final boolean TRANSF_SHARE_TRANSFORMER;
+    /**
+     * If set, the partner classes are loaded from this jar instead of transforming classes at runtime. The jar is
+     * generated ahead of time by {@link de.wwu.mulib.transformations.AheadOfTimeTransformation}. The transformation-relevant
+     * options of this configuration must be equal to those used for generating the jar.
+     * @see de.wwu.mulib.transformations.PrecomputedMulibTransformer
+     */
+    public final Optional<String> TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR;
     /**
      * Should the partner class be validated after generation? This is useful for debugging
      */
     public final boolean TRANSF_VALIDATE_TRANSFORMATION;
+    /**
+     * The number of threads used for those phases of the transformation that are independent for each method or class,
+     * i.e., the taint analysis of the methods of a class and the generation of class files. The transformation of
+     * class nodes, which mutates the representation of the bytecode framework, is not parallelized. If this is 1, the
+     * transformation is sequential.
+     */
+    public final int TRANSF_PARALLELISM;
+    /**
+     * If true, partner classes are only generated as class files and defined once the JVM resolves them, i.e., once they
+     * are used by the search region. Classes that are resolved but have not been transformed yet, e.g., since they are
+     * only referenced reflectively, are transformed on demand. Requires a {@link de.wwu.mulib.transformations.MulibClassLoader}.
+     * Note that only the generation of class files and their definition are deferred: The class nodes of all classes
+     * reachable from the search region are still transformed eagerly when the classes are transformed, since field
+     * accesses are replaced by the accessor methods of the referenced partner classes. Thus, the time spent in the
+     * bytecode framework is not reduced by this option.
+     */
+    public final boolean TRANSF_LAZY_TRANSFORMATION;
     /**
      * For debugging and testing, it sometimes is helpful to directly write library-code without a transformation.
      * If this is false, the {@link de.wwu.mulib.transformations.MulibTransformer} will not try to
@@ -387,6 +535,7 @@ public class MulibConfig {
         private boolean FREE_INIT_ENABLE_INITIALIZE_FREE_ARRAYS_WITH_NULL;
         private boolean FREE_INIT_ENABLE_INITIALIZE_FREE_OBJECTS_WITH_NULL;
         private boolean FREE_INIT_ALIASING_FOR_FREE_OBJECTS;
+        private boolean FREE_INIT_ALIASING_SYMMETRY_BREAKING;
         private String TREE_INDENTATION;
         private boolean SEARCH_RANDOMIZE_SELECTION_FROM_NEW_CHOICE;
         private boolean SEARCH_LABEL_RESULT_VALUE;
@@ -400,13 +549,20 @@ public class MulibConfig {
         private boolean TRANSF_USE_DEFAULT_MODEL_CLASSES;
         private Map<Class<?>, Class<?>> TRANSF_REPLACE_TO_BE_TRANSFORMED_CLASS_WITH_SPECIFIED_CLASS;
         private boolean TRANSF_USE_DEFAULT_METHODS_TO_REPLACE_METHOD_CALLS_OF_NON_SUBSTITUTED_CLASS_WITH;
+        private boolean TRANSF_USE_COLLECTION_MODEL_CLASSES;
         private Map<Method, Method> TRANSF_REPLACE_METHOD_WITH_OTHER_METHOD;
         private SearchStrategy SEARCH_MAIN_STRATEGY;
         private boolean SEARCH_CONCOLIC;
+        private boolean SEARCH_CONCOLIC_GENERATIONAL;
         private boolean SEARCH_ALLOW_EXCEPTIONS;
+        private boolean SEARCH_COPY_ARRAY_ELEMENTS_OF_INPUTS_LAZILY;
         private List<SearchStrategy> SEARCH_ADDITIONAL_PARALLEL_STRATEGIES;
         private ChoiceOptionDeques SEARCH_CHOICE_OPTION_DEQUE_TYPE;
         private long SEARCH_ACTIVATE_PARALLEL_FOR;
+        private boolean SEARCH_ADAPTIVE_PARALLELISM;
+        private int SEARCH_ADAPTIVE_PARALLELISM_MAX_EXECUTORS;
+        private long SEARCH_ADAPTIVE_PARALLELISM_SAMPLING_INTERVAL_IN_MS;
+        private ThreadFactory SEARCH_PARALLEL_THREAD_FACTORY;
         private Solvers SOLVER_GLOBAL_TYPE;
         private boolean SOLVER_KEEP_TRACK_OF_ORIGINAL_CONSTRAINTS;
         private long BUDGET_FIXED_ACTUAL_CP;
@@ -415,9 +571,16 @@ public class MulibConfig {
         private long BUDGET_MAX_FAILS;
         private long BUDGET_MAX_PATH_SOLUTIONS;
         private long BUDGET_MAX_EXCEEDED;
+        private long BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES;
+        private long BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES;
         private boolean TRANSF_WRITE_TO_FILE;
         private String TRANSF_GENERATED_CLASSES_PATH;
+        private String TRANSF_CACHE_DIRECTORY;
+        private boolean TRANSF_SHARE_TRANSFORMER;
+        private String TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR;
         private boolean TRANSF_VALIDATE_TRANSFORMATION;
+        private int TRANSF_PARALLELISM;
+        private boolean TRANSF_LAZY_TRANSFORMATION;
         private boolean TRANSF_LOAD_WITH_SYSTEM_CLASSLOADER;
         private boolean TRANSF_INCLUDE_PACKAGE_NAME;
         private boolean TRANSF_TREAT_SPECIAL_METHOD_CALLS;
@@ -443,12 +606,16 @@ public class MulibConfig {
         private Optional<Character> VALS_SYMSCHAR_LB;
         private Optional<Character> VALS_SYMSCHAR_UB;
         private boolean VALS_TREAT_BOOLEANS_AS_INTS;
+        private int VALS_CONC_CACHE_LB;
+        private int VALS_CONC_CACHE_UB;
         private boolean ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_PRIMITIVE_ELEMENTS;
         private boolean ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_OBJECT_ELEMENTS;
         private boolean ARRAYS_THROW_EXCEPTION_ON_OOB;
+        private int ARRAYS_UNROLL_LENGTH_THRESHOLD;
         private boolean SOLVER_HIGH_LEVEL_SYMBOLIC_OBJECT_APPROACH;
         private LinkedHashMap<String, Object> SOLVER_ARGS;
         private boolean LOG_TIME_FOR_FIRST_PATH_SOLUTION;
+        private boolean LOG_CONC_ALLOCATIONS;
 
         private TriConsumer<MulibExecutor, de.wwu.mulib.search.trees.Fail, SolverManager> CALLBACK_FAIL;
         private TriConsumer<MulibExecutor, Backtrack, SolverManager> CALLBACK_BACKTRACK;
@@ -461,11 +628,14 @@ public class MulibConfig {
             this.FREE_INIT_ENABLE_INITIALIZE_FREE_ARRAYS_WITH_NULL = false;
             this.FREE_INIT_ENABLE_INITIALIZE_FREE_OBJECTS_WITH_NULL = false;
             this.FREE_INIT_ALIASING_FOR_FREE_OBJECTS = false;
+            this.FREE_INIT_ALIASING_SYMMETRY_BREAKING = false;
             this.SEARCH_RANDOMIZE_SELECTION_FROM_NEW_CHOICE = false;
             this.SEARCH_LABEL_RESULT_VALUE = true;
             this.TREE_ENLIST_LEAVES = false;
             this.SEARCH_CONCOLIC = false;
+            this.SEARCH_CONCOLIC_GENERATIONAL = false;
             this.SEARCH_ALLOW_EXCEPTIONS = false;
+            this.SEARCH_COPY_ARRAY_ELEMENTS_OF_INPUTS_LAZILY = false;
             this.TREE_INDENTATION = "    ";
             this.SEARCH_MAIN_STRATEGY = SearchStrategy.DFS;
             this.SOLVER_GLOBAL_TYPE = Solvers.Z3_INCREMENTAL;
@@ -476,7 +646,13 @@ public class MulibConfig {
             this.BUDGET_MAX_FAILS =                0;
             this.BUDGET_MAX_PATH_SOLUTIONS =       0;
             this.BUDGET_MAX_EXCEEDED =     0;
+            this.BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES = 0;
+            this.BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES = 0;
             this.SEARCH_ACTIVATE_PARALLEL_FOR =    2;
+            this.SEARCH_ADAPTIVE_PARALLELISM = false;
+            this.SEARCH_ADAPTIVE_PARALLELISM_MAX_EXECUTORS = Runtime.getRuntime().availableProcessors();
+            this.SEARCH_ADAPTIVE_PARALLELISM_SAMPLING_INTERVAL_IN_MS = 50;
+            this.SEARCH_PARALLEL_THREAD_FACTORY = null;
             this.SEARCH_CHOICE_OPTION_DEQUE_TYPE = ChoiceOptionDeques.SIMPLE;
             this.TRANSF_IGNORE_CLASSES = Set.of(
                     Mulib.class, Fail.class
@@ -500,9 +676,13 @@ public class MulibConfig {
             this.TRANSF_USE_DEFAULT_MODEL_CLASSES = true;
             this.TRANSF_REPLACE_TO_BE_TRANSFORMED_CLASS_WITH_SPECIFIED_CLASS = new HashMap<>();
             this.TRANSF_USE_DEFAULT_METHODS_TO_REPLACE_METHOD_CALLS_OF_NON_SUBSTITUTED_CLASS_WITH = false;
+            this.TRANSF_USE_COLLECTION_MODEL_CLASSES = false;
             this.TRANSF_REPLACE_METHOD_WITH_OTHER_METHOD = new HashMap<>();
             this.TRANSF_WRITE_TO_FILE = true;
             this.TRANSF_GENERATED_CLASSES_PATH = "build/classes/java/";
+            this.TRANSF_CACHE_DIRECTORY = null;
+            this.TRANSF_SHARE_TRANSFORMER = false;
+            this.TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR = null;
             this.TRANSF_INCLUDE_PACKAGE_NAME = false;
             this.TRANSF_TREAT_SPECIAL_METHOD_CALLS = false;
             this.TRANSF_CFG_GENERATE_CHOICE_POINTS_WITH_ID = false;
@@ -510,6 +690,8 @@ public class MulibConfig {
             this.CFG_TERMINATE_EARLY_ON_FULL_COVERAGE = false;
             this.CFG_CREATE_NEXT_EXECUTION_BASED_ON_COVERAGE = false;
             this.TRANSF_VALIDATE_TRANSFORMATION = false;
+            this.TRANSF_PARALLELISM = 1;
+            this.TRANSF_LAZY_TRANSFORMATION = false;
             this.TRANSF_OVERWRITE_FILE_FOR_SYSTEM_CLASSLOADER = false;
             this.TRANSF_IGNORED_CLASSES_TO_LABEL_FUNCTIONS = new HashMap<>();
             this.TRANSF_IGNORED_CLASSES_TO_LABEL_FUNCTIONS.put(
@@ -545,10 +727,14 @@ public class MulibConfig {
             this.ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_PRIMITIVE_ELEMENTS = false;
             this.ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_OBJECT_ELEMENTS = false;
             this.VALS_TREAT_BOOLEANS_AS_INTS = false;
+            this.VALS_CONC_CACHE_LB = -128;
+            this.VALS_CONC_CACHE_UB = 127;
             this.ARRAYS_THROW_EXCEPTION_ON_OOB = false;
+            this.ARRAYS_UNROLL_LENGTH_THRESHOLD = 0;
             this.SOLVER_HIGH_LEVEL_SYMBOLIC_OBJECT_APPROACH = false;
             this.SOLVER_ARGS = new LinkedHashMap<>();
             this.LOG_TIME_FOR_FIRST_PATH_SOLUTION = false;
+            this.LOG_CONC_ALLOCATIONS = false;
             this.CALLBACK_FAIL = (me, f, sm) -> {};
             this.CALLBACK_BACKTRACK = (me, b, sm) -> {};
             this.CALLBACK_EXCEEDED_BUDGET = (me, b, sm) -> {};
@@ -662,6 +848,30 @@ public class MulibConfig {
             return this;
         }
 
+        /**
+         * @see MulibConfig#TRANSF_CACHE_DIRECTORY
+         */
+        public MulibConfigBuilder setTRANSF_CACHE_DIRECTORY(String TRANSF_CACHE_DIRECTORY) {
+            this.TRANSF_CACHE_DIRECTORY = TRANSF_CACHE_DIRECTORY;
+            return this;
+        }
+
+        /**
+         * @see MulibConfig#TRANSF_SHARE_TRANSFORMER
+         */
+        public MulibConfigBuilder setTRANSF_SHARE_TRANSFORMER(boolean TRANSF_SHARE_TRANSFORMER) {
+            this.TRANSF_SHARE_TRANSFORMER = TRANSF_SHARE_TRANSFORMER;
+            return this;
+        }
+
+        /**
+         * @see MulibConfig#TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR
+         */
+        public MulibConfigBuilder setTRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR(String TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR) {
+            this.TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR = TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR;
+            return this;
+        }
+
         /**
          * @see MulibConfig#TRANSF_VALIDATE_TRANSFORMATION
          */
@@ -670,6 +880,22 @@ public class MulibConfig {
             return this;
         }
 
+        /**
+         * @see MulibConfig#TRANSF_PARALLELISM
+         */
+        public MulibConfigBuilder setTRANSF_PARALLELISM(int TRANSF_PARALLELISM) {
+            this.TRANSF_PARALLELISM = TRANSF_PARALLELISM;
+            return this;
+        }
+
+        /**
+         * @see MulibConfig#TRANSF_LAZY_TRANSFORMATION
+         */
+        public MulibConfigBuilder setTRANSF_LAZY_TRANSFORMATION(boolean TRANSF_LAZY_TRANSFORMATION) {
+            this.TRANSF_LAZY_TRANSFORMATION = TRANSF_LAZY_TRANSFORMATION;
+            return this;
+        }
+
         /**
          * @param BUDGET_GLOBAL_TIME_IN_SECONDS The time budget in seconds
          * @see MulibConfig#BUDGETS_GLOBAL_TIME_IN_NANOSECONDS
@@ -703,6 +929,22 @@ public class MulibConfig {
             return this;
         }
 
+        /**
+         * @see MulibConfig#BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES
+         */
+        public MulibConfigBuilder setBUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES(long BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES) {
+            this.BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES = BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES;
+            return this;
+        }
+
+        /**
+         * @see MulibConfig#BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES
+         */
+        public MulibConfigBuilder setBUDGETS_HARD_MEMORY_LIMIT_IN_BYTES(long BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES) {
+            this.BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES = BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES;
+            return this;
+        }
+
         /**
          * @see MulibConfig#SEARCH_ADDITIONAL_PARALLEL_STRATEGIES
          */
@@ -743,6 +985,38 @@ public class MulibConfig {
             return this;
         }
 
+        /**
+         * @see MulibConfig#SEARCH_ADAPTIVE_PARALLELISM
+         */
+        public MulibConfigBuilder setSEARCH_ADAPTIVE_PARALLELISM(boolean SEARCH_ADAPTIVE_PARALLELISM) {
+            this.SEARCH_ADAPTIVE_PARALLELISM = SEARCH_ADAPTIVE_PARALLELISM;
+            return this;
+        }
+
+        /**
+         * @see MulibConfig#SEARCH_ADAPTIVE_PARALLELISM_MAX_EXECUTORS
+         */
+        public MulibConfigBuilder setSEARCH_ADAPTIVE_PARALLELISM_MAX_EXECUTORS(int SEARCH_ADAPTIVE_PARALLELISM_MAX_EXECUTORS) {
+            this.SEARCH_ADAPTIVE_PARALLELISM_MAX_EXECUTORS = SEARCH_ADAPTIVE_PARALLELISM_MAX_EXECUTORS;
+            return this;
+        }
+
+        /**
+         * @see MulibConfig#SEARCH_ADAPTIVE_PARALLELISM_SAMPLING_INTERVAL_IN_MS
+         */
+        public MulibConfigBuilder setSEARCH_ADAPTIVE_PARALLELISM_SAMPLING_INTERVAL_IN_MS(long SEARCH_ADAPTIVE_PARALLELISM_SAMPLING_INTERVAL_IN_MS) {
+            this.SEARCH_ADAPTIVE_PARALLELISM_SAMPLING_INTERVAL_IN_MS = SEARCH_ADAPTIVE_PARALLELISM_SAMPLING_INTERVAL_IN_MS;
+            return this;
+        }
+
+        /**
+         * @see MulibConfig#SEARCH_PARALLEL_THREAD_FACTORY
+         */
+        public MulibConfigBuilder setSEARCH_PARALLEL_THREAD_FACTORY(ThreadFactory SEARCH_PARALLEL_THREAD_FACTORY) {
+            this.SEARCH_PARALLEL_THREAD_FACTORY = SEARCH_PARALLEL_THREAD_FACTORY;
+            return this;
+        }
+
         /**
          * @see MulibConfig#SEARCH_LABEL_RESULT_VALUE
          */
@@ -880,6 +1154,22 @@ public class MulibConfig {
             return this;
         }
 
+        /**
+         * @see MulibConfig#VALS_CONC_CACHE_LB
+         */
+        public MulibConfigBuilder setVALS_CONC_CACHE_LB(int VALS_CONC_CACHE_LB) {
+            this.VALS_CONC_CACHE_LB = VALS_CONC_CACHE_LB;
+            return this;
+        }
+
+        /**
+         * @see MulibConfig#VALS_CONC_CACHE_UB
+         */
+        public MulibConfigBuilder setVALS_CONC_CACHE_UB(int VALS_CONC_CACHE_UB) {
+            this.VALS_CONC_CACHE_UB = VALS_CONC_CACHE_UB;
+            return this;
+        }
+
         /**
          * @see MulibConfig#SOLVER_HIGH_LEVEL_SYMBOLIC_OBJECT_APPROACH
          */
@@ -917,6 +1207,14 @@ public class MulibConfig {
             return this;
         }
 
+        /**
+         * @see MulibConfig#SEARCH_COPY_ARRAY_ELEMENTS_OF_INPUTS_LAZILY
+         */
+        public MulibConfigBuilder setSEARCH_COPY_ARRAY_ELEMENTS_OF_INPUTS_LAZILY(boolean SEARCH_COPY_ARRAY_ELEMENTS_OF_INPUTS_LAZILY) {
+            this.SEARCH_COPY_ARRAY_ELEMENTS_OF_INPUTS_LAZILY = SEARCH_COPY_ARRAY_ELEMENTS_OF_INPUTS_LAZILY;
+            return this;
+        }
+
         /**
          * @see MulibConfig#ARRAYS_THROW_EXCEPTION_ON_OOB
          */
@@ -925,6 +1223,14 @@ public class MulibConfig {
             return this;
         }
 
+        /**
+         * @see MulibConfig#ARRAYS_UNROLL_LENGTH_THRESHOLD
+         */
+        public MulibConfigBuilder setARRAYS_UNROLL_LENGTH_THRESHOLD(int ARRAYS_UNROLL_LENGTH_THRESHOLD) {
+            this.ARRAYS_UNROLL_LENGTH_THRESHOLD = ARRAYS_UNROLL_LENGTH_THRESHOLD;
+            return this;
+        }
+
         /**
          * @see MulibConfig#TRANSF_OVERWRITE_FILE_FOR_SYSTEM_CLASSLOADER
          */
@@ -941,6 +1247,14 @@ public class MulibConfig {
             return this;
         }
 
+        /**
+         * @see MulibConfig#SEARCH_CONCOLIC_GENERATIONAL
+         */
+        public MulibConfigBuilder setSEARCH_CONCOLIC_GENERATIONAL(boolean SEARCH_CONCOLIC_GENERATIONAL) {
+            this.SEARCH_CONCOLIC_GENERATIONAL = SEARCH_CONCOLIC_GENERATIONAL;
+            return this;
+        }
+
         /**
          * @see MulibConfig#TRANSF_TRANSFORMATION_REQUIRED
          */
@@ -989,6 +1303,14 @@ public class MulibConfig {
             return this;
         }
 
+        /**
+         * @see MulibConfig#FREE_INIT_ALIASING_SYMMETRY_BREAKING
+         */
+        public MulibConfigBuilder setFREE_INIT_ALIASING_SYMMETRY_BREAKING(boolean FREE_INIT_ALIASING_SYMMETRY_BREAKING) {
+            this.FREE_INIT_ALIASING_SYMMETRY_BREAKING = FREE_INIT_ALIASING_SYMMETRY_BREAKING;
+            return this;
+        }
+
         /**
          * @see MulibConfig#FREE_INIT_ENABLE_INITIALIZE_FREE_ARRAYS_WITH_NULL
          */
@@ -1021,6 +1343,14 @@ public class MulibConfig {
             return this;
         }
 
+        /**
+         * @see MulibConfig#LOG_CONC_ALLOCATIONS
+         */
+        public MulibConfigBuilder setLOG_CONC_ALLOCATIONS(boolean LOG_CONC_ALLOCATIONS) {
+            this.LOG_CONC_ALLOCATIONS = LOG_CONC_ALLOCATIONS;
+            return this;
+        }
+
         /**
          * @see MulibConfig#TRANSF_REPLACE_METHOD_WITH_OTHER_METHOD
          */
@@ -1045,6 +1375,14 @@ public class MulibConfig {
             return this;
         }
 
+        /**
+         * @see MulibConfig#TRANSF_USE_COLLECTION_MODEL_CLASSES
+         */
+        public MulibConfigBuilder setTRANSF_USE_COLLECTION_MODEL_CLASSES(boolean TRANSF_USE_COLLECTION_MODEL_CLASSES) {
+            this.TRANSF_USE_COLLECTION_MODEL_CLASSES = TRANSF_USE_COLLECTION_MODEL_CLASSES;
+            return this;
+        }
+
         /**
          * @see MulibConfig#TRANSF_REPLACE_TO_BE_TRANSFORMED_CLASS_WITH_SPECIFIED_CLASS
          * @see MulibConfig#TRANSF_REGARD_SPECIAL_CASE
@@ -1100,6 +1438,17 @@ public class MulibConfig {
             addModelClass(Integer.class, IntegerReplacement.class);
         }
 
+        private void addCollectionModelClasses() {
+            addModelClass(Iterator.class, IteratorReplacement.class);
+            addModelClass(Collection.class, CollectionReplacement.class);
+            addModelClass(List.class, ListReplacement.class);
+            addModelClass(ArrayList.class, ArrayListReplacement.class);
+            addModelClass(Map.class, MapReplacement.class);
+            addModelClass(HashMap.class, HashMapReplacement.class);
+            addModelClass(Set.class, SetReplacement.class);
+            addModelClass(Map.Entry.class, MapEntryReplacement.class);
+        }
+
         /**
          * @see MulibConfig#TRANSF_TREAT_SPECIAL_METHOD_CALLS
          */
@@ -1160,6 +1509,65 @@ public class MulibConfig {
                 );
             }
 
+            if (TRANSF_CACHE_DIRECTORY != null && TRANSF_LOAD_WITH_SYSTEM_CLASSLOADER) {
+                throw new MisconfigurationException("Cached partner classes are loaded with Mulib's own class loader." +
+                        " TRANSF_CACHE_DIRECTORY cannot be combined with TRANSF_LOAD_WITH_SYSTEM_CLASSLOADER.");
+            }
+
+            if (TRANSF_SHARE_TRANSFORMER && TRANSF_CACHE_DIRECTORY != null) {
+                throw new MisconfigurationException("Cached partner classes are loaded per MulibContext and cannot be" +
+                        " extended incrementally. TRANSF_SHARE_TRANSFORMER cannot be combined with TRANSF_CACHE_DIRECTORY.");
+            }
+
+            if (TRANSF_SHARE_TRANSFORMER && TRANSF_CFG_GENERATE_CHOICE_POINTS_WITH_ID) {
+                throw new MisconfigurationException("A shared transformer numbers the choice points of all search regions" +
+                        " it transforms. The CFG of a single search region thus cannot be derived from it." +
+                        " TRANSF_SHARE_TRANSFORMER cannot be combined with TRANSF_CFG_GENERATE_CHOICE_POINTS_WITH_ID.");
+            }
+
+            if (TRANSF_PARALLELISM < 1) {
+                throw new MisconfigurationException("TRANSF_PARALLELISM must be at least 1.");
+            }
+
+            if (TRANSF_LAZY_TRANSFORMATION
+                    && (TRANSF_LOAD_WITH_SYSTEM_CLASSLOADER || TRANSF_CACHE_DIRECTORY != null || TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR != null)) {
+                throw new MisconfigurationException("A lazy transformation requires partner classes to be defined by Mulib's" +
+                        " class loader when they are resolved. It cannot be combined with TRANSF_LOAD_WITH_SYSTEM_CLASSLOADER," +
+                        " TRANSF_CACHE_DIRECTORY, or TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR.");
+            }
+
+            if (TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR != null
+                    && (TRANSF_LOAD_WITH_SYSTEM_CLASSLOADER || TRANSF_CACHE_DIRECTORY != null || TRANSF_SHARE_TRANSFORMER)) {
+                throw new MisconfigurationException("If partner classes are loaded from TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR," +
+                        " no classes are transformed at runtime. TRANSF_LOAD_WITH_SYSTEM_CLASSLOADER, TRANSF_CACHE_DIRECTORY," +
+                        " and TRANSF_SHARE_TRANSFORMER cannot be used.");
+            }
+
+            if (VALS_CONC_CACHE_LB > VALS_CONC_CACHE_UB
+                    || (long) VALS_CONC_CACHE_UB - VALS_CONC_CACHE_LB >= ConcSnumberCache.MAX_NUMBER_CACHED_VALUES) {
+                throw new MisconfigurationException("VALS_CONC_CACHE_LB must not be larger than VALS_CONC_CACHE_UB" +
+                        " and at most 2^24 values can be cached.");
+            }
+
+            if (FREE_INIT_ALIASING_SYMMETRY_BREAKING && !FREE_INIT_ALIASING_FOR_FREE_OBJECTS) {
+                throw new MisconfigurationException("FREE_INIT_ALIASING_SYMMETRY_BREAKING can only be used if" +
+                        " FREE_INIT_ALIASING_FOR_FREE_OBJECTS is set.");
+            }
+
+            if (ARRAYS_UNROLL_LENGTH_THRESHOLD < 0) {
+                throw new MisconfigurationException("ARRAYS_UNROLL_LENGTH_THRESHOLD must not be negative.");
+            }
+
+            if (BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES < 0 || BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES < 0) {
+                throw new MisconfigurationException("The memory limits must not be negative.");
+            }
+
+            if (BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES != 0 && BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES != 0
+                    && BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES > BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES) {
+                throw new MisconfigurationException("BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES must not be larger than " +
+                        "BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES.");
+            }
+
 
             if (BUDGET_INCR_ACTUAL_CP != 0) {
                 if ((SEARCH_MAIN_STRATEGY != SearchStrategy.IDDFS
@@ -1186,6 +1594,16 @@ public class MulibConfig {
                         "use eager indices for primitive elements but not for object elements.");
             }
 
+            if (SEARCH_CONCOLIC_GENERATIONAL && !SEARCH_CONCOLIC) {
+                throw new MisconfigurationException("A generational search can only be used for concolic execution.");
+            }
+
+            if (SEARCH_ADAPTIVE_PARALLELISM
+                    && (SEARCH_ADDITIONAL_PARALLEL_STRATEGIES.isEmpty() || SEARCH_ADAPTIVE_PARALLELISM_MAX_EXECUTORS < 2)) {
+                throw new MisconfigurationException("When choosing to adapt the number of parallel executors, at least one" +
+                        " additional parallel search strategy must be specified and at least two executors must be permitted.");
+            }
+
             if (SEARCH_CONCOLIC && CFG_USE_GUIDANCE_DURING_EXECUTION) {
                 throw new MisconfigurationException("Concolic execution cannot be guided by the CFG; - the concrete values guide the" +
                         " execution. Deactivate either the concolic mode or the hints using the CFG."
@@ -1197,6 +1615,10 @@ public class MulibConfig {
                 TRANSF_REGARD_SPECIAL_CASE.add(Boolean.class);
             }
 
+            if (TRANSF_USE_COLLECTION_MODEL_CLASSES) {
+                addCollectionModelClasses();
+            }
+
             return new MulibConfig(
                     SEARCH_LABEL_RESULT_VALUE,
                     TREE_ENLIST_LEAVES,
@@ -1213,13 +1635,20 @@ public class MulibConfig {
                     BUDGET_MAX_FAILS,
                     BUDGET_MAX_PATH_SOLUTIONS,
                     BUDGET_MAX_EXCEEDED,
+                    BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES,
+                    BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES,
                     TRANSF_IGNORE_FROM_PACKAGES,
                     TRANSF_IGNORE_CLASSES,
                     TRANSF_REGARD_SPECIAL_CASE,
                     TRANSF_WRITE_TO_FILE,
                     TRANSF_GENERATED_CLASSES_PATH,
+                    TRANSF_CACHE_DIRECTORY,
+                    TRANSF_SHARE_TRANSFORMER,
+                    TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR,
                     TRANSF_INCLUDE_PACKAGE_NAME,
                     TRANSF_VALIDATE_TRANSFORMATION,
+                    TRANSF_PARALLELISM,
+                    TRANSF_LAZY_TRANSFORMATION,
                     TRANSF_CONCRETIZE_FOR,
                     TRANSF_TRY_USE_MORE_GENERAL_METHOD_FOR,
                     TRANSF_IGNORED_CLASSES_TO_LABEL_FUNCTIONS,
@@ -1228,6 +1657,10 @@ public class MulibConfig {
                     TRANSF_TRANSFORMATION_REQUIRED,
                     SEARCH_CHOICE_OPTION_DEQUE_TYPE,
                     SEARCH_ACTIVATE_PARALLEL_FOR,
+                    SEARCH_ADAPTIVE_PARALLELISM,
+                    SEARCH_ADAPTIVE_PARALLELISM_MAX_EXECUTORS,
+                    SEARCH_ADAPTIVE_PARALLELISM_SAMPLING_INTERVAL_IN_MS,
+                    SEARCH_PARALLEL_THREAD_FACTORY,
                     VALS_SYMSINT_LB,
                     VALS_SYMSINT_UB,
                     VALS_SYMSDOUBLE_LB,
@@ -1243,20 +1676,28 @@ public class MulibConfig {
                     VALS_SYMSCHAR_LB,
                     VALS_SYMSCHAR_UB,
                     VALS_TREAT_BOOLEANS_AS_INTS,
+                    VALS_CONC_CACHE_LB,
+                    VALS_CONC_CACHE_UB,
                     ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_PRIMITIVE_ELEMENTS,
                     ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_OBJECT_ELEMENTS,
                     ARRAYS_THROW_EXCEPTION_ON_OOB,
+                    ARRAYS_UNROLL_LENGTH_THRESHOLD,
                     SOLVER_HIGH_LEVEL_SYMBOLIC_OBJECT_APPROACH,
                     SOLVER_KEEP_TRACK_OF_ORIGINAL_CONSTRAINTS,
                     SEARCH_CONCOLIC,
+                    SEARCH_CONCOLIC_GENERATIONAL,
                     SEARCH_ALLOW_EXCEPTIONS,
+                    SEARCH_COPY_ARRAY_ELEMENTS_OF_INPUTS_LAZILY,
                     FREE_INIT_ENABLE_INITIALIZE_FREE_ARRAYS_WITH_NULL,
                     FREE_INIT_ENABLE_INITIALIZE_FREE_OBJECTS_WITH_NULL,
                     FREE_INIT_ALIASING_FOR_FREE_OBJECTS,
+                    FREE_INIT_ALIASING_SYMMETRY_BREAKING,
                     LOG_TIME_FOR_EACH_PATH_SOLUTION,
                     LOG_TIME_FOR_FIRST_PATH_SOLUTION,
+                    LOG_CONC_ALLOCATIONS,
                     TRANSF_REPLACE_METHOD_WITH_OTHER_METHOD,
                     TRANSF_USE_DEFAULT_METHODS_TO_REPLACE_METHOD_CALLS_OF_NON_SUBSTITUTED_CLASS_WITH,
+                    TRANSF_USE_COLLECTION_MODEL_CLASSES,
                     TRANSF_REPLACE_TO_BE_TRANSFORMED_CLASS_WITH_SPECIFIED_CLASS,
                     TRANSF_USE_DEFAULT_MODEL_CLASSES,
                     CALLBACK_PATH_SOLUTION,
@@ -1286,13 +1727,20 @@ public class MulibConfig {
                         long BUDGETS_MAX_FAILS,
                         long BUDGETS_MAX_PATH_SOLUTIONS,
                         long BUDGETS_MAX_EXCEEDED_BUDGET,
+                        long BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES,
+                        long BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES,
                         Set<String> TRANSF_IGNORE_FROM_PACKAGES,
                         Set<Class<?>> TRANSF_IGNORE_CLASSES,
                         Set<Class<?>> TRANSF_REGARD_SPECIAL_CASE,
                         boolean TRANSF_WRITE_TO_FILE,
                         String TRANSF_GENERATED_CLASSES_PATH,
+                        String TRANSF_CACHE_DIRECTORY,
+                        boolean TRANSF_SHARE_TRANSFORMER,
+                        String TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR,
                         boolean TRANSF_INCLUDE_PACKAGE_NAME,
                         boolean TRANSF_VALIDATE_TRANSFORMATION,
+                        int TRANSF_PARALLELISM,
+                        boolean TRANSF_LAZY_TRANSFORMATION,
                         Set<Class<?>> TRANSF_CONCRETIZE_FOR,
                         Set<Class<?>> TRANSF_TRY_USE_MORE_GENERAL_METHOD_FOR,
                         Map<Class<?>, BiFunction<SolverManager, Object, Object>> TRANSF_IGNORED_CLASSES_TO_LABEL_FUNCTIONS,
@@ -1301,6 +1749,10 @@ public class MulibConfig {
                         boolean TRANSF_TRANSFORMATION_REQUIRED,
                         ChoiceOptionDeques SEARCH_CHOICE_OPTION_DEQUE_TYPE,
                         long SEARCH_ACTIVATE_PARALLEL_FOR,
+                        boolean SEARCH_ADAPTIVE_PARALLELISM,
+                        int SEARCH_ADAPTIVE_PARALLELISM_MAX_EXECUTORS,
+                        long SEARCH_ADAPTIVE_PARALLELISM_SAMPLING_INTERVAL_IN_MS,
+                        ThreadFactory SEARCH_PARALLEL_THREAD_FACTORY,
                         Optional<Integer> VALS_SYMSINT_LB,
                         Optional<Integer> VALS_SYMSINT_UB,
                         Optional<Double> VALS_SYMSDOUBLE_LB,
@@ -1316,20 +1768,28 @@ public class MulibConfig {
                         Optional<Character> VALS_SYMSCHAR_LB,
                         Optional<Character> VALS_SYMSCHAR_UB,
                         boolean VALS_TREAT_BOOLEANS_AS_INTS,
+                        int VALS_CONC_CACHE_LB,
+                        int VALS_CONC_CACHE_UB,
                         boolean ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_PRIMITIVE_ELEMENTS,
                         boolean ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_OBJECT_ELEMENTS,
                         boolean ARRAYS_THROW_EXCEPTION_ON_OOB,
+                        int ARRAYS_UNROLL_LENGTH_THRESHOLD,
                         boolean SOLVER_HIGH_LEVEL_SYMBOLIC_OBJECT_APPROACH,
                         boolean SOLVER_KEEP_TRACK_OF_ORIGINAL_CONSTRAINTS,
                         boolean SEARCH_CONCOLIC,
+                        boolean SEARCH_CONCOLIC_GENERATIONAL,
                         boolean SEARCH_ALLOW_EXCEPTIONS,
+                        boolean SEARCH_COPY_ARRAY_ELEMENTS_OF_INPUTS_LAZILY,
                         boolean FREE_INIT_ENABLE_INITIALIZE_FREE_ARRAYS_WITH_NULL,
                         boolean FREE_INIT_ENABLE_INITIALIZE_FREE_OBJECTS_WITH_NULL,
                         boolean FREE_INIT_ALIASING_FOR_FREE_OBJECTS,
+                        boolean FREE_INIT_ALIASING_SYMMETRY_BREAKING,
                         boolean LOG_TIME_FOR_EACH_PATH_SOLUTION,
                         boolean LOG_TIME_FOR_FIRST_PATH_SOLUTION,
+                        boolean LOG_CONC_ALLOCATIONS,
                         Map<Method, Method> TRANSF_REPLACE_METHOD_WITH_OTHER_METHOD,
                         boolean TRANSF_USE_DEFAULT_METHODS_TO_REPLACE_METHOD_CALLS_OF_NON_SUBSTITUTED_CLASS_WITH,
+                        boolean TRANSF_USE_COLLECTION_MODEL_CLASSES,
                         Map<Class<?>, Class<?>> TRANSF_REPLACE_TO_BE_TRANSFORMED_CLASS_WITH_SPECIFIED_CLASS,
                         boolean TRANSF_USE_DEFAULT_MODEL_CLASSES,
                         TriConsumer<MulibExecutor, PathSolution, SolverManager> CALLBACK_PATH_SOLUTION,
@@ -1356,13 +1816,20 @@ public class MulibConfig {
         this.BUDGETS_MAX_FAILS =                0 != BUDGETS_MAX_FAILS ? Optional.of(BUDGETS_MAX_FAILS) : Optional.empty();
         this.BUDGETS_MAX_PATH_SOLUTIONS =       0 != BUDGETS_MAX_PATH_SOLUTIONS ? Optional.of(BUDGETS_MAX_PATH_SOLUTIONS) : Optional.empty();
         this.BUDGETS_MAX_EXCEEDED_BUDGET =     0 != BUDGETS_MAX_EXCEEDED_BUDGET ? Optional.of(BUDGETS_MAX_EXCEEDED_BUDGET) : Optional.empty();
+        this.BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES = 0 != BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES ? Optional.of(BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES) : Optional.empty();
+        this.BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES = 0 != BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES ? Optional.of(BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES) : Optional.empty();
         this.TRANSF_IGNORE_FROM_PACKAGES = Set.copyOf(TRANSF_IGNORE_FROM_PACKAGES);
         this.TRANSF_IGNORE_CLASSES = Set.copyOf(TRANSF_IGNORE_CLASSES);
         this.TRANSF_REGARD_SPECIAL_CASE = Set.copyOf(TRANSF_REGARD_SPECIAL_CASE);
         this.TRANSF_WRITE_TO_FILE = TRANSF_WRITE_TO_FILE;
         this.TRANSF_GENERATED_CLASSES_PATH = TRANSF_GENERATED_CLASSES_PATH;
+        this.TRANSF_CACHE_DIRECTORY = Optional.ofNullable(TRANSF_CACHE_DIRECTORY);
+        this.TRANSF_SHARE_TRANSFORMER = TRANSF_SHARE_TRANSFORMER;
+        this.TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR = Optional.ofNullable(TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR);
         this.TRANSF_INCLUDE_PACKAGE_NAME = TRANSF_INCLUDE_PACKAGE_NAME;
         this.TRANSF_VALIDATE_TRANSFORMATION = TRANSF_VALIDATE_TRANSFORMATION;
+        this.TRANSF_PARALLELISM = TRANSF_PARALLELISM;
+        this.TRANSF_LAZY_TRANSFORMATION = TRANSF_LAZY_TRANSFORMATION;
         this.TRANSF_CONCRETIZE_FOR = TRANSF_CONCRETIZE_FOR;
         this.TRANSF_TRY_USE_MORE_GENERAL_METHOD_FOR = TRANSF_TRY_USE_MORE_GENERAL_METHOD_FOR;
         this.TRANSF_IGNORED_CLASSES_TO_LABEL_FUNCTIONS = Map.copyOf(TRANSF_IGNORED_CLASSES_TO_LABEL_FUNCTIONS);
@@ -1373,9 +1840,14 @@ public class MulibConfig {
         this.TRANSF_USE_DEFAULT_MODEL_CLASSES = TRANSF_USE_DEFAULT_MODEL_CLASSES;
         this.TRANSF_REPLACE_TO_BE_TRANSFORMED_CLASS_WITH_SPECIFIED_CLASS = Map.copyOf(TRANSF_REPLACE_TO_BE_TRANSFORMED_CLASS_WITH_SPECIFIED_CLASS);
         this.TRANSF_USE_DEFAULT_METHODS_TO_REPLACE_METHOD_CALLS_OF_NON_SUBSTITUTED_CLASS_WITH = TRANSF_USE_DEFAULT_METHODS_TO_REPLACE_METHOD_CALLS_OF_NON_SUBSTITUTED_CLASS_WITH;
+        this.TRANSF_USE_COLLECTION_MODEL_CLASSES = TRANSF_USE_COLLECTION_MODEL_CLASSES;
         this.SHUTDOWN_PARALLEL_TIMEOUT_ON_SHUTDOWN_IN_MS = SHUTDOWN_PARALLEL_TIMEOUT_ON_SHUTDOWN_IN_MS;
         this.SEARCH_CHOICE_OPTION_DEQUE_TYPE = SEARCH_CHOICE_OPTION_DEQUE_TYPE;
         this.SEARCH_ACTIVATE_PARALLEL_FOR = SEARCH_ACTIVATE_PARALLEL_FOR < 1 ? Optional.empty() : Optional.of(SEARCH_ACTIVATE_PARALLEL_FOR);
+        this.SEARCH_ADAPTIVE_PARALLELISM = SEARCH_ADAPTIVE_PARALLELISM;
+        this.SEARCH_ADAPTIVE_PARALLELISM_MAX_EXECUTORS = SEARCH_ADAPTIVE_PARALLELISM_MAX_EXECUTORS;
+        this.SEARCH_ADAPTIVE_PARALLELISM_SAMPLING_INTERVAL_IN_MS = SEARCH_ADAPTIVE_PARALLELISM_SAMPLING_INTERVAL_IN_MS;
+        this.SEARCH_PARALLEL_THREAD_FACTORY = Optional.ofNullable(SEARCH_PARALLEL_THREAD_FACTORY);
         this.VALS_SYMSINT_LB =    VALS_SYMSINT_LB.isEmpty() ? Optional.empty() :    Optional.of(Sint.concSint(VALS_SYMSINT_LB.get()));
         this.VALS_SYMSINT_UB =    VALS_SYMSINT_UB.isEmpty() ? Optional.empty() :    Optional.of(Sint.concSint(VALS_SYMSINT_UB.get()));
         this.VALS_SYMSDOUBLE_LB = VALS_SYMSDOUBLE_LB.isEmpty() ? Optional.empty() : Optional.of(Sdouble.concSdouble(VALS_SYMSDOUBLE_LB.get()));
@@ -1392,18 +1864,25 @@ public class MulibConfig {
         this.VALS_SYMSCHAR_UB =   VALS_SYMSCHAR_UB.isEmpty() ? Optional.empty() :   Optional.of(Schar.concSchar(VALS_SYMSCHAR_UB.get()));
 
         this.VALS_TREAT_BOOLEANS_AS_INTS = VALS_TREAT_BOOLEANS_AS_INTS;
+        this.VALS_CONC_CACHE_LB = VALS_CONC_CACHE_LB;
+        this.VALS_CONC_CACHE_UB = VALS_CONC_CACHE_UB;
         this.ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_PRIMITIVE_ELEMENTS = ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_PRIMITIVE_ELEMENTS;
         this.ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_OBJECT_ELEMENTS = ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_OBJECT_ELEMENTS;
         this.ARRAYS_THROW_EXCEPTION_ON_OOB = ARRAYS_THROW_EXCEPTION_ON_OOB;
+        this.ARRAYS_UNROLL_LENGTH_THRESHOLD = ARRAYS_UNROLL_LENGTH_THRESHOLD;
         this.SOLVER_HIGH_LEVEL_SYMBOLIC_OBJECT_APPROACH = SOLVER_HIGH_LEVEL_SYMBOLIC_OBJECT_APPROACH;
         this.SOLVER_KEEP_TRACK_OF_ORIGINAL_CONSTRAINTS = SOLVER_KEEP_TRACK_OF_ORIGINAL_CONSTRAINTS;
         this.SEARCH_CONCOLIC = SEARCH_CONCOLIC;
+        this.SEARCH_CONCOLIC_GENERATIONAL = SEARCH_CONCOLIC_GENERATIONAL;
         this.SEARCH_ALLOW_EXCEPTIONS = SEARCH_ALLOW_EXCEPTIONS;
+        this.SEARCH_COPY_ARRAY_ELEMENTS_OF_INPUTS_LAZILY = SEARCH_COPY_ARRAY_ELEMENTS_OF_INPUTS_LAZILY;
         this.FREE_INIT_ENABLE_INITIALIZE_FREE_ARRAYS_WITH_NULL = FREE_INIT_ENABLE_INITIALIZE_FREE_ARRAYS_WITH_NULL;
         this.FREE_INIT_ENABLE_INITIALIZE_FREE_OBJECTS_WITH_NULL = FREE_INIT_ENABLE_INITIALIZE_FREE_OBJECTS_WITH_NULL;
         this.FREE_INIT_ALIASING_FOR_FREE_OBJECTS = FREE_INIT_ALIASING_FOR_FREE_OBJECTS;
+        this.FREE_INIT_ALIASING_SYMMETRY_BREAKING = FREE_INIT_ALIASING_SYMMETRY_BREAKING;
         this.LOG_TIME_FOR_EACH_PATH_SOLUTION = LOG_TIME_FOR_EACH_PATH_SOLUTION;
         this.LOG_TIME_FOR_FIRST_PATH_SOLUTION = LOG_TIME_FOR_FIRST_PATH_SOLUTION;
+        this.LOG_CONC_ALLOCATIONS = LOG_CONC_ALLOCATIONS;
         this.CALLBACK_PATH_SOLUTION = CALLBACK_PATH_SOLUTION;
         this.CALLBACK_BACKTRACK = CALLBACK_BACKTRACK;
         this.CALLBACK_FAIL = CALLBACK_FAIL;
@@ -1424,6 +1903,7 @@ public class MulibConfig {
                 + ",HIGH_LEVEL_FREE_ARRAY_THEORY=" + SOLVER_HIGH_LEVEL_SYMBOLIC_OBJECT_APPROACH
                 + ",USE_EAGER_INDEXES_FOR_FREE_ARRAY_OBJECT_ELEMENTS=" + ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_OBJECT_ELEMENTS
                 + ",USE_EAGER_INDEXES_FOR_FREE_ARRAY_PRIMITIVE_ELEMENTS=" + ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_PRIMITIVE_ELEMENTS
+                + ",UNROLL_LENGTH_THRESHOLD=" + ARRAYS_UNROLL_LENGTH_THRESHOLD
                 + (!SOLVER_ARGS.isEmpty() ? "SOLVER_ARGS=" + SOLVER_ARGS : "")
                 + ",CONCOLIC=" + SEARCH_CONCOLIC
                 + (TREE_ENLIST_LEAVES ? ",ENLIST_LEAVES=" + true : "")
@@ -1433,6 +1913,8 @@ public class MulibConfig {
                 + BUDGETS_MAX_FAILS.map(v -> ",MAX_FAILS=" + v).orElse("")
                 + BUDGETS_MAX_PATH_SOLUTIONS.map(v -> ",MAX_PATH_SOLUTIONS=" + v).orElse("")
                 + BUDGETS_MAX_EXCEEDED_BUDGET.map(v -> ",MAX_EXCEEDED_BUDGETS=" + v).orElse("")
+                + BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES.map(v -> ",SOFT_MEMORY_LIMIT_IN_BYTES=" + v).orElse("")
+                + BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES.map(v -> ",HARD_MEMORY_LIMIT_IN_BYTES=" + v).orElse("")
                 + ",TRANSF_LOAD_WITH_SYSTEM_CLASSLOADER=" + TRANSF_LOAD_WITH_SYSTEM_CLASSLOADER
                 + "}";
     }
@@ -20,6 +20,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -51,6 +52,7 @@ public final class MulibContext {
             Object... prototypicalArgs) {
         long start = System.nanoTime();
         this.config = config;
+        ConcSnumberCache.configure(config);
         if (untransformedArgTypes == null) {
             untransformedArgTypes = findMethodFittingToArgs(prototypicalArgs, methodName, owningMethodClass);
         }
@@ -292,10 +294,35 @@ public final class MulibContext {
         return new SolutionIterator(generateNewMulibExecutorManagerForPreInitializedContext(args), batchSizeOfCachedSolutions);
     }
 
+    /**
+     * Creates a publisher of the path solutions of the search region. The path solutions are published as soon as they
+     * are found by any of the executors. The executors pause while the subscriber does not request further path solutions.
+     * Cancelling the subscription terminates the search.
+     * @param args The arguments to the search region, if any
+     * @return A publisher that can be subscribed to once
+     */
+    public Flow.Publisher<PathSolution> getPathSolutionPublisher(Object... args) {
+        return new PathSolutionPublisher<>(generateNewMulibExecutorManagerForPreInitializedContext(args), ps -> ps);
+    }
+
+    /**
+     * Creates a publisher of the solutions of the search region. For each path solution, its solution is published as
+     * soon as the path solution is found by any of the executors. In contrast to {@link #getSolutionIterator(int, Object...)},
+     * no further solutions are computed for the same path solution.
+     * @param args The arguments to the search region, if any
+     * @return A publisher that can be subscribed to once
+     * @see #getPathSolutionPublisher(Object...)
+     */
+    public Flow.Publisher<Solution> getSolutionPublisher(Object... args) {
+        return new PathSolutionPublisher<>(generateNewMulibExecutorManagerForPreInitializedContext(args), PathSolution::getSolution);
+    }
+
     static class SolutionSpliterator implements Spliterator<Solution> {
         private final SolutionIterator solutionIterator;
+        private final int batchSizeOfCachedSolutions;
         SolutionSpliterator(MulibExecutorManager mulibExecutorManager, int batchSizeOfCachedSolutions) {
             this.solutionIterator = new SolutionIterator(mulibExecutorManager, batchSizeOfCachedSolutions);
+            this.batchSizeOfCachedSolutions = batchSizeOfCachedSolutions;
         }
 
         @Override
@@ -311,17 +338,29 @@ public final class MulibContext {
 
         @Override
         public Spliterator<Solution> trySplit() {
-            return null;
+            // The solutions are computed by the executors of the executor manager, potentially in parallel.
+            // We split off a batch of already computed solutions so that parallel streams can process them in parallel.
+            if (!solutionIterator.hasNext()) {
+                return null;
+            }
+            int batchSize = Math.max(batchSizeOfCachedSolutions, solutionIterator.solutions.size());
+            Solution[] batch = new Solution[batchSize];
+            int i = 0;
+            while (i < batchSize && solutionIterator.hasNext()) {
+                batch[i++] = solutionIterator.next();
+            }
+            return Spliterators.spliterator(batch, 0, i, Spliterator.NONNULL);
         }
 
         @Override
         public long estimateSize() {
-            return 0;
+            // Unknown
+            return Long.MAX_VALUE;
         }
 
         @Override
         public int characteristics() {
-            return 0;
+            return Spliterator.NONNULL;
         }
     }
 
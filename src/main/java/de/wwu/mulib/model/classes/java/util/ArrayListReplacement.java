@@ -0,0 +1,206 @@
+package de.wwu.mulib.model.classes.java.util;
+
+import java.util.NoSuchElementException;
+
+/**
+ * This file is a model of java.util.ArrayList to replace ArrayList-instances in the bytecode.
+ * The elements are stored in an array which is represented by a Sarray in the search region. In contrast to
+ * java.util.ArrayList, there are no modification counts and the capacity is grown by copying the elements in a
+ * loop so that no native methods are called.
+ * @param <E> The type of the elements
+ */
+public class ArrayListReplacement<E> implements ListReplacement<E> {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private Object[] elementData;
+    private int size;
+
+    /**
+     * Constructs an empty list
+     */
+    public ArrayListReplacement() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list
+     * @param initialCapacity The initial capacity
+     */
+    public ArrayListReplacement(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.elementData = new Object[initialCapacity];
+    }
+
+    static boolean equal(Object o0, Object o1) {
+        return o0 == null ? o1 == null : o0.equals(o1);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= elementData.length) {
+            return;
+        }
+        int newCapacity = elementData.length + (elementData.length >> 1) + 1;
+        if (newCapacity < minCapacity) {
+            newCapacity = minCapacity;
+        }
+        Object[] newElementData = new Object[newCapacity];
+        for (int i = 0; i < size; i++) {
+            newElementData[i] = elementData[i];
+        }
+        elementData = newElementData;
+    }
+
+    private void checkIndex(int index, int upperBound) {
+        if (index < 0 || index >= upperBound) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        for (int i = 0; i < size; i++) {
+            if (equal(o, elementData[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (equal(o, elementData[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size);
+        return (E) elementData[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkIndex(index, size);
+        E oldValue = (E) elementData[index];
+        elementData[index] = element;
+        return oldValue;
+    }
+
+    @Override
+    public boolean add(E e) {
+        ensureCapacity(size + 1);
+        elementData[size] = e;
+        size++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        for (int i = size; i > index; i--) {
+            elementData[i] = elementData[i - 1];
+        }
+        elementData[index] = element;
+        size++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkIndex(index, size);
+        E oldValue = (E) elementData[index];
+        fastRemove(index);
+        return oldValue;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        fastRemove(index);
+        return true;
+    }
+
+    private void fastRemove(int index) {
+        for (int i = index; i < size - 1; i++) {
+            elementData[i] = elementData[i + 1];
+        }
+        size--;
+        elementData[size] = null;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            elementData[i] = null;
+        }
+        size = 0;
+    }
+
+    @Override
+    public IteratorReplacement<E> iterator() {
+        return new Itr<>(this);
+    }
+
+    private static final class Itr<E> implements IteratorReplacement<E> {
+        private final ArrayListReplacement<E> list;
+        private int cursor;
+        private int lastReturned = -1;
+
+        Itr(ArrayListReplacement<E> list) {
+            this.list = list;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < list.size;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E result = list.get(cursor);
+            lastReturned = cursor;
+            cursor++;
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            list.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package de.wwu.mulib.model.classes.java.util;
+
+/**
+ * This file is a model of java.util.Collection to replace Collection-instances in the bytecode.
+ * Only the methods used to query and iterate collections are modelled.
+ * @param <E> The type of the elements
+ */
+public interface CollectionReplacement<E> {
+
+    /**
+     * @return The number of elements
+     */
+    int size();
+
+    /**
+     * @return true, if there are no elements
+     */
+    boolean isEmpty();
+
+    /**
+     * @param o The element
+     * @return true, if an equal element is contained
+     */
+    boolean contains(Object o);
+
+    /**
+     * @return An iterator over the elements
+     */
+    IteratorReplacement<E> iterator();
+}
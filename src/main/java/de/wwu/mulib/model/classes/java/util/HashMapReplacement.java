@@ -0,0 +1,342 @@
+package de.wwu.mulib.model.classes.java.util;
+
+import java.util.NoSuchElementException;
+
+/**
+ * This file is a model of java.util.HashMap to replace HashMap-instances in the bytecode.
+ * Keys and values are stored in two arrays which are represented by Sarrays in the search region. Keys are looked up
+ * linearly via equals. In contrast to java.util.HashMap, hash codes are never computed, so that there is no branching
+ * on hash codes, bucket indices, or resizing thresholds of symbolic keys.
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public class HashMapReplacement<K, V> implements MapReplacement<K, V> {
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private Object[] keys;
+    private Object[] values;
+    private int size;
+
+    /**
+     * Constructs an empty map
+     */
+    public HashMapReplacement() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty map
+     * @param initialCapacity The initial capacity
+     */
+    public HashMapReplacement(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.keys = new Object[initialCapacity];
+        this.values = new Object[initialCapacity];
+    }
+
+    private int indexOfKey(Object key) {
+        for (int i = 0; i < size; i++) {
+            if (ArrayListReplacement.equal(key, keys[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= keys.length) {
+            return;
+        }
+        int newCapacity = keys.length + (keys.length >> 1) + 1;
+        if (newCapacity < minCapacity) {
+            newCapacity = minCapacity;
+        }
+        Object[] newKeys = new Object[newCapacity];
+        Object[] newValues = new Object[newCapacity];
+        for (int i = 0; i < size; i++) {
+            newKeys[i] = keys[i];
+            newValues[i] = values[i];
+        }
+        keys = newKeys;
+        values = newValues;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOfKey(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < size; i++) {
+            if (ArrayListReplacement.equal(value, values[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V get(Object key) {
+        return getOrDefault(key, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object key, V defaultValue) {
+        int index = indexOfKey(key);
+        return index < 0 ? defaultValue : (V) values[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int index = indexOfKey(key);
+        if (index >= 0) {
+            V oldValue = (V) values[index];
+            values[index] = value;
+            return oldValue;
+        }
+        ensureCapacity(size + 1);
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        int index = indexOfKey(key);
+        if (index < 0) {
+            return null;
+        }
+        V oldValue = (V) values[index];
+        // The order of the mappings is not specified; - move the last mapping into the gap
+        size--;
+        keys[index] = keys[size];
+        values[index] = values[size];
+        keys[size] = null;
+        values[size] = null;
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            keys[i] = null;
+            values[i] = null;
+        }
+        size = 0;
+    }
+
+    @Override
+    public SetReplacement<K> keySet() {
+        return new KeySet<>(this);
+    }
+
+    @Override
+    public CollectionReplacement<V> values() {
+        return new Values<>(this);
+    }
+
+    @Override
+    public SetReplacement<MapEntryReplacement<K, V>> entrySet() {
+        return new EntrySet<>(this);
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyAt(int index) {
+        return (K) keys[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return (V) values[index];
+    }
+
+    /* The views are backed by the map. They do not support adding elements, just as those of java.util.HashMap. */
+
+    private static final class KeySet<K, V> implements SetReplacement<K> {
+        private final HashMapReplacement<K, V> map;
+
+        KeySet(HashMapReplacement<K, V> map) {
+            this.map = map;
+        }
+
+        @Override
+        public int size() {
+            return map.size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return map.size == 0;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return map.containsKey(o);
+        }
+
+        @Override
+        public IteratorReplacement<K> iterator() {
+            return new ViewItr<>(map, ViewItr.KEYS);
+        }
+    }
+
+    private static final class Values<K, V> implements CollectionReplacement<V> {
+        private final HashMapReplacement<K, V> map;
+
+        Values(HashMapReplacement<K, V> map) {
+            this.map = map;
+        }
+
+        @Override
+        public int size() {
+            return map.size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return map.size == 0;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return map.containsValue(o);
+        }
+
+        @Override
+        public IteratorReplacement<V> iterator() {
+            return new ViewItr<>(map, ViewItr.VALUES);
+        }
+    }
+
+    private static final class EntrySet<K, V> implements SetReplacement<MapEntryReplacement<K, V>> {
+        private final HashMapReplacement<K, V> map;
+
+        EntrySet(HashMapReplacement<K, V> map) {
+            this.map = map;
+        }
+
+        @Override
+        public int size() {
+            return map.size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return map.size == 0;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof MapEntryReplacement)) {
+                return false;
+            }
+            MapEntryReplacement<?, ?> entry = (MapEntryReplacement<?, ?>) o;
+            int index = map.indexOfKey(entry.getKey());
+            return index >= 0 && ArrayListReplacement.equal(entry.getValue(), map.values[index]);
+        }
+
+        @Override
+        public IteratorReplacement<MapEntryReplacement<K, V>> iterator() {
+            return new ViewItr<>(map, ViewItr.ENTRIES);
+        }
+    }
+
+    private static final class Entry<K, V> implements MapEntryReplacement<K, V> {
+        private final HashMapReplacement<K, V> map;
+        private final K key;
+
+        Entry(HashMapReplacement<K, V> map, K key) {
+            this.map = map;
+            this.key = key;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            // The position of a mapping changes if another mapping is removed; - look it up via the key
+            return map.get(key);
+        }
+
+        @Override
+        public V setValue(V value) {
+            int index = map.indexOfKey(key);
+            if (index < 0) {
+                throw new IllegalStateException();
+            }
+            V oldValue = map.valueAt(index);
+            map.values[index] = value;
+            return oldValue;
+        }
+    }
+
+    private static final class ViewItr<K, V, E> implements IteratorReplacement<E> {
+        static final int KEYS = 0;
+        static final int VALUES = 1;
+        static final int ENTRIES = 2;
+        private final HashMapReplacement<K, V> map;
+        private final int kind;
+        private int cursor;
+        private int lastReturned = -1;
+
+        ViewItr(HashMapReplacement<K, V> map, int kind) {
+            this.map = map;
+            this.kind = kind;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < map.size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (cursor >= map.size) {
+                throw new NoSuchElementException();
+            }
+            Object result;
+            if (kind == KEYS) {
+                result = map.keyAt(cursor);
+            } else if (kind == VALUES) {
+                result = map.valueAt(cursor);
+            } else {
+                result = new Entry<>(map, map.keyAt(cursor));
+            }
+            lastReturned = cursor;
+            cursor++;
+            return (E) result;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            // Removing moves the last mapping into the gap; - it is returned next
+            map.remove(map.keyAt(lastReturned));
+            cursor = lastReturned;
+            lastReturned = -1;
+        }
+    }
+}
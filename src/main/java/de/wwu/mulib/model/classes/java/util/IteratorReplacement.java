@@ -0,0 +1,24 @@
+package de.wwu.mulib.model.classes.java.util;
+
+/**
+ * This file is a model of java.util.Iterator to replace Iterator-instances in the bytecode.
+ * Only iterators of the collection models, e.g., {@link ArrayListReplacement}, implement it.
+ * @param <E> The type of the iterated elements
+ */
+public interface IteratorReplacement<E> {
+
+    /**
+     * @return true, if there are more elements
+     */
+    boolean hasNext();
+
+    /**
+     * @return The next element
+     */
+    E next();
+
+    /**
+     * Removes the last element returned by {@link #next()}
+     */
+    void remove();
+}
@@ -0,0 +1,88 @@
+package de.wwu.mulib.model.classes.java.util;
+
+/**
+ * This file is a model of java.util.List to replace List-instances in the bytecode.
+ * Only the commonly used methods of java.util.List are modelled.
+ * @param <E> The type of the elements
+ */
+public interface ListReplacement<E> extends CollectionReplacement<E> {
+
+    /**
+     * @return The number of elements
+     */
+    int size();
+
+    /**
+     * @return true, if there are no elements
+     */
+    boolean isEmpty();
+
+    /**
+     * @param o The element
+     * @return true, if an equal element is contained
+     */
+    boolean contains(Object o);
+
+    /**
+     * @param o The element
+     * @return The index of the first equal element, or -1, if there is none
+     */
+    int indexOf(Object o);
+
+    /**
+     * @param o The element
+     * @return The index of the last equal element, or -1, if there is none
+     */
+    int lastIndexOf(Object o);
+
+    /**
+     * @param index The index
+     * @return The element at the index
+     */
+    E get(int index);
+
+    /**
+     * @param index The index
+     * @param element The element to store
+     * @return The element previously stored at the index
+     */
+    E set(int index, E element);
+
+    /**
+     * Appends the element
+     * @param e The element
+     * @return true
+     */
+    boolean add(E e);
+
+    /**
+     * Inserts the element and shifts the subsequent elements
+     * @param index The index
+     * @param element The element
+     */
+    void add(int index, E element);
+
+    /**
+     * Removes the element and shifts the subsequent elements
+     * @param index The index
+     * @return The removed element
+     */
+    E remove(int index);
+
+    /**
+     * Removes the first equal element
+     * @param o The element
+     * @return true, if an element was removed
+     */
+    boolean remove(Object o);
+
+    /**
+     * Removes all elements
+     */
+    void clear();
+
+    /**
+     * @return An iterator over the elements
+     */
+    IteratorReplacement<E> iterator();
+}
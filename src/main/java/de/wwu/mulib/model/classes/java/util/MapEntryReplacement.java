@@ -0,0 +1,25 @@
+package de.wwu.mulib.model.classes.java.util;
+
+/**
+ * This file is a model of java.util.Map.Entry to replace Entry-instances in the bytecode.
+ * @param <K> The type of the key
+ * @param <V> The type of the value
+ */
+public interface MapEntryReplacement<K, V> {
+
+    /**
+     * @return The key
+     */
+    K getKey();
+
+    /**
+     * @return The value
+     */
+    V getValue();
+
+    /**
+     * @param value The new value
+     * @return The previous value
+     */
+    V setValue(V value);
+}
@@ -0,0 +1,78 @@
+package de.wwu.mulib.model.classes.java.util;
+
+/**
+ * This file is a model of java.util.Map to replace Map-instances in the bytecode.
+ * Only the commonly used methods of java.util.Map are modelled. The views are backed by the map.
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public interface MapReplacement<K, V> {
+
+    /**
+     * @return The number of mappings
+     */
+    int size();
+
+    /**
+     * @return true, if there are no mappings
+     */
+    boolean isEmpty();
+
+    /**
+     * @param key The key
+     * @return true, if there is a mapping for an equal key
+     */
+    boolean containsKey(Object key);
+
+    /**
+     * @param value The value
+     * @return true, if an equal value is mapped to
+     */
+    boolean containsValue(Object value);
+
+    /**
+     * @param key The key
+     * @return The value mapped to by an equal key, or null, if there is none
+     */
+    V get(Object key);
+
+    /**
+     * @param key The key
+     * @param defaultValue The value to return if there is no mapping for the key
+     * @return The value mapped to by an equal key, or the default value, if there is none
+     */
+    V getOrDefault(Object key, V defaultValue);
+
+    /**
+     * @param key The key
+     * @param value The value
+     * @return The previous value mapped to by an equal key, or null, if there is none
+     */
+    V put(K key, V value);
+
+    /**
+     * @param key The key
+     * @return The removed value, or null, if there is no mapping for an equal key
+     */
+    V remove(Object key);
+
+    /**
+     * Removes all mappings
+     */
+    void clear();
+
+    /**
+     * @return A view of the keys
+     */
+    SetReplacement<K> keySet();
+
+    /**
+     * @return A view of the values
+     */
+    CollectionReplacement<V> values();
+
+    /**
+     * @return A view of the mappings
+     */
+    SetReplacement<MapEntryReplacement<K, V>> entrySet();
+}
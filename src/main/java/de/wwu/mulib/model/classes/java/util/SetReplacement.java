@@ -0,0 +1,9 @@
+package de.wwu.mulib.model.classes.java.util;
+
+/**
+ * This file is a model of java.util.Set to replace Set-instances in the bytecode.
+ * Only the views of {@link HashMapReplacement} implement it.
+ * @param <E> The type of the elements
+ */
+public interface SetReplacement<E> extends CollectionReplacement<E> {
+}
@@ -11,6 +11,8 @@ public class GlobalExecutionBudgetManager {
     private final Budget failBudget;
     private final Budget pathSolutionsBudget;
     private final Budget exceededBudgetsBudget;
+    // Is null if no memory limit is set
+    private final MemoryBudget memoryBudget;
 
     /**
      * @param config The configuration with the respective global budget settings
@@ -25,6 +27,11 @@ public class GlobalExecutionBudgetManager {
                 NullBudget.INSTANCE : CountingBudget.getFixedBudget(config.BUDGETS_MAX_PATH_SOLUTIONS.get());
         this.exceededBudgetsBudget = config.BUDGETS_MAX_EXCEEDED_BUDGET.isEmpty() ?
                 NullBudget.INSTANCE : CountingBudget.getFixedBudget(config.BUDGETS_MAX_EXCEEDED_BUDGET.get());
+        this.memoryBudget = config.BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES.isEmpty() && config.BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES.isEmpty() ?
+                null : MemoryBudget.getMemoryBudget(
+                        config.BUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES.orElse(Long.MAX_VALUE),
+                        config.BUDGETS_HARD_MEMORY_LIMIT_IN_BYTES.orElse(Long.MAX_VALUE)
+                );
     }
 
     /**
@@ -82,4 +89,18 @@ public class GlobalExecutionBudgetManager {
     public boolean fixedExceededBudgetBudgetsIsExceeded() {
         return exceededBudgetsBudget.isExceeded();
     }
+
+    /**
+     * @return true, if the hard memory limit is exceeded, else false
+     */
+    public boolean memoryBudgetIsExceeded() {
+        return memoryBudget != null && memoryBudget.isExceeded();
+    }
+
+    /**
+     * @return The number of times the soft memory limit has been crossed. Can be used to react to each crossing once
+     */
+    public int getSoftMemoryLimitCrossings() {
+        return memoryBudget == null ? 0 : memoryBudget.getSoftLimitCrossings();
+    }
 }
@@ -0,0 +1,131 @@
+package de.wwu.mulib.search.budget;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Used for budgets concerning the occupied memory. The occupied memory is the used heap plus an approximation of the
+ * native memory, e.g., of the constraint solver. The native memory is approximated as the resident memory of the process
+ * that is not committed for the heap and non-heap memory of the JVM. The resident memory is read from /proc/self/status,
+ * which states it in kilobytes so that the page size of the system does not need to be known. If the resident memory
+ * cannot be determined, e.g., on systems other than Linux, only the heap is regarded.
+ * The budget has a soft and a hard limit. It is exceeded if the hard limit is exceeded. Crossing the soft limit is
+ * counted so that each executor can react to it once, e.g., by evicting caches.
+ * The memory is sampled at most every {@link #SAMPLING_INTERVAL_IN_NANOSECONDS} nanoseconds. Incrementing this budget
+ * enforces a new sample.
+ */
+public final class MemoryBudget implements Budget {
+
+    private static final long SAMPLING_INTERVAL_IN_NANOSECONDS = 50_000_000L;
+    private static final String RESIDENT_SET_SIZE_KEY = "VmRSS:";
+    private static final Path STATUS = Path.of("/proc/self/status");
+    private static final boolean STATUS_IS_READABLE = Files.isReadable(STATUS);
+
+    private final long softLimit;
+    private final long hardLimit;
+    private final MemoryMXBean memoryMXBean;
+    private final AtomicInteger softLimitCrossings;
+    private final AtomicBoolean isAboveSoftLimit;
+    private volatile long lastSampleTime;
+    private volatile long lastMemoryUsage;
+
+    /**
+     * Returns a new instance of MemoryBudget
+     * @param softLimit The soft limit in bytes
+     * @param hardLimit The hard limit in bytes
+     * @return A new MemoryBudget
+     */
+    public static MemoryBudget getMemoryBudget(long softLimit, long hardLimit) {
+        return new MemoryBudget(softLimit, hardLimit);
+    }
+
+    private MemoryBudget(long softLimit, long hardLimit) {
+        this.softLimit = softLimit;
+        this.hardLimit = hardLimit;
+        this.memoryMXBean = ManagementFactory.getMemoryMXBean();
+        this.softLimitCrossings = new AtomicInteger();
+        this.isAboveSoftLimit = new AtomicBoolean(false);
+        this.lastSampleTime = System.nanoTime() - SAMPLING_INTERVAL_IN_NANOSECONDS;
+    }
+
+    private long getMemoryUsage() {
+        long now = System.nanoTime();
+        if (now - lastSampleTime < SAMPLING_INTERVAL_IN_NANOSECONDS) {
+            return lastMemoryUsage;
+        }
+        // Concurrent samples are benign; - a crossing of the soft limit is only counted by the sample that observes it first
+        lastSampleTime = now;
+        MemoryUsage heap = memoryMXBean.getHeapMemoryUsage();
+        MemoryUsage nonHeap = memoryMXBean.getNonHeapMemoryUsage();
+        long result = heap.getUsed() + approximateNativeMemory(heap.getCommitted() + nonHeap.getCommitted());
+        if (result > softLimit) {
+            if (isAboveSoftLimit.compareAndSet(false, true)) {
+                softLimitCrossings.incrementAndGet();
+            }
+        } else {
+            isAboveSoftLimit.set(false);
+        }
+        lastMemoryUsage = result;
+        return result;
+    }
+
+    private static long approximateNativeMemory(long committedByJvm) {
+        if (!STATUS_IS_READABLE) {
+            return 0;
+        }
+        try {
+            for (String line : Files.readAllLines(STATUS)) {
+                if (line.startsWith(RESIDENT_SET_SIZE_KEY)) {
+                    // E.g., "VmRSS:     123456 kB"
+                    String[] entry = line.substring(RESIDENT_SET_SIZE_KEY.length()).trim().split("\\s+");
+                    long resident = Long.parseLong(entry[0]) * 1024;
+                    return Math.max(0, resident - committedByJvm);
+                }
+            }
+            return 0;
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    /**
+     * @return The number of times the occupied memory has been sampled to exceed the soft limit after previously
+     * not exceeding it
+     */
+    public int getSoftLimitCrossings() {
+        getMemoryUsage();
+        return softLimitCrossings.get();
+    }
+
+    /**
+     * @return true, if the soft limit is exceeded, else false
+     */
+    public boolean isSoftLimitExceeded() {
+        return getMemoryUsage() > softLimit;
+    }
+
+    @Override
+    public void increment() { // Used to enforce a new sample.
+        this.lastSampleTime = System.nanoTime() - SAMPLING_INTERVAL_IN_NANOSECONDS;
+    }
+
+    @Override
+    public boolean isExceeded() {
+        return getMemoryUsage() > hardLimit;
+    }
+
+    @Override
+    public boolean isIncremental() {
+        return false;
+    }
+
+    @Override
+    public Budget copyFromPrototype() {
+        return new MemoryBudget(softLimit, hardLimit);
+    }
+}
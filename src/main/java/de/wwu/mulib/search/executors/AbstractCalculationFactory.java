@@ -3,6 +3,8 @@ package de.wwu.mulib.search.executors;
 import de.wwu.mulib.MulibConfig;
 import de.wwu.mulib.constraints.*;
 import de.wwu.mulib.expressions.ConcolicMathematicalContainer;
+import de.wwu.mulib.expressions.Expression;
+import de.wwu.mulib.expressions.ExpressionIte;
 import de.wwu.mulib.solving.ArrayInformation;
 import de.wwu.mulib.solving.PartnerClassObjectInformation;
 import de.wwu.mulib.substitutions.*;
@@ -18,6 +20,7 @@ import java.util.function.Function;
  * that are reused by {@link SymbolicCalculationFactory} and {@link ConcolicCalculationFactory}.
  * It can be configured that eager indexes are used to load elements from arrays with reference-typed or primitive-typed content
  * and whether we want to throw a {@link ArrayIndexOutOfBoundsException} if a symbolic index access can be out-of-bounds.
+ * Small arrays with primitive elements can be unrolled, see {@link MulibConfig#ARRAYS_UNROLL_LENGTH_THRESHOLD}.
  * An instance of {@link ValueFactory} is used to construct suiting values.
  */
 @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -47,8 +50,12 @@ public abstract class AbstractCalculationFactory implements CalculationFactory {
     @Override
     public final Sprimitive select(SymbolicExecution se, Sarray sarray, Sint index) {
         sarray.__mulib__nullCheck();
+        se.getAliasingInformation().markAsTouched(sarray);
+        int unrolledLength;
         if (config.ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_PRIMITIVE_ELEMENTS) {
             return (Sprimitive) _selectWithEagerIndexes(se, sarray, index);
+        } else if ((unrolledLength = getUnrolledLength(sarray, index)) >= 0) {
+            return _selectFromUnrolled(se, sarray, index, unrolledLength);
         } else {
             return (Sprimitive) _selectWithSymbolicIndexes(se, sarray, index);
         }
@@ -57,8 +64,12 @@ public abstract class AbstractCalculationFactory implements CalculationFactory {
     @Override
     public final Sprimitive store(SymbolicExecution se, Sarray sarray, Sint index, Sprimitive value) {
         sarray.__mulib__nullCheck();
+        se.getAliasingInformation().markAsTouched(sarray);
+        int unrolledLength;
         if (config.ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_PRIMITIVE_ELEMENTS) {
             return (Sprimitive) _storeWithEagerIndexes(se, sarray, index, value);
+        } else if ((unrolledLength = getUnrolledLength(sarray, index)) >= 0) {
+            return _storeInUnrolled(se, sarray, index, value, unrolledLength);
         } else {
             return (Sprimitive) _storeWithSymbolicIndexes(se, sarray, index, value);
         }
@@ -67,6 +78,7 @@ public abstract class AbstractCalculationFactory implements CalculationFactory {
     @Override
     public final Sarray<?> select(SymbolicExecution se, Sarray.SarraySarray sarraySarray, Sint index) {
         sarraySarray.__mulib__nullCheck();
+        se.getAliasingInformation().markAsTouched(sarraySarray);
         if (config.ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_OBJECT_ELEMENTS) {
             return (Sarray<?>) _selectWithEagerIndexes(se, sarraySarray, index);
         } else {
@@ -77,6 +89,8 @@ public abstract class AbstractCalculationFactory implements CalculationFactory {
     @Override
     public final Sarray<?> store(SymbolicExecution se, Sarray.SarraySarray sarraySarray, Sint index, Substituted value) {
         sarraySarray.__mulib__nullCheck();
+        se.getAliasingInformation().markAsTouched(sarraySarray);
+        se.getAliasingInformation().markAsTouched(value);
         if (config.ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_OBJECT_ELEMENTS) {
             return (Sarray<?>) _storeWithEagerIndexes(se, sarraySarray, index, value);
         } else {
@@ -87,6 +101,7 @@ public abstract class AbstractCalculationFactory implements CalculationFactory {
     @Override
     public final PartnerClass select(SymbolicExecution se, Sarray.PartnerClassSarray<?> partnerClassSarray, Sint index) {
         partnerClassSarray.__mulib__nullCheck();
+        se.getAliasingInformation().markAsTouched(partnerClassSarray);
         if (config.ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_OBJECT_ELEMENTS) {
             return (PartnerClass) _selectWithEagerIndexes(se, partnerClassSarray, index);
         } else {
@@ -97,6 +112,8 @@ public abstract class AbstractCalculationFactory implements CalculationFactory {
     @Override
     public final PartnerClass store(SymbolicExecution se, Sarray.PartnerClassSarray<?> partnerClassSarray, Sint index, Substituted value) {
         partnerClassSarray.__mulib__nullCheck();
+        se.getAliasingInformation().markAsTouched(partnerClassSarray);
+        se.getAliasingInformation().markAsTouched(value);
         if (config.ARRAYS_USE_EAGER_INDEXES_FOR_FREE_ARRAY_OBJECT_ELEMENTS) {
             return (PartnerClass) _storeWithEagerIndexes(se, partnerClassSarray, index, value);
         } else {
@@ -138,6 +155,104 @@ public abstract class AbstractCalculationFactory implements CalculationFactory {
         return value;
     }
 
+    // Returns the number of elements an unrolled array is represented by, or -1, if it should not be unrolled.
+    // An array is only unrolled if it is not yet represented in the constraint solver. Unrolled arrays are only
+    // represented by the elements for concrete indexes in their cache. The costs of selects and stores with symbolic
+    // indexes grow linearly with the maximum length, which thus is compared to ARRAYS_UNROLL_LENGTH_THRESHOLD
+    private int getUnrolledLength(Sarray sarray, Sint index) {
+        if (config.ARRAYS_UNROLL_LENGTH_THRESHOLD == 0
+                || config.SEARCH_CONCOLIC
+                || sarray.__mulib__isRepresentedInSolver()) {
+            return -1;
+        }
+        Sint length = sarray._getLengthWithoutCheckingForIsNull();
+        int maxLength;
+        if (length instanceof ConcSnumber) {
+            if (index instanceof ConcSnumber) {
+                // Accesses with concrete indexes to arrays with a concrete length are always handled via the cache
+                return -1;
+            }
+            maxLength = ((ConcSnumber) length).intVal();
+        } else if (length instanceof Sint.SymSintLeaf && config.VALS_SYMSINT_UB.isPresent()) {
+            // Symbolic inputs are restricted to the domain of symbolic ints
+            maxLength = Math.max(0, ((ConcSnumber) config.VALS_SYMSINT_UB.get()).intVal());
+        } else {
+            return -1;
+        }
+        return maxLength <= config.ARRAYS_UNROLL_LENGTH_THRESHOLD ? maxLength : -1;
+    }
+
+    private Sprimitive _selectFromUnrolled(SymbolicExecution se, Sarray sarray, Sint index, int unrolledLength) {
+        checkIndexAccess(sarray, index, se);
+        if (index instanceof ConcSnumber) {
+            // The elements are stored for concrete ints; - also if, e.g., a concrete short is used as an index
+            return getUnrolledElement(se, sarray, se.concSint(((ConcSnumber) index).intVal()));
+        }
+        if (unrolledLength == 0) {
+            // The array must be empty; - the index-check fails
+            return getUnrolledElement(se, sarray, Sint.ConcSint.ZERO);
+        }
+        // ite(index == 0, e_0, ite(index == 1, e_1, ... e_(n-1)))
+        Sprimitive result = getUnrolledElement(se, sarray, se.concSint(unrolledLength - 1));
+        for (int i = unrolledLength - 2; i >= 0; i--) {
+            Sint currentIndex = se.concSint(i);
+            result = ite(sarray.getClazz(), Eq.newInstance(index, currentIndex), getUnrolledElement(se, sarray, currentIndex), result);
+        }
+        return result;
+    }
+
+    private Sprimitive _storeInUnrolled(SymbolicExecution se, Sarray sarray, Sint index, Sprimitive value, int unrolledLength) {
+        checkIndexAccess(sarray, index, se);
+        Sarray.checkIfValueIsStorableForSarray(sarray, value);
+        if (index instanceof ConcSnumber) {
+            sarray.setInCacheForIndex(se.concSint(((ConcSnumber) index).intVal()), value);
+            return value;
+        }
+        // Each element e_i is replaced by ite(index == i, value, e_i)
+        for (int i = 0; i < unrolledLength; i++) {
+            Sint currentIndex = se.concSint(i);
+            Sprimitive previous = getUnrolledElement(se, sarray, currentIndex);
+            sarray.setInCacheForIndex(currentIndex, ite(sarray.getClazz(), Eq.newInstance(index, currentIndex), value, previous));
+        }
+        return value;
+    }
+
+    private static Sprimitive getUnrolledElement(SymbolicExecution se, Sarray sarray, Sint concreteIndex) {
+        Sprimitive result = (Sprimitive) sarray.getFromCacheForIndex(concreteIndex);
+        if (result == null) {
+            result = (Sprimitive) sarray.getNewValueForSelect(se, concreteIndex);
+            sarray.setInCacheForIndex(concreteIndex, result);
+        }
+        return result;
+    }
+
+    private static Sprimitive ite(Class<?> elementType, Constraint condition, Sprimitive ifCase, Sprimitive elseCase) {
+        if (condition instanceof Sbool.ConcSbool) {
+            return ((Sbool.ConcSbool) condition).isTrue() ? ifCase : elseCase;
+        }
+        if (elementType == Sbool.class) {
+            return Sbool.newConstraintSbool(BoolIte.newInstance(condition, (Sbool) ifCase, (Sbool) elseCase));
+        }
+        Expression ite = ExpressionIte.newInstance(condition, (Snumber) ifCase, (Snumber) elseCase);
+        if (elementType == Sint.class) {
+            return Sint.newExpressionSymbolicSint(ite);
+        } else if (elementType == Slong.class) {
+            return Slong.newExpressionSymbolicSlong(ite);
+        } else if (elementType == Sdouble.class) {
+            return Sdouble.newExpressionSymbolicSdouble(ite);
+        } else if (elementType == Sfloat.class) {
+            return Sfloat.newExpressionSymbolicSfloat(ite);
+        } else if (elementType == Sshort.class) {
+            return Sshort.newExpressionSymbolicSshort(ite);
+        } else if (elementType == Sbyte.class) {
+            return Sbyte.newExpressionSymbolicSbyte(ite);
+        } else if (elementType == Schar.class) {
+            return Schar.newExpressionSymbolicSchar(ite);
+        } else {
+            throw new NotYetImplementedException(elementType.toString());
+        }
+    }
+
     private static Sint decideOnConcreteIndex(SymbolicExecution se, Sint index) {
         if (index instanceof ConcSnumber) {
             return index;
@@ -237,6 +352,7 @@ public abstract class AbstractCalculationFactory implements CalculationFactory {
         assert fieldClass != null;
         assert pco.__mulib__isNull() == Sbool.ConcSbool.FALSE;
         assert pco.__mulib__isRepresentedInSolver();
+        se.getAliasingInformation().markAsTouched(pco);
         // Initialize value that is to be retrieved from a field
         Substituted fieldValue = getSymValueForFieldInRepresentedPartnerClassObject(se, pco, field, fieldClass);
         if (fieldValue instanceof PartnerClass) {
@@ -262,6 +378,8 @@ public abstract class AbstractCalculationFactory implements CalculationFactory {
         assert pco.__mulib__isNull() == Sbool.ConcSbool.FALSE;
         assert pco.__mulib__isRepresentedInSolver();
         assert !(pco instanceof Sarray);
+        se.getAliasingInformation().markAsTouched(pco);
+        se.getAliasingInformation().markAsTouched(value);
         if (value instanceof PartnerClass) {
             PartnerClass pcVal = (PartnerClass) value;
             if (!pcVal.__mulib__isRepresentedInSolver()) {
@@ -56,6 +56,8 @@ public abstract class AbstractMulibExecutor implements MulibExecutor {
     // Statistics
     protected long heuristicSatEvals = 0, satEvals = 0, unsatEvals = 0,
             addedAfterBacktrackingPoint = 0, solverBacktrack = 0;
+    // Are read by other threads if the number of active executors is adapted, see AdaptiveParallelismController
+    private volatile long evaluatedPaths = 0, timeSpentInSolverInNanos = 0;
     /**
      * Stores the {@link MulibExecutorManager} managing this {@link AbstractMulibExecutor}.
      */
@@ -83,6 +85,14 @@ public abstract class AbstractMulibExecutor implements MulibExecutor {
     private final StaticVariables staticVariables;
     private final Object[] searchRegionArgs;
     private final Map<String, Sprimitive> rememberedSprimitives;
+    private final boolean trackTimeSpentInSolver;
+    private final boolean evaluateGenerations;
+    // If a generational search is used: The choice option from which the last concolic run started and the choice option
+    // at which it ended. Are null if there is no pending generation.
+    private Choice.ChoiceOption generationStart, generationEnd;
+    private long generationalSatEvals = 0, generationalUnsatEvals = 0;
+    // The number of crossings of the soft memory limit to which this executor has already reacted
+    private int handledSoftMemoryLimitCrossings = 0;
 
     /**
      * Constructs a new instance
@@ -120,6 +130,8 @@ public abstract class AbstractMulibExecutor implements MulibExecutor {
         this.failCallback = config.CALLBACK_FAIL;
         this.exceededBudgetCallback = config.CALLBACK_EXCEEDED_BUDGET;
         this.backtrackCallback = config.CALLBACK_BACKTRACK;
+        this.trackTimeSpentInSolver = config.SEARCH_ADAPTIVE_PARALLELISM;
+        this.evaluateGenerations = config.SEARCH_CONCOLIC && config.SEARCH_CONCOLIC_GENERATIONAL;
     }
 
     @Override
@@ -135,9 +147,26 @@ public abstract class AbstractMulibExecutor implements MulibExecutor {
         result.put("satEvals", String.valueOf(this.satEvals));
         result.put("unsatEvals", String.valueOf(this.unsatEvals));
         result.put("solverBacktrack", String.valueOf(this.solverBacktrack));
+        if (evaluateGenerations) {
+            result.put("generationalSatEvals", String.valueOf(generationalSatEvals));
+            result.put("generationalUnsatEvals", String.valueOf(generationalUnsatEvals));
+        }
+        if (trackTimeSpentInSolver) {
+            result.put("timeSpentInSolverInMs", String.valueOf(this.timeSpentInSolverInNanos / 1_000_000));
+        }
         return result;
     }
 
+    @Override
+    public long getNumberOfEvaluatedPaths() {
+        return evaluatedPaths;
+    }
+
+    @Override
+    public long getTimeSpentInSolverInNanos() {
+        return timeSpentInSolverInNanos;
+    }
+
     @Override
     public PartnerClassObjectInformation getAvailableInformationOnPartnerClassObject(Sint id, String field, int depth) {
         return solverManager.getAvailableInformationOnPartnerClassObject(id, field, depth);
@@ -156,7 +185,13 @@ public abstract class AbstractMulibExecutor implements MulibExecutor {
 
     @Override
     public final boolean checkWithNewConstraint(Constraint c) {
-        return solverManager.checkWithNewConstraint(c);
+        if (!trackTimeSpentInSolver) {
+            return solverManager.checkWithNewConstraint(c);
+        }
+        long start = System.nanoTime();
+        boolean result = solverManager.checkWithNewConstraint(c);
+        timeSpentInSolverInNanos += System.nanoTime() - start;
+        return result;
     }
 
     @Override
@@ -204,6 +239,13 @@ public abstract class AbstractMulibExecutor implements MulibExecutor {
     @Override
     public Optional<PathSolution> getPathSolution() {
         while ((!getDeque().isEmpty() && !paused && !mulibExecutorManager.globalBudgetExceeded())) {
+            reduceMemoryFootprintIfSoftMemoryLimitWasCrossed();
+            if (generationStart != null) {
+                // Is evaluated lazily so that the solver stays at the last path solution until more solutions have been
+                // requested, if needed
+                evaluateGenerationOfLastRun();
+                continue;
+            }
             Optional<SymbolicExecution> possibleSymbolicExecution =
                     createExecution();
             if (possibleSymbolicExecution.isPresent()) {
@@ -216,6 +258,7 @@ public abstract class AbstractMulibExecutor implements MulibExecutor {
                 }
                 this.currentSymbolicExecution = symbolicExecution;
                 assert solverManager.isSatisfiable() : config.toString();
+                evaluatedPaths++;
                 try {
                     // This executes the search region with the choice path predetermined by the chosen choice option
                     Object solutionValue = invokeSearchRegion();
@@ -231,6 +274,7 @@ public abstract class AbstractMulibExecutor implements MulibExecutor {
                     } catch (Throwable t) {
                         throw new MulibRuntimeException(t);
                     }
+                    rememberGeneration(symbolicExecution);
                     this.mulibExecutorManager.addToPathSolutions(solution, this);
                     return Optional.of(solution);
                 } catch (Backtrack b) {
@@ -240,6 +284,7 @@ public abstract class AbstractMulibExecutor implements MulibExecutor {
                     this.backtrackCallback.accept(this, b, solverManager);
                 } catch (Fail f) {
                     de.wwu.mulib.search.trees.Fail fail = currentChoiceOption.setExplicitlyFailed();
+                    rememberGeneration(symbolicExecution);
                     this.mulibExecutorManager.addToFails(fail);
                     this.failCallback.accept(this, fail, solverManager);
                 } catch (ExceededBudget be) {
@@ -265,6 +310,7 @@ public abstract class AbstractMulibExecutor implements MulibExecutor {
                     }
                     if (config.SEARCH_ALLOW_EXCEPTIONS) {
                         PathSolution solution = getPathSolution(e, true);
+                        rememberGeneration(symbolicExecution);
                         this.mulibExecutorManager.addToPathSolutions(solution, this);
                         return Optional.of(solution);
                     } else {
@@ -316,7 +362,7 @@ public abstract class AbstractMulibExecutor implements MulibExecutor {
     // Returns null for void methods.
     // If the search region was left using a thrown exception, this exception, too, will be thrown
     private Object invokeSearchRegion() throws Throwable {
-        MulibValueCopier mulibValueCopier = new MulibValueCopier(currentSymbolicExecution, config);
+        MulibValueCopier mulibValueCopier = new MulibValueCopier(currentSymbolicExecution, config, true);
         staticVariables.setMulibValueCopier(mulibValueCopier);
         rememberedSprimitives.clear();
         try {
@@ -343,10 +389,6 @@ public abstract class AbstractMulibExecutor implements MulibExecutor {
         staticVariables.reset();
         // Remove symbolic execution for this thread;
         SymbolicExecution.remove();
-        if (config.FREE_INIT_ALIASING_FOR_FREE_OBJECTS) {
-            // Reset aliasing information for this thread
-            AliasingInformation.resetAliasingTargets();
-        }
     }
 
     private void _manifestCfgAndReset(Object result) {
@@ -365,6 +407,47 @@ public abstract class AbstractMulibExecutor implements MulibExecutor {
         }
     }
 
+    private void rememberGeneration(SymbolicExecution symbolicExecution) {
+        if (evaluateGenerations) {
+            generationStart = symbolicExecution.getNavigatedTo();
+            generationEnd = currentChoiceOption;
+        }
+    }
+
+    // Checks the satisfiability of the unevaluated alternatives of all choices that have been created during the last
+    // concolic run. Starts at the deepest choice so that the solver stack of the run only needs to be popped.
+    private void evaluateGenerationOfLastRun() {
+        Choice.ChoiceOption start = generationStart;
+        Choice.ChoiceOption co = generationEnd;
+        generationStart = null;
+        generationEnd = null;
+        List<Choice.ChoiceOption> generation = new ArrayList<>();
+        while (co != start && co.getDepth() > start.getDepth() && !mulibExecutorManager.globalBudgetExceeded()) {
+            Choice choice = co.getChoice();
+            for (Choice.ChoiceOption alternative : choice.getChoiceOptions()) {
+                if (alternative == co || !alternative.isUnknown() || alternative.isEvaluated()) {
+                    continue;
+                }
+                // Take the alternative from the deque so that no other executor evaluates it concurrently
+                if (!getDeque().request(alternative)) {
+                    continue;
+                }
+                adjustSolverManagerToNewChoiceOption(alternative);
+                if (checkIfSatisfiableAndSet(alternative)) {
+                    generationalSatEvals++;
+                    generation.add(alternative);
+                } else {
+                    generationalUnsatEvals++;
+                }
+            }
+            co = choice.parentEdge;
+        }
+        // Reinsert the satisfiable alternatives; - the deque orders them by their depth
+        for (Choice.ChoiceOption alternative : generation) {
+            mulibExecutorManager.notifyNewChoice(alternative.getChoice().depth, Collections.singletonList(alternative));
+        }
+    }
+
     private Optional<SymbolicExecution> createExecution() {
         Choice.ChoiceOption optionToBeEvaluated;
         try {
@@ -421,42 +504,41 @@ public abstract class AbstractMulibExecutor implements MulibExecutor {
         return solverManager.isSatisfiable();
     }
 
+    private void reduceMemoryFootprintIfSoftMemoryLimitWasCrossed() {
+        int softMemoryLimitCrossings = mulibExecutorManager.getSoftMemoryLimitCrossings();
+        if (softMemoryLimitCrossings != handledSoftMemoryLimitCrossings) {
+            handledSoftMemoryLimitCrossings = softMemoryLimitCrossings;
+            // The caches of the solver manager are exclusive to this executor and can be recomputed
+            solverManager.evictCaches();
+        }
+    }
+
     private PathSolution getPathSolution(
             Object solutionValue, // TODO Not Substituted-type since, for now, it can be of type Throwable
             boolean isThrownException) {
+        if (config.FREE_INIT_ALIASING_SYMMETRY_BREAKING && !currentSymbolicExecution.nextIsOnKnownPath()) {
+            // Only now it is known which free objects were told apart on this path
+            Constraint symmetryBreaking =
+                    currentSymbolicExecution.getAliasingInformation().getSymmetryBreakingConstraint(config.SEARCH_CONCOLIC);
+            if (symmetryBreaking != Sbool.ConcSbool.TRUE) {
+                addNewConstraint(symmetryBreaking);
+            }
+        }
         Solution s = solverManager.labelSolution(solutionValue, rememberedSprimitives);
-        SearchTree.AccumulatedChoiceOptionConstraints constraintContainer = SearchTree.getAllConstraintsForChoiceOption(currentChoiceOption);
+        // The path constraints are only accumulated from the search tree if they are retrieved from the path solution
         PathSolution result;
         if (config.TRANSF_CFG_GENERATE_CHOICE_POINTS_WITH_ID) {
             BitSet cover = mulibExecutorManager.getCoverageCfg().getCoverAndReset();
             if (isThrownException) {
-                result = currentChoiceOption.setExceptionSolution(
-                        s,
-                        constraintContainer.constraints,
-                        constraintContainer.partnerClassObjectConstraints,
-                        cover
-                );
+                result = currentChoiceOption.setExceptionSolution(s, cover);
             } else {
-                result = currentChoiceOption.setSolution(
-                        s,
-                        constraintContainer.constraints,
-                        constraintContainer.partnerClassObjectConstraints,
-                        cover
-                );
+                result = currentChoiceOption.setSolution(s, cover);
             }
         } else {
             if (isThrownException) {
-                result = currentChoiceOption.setExceptionSolution(
-                        s,
-                        constraintContainer.constraints,
-                        constraintContainer.partnerClassObjectConstraints
-                );
+                result = currentChoiceOption.setExceptionSolution(s);
             } else {
-                result = currentChoiceOption.setSolution(
-                        s,
-                        constraintContainer.constraints,
-                        constraintContainer.partnerClassObjectConstraints
-                );
+                result = currentChoiceOption.setSolution(s);
             }
         }
 
@@ -504,8 +586,13 @@ public abstract class AbstractMulibExecutor implements MulibExecutor {
         int depthDifference = (currentChoiceOption.getDepth() - backtrackTo.getDepth());
         solverManager.backtrack(depthDifference);
         solverBacktrack += depthDifference;
-        ArrayDeque<Choice.ChoiceOption> getPathBetween = SearchTree.getPathBetween(backtrackTo, optionToBeEvaluated);
-        for (Choice.ChoiceOption co : getPathBetween) {
+        // Add the constraints between (excluding) backtrackTo and (excluding) optionToBeEvaluated
+        Choice.ChoiceOption co = backtrackTo;
+        while (co != optionToBeEvaluated) {
+            co = SearchTree.getNextOnPathTo(co, optionToBeEvaluated);
+            if (co == optionToBeEvaluated) {
+                break;
+            }
             solverManager.addConstraintAfterNewBacktrackingPoint(co.getOptionConstraint());
             solverManager.addPartnerClassObjectConstraints(co.getPartnerClassObjectConstraints());
             addedAfterBacktrackingPoint++;
@@ -574,7 +661,15 @@ public abstract class AbstractMulibExecutor implements MulibExecutor {
     }
 
     private boolean checkSatWithSolver(SolverManager solverManager, Choice.ChoiceOption choiceOption) {
-        if (solverManager.isSatisfiable()) {
+        boolean isSatisfiable;
+        if (trackTimeSpentInSolver) {
+            long start = System.nanoTime();
+            isSatisfiable = solverManager.isSatisfiable();
+            timeSpentInSolverInNanos += System.nanoTime() - start;
+        } else {
+            isSatisfiable = solverManager.isSatisfiable();
+        }
+        if (isSatisfiable) {
             choiceOption.setSatisfiable();
             satEvals++;
             return true;
@@ -0,0 +1,178 @@
+package de.wwu.mulib.search.executors;
+
+import de.wwu.mulib.MulibConfig;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides on how many {@link MulibExecutor}s should be active in a {@link MultiExecutorsManager}, if
+ * {@link MulibConfig#SEARCH_ADAPTIVE_PARALLELISM} is set.
+ * For this, the size of the {@link de.wwu.mulib.search.trees.ChoiceOptionDeque}, the throughput of evaluated paths,
+ * the share of time that the active executors spend in their {@link de.wwu.mulib.solving.solvers.SolverManager}s, and
+ * the number of available processors are sampled.
+ * An additional executor is only requested if there are enough choice options to distribute among the active executors.
+ * If growing the set of active executors did not increase the throughput, e.g., due to contention on the shared
+ * search tree, the set of active executors is shrunk again and not grown beyond this size anymore.
+ * Executors that should not be active anymore are parked by the {@link MultiExecutorsManager}, i.e., they keep their
+ * solver manager and can be reactivated later on.
+ */
+final class AdaptiveParallelismController {
+    // The number of choice options in the deque per active executor that is needed to grow the set of active executors
+    private static final int MIN_CHOICE_OPTIONS_PER_EXECUTOR = 2;
+    // The factor by which the throughput must increase after growing the set of active executors
+    private static final double MIN_SPEEDUP_AFTER_GROWING = 1.1;
+    // If the active executors spend more than this share of time in the solver, they hardly contend with each other
+    private static final double HIGH_SOLVER_UTILIZATION = 0.8;
+    private final long samplingIntervalInNanos;
+    // The main executor is always active
+    private final AtomicInteger active = new AtomicInteger(1);
+    private volatile int targetActive = 1;
+    // Is read without holding the lock of this controller
+    private volatile int maxActive;
+    // Is read without holding the lock of this controller to cheaply check whether a new sample is due. Is only
+    // written while holding the lock
+    private volatile long lastSampleTime;
+    private long lastNumberEvaluatedPaths = 0;
+    private long lastTimeSpentInSolver = 0;
+    private double lastThroughput = -1;
+    private double lastSolverUtilization = 0;
+    private boolean grewAtLastSample = false;
+    // Statistics
+    private long grown = 0, shrunk = 0, parked = 0;
+
+    AdaptiveParallelismController(MulibConfig config) {
+        this.maxActive = Math.min(
+                config.SEARCH_ADAPTIVE_PARALLELISM_MAX_EXECUTORS,
+                Math.max(2, Runtime.getRuntime().availableProcessors())
+        );
+        this.samplingIntervalInNanos = config.SEARCH_ADAPTIVE_PARALLELISM_SAMPLING_INTERVAL_IN_MS * 1_000_000;
+        this.lastSampleTime = System.nanoTime();
+    }
+
+    /**
+     * @return The maximum number of executors that are active at the same time
+     */
+    int getMaxActive() {
+        return maxActive;
+    }
+
+    /**
+     * Samples the current state of the search and recomputes the number of executors that should be active.
+     * Does nothing if the last sample was taken less than {@link MulibConfig#SEARCH_ADAPTIVE_PARALLELISM_SAMPLING_INTERVAL_IN_MS}
+     * ago.
+     * @param choiceOptionDequeSize The current number of choice options that can be evaluated
+     * @param mulibExecutors The executors of the manager, including parked ones
+     */
+    void sample(long choiceOptionDequeSize, List<MulibExecutor> mulibExecutors) {
+        long now = System.nanoTime();
+        if (now - lastSampleTime < samplingIntervalInNanos) {
+            return;
+        }
+        synchronized (this) {
+            long elapsed = now - lastSampleTime;
+            if (elapsed < samplingIntervalInNanos) {
+                // Another thread sampled in the meantime
+                return;
+            }
+            long numberEvaluatedPaths = 0;
+            long timeSpentInSolver = 0;
+            for (MulibExecutor me : new ArrayList<>(mulibExecutors)) { // Copy since executors might be added concurrently
+                numberEvaluatedPaths += me.getNumberOfEvaluatedPaths();
+                timeSpentInSolver += me.getTimeSpentInSolverInNanos();
+            }
+            int currentlyActive = active.get();
+            double throughput = (numberEvaluatedPaths - lastNumberEvaluatedPaths) / (double) elapsed;
+            double solverUtilization = (timeSpentInSolver - lastTimeSpentInSolver) / ((double) elapsed * currentlyActive);
+
+            int nextTargetActive = currentlyActive;
+            if (choiceOptionDequeSize < (long) MIN_CHOICE_OPTIONS_PER_EXECUTOR * currentlyActive) {
+                // Not enough work to keep the current executors busy
+                nextTargetActive = (int) Math.max(1, choiceOptionDequeSize / MIN_CHOICE_OPTIONS_PER_EXECUTOR);
+            } else if (grewAtLastSample && lastThroughput > 0 && throughput < lastThroughput * MIN_SPEEDUP_AFTER_GROWING) {
+                // The last additional executor did not pay off; - do not try this again
+                nextTargetActive = Math.max(1, currentlyActive - 1);
+                maxActive = Math.max(2, nextTargetActive);
+            } else if (currentlyActive < maxActive
+                    && choiceOptionDequeSize >= (long) MIN_CHOICE_OPTIONS_PER_EXECUTOR * (currentlyActive + 1)) {
+                // If the executors mostly wait for their solvers, they hardly contend and we can grow faster
+                int growBy = solverUtilization >= HIGH_SOLVER_UTILIZATION ? 2 : 1;
+                nextTargetActive = Math.min(maxActive, currentlyActive + growBy);
+            }
+
+            if (nextTargetActive > currentlyActive) {
+                grown++;
+            } else if (nextTargetActive < currentlyActive) {
+                shrunk++;
+            }
+            grewAtLastSample = nextTargetActive > currentlyActive;
+            targetActive = nextTargetActive;
+            lastThroughput = throughput;
+            lastSolverUtilization = solverUtilization;
+            lastNumberEvaluatedPaths = numberEvaluatedPaths;
+            lastTimeSpentInSolver = timeSpentInSolver;
+            lastSampleTime = now;
+        }
+    }
+
+    /**
+     * Tries to reserve the activation of another executor
+     * @return true, if another executor should be activated. In this case, the caller must activate an executor or
+     * call {@link #deactivate()}.
+     */
+    boolean tryActivate() {
+        while (true) {
+            int current = active.get();
+            if (current >= targetActive) {
+                return false;
+            }
+            if (active.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Tries to reserve the parking of a non-main executor
+     * @return true, if the calling executor should be parked. In this case, {@link #deactivate()} must not be called
+     * for the executor anymore.
+     */
+    boolean tryPark() {
+        while (true) {
+            int current = active.get();
+            if (current <= targetActive) {
+                return false;
+            }
+            if (active.compareAndSet(current, current - 1)) {
+                synchronized (this) {
+                    parked++;
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Signals that a formerly active executor stopped, e.g., since there currently are no choice options to evaluate.
+     */
+    void deactivate() {
+        active.decrementAndGet();
+    }
+
+    /**
+     * @return Informative statistics on the adaptation of the number of active executors
+     */
+    synchronized LinkedHashMap<String, String> getStatistics() {
+        LinkedHashMap<String, String> result = new LinkedHashMap<>();
+        result.put("maxActive", String.valueOf(maxActive));
+        result.put("targetActive", String.valueOf(targetActive));
+        result.put("grown", String.valueOf(grown));
+        result.put("shrunk", String.valueOf(shrunk));
+        result.put("parked", String.valueOf(parked));
+        result.put("lastThroughputPerSecond", String.valueOf(lastThroughput * 1e9));
+        result.put("lastSolverUtilization", String.valueOf(lastSolverUtilization));
+        return result;
+    }
+}
@@ -1,7 +1,11 @@
 package de.wwu.mulib.search.executors;
 
+import de.wwu.mulib.constraints.*;
 import de.wwu.mulib.expressions.ConcolicMathematicalContainer;
 import de.wwu.mulib.substitutions.PartnerClass;
+import de.wwu.mulib.substitutions.Sarray;
+import de.wwu.mulib.substitutions.primitives.ConcSnumber;
+import de.wwu.mulib.substitutions.primitives.Sbool;
 import de.wwu.mulib.substitutions.primitives.Sint;
 import de.wwu.mulib.throwables.MulibIllegalStateException;
 
@@ -10,39 +14,44 @@ import java.util.stream.Collectors;
 
 /**
  * Class capturing information on aliasing for objects created with {@link de.wwu.mulib.Mulib#freeObject(Class)} etc.
- * This class is implemented using {@link ThreadLocal}s rather than a single version for each {@link AbstractMulibExecutor}
- * as it is not expected that aliasing is used in many scenarios.
+ * Each {@link SymbolicExecution} carries its own instance. Thus, the aliasing information is not bound to the thread
+ * executing the search region and a new run of the search region starts without any aliasing targets.
  * To enable aliasing in the initialization of new symbolic objects, {@link de.wwu.mulib.MulibConfig#FREE_INIT_ALIASING_FOR_FREE_OBJECTS}
  * must be enabled.
  * TODO This does not yet regard subtyping
  */
 public final class AliasingInformation {
-    private static final ThreadLocal<AliasingInformation> currentAliasingInformation = new ThreadLocal<>();
     private final Map<Class<?>, Collection<PartnerClass>> aliasingMap = new HashMap<>();
+    // Whether touched objects and the order of initialization are tracked for getSymmetryBreakingConstraint
+    private final boolean trackTouchedObjects;
+    // Objects the state of which was accessed or constrained, see markAsTouched
+    private final Set<PartnerClass> touchedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<InitializedAliasingTarget> aliasingTargetsInInitializationOrder = new ArrayList<>();
+
+    AliasingInformation(boolean trackTouchedObjects) {
+        this.trackTouchedObjects = trackTouchedObjects;
+    }
 
     /**
-     * For the current thread (and thus for each {@link SymbolicExecution} in separate), returns the potential
-     * aliasing targets, i.e., those instances that have been initialized symbolically beforehand.
+     * For the owning {@link SymbolicExecution}, returns the potential aliasing targets, i.e., those instances that have been initialized symbolically beforehand.
      * @param c The class for which to retrieve aliasing information for the current run of {@link SymbolicExecution}
      * @return The aliasing targets
      */
-    public static Collection<PartnerClass> getAliasingTargetsForClass(Class<?> c) {
-        Map<Class<?>, Collection<PartnerClass>> map = getAliasingInfo().aliasingMap;
-        return map.entrySet().stream()
+    public Collection<PartnerClass> getAliasingTargetsForClass(Class<?> c) {
+        return aliasingMap.entrySet().stream()
                 .filter(e -> c.isAssignableFrom(e.getKey()))
                 .flatMap(e -> e.getValue().stream())
                 .collect(Collectors.toList());
     }
 
     /**
-     * For the current thread (and thus for each {@link SymbolicExecution} in separate), returns the potential
-     * aliasing targets' identifiers, i.e., those instances that have been initialized symbolically beforehand.
+     * For the owning {@link SymbolicExecution}, returns the potential aliasing targets' identifiers, i.e., those instances that have been initialized symbolically beforehand.
      * @param c The class for which to retrieve aliasing information for the current run of {@link SymbolicExecution}
      * @param isConcolic Whether or not we currently run concolic execution. In this case, we would need to unwrap
      *                   the identifier from its {@link ConcolicMathematicalContainer}.
      * @return The aliasing targets' identifiers
      */
-    public static Set<Sint> getAliasingTargetIdsForClass(Class<?> c, boolean isConcolic) {
+    public Set<Sint> getAliasingTargetIdsForClass(Class<?> c, boolean isConcolic) {
         return getAliasingTargetsForClass(c).stream()
                 .map(pc -> pc == null ?
                         Sint.ConcSint.MINUS_ONE
@@ -51,34 +60,124 @@ public final class AliasingInformation {
                 .collect(Collectors.toCollection(HashSet::new));
     }
 
+    /**
+     * Breaks symmetries between aliasing targets: Two free objects of the same class that were initialized one after
+     * another and that both are untouched, see {@link #markAsTouched(Object)}, are interchangeable if both are new
+     * objects. Objects that were initialized afterwards can alias either of them. Of these objects, the first one
+     * aliasing the second of the interchangeable objects must be preceded by one aliasing the first of them.
+     * Each solution is thus equivalent to a solution satisfying the returned constraint.
+     * Since objects can be told apart after other objects were initialized, this must only be called once the
+     * execution of the search region has finished. Objects that might be constrained through a touched alias, i.e.,
+     * the potential aliasing targets of a touched object, are regarded to be touched as well.
+     * @param isConcolic Whether or not we currently run concolic execution
+     * @return The constraint breaking the symmetries; - {@link Sbool.ConcSbool#TRUE} if there are none
+     * @see de.wwu.mulib.MulibConfig#FREE_INIT_ALIASING_SYMMETRY_BREAKING
+     */
+    public Constraint getSymmetryBreakingConstraint(boolean isConcolic) {
+        int numberTargets = aliasingTargetsInInitializationOrder.size();
+        boolean[] possiblyTouched = new boolean[numberTargets];
+        for (int j = 0; j < numberTargets; j++) {
+            InitializedAliasingTarget touched = aliasingTargetsInInitializationOrder.get(j);
+            if (!touchedObjects.contains(touched.target)) {
+                continue;
+            }
+            possiblyTouched[j] = true;
+            for (int i = 0; i < j; i++) {
+                if (touched.clazz.isAssignableFrom(aliasingTargetsInInitializationOrder.get(i).clazz)) {
+                    possiblyTouched[i] = true;
+                }
+            }
+        }
+        Constraint result = Sbool.ConcSbool.TRUE;
+        for (int k = 1; k < numberTargets; k++) {
+            InitializedAliasingTarget first = aliasingTargetsInInitializationOrder.get(k - 1);
+            InitializedAliasingTarget second = aliasingTargetsInInitializationOrder.get(k);
+            if (possiblyTouched[k - 1] || possiblyTouched[k] || first.clazz != second.clazz
+                    || hasConcreteLength(first.target) || hasConcreteLength(second.target)) {
+                continue;
+            }
+            Sint firstId = getId(first.target, isConcolic);
+            Sint secondId = getId(second.target, isConcolic);
+            Constraint bothAreNewObjects = And.newInstance(
+                    first.isNewObject(firstId),
+                    second.isNewObject(secondId),
+                    Not.newInstance(Eq.newInstance(firstId, secondId))
+            );
+            Constraint firstIsAliasedBefore = Sbool.ConcSbool.FALSE;
+            for (int m = k + 1; m < numberTargets; m++) {
+                InitializedAliasingTarget later = aliasingTargetsInInitializationOrder.get(m);
+                if (!later.clazz.isAssignableFrom(first.clazz)) {
+                    continue;
+                }
+                Sint id = getId(later.target, isConcolic);
+                result = And.newInstance(
+                        result,
+                        Implication.newInstance(
+                                And.newInstance(bothAreNewObjects, Eq.newInstance(id, secondId)),
+                                firstIsAliasedBefore
+                        )
+                );
+                firstIsAliasedBefore = Or.newInstance(firstIsAliasedBefore, Eq.newInstance(id, firstId));
+            }
+        }
+        return result;
+    }
+
+    private static Sint getId(PartnerClass pc, boolean isConcolic) {
+        return (Sint) (isConcolic ? ConcolicMathematicalContainer.tryGetSymFromConcolic(pc.__mulib__getId()) : pc.__mulib__getId());
+    }
+
+    private static boolean hasConcreteLength(PartnerClass pc) {
+        // Arrays with a concrete length are not interchangeable with arrays of another length
+        return pc instanceof Sarray && ((Sarray<?>) pc)._getLengthWithoutCheckingForIsNull() instanceof ConcSnumber;
+    }
+
+    /**
+     * Marks an object as touched, i.e., its fields or elements were accessed, it was stored in another object, or
+     * a constraint on its identifier, on whether it is null, or on its length was added. Symmetries between touched
+     * objects are not broken by {@link #getSymmetryBreakingConstraint(boolean)}. Must also be called on known paths so
+     * that the same objects are regarded to be touched when replaying a path.
+     * Does nothing if {@link de.wwu.mulib.MulibConfig#FREE_INIT_ALIASING_SYMMETRY_BREAKING} is not set.
+     * @param o The object; - objects that are not instances of {@link PartnerClass} are ignored
+     */
+    public void markAsTouched(Object o) {
+        if (trackTouchedObjects && o instanceof PartnerClass) {
+            touchedObjects.add((PartnerClass) o);
+        }
+    }
+
     /**
      * Adds an aliasing target for the given class
      * @param c The class
      * @param val The aliasing target
+     * @param reservedId The identifier of the aliasing target if it is a new object
      */
-    public static void addAliasingTarget(Class<?> c, PartnerClass val) {
+    public void addAliasingTarget(Class<?> c, PartnerClass val, Sint reservedId) {
         if (val.__mulib__getId() == null) {
             throw new MulibIllegalStateException("To set an object as a global aliasing target, its ID must be initialized");
         }
-        getAliasingInfo().aliasingMap.computeIfAbsent(c, e -> new ArrayList<>()).add(val);
+        if (trackTouchedObjects) {
+            // If there are no aliasing targets yet, the object always is a new object
+            boolean canBeAlias = !getAliasingTargetsForClass(c).isEmpty();
+            aliasingTargetsInInitializationOrder.add(new InitializedAliasingTarget(c, val, canBeAlias ? reservedId : null));
+        }
+        aliasingMap.computeIfAbsent(c, e -> new ArrayList<>()).add(val);
     }
 
-    private static AliasingInformation getAliasingInfo() {
-        AliasingInformation result = currentAliasingInformation.get();
-        if (result == null) {
-            result = new AliasingInformation();
-            currentAliasingInformation.set(result);
+    private static final class InitializedAliasingTarget {
+        final Class<?> clazz;
+        final PartnerClass target;
+        // Null if the target cannot alias another object
+        final Sint reservedId;
+
+        InitializedAliasingTarget(Class<?> clazz, PartnerClass target, Sint reservedId) {
+            this.clazz = clazz;
+            this.target = target;
+            this.reservedId = reservedId;
         }
-        return result;
-    }
 
-    /**
-     * Resets the currently stored aliasing targets so that a new {@link SymbolicExecution} can start filling it up again.
-     */
-    public static void resetAliasingTargets() {
-        AliasingInformation result = currentAliasingInformation.get();
-        if (result != null) {
-            result.aliasingMap.clear();
+        Constraint isNewObject(Sint id) {
+            return reservedId == null ? Sbool.ConcSbool.TRUE : Eq.newInstance(id, reservedId);
         }
     }
 }
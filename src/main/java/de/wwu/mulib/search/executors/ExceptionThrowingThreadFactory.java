@@ -11,18 +11,30 @@ import java.util.concurrent.ThreadFactory;
 public class ExceptionThrowingThreadFactory implements ThreadFactory {
 
     private final MultiExecutorsManager owningInstance;
+    // Is null if the default platform threads are to be used
+    private final ThreadFactory delegate;
 
     /**
      * Create a new instance
      * @param owningInstance The owning executor manager.
      */
     public ExceptionThrowingThreadFactory(MultiExecutorsManager owningInstance) {
+        this(owningInstance, null);
+    }
+
+    /**
+     * Create a new instance
+     * @param owningInstance The owning executor manager.
+     * @param delegate Can be null: The factory used to create the threads, e.g., a factory for virtual threads
+     */
+    public ExceptionThrowingThreadFactory(MultiExecutorsManager owningInstance, ThreadFactory delegate) {
         this.owningInstance = owningInstance;
+        this.delegate = delegate;
     }
 
     @Override
     public Thread newThread(Runnable r) {
-        Thread result = new Thread(r);
+        Thread result = delegate == null ? new Thread(r) : delegate.newThread(r);
         result.setUncaughtExceptionHandler((t, e) -> {
             this.owningInstance.signalFailure(e);
             throw new MulibRuntimeException(e);
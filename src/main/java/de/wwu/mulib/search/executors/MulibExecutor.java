@@ -63,6 +63,18 @@ public interface MulibExecutor {
      */
     LinkedHashMap<String, String> getStatistics();
 
+    /**
+     * @return The number of executions of the search region that have been completed by this executor, regardless of
+     * whether they resulted in a {@link PathSolution}, a fail, an exceeded budget, or backtracking
+     */
+    long getNumberOfEvaluatedPaths();
+
+    /**
+     * @return The time this executor spent in its {@link SolverManager} checking for satisfiability in nanoseconds.
+     * Is only tracked if {@link de.wwu.mulib.MulibConfig#SEARCH_ADAPTIVE_PARALLELISM} is set, otherwise 0 is returned.
+     */
+    long getTimeSpentInSolverInNanos();
+
     /**
      * @return The {@link MulibExecutorManager} responsible for managing this instance of {@link MulibExecutor}.
      */
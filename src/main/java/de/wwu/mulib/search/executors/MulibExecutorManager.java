@@ -8,6 +8,7 @@ import de.wwu.mulib.search.choice_points.CoverageCfg;
 import de.wwu.mulib.search.trees.*;
 import de.wwu.mulib.solving.Solution;
 import de.wwu.mulib.substitutions.ValueFactory;
+import de.wwu.mulib.substitutions.primitives.ConcSnumberCache;
 import de.wwu.mulib.throwables.MulibIllegalStateException;
 import de.wwu.mulib.transformations.MulibValueTransformer;
 
@@ -105,6 +106,12 @@ public abstract class MulibExecutorManager {
      */
     private AtomicInteger numberRequestedSolutions;
     private int numberAlreadyRequestedSolutions;
+    /**
+     * Can be null.
+     * If not null: Each path solution is handed to this publisher and the executors pause if its subscriber does
+     * not demand further path solutions
+     */
+    private volatile PathSolutionPublisher<?> publisher;
 
     /**
      * Constructs a new instance
@@ -274,6 +281,39 @@ public abstract class MulibExecutorManager {
         return solutions.subList(currentNumberSolutions, Math.min(numberAlreadyRequestedSolutions, solutions.size()));
     }
 
+    /**
+     * Evaluates the search region and hands each path solution found by any of the executors to the publisher.
+     * The executors pause while the subscriber of the publisher does not demand further path solutions.
+     * Terminates this manager thereafter.
+     * @param publisher The publisher
+     */
+    synchronized void publishPathSolutions(PathSolutionPublisher<?> publisher) {
+        this.publisher = publisher;
+        globalExecutionManagerBudgetManager.resetTimeBudget();
+        try {
+            while (publisher.awaitDemand()) {
+                if (checkForPauseAndTerminateIfNeeded()) {
+                    if (observedTree.getChoiceOptionDeque().isEmpty()
+                            || shouldStopSinceFullCoverageAchieved()
+                            || nonSolutionBudgetExceeded()) {
+                        // No further path solutions can be found
+                        break;
+                    }
+                    // Paused since there is no demand
+                    continue;
+                }
+                mainExecutor.getPathSolution();
+                checkForFailure();
+            }
+            terminate();
+            printStatistics();
+            publisher.complete();
+        } catch (Throwable t) {
+            terminate();
+            publisher.fail(t);
+        }
+    }
+
     /**
      * Tries to add a fail node to the search tree's explicit list.
      * Also increments the fail budget.
@@ -295,6 +335,10 @@ public abstract class MulibExecutorManager {
     public void addToPathSolutions(PathSolution pathSolution, MulibExecutor responsibleExecutor) {
         this.observedTree.addToPathSolutions(pathSolution);
         this.globalExecutionManagerBudgetManager.incrementPathSolutionBudget();
+        PathSolutionPublisher<?> publisher = this.publisher;
+        if (publisher != null) {
+            publisher.offer(pathSolution);
+        }
         if (numberRequestedSolutions != null) {
             this.numberRequestedSolutions.decrementAndGet();
             solutions.add(pathSolution.getSolution());
@@ -322,10 +366,12 @@ public abstract class MulibExecutorManager {
     }
 
     /**
-     * @return true, if the global budget, kept in a {@link GlobalExecutionBudgetManager} was exceeded, else false.
+     * @return true, if the global budget, kept in a {@link GlobalExecutionBudgetManager} was exceeded, or if no further
+     * solutions are currently requested, else false.
      */
     public final boolean globalBudgetExceeded() {
-        return shouldStopSinceFullCoverageAchieved() || nonSolutionBudgetExceeded() || shouldStopSinceEnoughSolutionsWereFound();
+        return shouldStopSinceFullCoverageAchieved() || nonSolutionBudgetExceeded() || shouldStopSinceEnoughSolutionsWereFound()
+                || shouldPauseSinceNoFurtherPathSolutionsAreDemanded();
     }
 
     protected final boolean shouldStopSinceFullCoverageAchieved() {
@@ -336,7 +382,16 @@ public abstract class MulibExecutorManager {
         return globalExecutionManagerBudgetManager.timeBudgetIsExceeded()
                 || globalExecutionManagerBudgetManager.fixedFailBudgetIsExceeded()
                 || globalExecutionManagerBudgetManager.fixedPathSolutionBudgetIsExceeded()
-                || globalExecutionManagerBudgetManager.fixedExceededBudgetBudgetsIsExceeded();
+                || globalExecutionManagerBudgetManager.fixedExceededBudgetBudgetsIsExceeded()
+                || globalExecutionManagerBudgetManager.memoryBudgetIsExceeded();
+    }
+
+    /**
+     * @return The number of times the soft memory limit kept in the {@link GlobalExecutionBudgetManager} has been
+     * crossed. Executors reduce their memory footprint once for each crossing.
+     */
+    public final int getSoftMemoryLimitCrossings() {
+        return globalExecutionManagerBudgetManager.getSoftMemoryLimitCrossings();
     }
 
     /**
@@ -384,6 +439,10 @@ public abstract class MulibExecutorManager {
                     .append(observedTree.getExceededBudgetList().size());
 
         }
+        if (config.LOG_CONC_ALLOCATIONS) {
+            b.append(", ")
+                    .append(ConcSnumberCache.getStatistics());
+        }
         Mulib.log.fine(b.toString());
     }
 
@@ -420,6 +479,12 @@ public abstract class MulibExecutorManager {
         observedTree.getChoiceOptionDeque().setEmpty();
     }
 
+    // Returns false if we do not publish path solutions
+    private boolean shouldPauseSinceNoFurtherPathSolutionsAreDemanded() {
+        PathSolutionPublisher<?> publisher = this.publisher;
+        return publisher != null && publisher.shouldPause();
+    }
+
     // Returns false if numberRequestedSolutions == null, which is true if we did not ask for
     // Solutions
     private boolean shouldStopSinceEnoughSolutionsWereFound() {
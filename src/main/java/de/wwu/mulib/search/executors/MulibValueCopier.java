@@ -23,6 +23,7 @@ import java.util.Map;
 public class MulibValueCopier {
 
     private final boolean isConcolic;
+    private final boolean copyArrayElementsLazily;
     private final Map<Object, Object> alreadyCopiedObjects = new IdentityHashMap<>();
     private final SymbolicExecution se;
 
@@ -33,8 +34,33 @@ public class MulibValueCopier {
     public MulibValueCopier(
             SymbolicExecution se,
             MulibConfig config) {
+        this(se, config, false);
+    }
+
+    /**
+     * @param se The current instance of symbolic execution
+     * @param config The configuration
+     * @param copiesImmutableInputs Whether the copied values are never modified, i.e., whether they are the transformed
+     *                              arguments of the search region or the transformed values of the static fields
+     */
+    public MulibValueCopier(
+            SymbolicExecution se,
+            MulibConfig config,
+            boolean copiesImmutableInputs) {
         this.se = se;
         this.isConcolic = config.SEARCH_CONCOLIC;
+        // Concolic values are relabeled using the current symbolic execution, thus, they must be copied eagerly
+        this.copyArrayElementsLazily =
+                copiesImmutableInputs && !isConcolic && config.SEARCH_COPY_ARRAY_ELEMENTS_OF_INPUTS_LAZILY;
+    }
+
+    /**
+     * @return true, if the elements of copied {@link de.wwu.mulib.substitutions.Sarray.PartnerClassSarray}s
+     * should only be copied once they are accessed.
+     * @see MulibConfig#SEARCH_COPY_ARRAY_ELEMENTS_OF_INPUTS_LAZILY
+     */
+    public boolean copiesArrayElementsLazily() {
+        return copyArrayElementsLazily;
     }
 
     /**
@@ -25,6 +25,8 @@ public class MultiExecutorsManager extends MulibExecutorManager {
     private final SimpleSyncedQueue<MulibExecutor> idle;
     private final ExecutorService executorService;
     private final long activateParallelFor;
+    // Is null if MulibConfig.SEARCH_ADAPTIVE_PARALLELISM is not set
+    private final AdaptiveParallelismController adaptiveParallelismController;
     private volatile Throwable failureInThread = null;
 
     /**
@@ -53,8 +55,21 @@ public class MultiExecutorsManager extends MulibExecutorManager {
         super(config, Collections.synchronizedList(new ArrayList<>()), observedTree,
                 choicePointFactory, valueFactory, calculationFactory, mulibValueTransformer,
                 searchRegionMethod, staticVariables, searchRegionArgs, coverageCfg);
-        this.nextStrategiesToInitialize = new SimpleSyncedQueue<>(config.SEARCH_ADDITIONAL_PARALLEL_STRATEGIES);
-        this.executorService = Executors.newCachedThreadPool(new ExceptionThrowingThreadFactory(this));
+        if (config.SEARCH_ADAPTIVE_PARALLELISM) {
+            this.adaptiveParallelismController = new AdaptiveParallelismController(config);
+            // Reuse the additional strategies in-order if more executors can be active
+            List<SearchStrategy> strategies = new ArrayList<>();
+            for (int i = 0; i < adaptiveParallelismController.getMaxActive() - 1; i++) {
+                strategies.add(config.SEARCH_ADDITIONAL_PARALLEL_STRATEGIES.get(i % config.SEARCH_ADDITIONAL_PARALLEL_STRATEGIES.size()));
+            }
+            this.nextStrategiesToInitialize = new SimpleSyncedQueue<>(strategies);
+        } else {
+            this.adaptiveParallelismController = null;
+            this.nextStrategiesToInitialize = new SimpleSyncedQueue<>(config.SEARCH_ADDITIONAL_PARALLEL_STRATEGIES);
+        }
+        this.executorService = Executors.newCachedThreadPool(
+                new ExceptionThrowingThreadFactory(this, config.SEARCH_PARALLEL_THREAD_FACTORY.orElse(null))
+        );
         this.idle = new SimpleSyncedQueue<>();
         this.activateParallelFor = config.SEARCH_ACTIVATE_PARALLEL_FOR.isPresent() ? config.SEARCH_ACTIVATE_PARALLEL_FOR.get() : 1;
     }
@@ -87,7 +102,7 @@ public class MultiExecutorsManager extends MulibExecutorManager {
         super.notifyNewChoice(depth, choiceOptions);
         // Additional functionality compared to SingleExecutorManager: Start new executor if there are choices
         while (!globalBudgetExceeded() && ((!nextStrategiesToInitialize.isEmpty()
-                || !idle.isEmpty()) && observedTree.getChoiceOptionDeque().size() >= activateParallelFor)) {
+                || !idle.isEmpty()) && shouldActivateAnotherExecutor())) {
             // Case 1: An existing MulibExecutor is idle, use this
             MulibExecutor nextExecutor = idle.poll();
             if (nextExecutor != null) {
@@ -99,6 +114,7 @@ public class MultiExecutorsManager extends MulibExecutorManager {
                 // Case 2: No idles, start new search
                 SearchStrategy searchStrategy = nextStrategiesToInitialize.poll();
                 if (searchStrategy == null) {
+                    revokeActivation();
                     return;
                 }
                 if (!observedTree.getChoiceOptionDeque().isEmpty()) {
@@ -123,12 +139,29 @@ public class MultiExecutorsManager extends MulibExecutorManager {
                     });
 
                 } else {
+                    revokeActivation();
                     return;
                 }
             }
         }
     }
 
+    // Determines whether another executor should be activated. If the number of active executors is adapted,
+    // the activation is reserved and must be revoked if no executor is activated.
+    private boolean shouldActivateAnotherExecutor() {
+        if (adaptiveParallelismController == null) {
+            return observedTree.getChoiceOptionDeque().size() >= activateParallelFor;
+        }
+        adaptiveParallelismController.sample(observedTree.getChoiceOptionDeque().size(), mulibExecutors);
+        return adaptiveParallelismController.tryActivate();
+    }
+
+    private void revokeActivation() {
+        if (adaptiveParallelismController != null) {
+            adaptiveParallelismController.deactivate();
+        }
+    }
+
     /**
      * If {@link ExceptionThrowingThreadFactory} finds a {@link Throwable} that escaped a {@link MulibExecutor}, this
      * will call this method.
@@ -181,6 +214,13 @@ public class MultiExecutorsManager extends MulibExecutorManager {
 
     private void computePathSolutionsWithNonMainExecutor(MulibExecutor mulibExecutor) {
         while (!checkForPause()) {
+            if (adaptiveParallelismController != null) {
+                adaptiveParallelismController.sample(observedTree.getChoiceOptionDeque().size(), mulibExecutors);
+                if (adaptiveParallelismController.tryPark()) {
+                    // The executor is parked with its solver manager; - it is reactivated via notifyNewChoice
+                    return;
+                }
+            }
             Optional<PathSolution> ps = mulibExecutor.getPathSolution();
             if ((config.LOG_TIME_FOR_EACH_PATH_SOLUTION || (config.LOG_TIME_FOR_FIRST_PATH_SOLUTION && !seenFirstPathSolution))
                     && ps.isPresent()) {
@@ -189,5 +229,14 @@ public class MultiExecutorsManager extends MulibExecutorManager {
                 seenFirstPathSolution = true;
             }
         }
+        revokeActivation();
+    }
+
+    @Override
+    protected void printStatistics() {
+        super.printStatistics();
+        if (adaptiveParallelismController != null) {
+            Mulib.log.fine("   adaptiveParallelism: " + adaptiveParallelismController.getStatistics());
+        }
     }
 }
@@ -0,0 +1,202 @@
+package de.wwu.mulib.search.executors;
+
+import de.wwu.mulib.search.trees.PathSolution;
+import de.wwu.mulib.throwables.MulibIllegalStateException;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Publishes the {@link PathSolution}s found by the {@link MulibExecutor}s of a {@link MulibExecutorManager}.
+ * The path solutions are handed to this publisher directly in {@link MulibExecutorManager#addToPathSolutions(PathSolution, MulibExecutor)},
+ * i.e., also if they were found by executors of {@link de.wwu.mulib.MulibConfig#SEARCH_ADDITIONAL_PARALLEL_STRATEGIES}.
+ * The demand of the subscriber throttles the executors: If the subscriber did not request more path solutions than
+ * are already buffered, the executors pause. Cancelling the subscription terminates the executor manager.
+ * Each publisher evaluates the search region once and thus can only be subscribed to once.
+ * @param <T> The type of the published elements, e.g., {@link PathSolution} or {@link de.wwu.mulib.solving.Solution}
+ */
+public final class PathSolutionPublisher<T> implements Flow.Publisher<T> {
+    private final MulibExecutorManager mulibExecutorManager;
+    private final Function<PathSolution, T> mapper;
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+    // The following fields are guarded by this
+    private final ArrayDeque<PathSolution> buffer = new ArrayDeque<>();
+    private Flow.Subscriber<? super T> subscriber;
+    private long requested = 0;
+    private boolean draining = false;
+    // True, if the executor manager will not find more path solutions
+    private boolean done = false;
+    // True, if onComplete or onError was called
+    private boolean signalledTermination = false;
+    private Throwable failure = null;
+    private volatile boolean cancelled = false;
+
+    /**
+     * @param mulibExecutorManager The executor manager evaluating the search region. Must not be used otherwise.
+     * @param mapper Maps each path solution to the published element
+     */
+    public PathSolutionPublisher(MulibExecutorManager mulibExecutorManager, Function<PathSolution, T> mapper) {
+        this.mulibExecutorManager = mulibExecutorManager;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {}
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(new MulibIllegalStateException("A PathSolutionPublisher can only be subscribed to once"));
+            return;
+        }
+        synchronized (this) {
+            this.subscriber = subscriber;
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                PathSolutionPublisher.this.request(n);
+            }
+
+            @Override
+            public void cancel() {
+                PathSolutionPublisher.this.cancel();
+            }
+        });
+        Thread driver = new Thread(() -> mulibExecutorManager.publishPathSolutions(this));
+        driver.setDaemon(true);
+        driver.start();
+    }
+
+    private void request(long n) {
+        if (n <= 0) {
+            fail(new IllegalArgumentException("The number of requested elements must be positive, but was " + n));
+            cancel();
+            return;
+        }
+        synchronized (this) {
+            requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+            notifyAll();
+        }
+        drain();
+    }
+
+    private void cancel() {
+        cancelled = true;
+        synchronized (this) {
+            buffer.clear();
+            notifyAll();
+        }
+    }
+
+    /**
+     * @param pathSolution The path solution found by any of the executors
+     */
+    void offer(PathSolution pathSolution) {
+        synchronized (this) {
+            if (cancelled || done) {
+                return;
+            }
+            buffer.add(pathSolution);
+        }
+        drain();
+    }
+
+    /**
+     * @return true, if the executors should pause since the subscriber does not demand further path solutions
+     */
+    synchronized boolean shouldPause() {
+        return cancelled || requested <= buffer.size();
+    }
+
+    /**
+     * Blocks until the subscriber demands further path solutions
+     * @return false, if the subscription was cancelled, else true
+     */
+    synchronized boolean awaitDemand() {
+        while (!cancelled && requested <= buffer.size()) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return !cancelled;
+    }
+
+    /**
+     * Signals that no further path solutions will be offered
+     */
+    void complete() {
+        synchronized (this) {
+            done = true;
+        }
+        drain();
+    }
+
+    /**
+     * Signals that the evaluation of the search region failed
+     * @param t The cause
+     */
+    void fail(Throwable t) {
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            failure = t;
+            done = true;
+            // Signal the failure without delay
+            buffer.clear();
+        }
+        drain();
+    }
+
+    // Serializes the calls to the subscriber
+    private void drain() {
+        synchronized (this) {
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        while (true) {
+            PathSolution next;
+            Throwable terminatedWith = null;
+            synchronized (this) {
+                if (cancelled || signalledTermination) {
+                    draining = false;
+                    return;
+                }
+                if (!buffer.isEmpty() && requested > 0) {
+                    next = buffer.poll();
+                    if (requested != Long.MAX_VALUE) {
+                        requested--;
+                    }
+                } else if (buffer.isEmpty() && done) {
+                    next = null;
+                    terminatedWith = failure;
+                    signalledTermination = true;
+                    draining = false;
+                } else {
+                    draining = false;
+                    return;
+                }
+            }
+            if (next == null) {
+                if (terminatedWith != null) {
+                    subscriber.onError(terminatedWith);
+                } else {
+                    subscriber.onComplete();
+                }
+                return;
+            }
+            subscriber.onNext(mapper.apply(next));
+        }
+    }
+}
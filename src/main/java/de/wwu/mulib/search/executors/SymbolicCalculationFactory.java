@@ -10,7 +10,8 @@ import de.wwu.mulib.substitutions.primitives.*;
 
 /**
  * The default symbolic calculation factory. Constructs wrapper objects containing constraint or
- * numeric expressions.
+ * numeric expressions. The arithmetic operations are only called if at least one operand is symbolic; - concrete
+ * operands are computed by the arithmetic methods of the numbers, e.g., {@link Sint#add(Sint, SymbolicExecution)}.
  */
 public class SymbolicCalculationFactory extends AbstractCalculationFactory {
 
@@ -37,193 +38,121 @@ public class SymbolicCalculationFactory extends AbstractCalculationFactory {
 
     @Override
     public Sint add(SymbolicExecution se, Sint lhs, Sint rhs) {
-        if (lhs instanceof ConcSnumber && rhs instanceof ConcSnumber) {
-            return Sint.concSint(((ConcSnumber) lhs).intVal() + ((ConcSnumber) rhs).intVal());
-        }
         return valueFactory.wrappingSymSint(se, sum(lhs, rhs));
     }
 
     @Override
     public Sint sub(SymbolicExecution se, Sint lhs, Sint rhs) {
-        if (lhs instanceof ConcSnumber && rhs instanceof ConcSnumber) {
-            return Sint.concSint(((ConcSnumber) lhs).intVal() - ((ConcSnumber) rhs).intVal());
-        }
         return valueFactory.wrappingSymSint(se, sub(lhs, rhs));
     }
 
     @Override
     public Sint mul(SymbolicExecution se, Sint lhs, Sint rhs) {
-        if (lhs instanceof ConcSnumber && rhs instanceof ConcSnumber) {
-            return Sint.concSint(((ConcSnumber) lhs).intVal() * ((ConcSnumber) rhs).intVal());
-        }
         return valueFactory.wrappingSymSint(se, mul(lhs, rhs));
     }
 
     @Override
     public Sint div(SymbolicExecution se, Sint lhs, Sint rhs) {
-        if (lhs instanceof ConcSnumber && rhs instanceof ConcSnumber) {
-            return Sint.concSint(((ConcSnumber) lhs).intVal() / ((ConcSnumber) rhs).intVal());
-        }
         return valueFactory.wrappingSymSint(se, div(lhs, rhs));
     }
 
     @Override
     public Sint mod(SymbolicExecution se, Sint lhs, Sint rhs) {
-        if (lhs instanceof ConcSnumber && rhs instanceof ConcSnumber) {
-            return Sint.concSint(((ConcSnumber) lhs).intVal() % ((ConcSnumber) rhs).intVal());
-        }
         return valueFactory.wrappingSymSint(se, mod(lhs, rhs));
     }
 
     @Override
     public Sint neg(SymbolicExecution se, Sint i) {
-        if (i instanceof ConcSnumber) {
-            return Sint.concSint(- ((ConcSnumber) i).intVal());
-        }
         return valueFactory.wrappingSymSint(se, neg(i));
     }
 
     @Override
     public Sdouble add(SymbolicExecution se, Sdouble lhs, Sdouble rhs) {
-        if (lhs instanceof Sdouble.ConcSdouble && rhs instanceof Sdouble.ConcSdouble) {
-            return Sdouble.concSdouble(((Sdouble.ConcSdouble) lhs).doubleVal() + ((Sdouble.ConcSdouble) rhs).doubleVal());
-        }
         return valueFactory.wrappingSymSdouble(se, sum(lhs, rhs));
     }
 
     @Override
     public Sdouble sub(SymbolicExecution se, Sdouble lhs, Sdouble rhs) {
-        if (lhs instanceof Sdouble.ConcSdouble && rhs instanceof Sdouble.ConcSdouble) {
-            return Sdouble.concSdouble(((Sdouble.ConcSdouble) lhs).doubleVal() - ((Sdouble.ConcSdouble) rhs).doubleVal());
-        }
         return valueFactory.wrappingSymSdouble(se, sub(lhs, rhs));
     }
 
     @Override
     public Sdouble mul(SymbolicExecution se, Sdouble lhs, Sdouble rhs) {
-        if (lhs instanceof Sdouble.ConcSdouble && rhs instanceof Sdouble.ConcSdouble) {
-            return Sdouble.concSdouble(((Sdouble.ConcSdouble) lhs).doubleVal() * ((Sdouble.ConcSdouble) rhs).doubleVal());
-        }
         return valueFactory.wrappingSymSdouble(se, mul(lhs, rhs));
     }
 
     @Override
     public Sdouble div(SymbolicExecution se, Sdouble lhs, Sdouble rhs) {
-        if (lhs instanceof Sdouble.ConcSdouble && rhs instanceof Sdouble.ConcSdouble) {
-            return Sdouble.concSdouble(((Sdouble.ConcSdouble) lhs).doubleVal() / ((Sdouble.ConcSdouble) rhs).doubleVal());
-        }
         return valueFactory.wrappingSymSdouble(se, div(lhs, rhs));
     }
 
     @Override
     public Sdouble mod(SymbolicExecution se, Sdouble lhs, Sdouble rhs) {
-        if (lhs instanceof Sdouble.ConcSdouble && rhs instanceof Sdouble.ConcSdouble) {
-            return Sdouble.concSdouble(((Sdouble.ConcSdouble) lhs).doubleVal() % ((Sdouble.ConcSdouble) rhs).doubleVal());
-        }
         return valueFactory.wrappingSymSdouble(se, mod(lhs, rhs));
     }
 
     @Override
     public Sdouble neg(SymbolicExecution se, Sdouble d) {
-        if (d instanceof Sdouble.ConcSdouble) {
-            return Sdouble.concSdouble(- ((Sdouble.ConcSdouble) d).doubleVal());
-        }
         return valueFactory.wrappingSymSdouble(se, neg(d));
     }
 
     @Override
     public Slong add(SymbolicExecution se, Slong lhs, Slong rhs) {
-        if (lhs instanceof Slong.ConcSlong && rhs instanceof Slong.ConcSlong) {
-            return Slong.concSlong(((Slong.ConcSlong) lhs).longVal() + ((Slong.ConcSlong) rhs).longVal());
-        }
         return valueFactory.wrappingSymSlong(se, sum(lhs, rhs));
     }
 
     @Override
     public Slong sub(SymbolicExecution se, Slong lhs, Slong rhs) {
-        if (lhs instanceof Slong.ConcSlong && rhs instanceof Slong.ConcSlong) {
-            return Slong.concSlong(((Slong.ConcSlong) lhs).longVal() - ((Slong.ConcSlong) rhs).longVal());
-        }
         return valueFactory.wrappingSymSlong(se, sub(lhs, rhs));
     }
 
     @Override
     public Slong mul(SymbolicExecution se, Slong lhs, Slong rhs) {
-        if (lhs instanceof Slong.ConcSlong && rhs instanceof Slong.ConcSlong) {
-            return Slong.concSlong(((Slong.ConcSlong) lhs).longVal() * ((Slong.ConcSlong) rhs).longVal());
-        }
         return valueFactory.wrappingSymSlong(se, mul(lhs, rhs));
     }
 
     @Override
     public Slong div(SymbolicExecution se, Slong lhs, Slong rhs) {
-        if (lhs instanceof Slong.ConcSlong && rhs instanceof Slong.ConcSlong) {
-            return Slong.concSlong(((Slong.ConcSlong) lhs).longVal() / ((Slong.ConcSlong) rhs).longVal());
-        }
         return valueFactory.wrappingSymSlong(se, div(lhs, rhs));
     }
 
     @Override
     public Slong mod(SymbolicExecution se, Slong lhs, Slong rhs) {
-        if (lhs instanceof Slong.ConcSlong && rhs instanceof Slong.ConcSlong) {
-            return Slong.concSlong(((Slong.ConcSlong) lhs).longVal() % ((Slong.ConcSlong) rhs).longVal());
-        }
         return valueFactory.wrappingSymSlong(se, mod(lhs, rhs));
     }
 
     @Override
     public Slong neg(SymbolicExecution se, Slong l) {
-        if (l instanceof Slong.ConcSlong) {
-            return Slong.concSlong(- ((Slong.ConcSlong) l).longVal());
-        }
         return valueFactory.wrappingSymSlong(se, neg(l));
     }
 
     @Override
     public Sfloat add(SymbolicExecution se, Sfloat lhs, Sfloat rhs) {
-        if (lhs instanceof Sfloat.ConcSfloat && rhs instanceof Sfloat.ConcSfloat) {
-            return Sfloat.concSfloat(((Sfloat.ConcSfloat) lhs).floatVal() + ((Sfloat.ConcSfloat) rhs).floatVal());
-        }
         return valueFactory.wrappingSymSfloat(se, sum(lhs, rhs));
     }
 
     @Override
     public Sfloat sub(SymbolicExecution se, Sfloat lhs, Sfloat rhs) {
-        if (lhs instanceof Sfloat.ConcSfloat && rhs instanceof Sfloat.ConcSfloat) {
-            return Sfloat.concSfloat(((Sfloat.ConcSfloat) lhs).floatVal() - ((Sfloat.ConcSfloat) rhs).floatVal());
-        }
         return valueFactory.wrappingSymSfloat(se, sub(lhs, rhs));
     }
 
     @Override
     public Sfloat mul(SymbolicExecution se, Sfloat lhs, Sfloat rhs) {
-        if (lhs instanceof Sfloat.ConcSfloat && rhs instanceof Sfloat.ConcSfloat) {
-            return Sfloat.concSfloat(((Sfloat.ConcSfloat) lhs).floatVal() * ((Sfloat.ConcSfloat) rhs).floatVal());
-        }
         return valueFactory.wrappingSymSfloat(se, mul(lhs, rhs));
     }
 
     @Override
     public Sfloat div(SymbolicExecution se, Sfloat lhs, Sfloat rhs) {
-        if (lhs instanceof Sfloat.ConcSfloat && rhs instanceof Sfloat.ConcSfloat) {
-            return Sfloat.concSfloat(((Sfloat.ConcSfloat) lhs).floatVal() / ((Sfloat.ConcSfloat) rhs).floatVal());
-        }
         return valueFactory.wrappingSymSfloat(se, div(lhs, rhs));
     }
 
     @Override
     public Sfloat mod(SymbolicExecution se, Sfloat lhs, Sfloat rhs) {
-        if (lhs instanceof Sfloat.ConcSfloat && rhs instanceof Sfloat.ConcSfloat) {
-            return Sfloat.concSfloat(((Sfloat.ConcSfloat) lhs).floatVal() % ((Sfloat.ConcSfloat) rhs).floatVal());
-        }
         return valueFactory.wrappingSymSfloat(se, mod(lhs, rhs));
     }
 
     @Override
     public Sfloat neg(SymbolicExecution se, Sfloat f) {
-        if (f instanceof Sfloat.ConcSfloat) {
-            return Sfloat.concSfloat(- ((Sfloat.ConcSfloat) f).floatVal());
-        }
         return valueFactory.wrappingSymSfloat(se, neg(f));
     }
 
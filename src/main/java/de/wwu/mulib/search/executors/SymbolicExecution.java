@@ -18,7 +18,6 @@ import de.wwu.mulib.substitutions.ValueFactory;
 import de.wwu.mulib.substitutions.primitives.*;
 import de.wwu.mulib.throwables.MulibIllegalStateException;
 
-import java.util.ArrayDeque;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -27,8 +26,8 @@ import java.util.function.Supplier;
  * Implements the facade pattern.
  * For each exploration of the search region, a new instance of SymbolicExecution is created and stored in a {@link ThreadLocal}.
  * This instance of symbolic execution contains all trails relevant for validly exploring the search region.
- * It stores a trail of predetermined choice options so that we can easily navigate to the unexplored choice option
- * that should be explored next.
+ * It stores the unexplored choice option that should be explored next and navigates to it using the
+ * {@link de.wwu.mulib.search.trees.ChoiceOptionPath} of this choice option.
  * It furthermore contains identifier-counter for ensuring that symbolic values that are already involved in constraints stored
  * in the constraint solver, are recreated so that the constraint stack is valid with regards to the current state of the execution.
  * In other words: If on the constraint solver there is a {@link de.wwu.mulib.substitutions.primitives.Sint.SymSintLeaf) with
@@ -46,12 +45,17 @@ public final class SymbolicExecution {
     private final ChoicePointFactory choicePointFactory;
     private final ValueFactory valueFactory;
     private final CalculationFactory calculationFactory;
-    // When on a known path, the upmost ChoiceOption corresponds to SymbolicExecution.currentChoiceOption
-    private final ArrayDeque<Choice.ChoiceOption> predeterminedPath;
+    // The ChoiceOption we navigate to. The ChoiceOptions on the way are computed using the ChoiceOptionPath of this
+    // ChoiceOption. Is set to null as soon as we are not on the predetermined path anymore.
+    private Choice.ChoiceOption predeterminedTarget;
+    // The ChoiceOption we navigate to. Is not reset.
+    private final Choice.ChoiceOption navigatedTo;
 
     // The current choice option. This will also be set to choice options on the known path.
     private Choice.ChoiceOption currentChoiceOption;
     private final ExecutionBudgetManager executionBudgetManager;
+    // The aliasing targets of this run of the search region
+    private final AliasingInformation aliasingInformation;
     private int nextNumberSymSintLeaf = 0, nextNumberSymSdoubleLeaf = 0,
             nextNumberSymSfloatLeaf = 0, nextNumberSymSboolLeaf = 0,
             nextNumberSymSlongLeaf = 0, nextNumberSymSshortLeaf = 0,
@@ -84,13 +88,21 @@ public final class SymbolicExecution {
         this.choicePointFactory = choicePointFactory;
         this.valueFactory = valueFactory;
         this.calculationFactory = calculationFactory;
-        this.predeterminedPath = SearchTree.getPathTo(navigateTo);
-        this.currentChoiceOption = predeterminedPath.peek();
-        assert currentChoiceOption != null;
+        this.predeterminedTarget = navigateTo;
+        this.navigatedTo = navigateTo;
+        this.currentChoiceOption = navigateTo.getChoice().getRoot().getOption(0);
         this.executionBudgetManager = executionBudgetManager.copyFromPrototype();
+        this.aliasingInformation = new AliasingInformation(config.FREE_INIT_ALIASING_SYMMETRY_BREAKING);
         set();
     }
     
+    /**
+     * @return The choice option from which this execution evaluates the search region on unknown paths
+     */
+    public Choice.ChoiceOption getNavigatedTo() {
+        return navigatedTo;
+    }
+
     public ValueFactory getValueFactory() {
         return valueFactory;
     }
@@ -189,7 +201,13 @@ public final class SymbolicExecution {
 
     private void set() {
         se.set(this);
-        AliasingInformation.resetAliasingTargets();
+    }
+
+    /**
+     * @return The aliasing information of this run of the search region
+     */
+    public AliasingInformation getAliasingInformation() {
+        return aliasingInformation;
     }
 
     public static SymbolicExecution get() {
@@ -201,24 +219,20 @@ public final class SymbolicExecution {
     }
 
     /**
-     * If a ChoiceOption exists on the predeterminedPath, pop it and take the next choice option from the trail
+     * If we did not yet reach the targeted ChoiceOption, take the next choice option on the predetermined path
      * @return true, if there is such a new choice option, else false. Returning true means that we are still on a
      * predetermined path for navigating to a new choice option. Returning false means that a {@link MulibExecutor}
      * must decide on the next choice option
      */
     public boolean transitionToNextChoiceOptionAndCheckIfOnKnownPath() {
-        if (!predeterminedPath.isEmpty()) {
-            predeterminedPath.pop();
-        }
-
         // This case indicates that we are not on the predetermined path anymore.
-        if (predeterminedPath.isEmpty()) {
+        if (predeterminedTarget == null || currentChoiceOption == predeterminedTarget) {
+            predeterminedTarget = null;
             currentChoiceOption = null;
             return false;
         }
 
-        currentChoiceOption = predeterminedPath.peek();
-        assert currentChoiceOption != null;
+        currentChoiceOption = SearchTree.getNextOnPathTo(currentChoiceOption, predeterminedTarget);
         return true;
     }
 
@@ -229,7 +243,7 @@ public final class SymbolicExecution {
      * added that are found)
      */
     public boolean nextIsOnKnownPath() {
-        return predeterminedPath.size() > 1;
+        return predeterminedTarget != null && currentChoiceOption != predeterminedTarget;
     }
 
     /**
@@ -254,7 +268,7 @@ public final class SymbolicExecution {
      * {@link Optional#empty()} if the execution should be aborted
      */
     public Optional<Choice.ChoiceOption> decideOnNextChoiceOptionDuringExecution(List<Choice.ChoiceOption> chooseFrom) {
-        assert predeterminedPath.isEmpty() : "Should not occur";
+        assert predeterminedTarget == null : "Should not occur";
         Optional<Choice.ChoiceOption> result = mulibExecutor.decideOnNextChoiceOptionDuringExecution(chooseFrom);
         result.ifPresent(choiceOption -> this.currentChoiceOption = choiceOption);
         return result;
@@ -903,99 +917,99 @@ public final class SymbolicExecution {
     /* NUMBER OPERATIONS */
 
     public Sint add(Sint lhs, Sint rhs) {
-        return calculationFactory.add(this, lhs, rhs);
+        return lhs.add(rhs, this);
     }
 
     public Sint sub(Sint lhs, Sint rhs) {
-        return calculationFactory.sub(this, lhs, rhs);
+        return lhs.sub(rhs, this);
     }
 
     public Sint div(Sint lhs, Sint rhs) {
-        return calculationFactory.div(this, lhs, rhs);
+        return lhs.div(rhs, this);
     }
 
     public Sint mul(Sint lhs, Sint rhs) {
-        return calculationFactory.mul(this, lhs, rhs);
+        return lhs.mul(rhs, this);
     }
 
     public Sint mod(Sint lhs,  Sint rhs) {
-        return calculationFactory.mod(this, lhs, rhs);
+        return lhs.mod(rhs, this);
     }
 
     public Sint neg(Sint i) {
-        return calculationFactory.neg(this, i);
+        return i.neg(this);
     }
 
     public Sdouble add(Sdouble lhs, Sdouble rhs) {
-        return calculationFactory.add(this, lhs, rhs);
+        return lhs.add(rhs, this);
     }
 
     public Sdouble sub(Sdouble lhs, Sdouble rhs) {
-        return calculationFactory.sub(this, lhs, rhs);
+        return lhs.sub(rhs, this);
     }
 
     public Sdouble div(Sdouble lhs, Sdouble rhs) {
-        return calculationFactory.div(this, lhs, rhs);
+        return lhs.div(rhs, this);
     }
 
     public Sdouble mul(Sdouble lhs, Sdouble rhs) {
-        return calculationFactory.mul(this, lhs, rhs);
+        return lhs.mul(rhs, this);
     }
 
     public Sdouble mod(Sdouble lhs,  Sdouble rhs) {
-        return calculationFactory.mod(this, lhs, rhs);
+        return lhs.mod(rhs, this);
     }
 
     public Sdouble neg(Sdouble i) {
-        return calculationFactory.neg(this, i);
+        return i.neg(this);
     }
 
     public Slong add(Slong lhs, Slong rhs) {
-        return calculationFactory.add(this, lhs, rhs);
+        return lhs.add(rhs, this);
     }
 
     public Slong sub(Slong lhs, Slong rhs) {
-        return calculationFactory.sub(this, lhs, rhs);
+        return lhs.sub(rhs, this);
     }
 
     public Slong div(Slong lhs, Slong rhs) {
-        return calculationFactory.div(this, lhs, rhs);
+        return lhs.div(rhs, this);
     }
 
     public Slong mul(Slong lhs, Slong rhs) {
-        return calculationFactory.mul(this, lhs, rhs);
+        return lhs.mul(rhs, this);
     }
 
     public Slong mod(Slong lhs,  Slong rhs) {
-        return calculationFactory.mod(this, lhs, rhs);
+        return lhs.mod(rhs, this);
     }
 
     public Slong neg(Slong i) {
-        return calculationFactory.neg(this, i);
+        return i.neg(this);
     }
 
     public Sfloat add(Sfloat lhs, Sfloat rhs) {
-        return calculationFactory.add(this, lhs, rhs);
+        return lhs.add(rhs, this);
     }
 
     public Sfloat sub(Sfloat lhs, Sfloat rhs) {
-        return calculationFactory.sub(this, lhs, rhs);
+        return lhs.sub(rhs, this);
     }
 
     public Sfloat div(Sfloat lhs, Sfloat rhs) {
-        return calculationFactory.div(this, lhs, rhs);
+        return lhs.div(rhs, this);
     }
 
     public Sfloat mul(Sfloat lhs, Sfloat rhs) {
-        return calculationFactory.mul(this, lhs, rhs);
+        return lhs.mul(rhs, this);
     }
 
     public Sfloat mod(Sfloat lhs,  Sfloat rhs) {
-        return calculationFactory.mod(this, lhs, rhs);
+        return lhs.mod(rhs, this);
     }
 
     public Sfloat neg(Sfloat i) {
-        return calculationFactory.neg(this, i);
+        return i.neg(this);
     }
 
     public Sbool gt(Sint lhs, Sint rhs) {
@@ -1252,6 +1266,8 @@ public final class SymbolicExecution {
 
     public Sbool evalReferencesEq(Object o0, Object o1) {
         // TODO TO Calculation Factory
+        aliasingInformation.markAsTouched(o0);
+        aliasingInformation.markAsTouched(o1);
         if (o0 instanceof PartnerClass) {
             if (o1 instanceof PartnerClass) {
                 return ((PartnerClass) o0).__mulib__getId().eq(((PartnerClass) o1).__mulib__getId(), this);
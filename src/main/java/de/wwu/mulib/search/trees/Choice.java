@@ -16,6 +16,8 @@ import java.util.*;
  */
 public final class Choice extends TreeNode {
     private final List<ChoiceOption> options;
+    // The root choice of the search tree this choice belongs to
+    private final Choice root;
 
     public Choice(ChoiceOption parent, Collection<Constraint> constraintsPerOption) {
         this(parent, constraintsPerOption.toArray(new Constraint[0]));
@@ -26,10 +28,13 @@ public final class Choice extends TreeNode {
         if (constraintPerOption.length < 1) {
             throw new IllegalTreeModificationException("There must be at least one choice option for a choice.");
         }
+        this.root = parent == null ? this : parent.getChoice().root;
         final int numberOfOptions = constraintPerOption.length;
+        final int width = ChoiceOptionPath.bitsFor(numberOfOptions);
+        final ChoiceOptionPath parentPath = parent == null ? ChoiceOptionPath.EMPTY : parent.getPath();
         ChoiceOption[] optionsAr = new ChoiceOption[numberOfOptions];
         for (int i = 0; i < numberOfOptions; i++) {
-            optionsAr[i] = new ChoiceOption(i, constraintPerOption[i]);
+            optionsAr[i] = new ChoiceOption(i, constraintPerOption[i], parentPath.append(i, width));
         }
         options = List.of(optionsAr);
     }
@@ -42,6 +47,13 @@ public final class Choice extends TreeNode {
         return options;
     }
 
+    /**
+     * @return The root choice of the search tree this choice belongs to
+     */
+    public Choice getRoot() {
+        return root;
+    }
+
     @Override
     public String toString() {
         return "Choice{depth=" + depth + ",nrOptions=" + options.size() + "}";
@@ -86,10 +98,20 @@ public final class Choice extends TreeNode {
         private List<PartnerClassObjectConstraint> partnerClassObjectConstraints = Collections.EMPTY_LIST;
         // The possible child of this ChoiceOption is set after evaluating the option.
         private TreeNode child = null;
+        // The compact representation of the path from the root to this ChoiceOption
+        private final ChoiceOptionPath path;
 
-        private ChoiceOption(int choiceOptionNumber, Constraint optionConstraint) {
+        private ChoiceOption(int choiceOptionNumber, Constraint optionConstraint, ChoiceOptionPath path) {
             this.choiceOptionNumber = choiceOptionNumber;
             this.optionConstraint = optionConstraint;
+            this.path = path;
+        }
+
+        /**
+         * @return The immutable path from the root of the search tree to this choice option
+         */
+        public ChoiceOptionPath getPath() {
+            return path;
         }
 
         /**
@@ -215,62 +237,54 @@ public final class Choice extends TreeNode {
 
         /**
          * Sets the choice option to yield a leaf node of the search tree, a {@link PathSolution}
-         * All constraints on the path are added to the path solution
+         * The constraints on the path are accumulated by the path solution once they are retrieved
          * Throws an exception if this choice option was already evaluated.
          * @param s The solution to wrap in the path solution
-         * @param constraints The encountered constraints
-         * @param partnerClassObjectConstraints The list of partner class constraints
          * @return The PathSolution node associated with reaching a leaf node
          */
-        public PathSolution setSolution(Solution s, Constraint[] constraints, PartnerClassObjectConstraint[] partnerClassObjectConstraints) {
+        public PathSolution setSolution(Solution s) {
             _checkChildIsUnset();
-            return new PathSolution(this, s, constraints, partnerClassObjectConstraints);
+            return new PathSolution(this, s);
         }
 
         /**
          * Sets the choice option to yield a leaf node of the search tree, a {@link PathSolution}
-         * All constraints on the path are added to the path solution
+         * The constraints on the path are accumulated by the path solution once they are retrieved
          * Throws an exception if this choice option was already evaluated.
          * @param s The solution to wrap in the path solution
-         * @param constraints The encountered constraints
-         * @param partnerClassObjectConstraints The list of partner class constraints
          * @param cover The cover that could be calculated for this path solution. Is, e.g., calculated using {@link de.wwu.mulib.search.choice_points.CoverageCfg}.
          * @return The path solution node associated with reaching a leaf node. The path solution also contains a coverage bit set
          */
-        public PathSolutionWithCover setSolution(Solution s, Constraint[] constraints, PartnerClassObjectConstraint[] partnerClassObjectConstraints, BitSet cover) {
+        public PathSolutionWithCover setSolution(Solution s, BitSet cover) {
             _checkChildIsUnset();
-            return new PathSolutionWithCover(this, s, constraints, partnerClassObjectConstraints, cover);
+            return new PathSolutionWithCover(this, s, cover);
         }
 
         /**
          * Sets the choice option to yield a leaf node of the search tree, a {@link PathSolution}.
          * The returned path solution is an {@link ThrowablePathSolution}, i.e., an exception was thrown.
-         * All constraints on the path are added to the path solution
+         * The constraints on the path are accumulated by the path solution once they are retrieved
          * Throws an exception if this choice option was already evaluated.
          * @param s The solution to wrap in the path solution
-         * @param constraints The encountered constraints
-         * @param partnerClassObjectConstraints The list of partner class constraints
          * @return The path solution node associated with reaching a leaf node
          */
-        public ThrowablePathSolution setExceptionSolution(Solution s, Constraint[] constraints, PartnerClassObjectConstraint[] partnerClassObjectConstraints) {
+        public ThrowablePathSolution setExceptionSolution(Solution s) {
             _checkChildIsUnset();
-            return new ThrowablePathSolution(this, s, constraints, partnerClassObjectConstraints);
+            return new ThrowablePathSolution(this, s);
         }
 
         /**
          * Sets the choice option to yield a leaf node of the search tree, a {@link PathSolution}.
          * The returned path solution is an {@link ThrowablePathSolution}, i.e., an exception was thrown.
-         * All constraints on the path are added to the path solution
+         * The constraints on the path are accumulated by the path solution once they are retrieved
          * Throws an exception if this choice option was already evaluated.
          * @param s The solution to wrap in the path solution
-         * @param constraints The encountered constraints
-         * @param partnerClassObjectConstraints The list of partner class constraints
          * @param cover The cover that could be calculated for this path solution. Is, e.g., calculated using {@link de.wwu.mulib.search.choice_points.CoverageCfg}.
          * @return The path solution node associated with reaching a leaf node. The path solution also contains a coverage bit set
          */
-        public ThrowablePathSolutionWithCover setExceptionSolution(Solution s, Constraint[] constraints, PartnerClassObjectConstraint[] partnerClassObjectConstraints, BitSet cover) {
+        public ThrowablePathSolutionWithCover setExceptionSolution(Solution s, BitSet cover) {
             _checkChildIsUnset();
-            return new ThrowablePathSolutionWithCover(this, s, constraints, partnerClassObjectConstraints, cover);
+            return new ThrowablePathSolutionWithCover(this, s, cover);
         }
 
         /**
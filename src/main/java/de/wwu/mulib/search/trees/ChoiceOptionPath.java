@@ -0,0 +1,135 @@
+package de.wwu.mulib.search.trees;
+
+import java.util.Arrays;
+
+/**
+ * Compact and immutable identifier of the path from the root of the {@link SearchTree} to a {@link Choice.ChoiceOption}.
+ * The path is represented as a persistent bit-vector of the choice option numbers taken on the way. For each choice,
+ * only as many bits as are needed to distinguish its options are used, i.e., a binary choice contributes one bit and
+ * a choice with a single option contributes no bit at all.
+ * Since the width of an entry is determined by the choice it belongs to, the bit-vector can be decoded unambiguously
+ * by following the search tree from the root.
+ * All completed 64-bit words are shared with the path of the parent choice option. Only the incomplete trailing word
+ * is stored per choice option. Thus, the memory overhead per choice option is constant in most cases.
+ */
+public final class ChoiceOptionPath {
+    private static final long[] NO_WORDS = new long[0];
+    /**
+     * The path of the root choice option
+     */
+    static final ChoiceOptionPath EMPTY = new ChoiceOptionPath(NO_WORDS, 0L, 0);
+    // The completed words. Is shared with the path of the parent, if no new word was completed.
+    private final long[] words;
+    // The trailing, incomplete word
+    private final long tail;
+    // The total number of bits of this path
+    private final int bitLength;
+
+    private ChoiceOptionPath(long[] words, long tail, int bitLength) {
+        this.words = words;
+        this.tail = tail;
+        this.bitLength = bitLength;
+    }
+
+    /**
+     * @param numberOfOptions The number of options of a choice
+     * @return The number of bits used to encode the choice option number of such a choice
+     */
+    public static int bitsFor(int numberOfOptions) {
+        return numberOfOptions <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(numberOfOptions - 1);
+    }
+
+    /**
+     * Creates the path for a child choice option without modifying this path.
+     * @param choiceOptionNumber The number of the choice option
+     * @param width The number of bits used to encode the choice option number
+     * @return The new path
+     * @see ChoiceOptionPath#bitsFor(int)
+     */
+    ChoiceOptionPath append(int choiceOptionNumber, int width) {
+        if (width == 0) {
+            // Single-option choices do not contribute to the path
+            return this;
+        }
+        long[] newWords = words;
+        long newTail = tail;
+        int tailBits = bitLength & 63;
+        for (int i = 0; i < width; i++) {
+            if (((choiceOptionNumber >>> i) & 1) != 0) {
+                newTail |= 1L << tailBits;
+            }
+            tailBits++;
+            if (tailBits == 64) {
+                newWords = Arrays.copyOf(newWords, newWords.length + 1);
+                newWords[newWords.length - 1] = newTail;
+                newTail = 0L;
+                tailBits = 0;
+            }
+        }
+        return new ChoiceOptionPath(newWords, newTail, bitLength + width);
+    }
+
+    /**
+     * @return The number of bits of this path
+     */
+    public int bitLength() {
+        return bitLength;
+    }
+
+    /**
+     * Reads a choice option number from this path
+     * @param offset The bit offset of the choice option number
+     * @param width The number of bits used to encode the choice option number
+     * @return The choice option number
+     */
+    public int read(int offset, int width) {
+        assert offset + width <= bitLength;
+        int result = 0;
+        for (int i = 0; i < width; i++) {
+            if (bit(offset + i)) {
+                result |= 1 << i;
+            }
+        }
+        return result;
+    }
+
+    private boolean bit(int index) {
+        int wordIndex = index >>> 6;
+        long word = wordIndex < words.length ? words[wordIndex] : tail;
+        return (word & (1L << (index & 63))) != 0;
+    }
+
+    private long word(int wordIndex) {
+        return wordIndex < words.length ? words[wordIndex] : tail;
+    }
+
+    /**
+     * Computes the length of the longest common prefix of two paths. The paths are compared 64 bits at a time.
+     * @param p0 The first path
+     * @param p1 The second path
+     * @return The number of leading bits both paths have in common
+     */
+    public static int commonPrefixLength(ChoiceOptionPath p0, ChoiceOptionPath p1) {
+        int maxLength = Math.min(p0.bitLength, p1.bitLength);
+        if (p0.words == p1.words && p0.tail == p1.tail) {
+            return maxLength;
+        }
+        int numberOfWords = (maxLength + 63) >>> 6;
+        for (int i = 0; i < numberOfWords; i++) {
+            long diff = p0.word(i) ^ p1.word(i);
+            if (diff != 0) {
+                return Math.min(maxLength, (i << 6) + Long.numberOfTrailingZeros(diff));
+            }
+        }
+        return maxLength;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ChoiceOptionPath{");
+        for (int i = 0; i < bitLength; i++) {
+            sb.append(bit(i) ? '1' : '0');
+        }
+        return sb.append("}").toString();
+    }
+}
@@ -6,33 +6,44 @@ import de.wwu.mulib.solving.Solution;
 
 /**
  * A tree node representing the result of exploring a path through the {@link SearchTree}.
- * This node indicates that the search region was left by returning a value from it
+ * This node indicates that the search region was left by returning a value from it.
+ * The constraints of the path are not copied when the path solution is created. Instead, they are accumulated from
+ * the choice options on the path from the root to the parent of this node once they are first retrieved. These choice
+ * options are evaluated and, hence, their constraints cannot change anymore.
  */
 public class PathSolution extends TreeNode {
 
-    private final Constraint[] pathConstraints;
-    private final PartnerClassObjectConstraint[] partnerClassObjectConstraints;
     private final Solution solution;
+    // Is computed upon the first retrieval of the constraints
+    private volatile SearchTree.AccumulatedChoiceOptionConstraints accumulatedConstraints;
 
-    PathSolution(Choice.ChoiceOption parent, Solution s, Constraint[] pathConstraints, PartnerClassObjectConstraint[] partnerClassObjectConstraints) {
+    PathSolution(Choice.ChoiceOption parent, Solution s) {
         super(parent);
-        this.pathConstraints = pathConstraints;
-        this.partnerClassObjectConstraints = partnerClassObjectConstraints;
         this.solution = s;
     }
 
+    private SearchTree.AccumulatedChoiceOptionConstraints getAccumulatedConstraints() {
+        SearchTree.AccumulatedChoiceOptionConstraints result = accumulatedConstraints;
+        if (result == null) {
+            // Concurrent calls might both accumulate the constraints; - the results are equal
+            result = SearchTree.getAllConstraintsForChoiceOption(parentEdge);
+            accumulatedConstraints = result;
+        }
+        return result;
+    }
+
     /**
      * @return The constraints of the path of this path solution
      */
     public final Constraint[] getPathConstraints() {
-        return pathConstraints;
+        return getAccumulatedConstraints().constraints;
     }
 
     /**
      * @return The partner class constraints of the path of this path solution
      */
     public final PartnerClassObjectConstraint[] getPartnerClassObjectConstraints() {
-        return partnerClassObjectConstraints;
+        return getAccumulatedConstraints().partnerClassObjectConstraints;
     }
 
     /**
@@ -1,7 +1,5 @@
 package de.wwu.mulib.search.trees;
 
-import de.wwu.mulib.constraints.Constraint;
-import de.wwu.mulib.constraints.PartnerClassObjectConstraint;
 import de.wwu.mulib.solving.Solution;
 
 import java.util.BitSet;
@@ -16,10 +14,8 @@ public class PathSolutionWithCover extends PathSolution implements IPathSolution
     PathSolutionWithCover(
             Choice.ChoiceOption parent,
             Solution s,
-            Constraint[] pathConstraints,
-            PartnerClassObjectConstraint[] partnerClassObjectConstraints,
             BitSet cover) {
-        super(parent, s, pathConstraints, partnerClassObjectConstraints);
+        super(parent, s);
         this.cover = cover;
     }
 
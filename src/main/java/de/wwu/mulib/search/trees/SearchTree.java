@@ -6,7 +6,6 @@ import de.wwu.mulib.constraints.PartnerClassObjectConstraint;
 import de.wwu.mulib.substitutions.primitives.Sbool;
 import de.wwu.mulib.throwables.NotYetImplementedException;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -73,26 +72,12 @@ public final class SearchTree {
         choiceOptionDeque = ChoiceOptionDeques.getChoiceOptionDeque(config, root.getOption(0));
     }
 
-    /**
-     * Returns the trail to a choice option. This is used by {@link de.wwu.mulib.search.executors.SymbolicExecution} to
-     * retrieve the predetermined choices to reach an unexplored choice option.
-     * @param getTo The choice option that should be explored in the search region
-     * @return An ArrayDeque with the path/trail of choice options that has to be taken to reach the choice option 'getTo'
-     */
-    public static ArrayDeque<Choice.ChoiceOption> getPathTo(final Choice.ChoiceOption getTo) {
-        ArrayDeque<Choice.ChoiceOption> result = new ArrayDeque<>();
-        Choice.ChoiceOption currentChoiceOption = getTo;
-        while (currentChoiceOption != null) {
-            result.push(currentChoiceOption);
-            currentChoiceOption = currentChoiceOption.getParentEdge();
-        }
-        return result;
-    }
-
     /**
      * Returns the choice option deepest in the search tree that is shared by the two choice options.
      * Is used by {@link de.wwu.mulib.search.executors.AbstractMulibExecutor} to determine how often the
      * {@link de.wwu.mulib.solving.solvers.SolverManager} must be backtracked so that a new choice option can be targeted.
+     * The longest common prefix of the {@link ChoiceOptionPath}s of both choice options is computed. Thereafter, only the
+     * ancestors of co0 that are not shared with co1 are traversed.
      * @param co0 The first choice option
      * @param co1 The second choice option
      * @return The deepest shared ancestor of the co0 and co1
@@ -106,40 +91,29 @@ public final class SearchTree {
         } else if (co1.getParentEdge() == null) {
             return co1;
         }
-        while (co0 != co1) {
-            if (co0.getDepth() < co1.getDepth()) {
-                co1 = co1.getParentEdge();
-            } else {
-                co0 = co0.getParentEdge();
-            }
+        int commonPrefixLength = ChoiceOptionPath.commonPrefixLength(co0.getPath(), co1.getPath());
+        // Since the path is decoded according to the choices on the way, each ancestor of co0 that does not exceed
+        // the common prefix and the depth of co1 also is an ancestor of co1
+        while (co0.getDepth() > co1.getDepth() || co0.getPath().bitLength() > commonPrefixLength) {
+            co0 = co0.getParentEdge();
         }
         return co0;
     }
 
     /**
-     * Get the ChoiceOptions between getFrom and getTo. Assumes that there is a path with strictly increasing depth
-     * between the two ChoiceOptions. Will throw an exception if there is no such path.
-     * @param getFrom First ChoiceOption, depth <= getTo.depth.
-     * @param getTo Second ChoiceOption, depth >= getFrom.depth
-     * @return The path between (excluding) the ChoiceOption with the lesser depth to the ChoiceOption with the higher depth.
+     * Returns the choice option succeeding the current choice option on the path to getTo. The path of getTo is
+     * used to determine which option of the next choice must be taken. No intermediate data structure is allocated.
+     * @param current A choice option on the path to getTo. Must not be getTo.
+     * @param getTo The choice option that should be reached
+     * @return The next choice option on the path from current to getTo
      */
-    public static ArrayDeque<Choice.ChoiceOption> getPathBetween(
-            final Choice.ChoiceOption getFrom,
+    public static Choice.ChoiceOption getNextOnPathTo(
+            final Choice.ChoiceOption current,
             final Choice.ChoiceOption getTo) {
-        ArrayDeque<Choice.ChoiceOption> result = new ArrayDeque<>();
-        if (getFrom == getTo) {
-            return result;
-        }
-        assert getTo.getDepth() > getFrom.getDepth();
-        Choice.ChoiceOption start = getTo;
-        start = start.getParentEdge();
-        // Construct path by following parent-path from start to end
-        while (start != getFrom) {
-            result.addFirst(start);
-            start = start.getParentEdge();
-        }
-
-        return result;
+        assert current != getTo && current.getDepth() < getTo.getDepth();
+        Choice next = (Choice) current.getChild();
+        int width = ChoiceOptionPath.bitsFor(next.getChoiceOptions().size());
+        return next.getOption(getTo.getPath().read(current.getPath().bitLength(), width));
     }
 
     /**
@@ -149,16 +123,21 @@ public final class SearchTree {
      * on the path to the choice option.
      */
     public static AccumulatedChoiceOptionConstraints getAllConstraintsForChoiceOption(Choice.ChoiceOption co) {
-        ArrayDeque<Choice.ChoiceOption> cos = getPathTo(co);
-        List<Constraint> constraints = new ArrayList<>();
+        Constraint[] constraints = new Constraint[co.getDepth()];
         List<PartnerClassObjectConstraint> partnerClassObjectConstraints = new ArrayList<>();
-        while (!cos.isEmpty()) {
-            Choice.ChoiceOption current = cos.poll();
-            constraints.add(current.getOptionConstraint());
+        Choice.ChoiceOption current = co.getChoice().getRoot().getOption(0);
+        int i = 0;
+        while (true) {
+            constraints[i++] = current.getOptionConstraint();
             partnerClassObjectConstraints.addAll(current.getPartnerClassObjectConstraints());
+            if (current == co) {
+                break;
+            }
+            current = getNextOnPathTo(current, co);
         }
+        assert i == constraints.length;
         return new AccumulatedChoiceOptionConstraints(
-                constraints.toArray(Constraint[]::new),
+                constraints,
                 partnerClassObjectConstraints.toArray(PartnerClassObjectConstraint[]::new)
         );
     }
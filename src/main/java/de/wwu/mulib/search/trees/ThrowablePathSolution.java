@@ -1,7 +1,5 @@
 package de.wwu.mulib.search.trees;
 
-import de.wwu.mulib.constraints.Constraint;
-import de.wwu.mulib.constraints.PartnerClassObjectConstraint;
 import de.wwu.mulib.solving.Solution;
 
 /**
@@ -10,7 +8,7 @@ import de.wwu.mulib.solving.Solution;
  * getting the return value of {@link PathSolution#getSolution()}
  */
 public class ThrowablePathSolution extends PathSolution {
-    ThrowablePathSolution(Choice.ChoiceOption choiceOption, Solution s, Constraint[] constraints, PartnerClassObjectConstraint[] partnerClassObjectConstraints) {
-        super(choiceOption, s, constraints, partnerClassObjectConstraints);
+    ThrowablePathSolution(Choice.ChoiceOption choiceOption, Solution s) {
+        super(choiceOption, s);
     }
 }
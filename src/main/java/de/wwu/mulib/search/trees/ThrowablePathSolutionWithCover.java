@@ -1,7 +1,5 @@
 package de.wwu.mulib.search.trees;
 
-import de.wwu.mulib.constraints.Constraint;
-import de.wwu.mulib.constraints.PartnerClassObjectConstraint;
 import de.wwu.mulib.solving.Solution;
 
 import java.util.BitSet;
@@ -16,10 +14,8 @@ public class ThrowablePathSolutionWithCover extends ThrowablePathSolution implem
     ThrowablePathSolutionWithCover(
             Choice.ChoiceOption choiceOption,
             Solution s,
-            Constraint[] constraints,
-            PartnerClassObjectConstraint[] partnerClassObjectConstraints,
             BitSet cover) {
-        super(choiceOption, s, constraints, partnerClassObjectConstraints);
+        super(choiceOption, s);
         this.cover = cover;
     }
 
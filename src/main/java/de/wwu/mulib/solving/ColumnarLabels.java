@@ -0,0 +1,465 @@
+package de.wwu.mulib.solving;
+
+import de.wwu.mulib.substitutions.Substituted;
+import de.wwu.mulib.throwables.MulibIllegalStateException;
+import de.wwu.mulib.throwables.MulibRuntimeException;
+
+import java.util.*;
+
+/**
+ * Implementation of {@link Labels} storing the labels of a solution in the columns of a {@link LabelsSchema}.
+ * Primitive labels are stored unboxed. All other labels are stored as {@link LabelSnapshot}s and are only constructed
+ * once they are first retrieved. The names used for remembering are not stored per solution, but in the schema that is
+ * shared by the solutions. The map-based methods of {@link Labels} return unmodifiable views onto the columns.
+ * The primitive labels of multiple solutions can be exported via {@link #toIntMatrix(List, String...)} and
+ * {@link #toDoubleMatrix(List, String...)}.
+ */
+public final class ColumnarLabels implements Labels {
+    // Kinds of the values stored in a column
+    private static final byte ABSENT = 0;
+    private static final byte NULL = 1;
+    private static final byte OBJECT = 2;
+    private static final byte BOOLEAN = 3;
+    private static final byte BYTE = 4;
+    private static final byte SHORT = 5;
+    private static final byte CHAR = 6;
+    private static final byte INT = 7;
+    private static final byte LONG = 8;
+    private static final byte FLOAT = 9;
+    private static final byte DOUBLE = 10;
+
+    private final LabelsSchema schema;
+    private final byte[] kinds;
+    // Floating point values are stored as the raw long bits of a double
+    private final long[] primitives;
+    // Is null if no column stores a value of kind OBJECT
+    private final LabelSnapshot[] snapshots;
+    private final Substituted[] namedVars;
+
+    private ColumnarLabels(Builder builder) {
+        this.schema = builder.schema;
+        this.kinds = builder.kinds;
+        this.primitives = builder.primitives;
+        this.snapshots = builder.snapshots;
+        this.namedVars = builder.namedVars;
+    }
+
+    /**
+     * Builder for {@link ColumnarLabels}. Columns for new names are added to the schema.
+     */
+    public static final class Builder {
+        private final LabelsSchema schema;
+        private byte[] kinds;
+        private long[] primitives;
+        private LabelSnapshot[] snapshots;
+        private Substituted[] namedVars;
+
+        /**
+         * @param schema The schema that is shared by the labels of different solutions
+         */
+        public Builder(LabelsSchema schema) {
+            this.schema = schema;
+            int size = schema.size();
+            this.kinds = new byte[size];
+            this.primitives = new long[size];
+            this.namedVars = new Substituted[size];
+        }
+
+        /**
+         * @param name The name used for remembering
+         * @return true, if a label has already been added for the name
+         */
+        public boolean contains(String name) {
+            int column = schema.getColumn(name);
+            return column >= 0 && column < kinds.length && kinds[column] != ABSENT;
+        }
+
+        /**
+         * Adds a label. A previously added label for the same name is overwritten.
+         * @param name The name used for remembering
+         * @param namedVar The search region representation of the value; - might be null
+         * @param label The snapshot of the label
+         * @return this
+         */
+        public Builder put(String name, Substituted namedVar, LabelSnapshot label) {
+            int column = schema.getOrAddColumn(name);
+            ensureCapacity(column + 1);
+            namedVars[column] = namedVar;
+            if (snapshots != null) {
+                snapshots[column] = null;
+            }
+            if (!(label instanceof LabelSnapshot.ValueSnapshot)) {
+                setObject(column, label);
+                return this;
+            }
+            Object value = label.getLabel();
+            long bits;
+            byte kind;
+            if (value == null) {
+                kind = NULL;
+                bits = 0;
+            } else if (value instanceof Boolean) {
+                kind = BOOLEAN;
+                bits = (Boolean) value ? 1 : 0;
+            } else if (value instanceof Byte) {
+                kind = BYTE;
+                bits = (Byte) value;
+            } else if (value instanceof Short) {
+                kind = SHORT;
+                bits = (Short) value;
+            } else if (value instanceof Character) {
+                kind = CHAR;
+                bits = (Character) value;
+            } else if (value instanceof Integer) {
+                kind = INT;
+                bits = (Integer) value;
+            } else if (value instanceof Long) {
+                kind = LONG;
+                bits = (Long) value;
+            } else if (value instanceof Float) {
+                kind = FLOAT;
+                bits = Double.doubleToRawLongBits((Float) value);
+            } else if (value instanceof Double) {
+                kind = DOUBLE;
+                bits = Double.doubleToRawLongBits((Double) value);
+            } else {
+                setObject(column, label);
+                return this;
+            }
+            kinds[column] = kind;
+            primitives[column] = bits;
+            return this;
+        }
+
+        private void setObject(int column, LabelSnapshot label) {
+            if (snapshots == null) {
+                snapshots = new LabelSnapshot[kinds.length];
+            }
+            kinds[column] = OBJECT;
+            primitives[column] = 0;
+            snapshots[column] = label;
+        }
+
+        private void ensureCapacity(int minCapacity) {
+            if (minCapacity <= kinds.length) {
+                return;
+            }
+            // The schema has grown; - all columns of the schema are allocated at once
+            int newCapacity = Math.max(minCapacity, schema.size());
+            kinds = Arrays.copyOf(kinds, newCapacity);
+            primitives = Arrays.copyOf(primitives, newCapacity);
+            namedVars = Arrays.copyOf(namedVars, newCapacity);
+            if (snapshots != null) {
+                snapshots = Arrays.copyOf(snapshots, newCapacity);
+            }
+        }
+
+        /**
+         * @return The labels
+         */
+        public ColumnarLabels build() {
+            return new ColumnarLabels(this);
+        }
+    }
+
+    /**
+     * @return The schema of the columns
+     */
+    public LabelsSchema getSchema() {
+        return schema;
+    }
+
+    private int columnOf(Object name) {
+        if (!(name instanceof String)) {
+            return -1;
+        }
+        int column = schema.getColumn((String) name);
+        return column < kinds.length ? column : -1;
+    }
+
+    private boolean hasLabel(int column) {
+        return column >= 0 && kinds[column] != ABSENT;
+    }
+
+    private boolean hasNamedVar(int column) {
+        return column >= 0 && namedVars[column] != null;
+    }
+
+    private Object label(int column) {
+        long bits = primitives[column];
+        switch (kinds[column]) {
+            case ABSENT:
+            case NULL:
+                return null;
+            case OBJECT:
+                // Snapshots of the same solution might reference each other and are, thus, constructed under the same lock
+                synchronized (this) {
+                    return snapshots[column].getLabel();
+                }
+            case BOOLEAN:
+                return bits != 0;
+            case BYTE:
+                return (byte) bits;
+            case SHORT:
+                return (short) bits;
+            case CHAR:
+                return (char) bits;
+            case INT:
+                return (int) bits;
+            case LONG:
+                return bits;
+            case FLOAT:
+                return (float) Double.longBitsToDouble(bits);
+            case DOUBLE:
+                return Double.longBitsToDouble(bits);
+            default:
+                throw new MulibIllegalStateException("Unknown kind of label: " + kinds[column]);
+        }
+    }
+
+    @Override
+    public Object getLabelForId(String id) {
+        int column = columnOf(id);
+        return hasLabel(column) ? label(column) : null;
+    }
+
+    @Override
+    public Substituted getNamedVar(String id) {
+        int column = columnOf(id);
+        return hasNamedVar(column) ? namedVars[column] : null;
+    }
+
+    @Override
+    public Map<String, Substituted> getIdToNamedVar() {
+        return new ColumnsView<>() {
+            @Override
+            boolean isPresent(int column) {
+                return hasNamedVar(column);
+            }
+
+            @Override
+            Substituted valueOf(int column) {
+                return namedVars[column];
+            }
+        };
+    }
+
+    @Override
+    public Map<String, Object> getIdToLabel() {
+        return new ColumnsView<>() {
+            @Override
+            boolean isPresent(int column) {
+                return hasLabel(column);
+            }
+
+            @Override
+            Object valueOf(int column) {
+                return label(column);
+            }
+        };
+    }
+
+    @Override
+    public Collection<String> getNames() {
+        return getIdToLabel().keySet();
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarLabels{" + getIdToLabel() + "}";
+    }
+
+    private abstract class ColumnsView<V> extends AbstractMap<String, V> {
+
+        abstract boolean isPresent(int column);
+
+        abstract V valueOf(int column);
+
+        @Override
+        public boolean containsKey(Object key) {
+            return isPresent(columnOf(key));
+        }
+
+        @Override
+        public V get(Object key) {
+            int column = columnOf(key);
+            return isPresent(column) ? valueOf(column) : null;
+        }
+
+        @Override
+        public Set<Entry<String, V>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, V>> iterator() {
+                    return new Iterator<>() {
+                        private int nextColumn = nextColumnFrom(0);
+
+                        private int nextColumnFrom(int column) {
+                            while (column < kinds.length && !isPresent(column)) {
+                                column++;
+                            }
+                            return column;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return nextColumn < kinds.length;
+                        }
+
+                        @Override
+                        public Entry<String, V> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            int column = nextColumn;
+                            nextColumn = nextColumnFrom(column + 1);
+                            return new SimpleImmutableEntry<>(schema.getName(column), valueOf(column));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    int result = 0;
+                    for (int i = 0; i < kinds.length; i++) {
+                        if (isPresent(i)) {
+                            result++;
+                        }
+                    }
+                    return result;
+                }
+            };
+        }
+    }
+
+    /**
+     * Exports the labels of the given names as a matrix. The labels must be of type boolean, byte, short, char, or int.
+     * Booleans are exported as 0 and 1.
+     * @param solutions The solutions, one row per solution
+     * @param names The names used for remembering, one column per name
+     * @return The matrix
+     */
+    public static int[][] toIntMatrix(List<Solution> solutions, String... names) {
+        int[][] result = new int[solutions.size()][names.length];
+        ColumnLookup lookup = new ColumnLookup(names);
+        int row = 0;
+        for (Solution s : solutions) {
+            int[] r = result[row++];
+            for (int i = 0; i < names.length; i++) {
+                r[i] = intLabel(s.labels, names[i], lookup.columnOf(s.labels, i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Exports the labels of the given names as a matrix. The labels must be of a primitive type.
+     * Booleans are exported as 0 and 1.
+     * @param solutions The solutions, one row per solution
+     * @param names The names used for remembering, one column per name
+     * @return The matrix
+     */
+    public static double[][] toDoubleMatrix(List<Solution> solutions, String... names) {
+        double[][] result = new double[solutions.size()][names.length];
+        ColumnLookup lookup = new ColumnLookup(names);
+        int row = 0;
+        for (Solution s : solutions) {
+            double[] r = result[row++];
+            for (int i = 0; i < names.length; i++) {
+                r[i] = doubleLabel(s.labels, names[i], lookup.columnOf(s.labels, i));
+            }
+        }
+        return result;
+    }
+
+    private static int intLabel(Labels labels, String name, int column) {
+        if (labels instanceof ColumnarLabels) {
+            ColumnarLabels cl = (ColumnarLabels) labels;
+            if (column >= 0) {
+                switch (cl.kinds[column]) {
+                    case BOOLEAN:
+                    case BYTE:
+                    case SHORT:
+                    case CHAR:
+                    case INT:
+                        return (int) cl.primitives[column];
+                    default:
+                }
+            }
+        } else {
+            Object label = labels.getLabelForId(name);
+            if (label instanceof Integer || label instanceof Short || label instanceof Byte) {
+                return ((Number) label).intValue();
+            } else if (label instanceof Character) {
+                return (Character) label;
+            } else if (label instanceof Boolean) {
+                return (Boolean) label ? 1 : 0;
+            }
+        }
+        throw new MulibRuntimeException("The label for '" + name + "' is not an int value: " + labels.getLabelForId(name));
+    }
+
+    private static double doubleLabel(Labels labels, String name, int column) {
+        if (labels instanceof ColumnarLabels) {
+            ColumnarLabels cl = (ColumnarLabels) labels;
+            if (column >= 0) {
+                long bits = cl.primitives[column];
+                switch (cl.kinds[column]) {
+                    case BOOLEAN:
+                    case BYTE:
+                    case SHORT:
+                    case CHAR:
+                    case INT:
+                    case LONG:
+                        return bits;
+                    case FLOAT:
+                    case DOUBLE:
+                        return Double.longBitsToDouble(bits);
+                    default:
+                }
+            }
+        } else {
+            Object label = labels.getLabelForId(name);
+            if (label instanceof Number) {
+                return ((Number) label).doubleValue();
+            } else if (label instanceof Character) {
+                return (Character) label;
+            } else if (label instanceof Boolean) {
+                return (Boolean) label ? 1 : 0;
+            }
+        }
+        throw new MulibRuntimeException("The label for '" + name + "' is not a primitive value: " + labels.getLabelForId(name));
+    }
+
+    // Caches the column indices of the exported names for the most recently regarded schema
+    private static final class ColumnLookup {
+        private final String[] names;
+        private final int[] columns;
+        private LabelsSchema schema;
+
+        ColumnLookup(String[] names) {
+            this.names = names;
+            this.columns = new int[names.length];
+        }
+
+        int columnOf(Labels labels, int nameIndex) {
+            if (!(labels instanceof ColumnarLabels)) {
+                return -1;
+            }
+            ColumnarLabels cl = (ColumnarLabels) labels;
+            if (cl.schema != schema) {
+                schema = cl.schema;
+                for (int i = 0; i < names.length; i++) {
+                    columns[i] = schema.getColumn(names[i]);
+                }
+            }
+            if (columns[nameIndex] < 0) {
+                // The column might have been added to the schema in the meantime
+                columns[nameIndex] = schema.getColumn(names[nameIndex]);
+            }
+            int column = columns[nameIndex];
+            // The labels might have been created before the column was added to the schema
+            return column < cl.kinds.length ? column : -1;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package de.wwu.mulib.solving;
+
+import de.wwu.mulib.throwables.LabelingNotPossibleException;
+import de.wwu.mulib.throwables.MulibIllegalStateException;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The label of a value as extracted from a model of the constraint solver.
+ * A snapshot only contains the labels of primitives and the structure of objects and arrays. The Java objects and
+ * arrays representing the label are only constructed once {@link #getLabel()} is called for the first time. Afterwards,
+ * the constructed label is cached, so that snapshots referencing each other yield labels referencing each other.
+ * Snapshots do not depend on the state of the constraint solver and, hence, stay valid after the solver backtracked.
+ * Snapshots are not thread-safe; - {@link ColumnarLabels} synchronizes the construction of labels.
+ */
+public abstract class LabelSnapshot {
+
+    private static final LabelSnapshot NULL = new ValueSnapshot(null);
+
+    LabelSnapshot() {}
+
+    /**
+     * Constructs the label, if this has not yet been done
+     * @return The label
+     */
+    public abstract Object getLabel();
+
+    /**
+     * @param label An already constructed label, e.g., a primitive in a wrapper object
+     * @return A snapshot returning the label
+     */
+    public static LabelSnapshot ofLabel(Object label) {
+        return label == null ? NULL : new ValueSnapshot(label);
+    }
+
+    /**
+     * @param originalType The type of the object that is constructed
+     * @return A snapshot of an object with all fields set to their default value
+     */
+    public static ObjectSnapshot newObjectSnapshot(Class<?> originalType) {
+        return new ObjectSnapshot(originalType);
+    }
+
+    /**
+     * @param componentType The component type of the array that is constructed
+     * @param length The length of the array that is constructed
+     * @return A snapshot of an array with all elements set to their default value
+     */
+    public static ArraySnapshot newArraySnapshot(Class<?> componentType, int length) {
+        return new ArraySnapshot(componentType, length);
+    }
+
+    static final class ValueSnapshot extends LabelSnapshot {
+        private final Object label;
+
+        ValueSnapshot(Object label) {
+            this.label = label;
+        }
+
+        @Override
+        public Object getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * A snapshot of an object. The object is created without calling any constructor.
+     */
+    public static final class ObjectSnapshot extends LabelSnapshot {
+        private final Class<?> originalType;
+        private final List<Field> fields = new ArrayList<>();
+        private final List<LabelSnapshot> values = new ArrayList<>();
+        private Object label;
+
+        private ObjectSnapshot(Class<?> originalType) {
+            this.originalType = originalType;
+        }
+
+        /**
+         * @param field The field of the original type
+         * @param value The snapshot of the value the field should be set to
+         */
+        public void setField(Field field, LabelSnapshot value) {
+            fields.add(field);
+            values.add(value);
+        }
+
+        @Override
+        public Object getLabel() {
+            if (label != null) {
+                return label;
+            }
+            try {
+                label = UNSAFE.allocateInstance(originalType);
+            } catch (InstantiationException e) {
+                throw new LabelingNotPossibleException("Cannot instantiate instance of type " + originalType.getSimpleName(), e);
+            }
+            // The label is cached before constructing the labels of the fields, so that cycles are preserved
+            for (int i = 0; i < fields.size(); i++) {
+                Field f = fields.get(i);
+                try {
+                    f.setAccessible(true);
+                    f.set(label, values.get(i).getLabel());
+                } catch (Exception e) {
+                    throw new LabelingNotPossibleException("Setting value failed for field " + f.getName(), e);
+                }
+            }
+            return label;
+        }
+    }
+
+    /**
+     * A snapshot of an array.
+     */
+    public static final class ArraySnapshot extends LabelSnapshot {
+        private final Class<?> componentType;
+        private final LabelSnapshot[] elements;
+        private Object label;
+
+        private ArraySnapshot(Class<?> componentType, int length) {
+            this.componentType = componentType;
+            this.elements = new LabelSnapshot[length];
+        }
+
+        /**
+         * Sets an element. Setting an element for the same index twice overwrites the first element.
+         * @param index The index
+         * @param value The snapshot of the element
+         */
+        public void setElement(int index, LabelSnapshot value) {
+            elements[index] = value;
+        }
+
+        @Override
+        public Object getLabel() {
+            if (label != null) {
+                return label;
+            }
+            label = Array.newInstance(componentType, elements.length);
+            // The label is cached before constructing the labels of the elements, so that cycles are preserved
+            for (int i = 0; i < elements.length; i++) {
+                if (elements[i] != null) {
+                    Array.set(label, i, elements[i].getLabel());
+                }
+            }
+            return label;
+        }
+    }
+
+    static {
+        try {
+            Field f = Unsafe.class.getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            UNSAFE = (Unsafe) f.get(null);
+        } catch (Exception e) {
+            throw new MulibIllegalStateException("Unsafe not retrieveable. Cannot construct empty objects to label", e);
+        }
+    }
+    private static final Unsafe UNSAFE;
+}
@@ -0,0 +1,68 @@
+package de.wwu.mulib.solving;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns the names used for remembering values to column indices. A schema is shared by all {@link ColumnarLabels}
+ * created by the same solver manager so that each solution only stores its values, but not the names.
+ * Columns are only ever added; a column index is never reassigned.
+ */
+public final class LabelsSchema {
+    private final Map<String, Integer> nameToColumn = new ConcurrentHashMap<>();
+    private volatile String[] columnToName = new String[0];
+
+    /**
+     * @param name The name used for remembering
+     * @return The column index of the name, or -1, if the name has no column
+     */
+    public int getColumn(String name) {
+        Integer result = nameToColumn.get(name);
+        return result == null ? -1 : result;
+    }
+
+    /**
+     * @param name The name used for remembering
+     * @return The column index of the name. If the name has no column yet, a new column is added
+     */
+    public int getOrAddColumn(String name) {
+        Integer result = nameToColumn.get(name);
+        if (result != null) {
+            return result;
+        }
+        synchronized (this) {
+            result = nameToColumn.get(name);
+            if (result != null) {
+                return result;
+            }
+            String[] oldColumnToName = columnToName;
+            String[] newColumnToName = new String[oldColumnToName.length + 1];
+            System.arraycopy(oldColumnToName, 0, newColumnToName, 0, oldColumnToName.length);
+            newColumnToName[oldColumnToName.length] = name;
+            // Publish the name before the column so that each column returned by getColumn(...) has a name
+            columnToName = newColumnToName;
+            nameToColumn.put(name, oldColumnToName.length);
+            return oldColumnToName.length;
+        }
+    }
+
+    /**
+     * @param column The column index
+     * @return The name used for remembering
+     */
+    public String getName(int column) {
+        return columnToName[column];
+    }
+
+    /**
+     * @return The number of columns
+     */
+    public int size() {
+        return columnToName.length;
+    }
+
+    @Override
+    public String toString() {
+        return "LabelsSchema" + nameToColumn;
+    }
+}
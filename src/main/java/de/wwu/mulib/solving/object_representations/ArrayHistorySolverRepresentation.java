@@ -6,19 +6,25 @@ import de.wwu.mulib.substitutions.PartnerClass;
 import de.wwu.mulib.substitutions.Substituted;
 import de.wwu.mulib.substitutions.primitives.*;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 import java.util.function.Function;
 
 /**
  * Maintains the state for an array. A store yields a nested structure of ArrayHistorySolverRepresentations.
  * If the array is not completely initialized, selects are also recorded.
+ * Accesses with a concrete index and an unconditional guard are indexed so that selects with a concrete index
+ * do not need to regard them one by one. Concrete stores that are overwritten by a later concrete store to the
+ * same index are removed from the history.
  */
 public class ArrayHistorySolverRepresentation {
+    // The number of consecutive concrete stores that are searched for a store to the same index that is overwritten
+    private static final int COMPACTION_WINDOW = 32;
     // The selects. If the array is completely initialized, only the root element has non-empty selects
     private final List<ArrayAccessSolverRepresentation> selects;
+    // The first concrete select for each concrete index
+    private final Map<Integer, ArrayAccessSolverRepresentation> concreteSelects;
+    // The selects that are not concrete, in the order of the selects
+    private final List<ArrayAccessSolverRepresentation> symbolicSelects;
     // Is null for the root element
     private final ArrayAccessSolverRepresentation store;
     // The nested array before storing in this array
@@ -53,10 +59,12 @@ public class ArrayHistorySolverRepresentation {
         this.beforeStore = null;
         this.defaultValue = defaultValue;
         this.selects = new ArrayList<>();
+        this.concreteSelects = new HashMap<>();
+        this.symbolicSelects = new ArrayList<>();
         // Initialize the initial content of this array
         for (ArrayAccessConstraint ac : initialSelects) {
             Sprimitive value = ac.getValue();
-            selects.add(new ArrayAccessSolverRepresentation(
+            addSelect(new ArrayAccessSolverRepresentation(
                     Sbool.ConcSbool.TRUE,
                     ac.getIndex(),
                     value
@@ -67,6 +75,8 @@ public class ArrayHistorySolverRepresentation {
     // Copy constructor, called to create a semantically equal version of ArraySolverRepresentation
     private ArrayHistorySolverRepresentation(ArrayHistorySolverRepresentation toCopy) {
         this.selects = new ArrayList<>(toCopy.selects);
+        this.concreteSelects = new HashMap<>(toCopy.concreteSelects);
+        this.symbolicSelects = new ArrayList<>(toCopy.symbolicSelects);
         this.store = toCopy.store;
         this.beforeStore = toCopy.beforeStore;
         this.defaultValue = toCopy.defaultValue;
@@ -80,6 +90,8 @@ public class ArrayHistorySolverRepresentation {
             ArrayAccessSolverRepresentation store) {
         assert store != null && beforeStore != null;
         this.selects = new ArrayList<>();
+        this.concreteSelects = new HashMap<>();
+        this.symbolicSelects = new ArrayList<>();
         this.store = store;
         this.beforeStore = beforeStore;
         this.defaultValue = beforeStore.defaultValue;
@@ -133,10 +145,7 @@ public class ArrayHistorySolverRepresentation {
         if (defaultValueForUnknownsShouldBeEnforced) {
             // If we have to enforce a default value, for instance 0 for int arrays or -1 for array-arrays, for unknown values, we
             // have to gather all guarded index-equals-constraints to use later
-            Constraint indexEqualsToAnyPreviousIndexWithGuard =
-                    getFromHistory(h -> h.indexIsValid.apply(index))
-                            .stream()
-                            .reduce(Sbool.ConcSbool.FALSE, Or::newInstance);
+            Constraint indexEqualsToAnyPreviousIndexWithGuard = indexEqualsToAnyPreviousIndex(index);
 
             // If the default value is used for unset values, we must check if it is a currently unrepresented index and
             // in this case, imply that the default value is used. E.g. 0 for int-arrays
@@ -157,16 +166,56 @@ public class ArrayHistorySolverRepresentation {
         }
 
         if (!arrayIsCompletelyInitialized) {
-            selects.add(new ArrayAccessSolverRepresentation(guard, index, value));
+            addSelect(new ArrayAccessSolverRepresentation(guard, index, value));
         }
 
         return implies(guard, selectConstraint);
     }
 
+    private void addSelect(ArrayAccessSolverRepresentation select) {
+        selects.add(select);
+        if (select.isConcrete) {
+            concreteSelects.putIfAbsent(((ConcSnumber) select.index).intVal(), select);
+        } else {
+            symbolicSelects.add(select);
+        }
+    }
+
+    private Constraint indexEqualsToAnyPreviousIndex(Sint index) {
+        if (!(index instanceof ConcSnumber)) {
+            return getFromHistory(h -> h.indexIsValid.apply(index))
+                    .stream()
+                    .reduce(Sbool.ConcSbool.FALSE, Or::newInstance);
+        }
+        // For a concrete index, concrete accesses either equal the index, in which case the disjunction is true,
+        // or they can be ignored
+        int concreteIndex = ((ConcSnumber) index).intVal();
+        Set<Constraint> symbolicIndexEqualities = new HashSet<>();
+        for (ArrayHistorySolverRepresentation current = this; current != null; current = current.beforeStore) {
+            if (current.concreteSelects.containsKey(concreteIndex)) {
+                return Sbool.ConcSbool.TRUE;
+            }
+            if (current.store != null) {
+                if (!current.store.isConcrete) {
+                    symbolicIndexEqualities.add(current.store.indexIsValid.apply(index));
+                } else if (((ConcSnumber) current.store.index).intVal() == concreteIndex) {
+                    return Sbool.ConcSbool.TRUE;
+                }
+            }
+            for (ArrayAccessSolverRepresentation s : current.symbolicSelects) {
+                symbolicIndexEqualities.add(s.indexIsValid.apply(index));
+            }
+        }
+        return symbolicIndexEqualities.stream().reduce(Sbool.ConcSbool.FALSE, Or::newInstance);
+    }
+
     private Constraint _select(
             Sint index,
             Sprimitive value,
             boolean enforceDistinctLazilyInitializedValues) {
+        if (index instanceof ConcSnumber && !enforceDistinctLazilyInitializedValues) {
+            return _selectConcreteIndex(((ConcSnumber) index).intVal(), index, value);
+        }
         Constraint indexEqualsToStoreIndexWithGuard;
         Constraint indexEqualsToStoreCase;
         Constraint resultForSelectOperations;
@@ -175,6 +224,11 @@ public class ArrayHistorySolverRepresentation {
             assert beforeStore != null;
             indexEqualsToStoreIndexWithGuard = store.indexIsValid.apply(index);
             indexEqualsToStoreCase = elementsEqualConstraint(store.value, value);
+            if (indexEqualsToStoreIndexWithGuard instanceof Sbool.ConcSbool
+                    && ((Sbool.ConcSbool) indexEqualsToStoreIndexWithGuard).isTrue()) {
+                // The value stems from the store; - previous accesses do not have to be regarded
+                return indexEqualsToStoreCase;
+            }
             resultForSelectOperations = beforeStore._select(index, value, enforceDistinctLazilyInitializedValues);
         } else {
             indexEqualsToStoreIndexWithGuard = Sbool.ConcSbool.FALSE;
@@ -218,6 +272,51 @@ public class ArrayHistorySolverRepresentation {
         return ite(indexEqualsToStoreIndexWithGuard, indexEqualsToStoreCase, resultForSelectOperations);
     }
 
+    // Equivalent to the general case of _select for a concrete index if distinct values are not enforced.
+    // Concrete accesses to other indices are skipped without creating constraints and the history is only traversed
+    // until a concrete access to the same index is found, since this access determines the value.
+    private Constraint _selectConcreteIndex(int concreteIndex, Sint index, Sprimitive value) {
+        List<ArrayHistorySolverRepresentation> visited = new ArrayList<>();
+        Constraint result;
+        boolean determinedBySelect = false;
+        ArrayHistorySolverRepresentation current = this;
+        while (true) {
+            if (current.store != null
+                    && current.store.isConcrete
+                    && ((ConcSnumber) current.store.index).intVal() == concreteIndex) {
+                result = elementsEqualConstraint(current.store.value, value);
+                break;
+            }
+            visited.add(current);
+            ArrayAccessSolverRepresentation concreteSelect = current.concreteSelects.get(concreteIndex);
+            if (concreteSelect != null) {
+                result = elementsEqualConstraint(concreteSelect.value, value);
+                determinedBySelect = true;
+                break;
+            }
+            if (current.beforeStore == null) {
+                result = Sbool.ConcSbool.TRUE;
+                break;
+            }
+            current = current.beforeStore;
+        }
+        for (int i = visited.size() - 1; i >= 0; i--) {
+            ArrayHistorySolverRepresentation h = visited.get(i);
+            if (!determinedBySelect || i != visited.size() - 1) {
+                for (ArrayAccessSolverRepresentation s : h.symbolicSelects) {
+                    result = And.newInstance(
+                            implies(s.indexIsValid.apply(index), elementsEqualConstraint(s.value, value)),
+                            result
+                    );
+                }
+            }
+            if (h.store != null && !h.store.isConcrete) {
+                result = ite(h.store.indexIsValid.apply(index), elementsEqualConstraint(h.store.value, value), result);
+            }
+        }
+        return result;
+    }
+
     /**
      * Nests the current representation in a new representation for which we register the stored value
      * @param guard The guard which must evaluate to true to consider the stored (index, value)-pair
@@ -229,10 +328,32 @@ public class ArrayHistorySolverRepresentation {
         if (guard instanceof Sbool.ConcSbool && ((Sbool.ConcSbool) guard).isFalse()) {
             return this;
         }
-        return new ArrayHistorySolverRepresentation(
-                this,
-                new ArrayAccessSolverRepresentation(guard, index, value)
-        );
+        ArrayAccessSolverRepresentation newStore = new ArrayAccessSolverRepresentation(guard, index, value);
+        ArrayHistorySolverRepresentation beforeNewStore = this;
+        if (newStore.isConcrete) {
+            beforeNewStore = withoutOverwrittenConcreteStore(((ConcSnumber) index).intVal());
+        }
+        return new ArrayHistorySolverRepresentation(beforeNewStore, newStore);
+    }
+
+    // If one of the most recent consecutive concrete stores without selects stores to the given index, it is
+    // overwritten by a new concrete store to this index. In this case, the stores are renested without it.
+    private ArrayHistorySolverRepresentation withoutOverwrittenConcreteStore(int concreteIndex) {
+        List<ArrayHistorySolverRepresentation> toRenest = new ArrayList<>();
+        ArrayHistorySolverRepresentation current = this;
+        while (current.store != null && current.store.isConcrete && current.selects.isEmpty()
+                && toRenest.size() < COMPACTION_WINDOW) {
+            if (((ConcSnumber) current.store.index).intVal() == concreteIndex) {
+                ArrayHistorySolverRepresentation result = current.beforeStore;
+                for (int i = toRenest.size() - 1; i >= 0; i--) {
+                    result = new ArrayHistorySolverRepresentation(result, toRenest.get(i).store);
+                }
+                return result;
+            }
+            toRenest.add(current);
+            current = current.beforeStore;
+        }
+        return this;
     }
 
     /**
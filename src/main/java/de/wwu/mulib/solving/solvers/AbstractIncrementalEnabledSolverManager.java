@@ -15,7 +15,6 @@ import de.wwu.mulib.substitutions.primitives.*;
 import de.wwu.mulib.throwables.*;
 import de.wwu.mulib.transformations.StringConstants;
 import de.wwu.mulib.util.Utility;
-import sun.misc.Unsafe;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
@@ -50,8 +49,10 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
     private final MulibConfig config;
 
     private final Map<Class<?>, BiFunction<SolverManager, Object, Object>> classesToLabelFunction;
-    // Label cache
-    private final Map<Object, Object> _searchSpaceRepresentationToLabelObject = new IdentityHashMap<>();
+    // Label cache; - the labels are only constructed from the snapshots once they are retrieved
+    private final Map<Object, LabelSnapshot> _searchSpaceRepresentationToLabelObject = new IdentityHashMap<>();
+    // The names used for remembering are shared by all solutions labeled by this solver manager
+    private final LabelsSchema labelsSchema = new LabelsSchema();
 
     /**
      * @param config The configuration
@@ -67,11 +68,11 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
         _searchSpaceRepresentationToLabelObject.clear();
     }
 
-    private Object checkForAlreadyLabeledRepresentation(Object toLabel) {
+    private LabelSnapshot checkForAlreadyLabeledRepresentation(Object toLabel) {
         if (toLabel instanceof PartnerClass && ((PartnerClass) toLabel).__mulib__getId() != null) {
            toLabel =  ((PartnerClass) toLabel).__mulib__getId();
         }
-        Object result = _searchSpaceRepresentationToLabelObject.get(toLabel);
+        LabelSnapshot result = _searchSpaceRepresentationToLabelObject.get(toLabel);
         if (result == null && toLabel instanceof Sint.SymSint) {
             result = _searchSpaceRepresentationToLabelObject.get(Sint.concSint(_labelSintToInt((Sint) toLabel)));
         }
@@ -136,6 +137,10 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
 
     @Override
     public final void registerLabelPair(Object searchRegionRepresentation, Object labeled) {
+        registerLabelSnapshot(searchRegionRepresentation, LabelSnapshot.ofLabel(labeled));
+    }
+
+    private void registerLabelSnapshot(Object searchRegionRepresentation, LabelSnapshot labeled) {
         if (searchRegionRepresentation instanceof PartnerClass && ((PartnerClass) searchRegionRepresentation).__mulib__getId() != null) {
             searchRegionRepresentation = ((PartnerClass) searchRegionRepresentation).__mulib__getId();
         }
@@ -455,6 +460,12 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
         solverSpecificShutdown();
     }
 
+    @Override
+    public final void evictCaches() {
+        _searchSpaceRepresentationToLabelObject.clear();
+        solverSpecificEvictCaches();
+    }
+
     @Override
     public Object getLabel(Object var) {
         List<PartnerClassObjectConstraint> allPartnerClassObjectConstraints =
@@ -466,15 +477,12 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
     public Solution labelSolution(Object returnValue, Map<String, Sprimitive> rememberedSprimitives) {
         List<PartnerClassObjectConstraint> allPartnerClassObjectConstraints =
                 incrementalSolverState.getAllPartnerClassObjectConstraints();
-        Map<String, Substituted> identifierToSubstitutedVars  = new HashMap<>();
-        Map<String, Object> identifiersToOriginalRepresentation = new HashMap<>();
+        // Only the solver is queried eagerly; - the labels of objects and arrays are constructed upon their retrieval
+        ColumnarLabels.Builder labelsBuilder = new ColumnarLabels.Builder(labelsSchema);
         // Label remembered Sprimitives
         for (Map.Entry<String, Sprimitive> entry : rememberedSprimitives.entrySet()) {
-            if (identifierToSubstitutedVars.put(entry.getKey(), entry.getValue()) != null) {
-                throw new MulibRuntimeException("Must not overwrite names for remembering values! Overwritten: " + entry.getKey());
-            }
             Object labeled = labelSprimitive(entry.getValue());
-            identifiersToOriginalRepresentation.put(entry.getKey(), labeled);
+            labelsBuilder.put(entry.getKey(), entry.getValue(), LabelSnapshot.ofLabel(labeled));
         }
 
         // Label remembered values, only a subset of updates are relevant!
@@ -484,33 +492,31 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
                         .toArray(PartnerClassObjectRememberConstraint[]::new);
         for (PartnerClassObjectRememberConstraint rememberConstraint : rememberConstraints) {
             PartnerClass copy = rememberConstraint.getRememberedValue();
-            Object label = _getLabel(copy, rememberConstraint, allPartnerClassObjectConstraints);
-            if (identifierToSubstitutedVars.put(rememberConstraint.getName(), copy) != null) {
+            LabelSnapshot label = _getLabelSnapshot(copy, rememberConstraint, allPartnerClassObjectConstraints);
+            if (labelsBuilder.contains(rememberConstraint.getName())) {
                 throw new MulibRuntimeException("Must not overwrite names for remembering values! Overwritten: " + rememberConstraint.getName());
             }
-            identifiersToOriginalRepresentation.put(rememberConstraint.getName(), label);
+            labelsBuilder.put(rememberConstraint.getName(), copy, label);
             // Take objects that were already labeled but changed in between into account; - otherwise we cache
             // the named values
             resetLabels();
         }
 
         // Label return value: All updates are relevant!
-        Object labeledReturnValue = config.SEARCH_LABEL_RESULT_VALUE
+        LabelSnapshot returnValueSnapshot = config.SEARCH_LABEL_RESULT_VALUE
                 ?
-                _getLabel(returnValue, null, allPartnerClassObjectConstraints)
+                _getLabelSnapshot(returnValue, null, allPartnerClassObjectConstraints)
                 :
-                returnValue;
-
-        if (returnValue instanceof Substituted) { // TODO
-            identifierToSubstitutedVars.put("return", (Substituted) returnValue);
-        }
-        identifiersToOriginalRepresentation.put("return", labeledReturnValue);
-
-        Labels labels = new StdLabels(
-                identifierToSubstitutedVars,
-                identifiersToOriginalRepresentation
+                LabelSnapshot.ofLabel(returnValue);
+        // The return value is a public field of the solution and, thus, is always constructed
+        Object labeledReturnValue = returnValueSnapshot.getLabel();
+
+        labelsBuilder.put(
+                "return",
+                returnValue instanceof Substituted ? (Substituted) returnValue : null, // TODO
+                returnValueSnapshot
         );
-        return new Solution(labeledReturnValue, labels);
+        return new Solution(labeledReturnValue, labelsBuilder.build());
     }
 
     /**
@@ -525,16 +531,32 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
             Object var,
             PartnerClassObjectRememberConstraint rememberUntil,
             List<PartnerClassObjectConstraint> allRelevantPartnerClassObjectConstraints) {
+        return _getLabelSnapshot(var, rememberUntil, allRelevantPartnerClassObjectConstraints).getLabel();
+    }
+
+    /**
+     * Extracts the label of the given Object from the current model taking all field updates up to rememberUntil into
+     * account. The objects and arrays of the label are only constructed once {@link LabelSnapshot#getLabel()} is called.
+     * @param var The object to-be-labeled
+     * @param rememberUntil The remember constraint determining the scope until which field updates should be regarded
+     * @param allRelevantPartnerClassObjectConstraints The partner class object constraints that should be taken into
+     *                                                 account while labeling
+     * @return The snapshot of the label
+     */
+    protected LabelSnapshot _getLabelSnapshot(
+            Object var,
+            PartnerClassObjectRememberConstraint rememberUntil,
+            List<PartnerClassObjectConstraint> allRelevantPartnerClassObjectConstraints) {
         if (!isSatisfiable()) {
             throw new LabelingNotPossibleException("Must be satisfiable.");
         } else if (var == null) {
-            return null;
+            return LabelSnapshot.ofLabel(null);
         }
         try {
             if (var instanceof Sprimitive) {
-                return labelSprimitive((Sprimitive) var);
+                return LabelSnapshot.ofLabel(labelSprimitive((Sprimitive) var));
             }
-            Object result;
+            LabelSnapshot result;
             if ((result = checkForAlreadyLabeledRepresentation(var)) != null) {
                 return result;
             }
@@ -623,23 +645,29 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
      * @param rememberUntil The remember constraint determining the scope until which field updates should be regarded
      * @param allRelevantPartnerClassObjectConstraints The partner class object constraints that should be taken into
      *                                                 account while labeling
-     * @return The label, i.e., some Java array
+     * @return The snapshot of the label, i.e., of some Java array
      */
-    protected Object labelSarray(
+    protected LabelSnapshot labelSarray(
             Sarray<?> sarray,
             PartnerClassObjectRememberConstraint rememberUntil,
             List<PartnerClassObjectConstraint> allRelevantPartnerClassObjectConstraints) {
-        Object result;
+        LabelSnapshot result;
         if (!sarray.__mulib__isRepresentedInSolver()) {
             int length = _labelSintToInt(sarray._getLengthWithoutCheckingForIsNull());
-            Object array = Array.newInstance(transformNonSarrayMulibTypeToJavaType(sarray.getElementType()), length);
-            registerLabelPair(sarray, array);
+            LabelSnapshot.ArraySnapshot array =
+                    LabelSnapshot.newArraySnapshot(transformNonSarrayMulibTypeToJavaType(sarray.getElementType()), length);
+            registerLabelSnapshot(sarray, array);
             // In this case the constraints did not need to be manifested and we can use the cache
             for (Sint index : sarray.getCachedIndices()) {
                 int labeledIndex = _labelSintToInt(index);
+                if (labeledIndex < 0 || labeledIndex >= length) {
+                    // Unrolled arrays with a symbolic length cache elements up to their maximum length; - these
+                    // elements are not part of the labeled array
+                    continue;
+                }
                 Substituted cachedValue = sarray.getFromCacheForIndex(index);
-                Object labeledValue = _getLabel(cachedValue, rememberUntil, allRelevantPartnerClassObjectConstraints);
-                Array.set(array, labeledIndex, labeledValue);
+                LabelSnapshot labeledValue = _getLabelSnapshot(cachedValue, rememberUntil, allRelevantPartnerClassObjectConstraints);
+                array.setElement(labeledIndex, labeledValue);
             }
             result = array;
         } else {
@@ -650,17 +678,17 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
         return result;
     }
 
-    private Object labelRepresentedArray(
+    private LabelSnapshot labelRepresentedArray(
             Sint arrayId,
             PartnerClassObjectRememberConstraint rememberUntil,
             List<PartnerClassObjectConstraint> allRelevantPartnerClassObjectConstraints) {
         assert arrayId != null;
         if (_labelSintToInt(arrayId) == -1) {
-            return null;
+            return LabelSnapshot.ofLabel(null);
         }
-        Object array;
-        if ((array = checkForAlreadyLabeledRepresentation(arrayId)) != null) {
-            return array;
+        LabelSnapshot alreadyLabeled;
+        if ((alreadyLabeled = checkForAlreadyLabeledRepresentation(arrayId)) != null) {
+            return alreadyLabeled;
         }
         ArrayConstraint[] constraints = getArrayConstraintsForSarrayAndAliasesWithoutRememberConstraints(
                 arrayId,
@@ -669,7 +697,7 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
         );
         if (constraints.length == 0) {
             // Value is not interesting as it is not evaluated anywhere
-            return null;
+            return LabelSnapshot.ofLabel(null);
         }
         ArrayLengthAndType alat = findArrayLengthAndTypeForId(constraints);
         // Determine type of array
@@ -677,11 +705,11 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
         Class<?> originalType = transformNonSarrayMulibTypeToJavaType(type);
         int length = _labelSintToInt(alat.length);
         // Create array of suiting type
-        array = Array.newInstance(originalType, length);
+        LabelSnapshot.ArraySnapshot array = LabelSnapshot.newArraySnapshot(originalType, length);
         boolean isNestedArray = type.isArray();
-        registerLabelPair(arrayId, array);
+        registerLabelSnapshot(arrayId, array);
         if (arrayId instanceof Sint.SymSint) {
-            registerLabelPair(Sint.concSint(_labelSintToInt(arrayId)), array);
+            registerLabelSnapshot(Sint.concSint(_labelSintToInt(arrayId)), array);
         }
         boolean seenInit = false;
         for (ArrayConstraint ac : constraints) {
@@ -734,41 +762,41 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
     }
 
     private void setInArray(
-            Object array,
+            LabelSnapshot.ArraySnapshot array,
             ArrayAccessConstraint s,
             Class<?> type,
             boolean isNestedArray,
             PartnerClassObjectRememberConstraint rememberUntil,
             List<PartnerClassObjectConstraint> allRelevantPartnerClassObjectConstraints) {
         int index = _labelSintToInt(s.getIndex());
-        Object val;
+        LabelSnapshot val;
         if (isNestedArray) {
             // Array values are arrays themselves
             Sint value = (Sint) s.getValue();
             val = labelRepresentedArray(value, rememberUntil, allRelevantPartnerClassObjectConstraints);
         } else {
             if (Sprimitive.class.isAssignableFrom(type)) {
-                val = labelSprimitive(s.getValue());
+                val = LabelSnapshot.ofLabel(labelSprimitive(s.getValue()));
             } else {
                 assert PartnerClass.class.isAssignableFrom(type);
                 Sint value = (Sint) s.getValue();
                 val = labelPartnerClassObject(value, rememberUntil, allRelevantPartnerClassObjectConstraints);
             }
         }
-        Array.set(array, index, val);
+        array.setElement(index, val);
     }
 
-    private Object labelPartnerClassObject(
+    private LabelSnapshot labelPartnerClassObject(
             Sint partnerClassObjectId,
             PartnerClassObjectRememberConstraint rememberUntil,
             List<PartnerClassObjectConstraint> allRelevantPartnerClassObjectConstraints) {
         assert partnerClassObjectId != null;
         if (_labelSintToInt(partnerClassObjectId) == -1) {
-            return null;
+            return LabelSnapshot.ofLabel(null);
         }
-        Object object;
-        if ((object = checkForAlreadyLabeledRepresentation(partnerClassObjectId)) != null) {
-            return object;
+        LabelSnapshot alreadyLabeled;
+        if ((alreadyLabeled = checkForAlreadyLabeledRepresentation(partnerClassObjectId)) != null) {
+            return alreadyLabeled;
         }
         PartnerClassObjectConstraint[] constraints =
                 getConstraintsForPartnerClassObjectAndAliasesWithoutRememberConstraints(
@@ -776,13 +804,13 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
                         rememberUntil,
                         allRelevantPartnerClassObjectConstraints);
         if (constraints.length == 0) {
-            return null;
+            return LabelSnapshot.ofLabel(null);
         }
         Class<?> originalType = transformNonArrayPartnerClassTypeToJavaType(findTypeOfPartnerClassObject(constraints));
-        object = createEmptyLabelObject(originalType);
-        registerLabelPair(partnerClassObjectId, object);
+        LabelSnapshot.ObjectSnapshot object = LabelSnapshot.newObjectSnapshot(originalType);
+        registerLabelSnapshot(partnerClassObjectId, object);
         if (partnerClassObjectId instanceof Sint.SymSint) {
-            registerLabelPair(Sint.concSint(_labelSintToInt(partnerClassObjectId)), object);
+            registerLabelSnapshot(Sint.concSint(_labelSintToInt(partnerClassObjectId)), object);
         }
         List<Field> fields = Utility.getInstanceFieldsIncludingInheritedFieldsExcludingPartnerClassFields(originalType);
         Utility.setAllAccessible(fields);
@@ -804,24 +832,19 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
             if (f == null) {
                 throw new LabelingNotPossibleException("Field for field constraint not found: " + classAndFieldName);
             }
-            Object val;
+            LabelSnapshot val;
             if (value == null) {
                 assert !f.getType().isPrimitive();
-                val = null;
+                val = LabelSnapshot.ofLabel(null);
             } else if (f.getType().isArray()) {
                 assert value instanceof Sint;
                 val = labelRepresentedArray((Sint) value, rememberUntil, allRelevantPartnerClassObjectConstraints);
             } else if (f.getType().isPrimitive()) {
-                val = labelSprimitive((Sprimitive) value);
+                val = LabelSnapshot.ofLabel(labelSprimitive((Sprimitive) value));
             } else {
                 val = labelPartnerClassObject((Sint) value, rememberUntil, allRelevantPartnerClassObjectConstraints);
             }
-            try {
-                f.set(object, val);
-            } catch (Exception e) {
-                e.printStackTrace();
-                throw new LabelingNotPossibleException("Setting value failed for field " + f.getName());
-            }
+            object.setField(f, val);
         }
         return object;
     }
@@ -1039,24 +1062,25 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
      * @param rememberUntil The remember constraint determining the scope until which field updates should be regarded
      * @param allRelevantPartnerClassObjectConstraints The partner class object constraints that should be taken into
      *                                                 account while labeling
-     * @return The label, i.e., the "original" to a {@link PartnerClass}
+     * @return The snapshot of the label, i.e., of the "original" to a {@link PartnerClass}
      */
-    protected Object labelPartnerClassObject(
+    protected LabelSnapshot labelPartnerClassObject(
             PartnerClass object,
             PartnerClassObjectRememberConstraint rememberUntil,
             List<PartnerClassObjectConstraint> allRelevantPartnerClassObjectConstraints) {
         if (config.TRANSF_TRANSFORMATION_REQUIRED) {
             if (!object.__mulib__isRepresentedInSolver()) {
-                Object emptyLabelObject = createEmptyLabelObject(object.__mulib__getOriginalClass());
-                registerLabelPair(object, emptyLabelObject);
+                Class<?> originalClass = object.__mulib__getOriginalClass();
+                LabelSnapshot.ObjectSnapshot emptyLabelObject = LabelSnapshot.newObjectSnapshot(originalClass);
+                registerLabelSnapshot(object, emptyLabelObject);
                 List<Field> fieldsToGet = Utility.getInstanceFieldsIncludingInheritedFieldsExcludingPartnerClassFields(object.getClass());
-                List<Field> fieldsToSet = Utility.getInstanceFieldsIncludingInheritedFieldsExcludingPartnerClassFields(emptyLabelObject.getClass());
+                List<Field> fieldsToSet = Utility.getInstanceFieldsIncludingInheritedFieldsExcludingPartnerClassFields(originalClass);
                 try {
                     for (Field fg : fieldsToGet) {
                         fg.setAccessible(true);
                         // Label value
                         Object value = fg.get(object);
-                        Object labeled = _getLabel(value, rememberUntil, allRelevantPartnerClassObjectConstraints);
+                        LabelSnapshot labeled = _getLabelSnapshot(value, rememberUntil, allRelevantPartnerClassObjectConstraints);
                         // Get corresponding field from original class
                         Field fieldToSet = null;
                         for (Field fs : fieldsToSet) {
@@ -1069,8 +1093,7 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
                             throw new LabelingNotPossibleException("Original field for partner class field '"
                                     + fg.getDeclaringClass().getSimpleName() + "." + fg.getName() + "' not found");
                         }
-                        fieldToSet.setAccessible(true);
-                        fieldToSet.set(emptyLabelObject, labeled);
+                        emptyLabelObject.setField(fieldToSet, labeled);
                     }
                 } catch (Exception e) {
                     throw new LabelingNotPossibleException("Retrieval of fields not possible", e);
@@ -1080,19 +1103,20 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
                 return labelPartnerClassObject(object.__mulib__getId(), rememberUntil, allRelevantPartnerClassObjectConstraints);
             }
         } else {
-            return object;
+            return LabelSnapshot.ofLabel(object);
         }
     }
 
-    private Object labelArray(
+    private LabelSnapshot labelArray(
             Object array,
             PartnerClassObjectRememberConstraint rememberConstraint,
             List<PartnerClassObjectConstraint> allRelevantPartnerClassObjectConstraints) {
         int length = Array.getLength(array);
-        Object result = Array.newInstance(transformNonSarrayMulibTypeToJavaType(array.getClass().getComponentType()), length);
-        registerLabelPair(array, result);
+        LabelSnapshot.ArraySnapshot result =
+                LabelSnapshot.newArraySnapshot(transformNonSarrayMulibTypeToJavaType(array.getClass().getComponentType()), length);
+        registerLabelSnapshot(array, result);
         for (int i = 0; i < length; i++) {
-            Array.set(result, i, _getLabel(Array.get(array, i), rememberConstraint, allRelevantPartnerClassObjectConstraints));
+            result.setElement(i, _getLabelSnapshot(Array.get(array, i), rememberConstraint, allRelevantPartnerClassObjectConstraints));
         }
         return result;
     }
@@ -1103,53 +1127,28 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
      * @param rememberUntil The remember constraint determining the scope until which field updates should be regarded
      * @param allRelevantPartnerClassObjectConstraints The partner class object constraints that should be taken into
      *                                                 account while labeling
-     * @return The label, i.e., the "original" to a {@link PartnerClass}
+     * @return The snapshot of the label. Custom label functions construct their labels eagerly.
      */
-    protected Object customLabelObject(
+    protected LabelSnapshot customLabelObject(
             Object o,
             PartnerClassObjectRememberConstraint rememberUntil,
             List<PartnerClassObjectConstraint> allRelevantPartnerClassObjectConstraints) {
-        Object result;
+        LabelSnapshot result;
         if ((result = checkForAlreadyLabeledRepresentation(o)) != null) {
             return result;
         }
         BiFunction<SolverManager, Object, Object> labelMethod =
                 this.classesToLabelFunction.get(o.getClass());
         if (labelMethod == null) {
-            result = o;
-            registerLabelPair(o, result);
+            registerLabelPair(o, o);
         } else {
-            result = labelMethod.apply(this, o);
+            labelMethod.apply(this, o);
         }
-        assert checkForAlreadyLabeledRepresentation(o) != null;
+        result = checkForAlreadyLabeledRepresentation(o);
+        assert result != null;
         return result;
     }
 
-
-    static {
-        try {
-            Field f = Unsafe.class.getDeclaredField("theUnsafe");
-            f.setAccessible(true);
-            UNSAFE = (Unsafe) f.get(null);
-        } catch (Exception e) {
-            throw new MulibIllegalStateException("Unsafe not retrieveable. Cannot construct empty objects to label", e);
-        }
-    }
-    private static final Unsafe UNSAFE;
-
-    /**
-     * Creates a new object bypassing all constructors
-     * @param clazz The class of which an object should be created
-     * @return An empty object that has been initialized without using any constructor
-     */
-    protected Object createEmptyLabelObject(Class<?> clazz) {
-        try {
-            return UNSAFE.allocateInstance(clazz);
-        } catch (InstantiationException e) {
-            throw new MulibRuntimeException("Cannot instantiate instance of type " + clazz.getSimpleName(), e);
-        }
-    }
-
     private Constraint getNeq(
             Substituted sv,
             Object value,
@@ -1397,4 +1396,9 @@ public abstract class AbstractIncrementalEnabledSolverManager<M, B, AR, PR> impl
      */
     protected abstract void solverSpecificShutdown();
 
+    /**
+     * Evicts the solver-specific caches that can be recomputed. By default, nothing is evicted.
+     */
+    protected void solverSpecificEvictCaches() {}
+
 }
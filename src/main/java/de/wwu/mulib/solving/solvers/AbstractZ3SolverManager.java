@@ -537,6 +537,13 @@ public abstract class AbstractZ3SolverManager extends AbstractIncrementalEnabled
         }
     }
 
+    @Override
+    protected void solverSpecificEvictCaches() {
+        // Leaves are translated to constants identified by their name; - retranslating yields equal expressions
+        adapter.boolExprStore.clear();
+        adapter.numericExpressionsStore.clear();
+    }
+
     @Override
     protected void solverSpecificShutdown() {
         adapter.boolExprStore.clear();
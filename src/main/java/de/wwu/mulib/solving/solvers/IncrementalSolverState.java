@@ -42,9 +42,24 @@ public class IncrementalSolverState<AR, PR> {
      */
     public static class SymbolicPartnerClassObjectStates<R> {
         final SolverManager solverManager;
-        final Map<Sint, PartnerClassObjectRepresentation<R>> idToMostRecentRepresentation = new HashMap<>();
+        // Identifiers are usually small concrete numbers. The representations of objects with such an identifier are
+        // stored at the index of the identifier. All other representations, e.g., those of objects with a symbolic
+        // identifier, are stored in the map.
+        private PartnerClassObjectRepresentation<R>[] concreteIdToMostRecentRepresentation;
+        private final Map<Sint, PartnerClassObjectRepresentation<R>> idToMostRecentRepresentation = new HashMap<>();
+        // For each level, the representations that received a representation for this level. Only these must
+        // be regarded when backtracking from the level. Representations are removed if they do not have any
+        // representations anymore so that we do not accumulate the representations of all objects ever represented
+        private final List<List<PartnerClassObjectRepresentation<R>>> representationsWithNewLevel = new ArrayList<>();
+
         SymbolicPartnerClassObjectStates(MulibConfig mc, SolverManager sm) {
             this.solverManager = sm;
+            this.concreteIdToMostRecentRepresentation = newRepresentations(16);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> PartnerClassObjectRepresentation<T>[] newRepresentations(int length) {
+            return (PartnerClassObjectRepresentation<T>[]) new PartnerClassObjectRepresentation<?>[length];
         }
 
         /**
@@ -54,10 +69,10 @@ public class IncrementalSolverState<AR, PR> {
          * @param level The level
          */
         public void addRepresentationForId(Sint id, R r, int level) {
-            PartnerClassObjectRepresentation<R> pcor = new PartnerClassObjectRepresentation<>(id);
+            PartnerClassObjectRepresentation<R> pcor = new PartnerClassObjectRepresentation<>(id, this);
             assert r != null;
             pcor.addNewRepresentation(r, level);
-            idToMostRecentRepresentation.put(id, pcor);
+            putRepresentation(pcor);
         }
 
         /**
@@ -65,9 +80,69 @@ public class IncrementalSolverState<AR, PR> {
          * @return The representation
          */
         public PartnerClassObjectRepresentation<R> getRepresentationForId(Sint id) {
+            int index = concreteIndex(id);
+            if (index >= 0) {
+                return index < concreteIdToMostRecentRepresentation.length ? concreteIdToMostRecentRepresentation[index] : null;
+            }
             return idToMostRecentRepresentation.get(id);
         }
 
+        private static int concreteIndex(Sint id) {
+            // Sint.ConcSint.equals(...) also regards the class of the other number; - thus, we check for the exact class
+            if (id != null && id.getClass() == Sint.ConcSint.class) {
+                return ((Sint.ConcSint) id).intVal();
+            }
+            return -1;
+        }
+
+        @SuppressWarnings("unchecked")
+        void putRepresentation(PartnerClassObjectRepresentation<R> pcor) {
+            int index = concreteIndex(pcor.id);
+            if (index < 0) {
+                idToMostRecentRepresentation.put(pcor.id, pcor);
+                return;
+            }
+            if (index >= concreteIdToMostRecentRepresentation.length) {
+                PartnerClassObjectRepresentation<R>[] grown =
+                        newRepresentations(Math.max(index + 1, concreteIdToMostRecentRepresentation.length * 2));
+                System.arraycopy(concreteIdToMostRecentRepresentation, 0, grown, 0, concreteIdToMostRecentRepresentation.length);
+                concreteIdToMostRecentRepresentation = grown;
+            }
+            concreteIdToMostRecentRepresentation[index] = pcor;
+        }
+
+        private void removeRepresentation(PartnerClassObjectRepresentation<R> pcor) {
+            // The representation might have been replaced by a newer one already
+            int index = concreteIndex(pcor.id);
+            if (index < 0) {
+                idToMostRecentRepresentation.remove(pcor.id, pcor);
+            } else if (index < concreteIdToMostRecentRepresentation.length
+                    && concreteIdToMostRecentRepresentation[index] == pcor) {
+                concreteIdToMostRecentRepresentation[index] = null;
+            }
+        }
+
+        void registerRepresentationForLevel(PartnerClassObjectRepresentation<R> pcor, int level) {
+            while (representationsWithNewLevel.size() <= level) {
+                representationsWithNewLevel.add(new ArrayList<>());
+            }
+            representationsWithNewLevel.get(level).add(pcor);
+        }
+
+        void popRepresentationsOfLevel(int level) {
+            if (representationsWithNewLevel.size() <= level) {
+                return;
+            }
+            List<PartnerClassObjectRepresentation<R>> representationsOfLevel = representationsWithNewLevel.get(level);
+            for (PartnerClassObjectRepresentation<R> pcor : representationsOfLevel) {
+                pcor.popRepresentationsOfLevel(level);
+                if (pcor.representationsForLevels.isEmpty()) {
+                    removeRepresentation(pcor);
+                }
+            }
+            representationsOfLevel.clear();
+        }
+
         /**
          * Adds a constraint to the constraint solver. This is supposed to be the metadataconstraint for
          * initializing those object, i.e., arrays or partner class objects, that are symbolic aliases of another object
@@ -86,7 +161,11 @@ public class IncrementalSolverState<AR, PR> {
 
         @Override
         public String toString() {
-            return String.format("SymbolicPartnerClassObjectStates{idToMostRecentRepresentation=%s}", idToMostRecentRepresentation);
+            return String.format(
+                    "SymbolicPartnerClassObjectStates{concreteIdToMostRecentRepresentation=%s, idToMostRecentRepresentation=%s}",
+                    Arrays.toString(concreteIdToMostRecentRepresentation),
+                    idToMostRecentRepresentation
+            );
         }
     }
 
@@ -210,9 +289,10 @@ public class IncrementalSolverState<AR, PR> {
     public void initializeArrayRepresentation(ArrayInitializationConstraint constraint, AR initialRepresentation) {
         assert _getArrayRepresentation(constraint.getPartnerClassObjectId()) == null
                 || _getArrayRepresentation(constraint.getPartnerClassObjectId()).getNewestRepresentation() == null : "Array was already initialized!";
-        PartnerClassObjectRepresentation<AR> ar = new PartnerClassObjectRepresentation<>(constraint.getPartnerClassObjectId());
+        PartnerClassObjectRepresentation<AR> ar =
+                new PartnerClassObjectRepresentation<>(constraint.getPartnerClassObjectId(), getSymbolicArrayStates());
         ar.addNewRepresentation(initialRepresentation, level);
-        symbolicPartnerClassObjectStates.idToMostRecentRepresentation.put(constraint.getPartnerClassObjectId(), ar);
+        getSymbolicArrayStates().putRepresentation(ar);
     }
 
     /**
@@ -224,9 +304,10 @@ public class IncrementalSolverState<AR, PR> {
     public void initializePartnerClassObjectRepresentation(PartnerClassObjectInitializationConstraint constraint, PR initialRepresentation) {
         assert _getPartnerClassObjectRepresentation(constraint.getPartnerClassObjectId()) == null
                 || _getPartnerClassObjectRepresentation(constraint.getPartnerClassObjectId()).getNewestRepresentation() == null : "Partner class object was already initialized!";
-        PartnerClassObjectRepresentation<PR> pr = new PartnerClassObjectRepresentation<>(constraint.getPartnerClassObjectId());
+        PartnerClassObjectRepresentation<PR> pr =
+                new PartnerClassObjectRepresentation<>(constraint.getPartnerClassObjectId(), getSymbolicPartnerClassObjectStates());
         pr.addNewRepresentation(initialRepresentation, level);
-        symbolicPartnerClassObjectStates.idToMostRecentRepresentation.put(constraint.getPartnerClassObjectId(), pr);
+        getSymbolicPartnerClassObjectStates().putRepresentation(pr);
     }
 
     /**
@@ -298,12 +379,8 @@ public class IncrementalSolverState<AR, PR> {
         return new IncrementalSolverState(config, sm);
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private void popPartnerClassConstraintsForLevel() {
-        for (PartnerClassObjectRepresentation<?> pr :
-                (Collection<PartnerClassObjectRepresentation>) symbolicPartnerClassObjectStates.idToMostRecentRepresentation.values()) {
-            pr.popRepresentationsOfLevel(level);
-        }
+        symbolicPartnerClassObjectStates.popRepresentationsOfLevel(level);
         // Check if popped level contains partner class object constraints
         if (partnerClassObjectConstraints.size() > level) {
             allPartnerClassObjectConstraints = null;
@@ -311,14 +388,12 @@ public class IncrementalSolverState<AR, PR> {
         }
     }
 
-    @SuppressWarnings("unchecked")
     private PartnerClassObjectRepresentation<AR> _getArrayRepresentation(Sint arrayId) {
-        return (PartnerClassObjectRepresentation<AR>) symbolicPartnerClassObjectStates.idToMostRecentRepresentation.get(arrayId);
+        return getSymbolicArrayStates().getRepresentationForId(arrayId);
     }
 
-    @SuppressWarnings("unchecked")
     private PartnerClassObjectRepresentation<PR> _getPartnerClassObjectRepresentation(Sint id) {
-        return (PartnerClassObjectRepresentation<PR>) symbolicPartnerClassObjectStates.idToMostRecentRepresentation.get(id);
+        return getSymbolicPartnerClassObjectStates().getRepresentationForId(id);
     }
 
 
@@ -332,9 +407,12 @@ public class IncrementalSolverState<AR, PR> {
         final Sint id;
         // Information for each level, including array constraints and the representation per level
         final ArrayDeque<PartnerClassObjectRepresentationForLevel<R>> representationsForLevels;
-        PartnerClassObjectRepresentation(Sint id) {
+        // The states in which this is registered for each level it has a representation for
+        final SymbolicPartnerClassObjectStates<R> states;
+        PartnerClassObjectRepresentation(Sint id, SymbolicPartnerClassObjectStates<R> states) {
             this.id = id;
             this.representationsForLevels = new ArrayDeque<>();
+            this.states = states;
         }
 
         /**
@@ -375,6 +453,7 @@ public class IncrementalSolverState<AR, PR> {
             PartnerClassObjectRepresentationForLevel<R> ar = representationsForLevels.peek();
             if (ar == null || ar.depth < depth) {
                 representationsForLevels.push(produceRepresentationForLevel(newRepresentation, depth));
+                states.registerRepresentationForLevel(this, depth);
             } else {
                 ar.addRepresentation(newRepresentation);
             }
@@ -404,7 +483,8 @@ public class IncrementalSolverState<AR, PR> {
         final int depth;
         final ArrayDeque<R> representationsOfLevel;
         PartnerClassObjectRepresentationForLevel(R representation, int depth) {
-            this.representationsOfLevel = new ArrayDeque<>();
+            // Most levels only contain a single representation of an object
+            this.representationsOfLevel = new ArrayDeque<>(2);
             this.representationsOfLevel.add(representation);
             this.depth = depth;
         }
@@ -667,6 +667,13 @@ public final class JavaSMTSolverManager extends AbstractIncrementalEnabledSolver
         }
     }
 
+    @Override
+    protected void solverSpecificEvictCaches() {
+        // Leaves are translated to variables identified by their name; - retranslating yields equal formulas
+        adapter.booleanFormulaStore.clear();
+        adapter.numericExpressionStore.clear();
+    }
+
     @Override
     protected void solverSpecificShutdown() {
         adapter.booleanFormulaStore.clear();
@@ -144,6 +144,12 @@ public interface SolverManager {
      */
     void shutdown();
 
+    /**
+     * Evicts all caches that can be recomputed, e.g., the translations of constraints into the representation of the
+     * constraint solver. Is used to reduce the memory footprint.
+     */
+    void evictCaches();
+
     /**
      * Registers a (search region representation, label)-pair
      * @param toLabel The search region representation object
@@ -3,7 +3,6 @@ package de.wwu.mulib.substitutions;
 import de.wwu.mulib.MulibConfig;
 import de.wwu.mulib.constraints.*;
 import de.wwu.mulib.expressions.ConcolicMathematicalContainer;
-import de.wwu.mulib.search.executors.AliasingInformation;
 import de.wwu.mulib.search.executors.SymbolicExecution;
 import de.wwu.mulib.substitutions.primitives.*;
 import de.wwu.mulib.throwables.MulibIllegalStateException;
@@ -304,12 +303,12 @@ public abstract class AbstractValueFactory implements ValueFactory {
             pc.__mulib__setAsRepresentedInSolver();
 
             if (!se.nextIsOnKnownPath()) {
-                Set<Sint> potentialIds = AliasingInformation.getAliasingTargetIdsForClass(c, config.SEARCH_CONCOLIC);
+                Set<Sint> potentialIds = se.getAliasingInformation().getAliasingTargetIdsForClass(c, config.SEARCH_CONCOLIC);
                 Sint id = (Sint) tryGetSymFromSnumber.apply(pc.__mulib__getId());
                 Sbool isNull = tryGetSymFromSbool.apply(pc.__mulib__isNull());
                 PartnerClassObjectConstraint pcoc;
                 if (pc instanceof Sarray) {
-                    Sint length = (Sint) tryGetSymFromSnumber.apply(((Sarray<?>) pc).length());
+                    Sint length = (Sint) tryGetSymFromSnumber.apply(((Sarray<?>) pc)._getLengthWithoutCheckingForIsNull());
                     if (potentialIds.isEmpty()) {
                         pcoc = new ArrayInitializationConstraint(
                                 id,
@@ -354,7 +353,7 @@ public abstract class AbstractValueFactory implements ValueFactory {
                 }
                 se.addNewPartnerClassObjectConstraint(pcoc);
             }
-            AliasingInformation.addAliasingTarget(c, pc);
+            se.getAliasingInformation().addAliasingTarget(c, pc, reservedId);
         }
     }
 
@@ -177,6 +177,7 @@ public class PartnerClassObject implements PartnerClass {
             throw new NullPointerException();
         } else if (__mulib__isNull() != Sbool.ConcSbool.FALSE) {
             SymbolicExecution se = SymbolicExecution.get();
+            se.getAliasingInformation().markAsTouched(this);
             if (__mulib__isNull().boolChoice(se)) {
                 this.isNull = Sbool.ConcSbool.TRUE;
                 throw new NullPointerException();
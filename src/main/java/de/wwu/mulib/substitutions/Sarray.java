@@ -11,7 +11,6 @@ import de.wwu.mulib.throwables.NotYetImplementedException;
 import de.wwu.mulib.transformations.MulibValueTransformer;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -24,7 +23,8 @@ public abstract class Sarray<T extends Substituted> extends PartnerClassObject {
     private final Sint len;
     // The type of element stored in the array, e.g., Sarray, Sint, ...
     private final Class<T> clazz;
-    protected final Map<Sint, T> cachedElements;
+    // Concrete indices are stored densely, the elements are only copied if a copy is modified
+    protected final SarrayElements<T> cachedElements;
 
     /**
      * New instance constructor
@@ -65,7 +65,7 @@ public abstract class Sarray<T extends Substituted> extends PartnerClassObject {
         }
         this.len = len;
         this.isNull = isNull;
-        this.cachedElements = new HashMap<>();
+        this.cachedElements = new SarrayElements<>(len);
         if (initializeImmediately && len instanceof ConcSnumber) {
             _initializeCachedElements(se);
         }
@@ -97,7 +97,7 @@ public abstract class Sarray<T extends Substituted> extends PartnerClassObject {
         int length = arrayElements.length;
         this.len = Sint.concSint(length);
         this.representationState = NOT_YET_REPRESENTED_IN_SOLVER;
-        this.cachedElements = new HashMap<>();
+        this.cachedElements = new SarrayElements<>(len);
         for (int i = 0; i < arrayElements.length; i++) {
             cachedElements.put(Sint.concSint(i), arrayElements[i]);
         }
@@ -109,7 +109,7 @@ public abstract class Sarray<T extends Substituted> extends PartnerClassObject {
      * @param s The sarray to copy
      */
     protected Sarray(MulibValueCopier mvt, Sarray<T> s) {
-        this(mvt, s, new HashMap<>(s.cachedElements));
+        this(mvt, s, s.cachedElements.copy());
     }
 
     /**
@@ -118,7 +118,7 @@ public abstract class Sarray<T extends Substituted> extends PartnerClassObject {
      * @param s To-copy
      * @param cachedElements The already-copied elements of to-copy
      */
-    protected Sarray(MulibValueCopier mvc, Sarray<T> s, Map<Sint, T> cachedElements) {
+    protected Sarray(MulibValueCopier mvc, Sarray<T> s, SarrayElements<T> cachedElements) {
         super(s, mvc);
         this.clazz = s.clazz;
         this.cachedElements = cachedElements;
@@ -213,6 +213,10 @@ public abstract class Sarray<T extends Substituted> extends PartnerClassObject {
      */
     public final Sint length() {
         __mulib__nullCheck();
+        if (len instanceof Sym) {
+            // Constraints on the length distinguish this sarray from other aliasing targets
+            SymbolicExecution.get().getAliasingInformation().markAsTouched(this);
+        }
         return len;
     }
 
@@ -979,11 +983,14 @@ public abstract class Sarray<T extends Substituted> extends PartnerClassObject {
          * @param s To-copy
          */
         public PartnerClassSarray(MulibValueCopier mvc, PartnerClassSarray s) {
-            super(mvc, s, copyArrayElementsOfNonSarraySarrayPartnerClassSarray(mvc, s.cachedElements));
+            super(mvc, s, copyArrayElementsOfNonSarraySarrayPartnerClassSarray(mvc, s._getLengthWithoutCheckingForIsNull(), s.cachedElements));
         }
 
-        private static Map<Sint, PartnerClass> copyArrayElementsOfNonSarraySarrayPartnerClassSarray(MulibValueCopier mvt, Map<Sint, PartnerClass> elementCache) {
-            Map<Sint, PartnerClass> elements = new HashMap<>();
+        private static SarrayElements<PartnerClass> copyArrayElementsOfNonSarraySarrayPartnerClassSarray(MulibValueCopier mvt, Sint len, SarrayElements<PartnerClass> elementCache) {
+            if (mvt.copiesArrayElementsLazily()) {
+                return elementCache.lazyCopy(mvt);
+            }
+            SarrayElements<PartnerClass> elements = new SarrayElements<>(len);
             for (Sint i : elementCache.keySet()) {
                 PartnerClass pc = elementCache.get(i);
                 elements.put(i, pc == null ? null : (PartnerClass) pc.copy(mvt));
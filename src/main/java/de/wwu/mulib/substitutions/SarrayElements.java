@@ -0,0 +1,272 @@
+package de.wwu.mulib.substitutions;
+
+import de.wwu.mulib.search.executors.MulibValueCopier;
+import de.wwu.mulib.substitutions.primitives.ConcSnumber;
+import de.wwu.mulib.substitutions.primitives.Sint;
+
+import java.util.*;
+
+/**
+ * The cache of elements of a {@link Sarray}.
+ * Elements stored for concrete indices within [0, length) of an array with a concrete length are stored in a dense
+ * array that is indexed by the int value of the index. The dense array is allocated upon the first write and grows
+ * up to the length of the array so that large arrays of which only few elements are accessed do not allocate their
+ * full length. All other elements, i.e., those stored for symbolic indices, are stored in a sparse map. Both storages
+ * are shared between copies and are only copied once they are modified (copy-on-write). This avoids hashing and boxing for the common case of concrete arrays and avoids copying the
+ * elements of arrays that are copied, e.g., for the arguments of each search, but are not modified afterwards.
+ * For copies of immutable inputs, the elements stored densely can furthermore be copied lazily upon their first access,
+ * see {@link SarrayElements#lazyCopy(MulibValueCopier)}.
+ * @param <T> The component type
+ */
+@SuppressWarnings("unchecked")
+final class SarrayElements<T> extends AbstractMap<Sint, T> {
+    // Marks absent elements in the dense storage, as null is a valid element of arrays of objects
+    private static final Object ABSENT = new Object();
+    private static final Object[] NO_DENSE_ELEMENTS = new Object[0];
+    private static final int MIN_DENSE_CAPACITY = 8;
+
+    // The exclusive upper bound of the concrete indices stored in the dense storage, i.e., the concrete length
+    private final int denseLength;
+    // Indices within [dense.length, denseLength) are absent
+    private Object[] dense;
+    private int denseSize;
+    private boolean denseIsShared;
+    private Map<Sint, T> sparse;
+    private boolean sparseIsShared;
+    // If not null, the elements in the dense storage which are not yet marked in isCopied are the elements of the
+    // copied array and are copied with this copier upon their first access
+    private MulibValueCopier lazyCopier;
+    private boolean[] isCopied;
+
+    /**
+     * Constructs an empty cache of elements
+     * @param len The length of the sarray. If it is concrete, a dense storage of at most this length is used for
+     *            concrete indices
+     */
+    SarrayElements(Sint len) {
+        this.denseLength = len instanceof ConcSnumber ? Math.max(0, ((ConcSnumber) len).intVal()) : 0;
+        this.dense = NO_DENSE_ELEMENTS;
+        this.sparse = Collections.emptyMap();
+        this.sparseIsShared = true;
+    }
+
+    private SarrayElements(SarrayElements<T> toCopy) {
+        this.denseLength = toCopy.denseLength;
+        this.dense = toCopy.dense;
+        this.denseSize = toCopy.denseSize;
+        this.denseIsShared = true;
+        this.sparse = toCopy.sparse;
+        this.sparseIsShared = true;
+    }
+
+    /**
+     * Returns a copy of this cache which shares the storages with this cache until one of them is modified
+     * @return The copy
+     */
+    SarrayElements<T> copy() {
+        copyAllLazily();
+        // Both this and the copy must copy the storages before modifying them
+        denseIsShared = true;
+        sparseIsShared = true;
+        return new SarrayElements<>(this);
+    }
+
+    /**
+     * Returns a copy of this cache which shares the dense storage with this cache. The elements in the dense storage
+     * are copied using the given copier upon their first access. This must only be used if this cache is not
+     * modified anymore, i.e., if it belongs to an input of the search region.
+     * @param mvc The copier
+     * @return The copy
+     */
+    SarrayElements<T> lazyCopy(MulibValueCopier mvc) {
+        SarrayElements<T> result = copy();
+        if (result.denseSize > 0) {
+            result.lazyCopier = mvc;
+            result.isCopied = new boolean[result.dense.length];
+        }
+        if (!result.sparse.isEmpty()) {
+            Map<Sint, T> copiedSparse = new HashMap<>();
+            for (Entry<Sint, T> entry : result.sparse.entrySet()) {
+                copiedSparse.put(entry.getKey(), (T) mvc.copyNonSprimitive(entry.getValue()));
+            }
+            result.sparse = copiedSparse;
+            result.sparseIsShared = false;
+        }
+        return result;
+    }
+
+    private void copyLazily(int index) {
+        // Indices beyond the dense storage at the time of the lazy copy did not contain elements of the copied array
+        if (lazyCopier == null || index >= isCopied.length || isCopied[index]) {
+            return;
+        }
+        isCopied[index] = true;
+        Object original = dense[index];
+        if (original != ABSENT) {
+            denseForWrite(index)[index] = lazyCopier.copyNonSprimitive(original);
+        }
+    }
+
+    private void copyAllLazily() {
+        if (lazyCopier == null) {
+            return;
+        }
+        for (int i = 0; i < isCopied.length; i++) {
+            copyLazily(i);
+        }
+        lazyCopier = null;
+        isCopied = null;
+    }
+
+    private int denseIndex(Object key) {
+        // ConcSnumber.equals(...) also regards the class; - only exact ConcSints can be stored densely
+        if (key == null || key.getClass() != Sint.ConcSint.class) {
+            return -1;
+        }
+        int index = ((Sint.ConcSint) key).intVal();
+        return index >= 0 && index < denseLength ? index : -1;
+    }
+
+    private Object denseAt(int index) {
+        return index < dense.length ? dense[index] : ABSENT;
+    }
+
+    private Object[] denseForWrite(int index) {
+        if (index >= dense.length) {
+            int newCapacity = Math.min(denseLength, Math.max(index + 1, Math.max(MIN_DENSE_CAPACITY, dense.length * 2)));
+            Object[] grown = Arrays.copyOf(dense, newCapacity);
+            Arrays.fill(grown, dense.length, newCapacity, ABSENT);
+            dense = grown;
+            denseIsShared = false;
+        } else if (denseIsShared) {
+            dense = dense.clone();
+            denseIsShared = false;
+        }
+        return dense;
+    }
+
+    private Map<Sint, T> sparseForWrite() {
+        if (sparseIsShared) {
+            sparse = new HashMap<>(sparse);
+            sparseIsShared = false;
+        }
+        return sparse;
+    }
+
+    @Override
+    public int size() {
+        return denseSize + sparse.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int index = denseIndex(key);
+        if (index >= 0) {
+            return denseAt(index) != ABSENT;
+        }
+        return sparse.containsKey(key);
+    }
+
+    @Override
+    public T get(Object key) {
+        int index = denseIndex(key);
+        if (index >= 0) {
+            copyLazily(index);
+            Object result = denseAt(index);
+            return result == ABSENT ? null : (T) result;
+        }
+        return sparse.get(key);
+    }
+
+    @Override
+    public T put(Sint key, T value) {
+        int index = denseIndex(key);
+        if (index >= 0) {
+            // The previous element is returned and, thus, must be the copy
+            copyLazily(index);
+            Object previous = denseAt(index);
+            denseForWrite(index)[index] = value;
+            if (previous == ABSENT) {
+                denseSize++;
+                return null;
+            }
+            return (T) previous;
+        }
+        return sparseForWrite().put(key, value);
+    }
+
+    @Override
+    public T remove(Object key) {
+        int index = denseIndex(key);
+        if (index >= 0) {
+            copyLazily(index);
+            Object previous = denseAt(index);
+            if (previous == ABSENT) {
+                return null;
+            }
+            denseForWrite(index)[index] = ABSENT;
+            denseSize--;
+            return (T) previous;
+        }
+        if (!sparse.containsKey(key)) {
+            return null;
+        }
+        return sparseForWrite().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        lazyCopier = null;
+        isCopied = null;
+        dense = NO_DENSE_ELEMENTS;
+        denseIsShared = false;
+        denseSize = 0;
+        sparse = Collections.emptyMap();
+        sparseIsShared = true;
+    }
+
+    @Override
+    public Set<Entry<Sint, T>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Sint, T>> iterator() {
+                copyAllLazily();
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return SarrayElements.this.size();
+            }
+        };
+    }
+
+    private final class EntryIterator implements Iterator<Entry<Sint, T>> {
+        private final Object[] iteratedDense = dense;
+        private final Iterator<Entry<Sint, T>> sparseIterator = sparse.entrySet().iterator();
+        private int nextDenseIndex = nextDenseIndexFrom(0);
+
+        private int nextDenseIndexFrom(int i) {
+            while (i < iteratedDense.length && iteratedDense[i] == ABSENT) {
+                i++;
+            }
+            return i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextDenseIndex < iteratedDense.length || sparseIterator.hasNext();
+        }
+
+        @Override
+        public Entry<Sint, T> next() {
+            if (nextDenseIndex < iteratedDense.length) {
+                int index = nextDenseIndex;
+                nextDenseIndex = nextDenseIndexFrom(index + 1);
+                return new SimpleImmutableEntry<>(Sint.concSint(index), (T) iteratedDense[index]);
+            }
+            Entry<Sint, T> entry = sparseIterator.next();
+            return new SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package de.wwu.mulib.substitutions.primitives;
+
+import de.wwu.mulib.Mulib;
+import de.wwu.mulib.MulibConfig;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the representations of concrete ints, longs, chars, and integral doubles within a range.
+ * The range is shared by all {@link de.wwu.mulib.MulibContext}s of the JVM and is widened to include the ranges of
+ * all configurations, see {@link MulibConfig#VALS_CONC_CACHE_LB} and {@link MulibConfig#VALS_CONC_CACHE_UB}. If the
+ * combined range would contain more than {@link #MAX_NUMBER_CACHED_VALUES} values, only the range of the most recent
+ * configuration is cached.
+ * If {@link MulibConfig#LOG_CONC_ALLOCATIONS} is set, the representations that are allocated since they are not
+ * cached are counted. The counters are shared by all contexts and are reset whenever a context counting the allocations
+ * is created.
+ */
+public final class ConcSnumberCache {
+    private ConcSnumberCache() {}
+
+    /**
+     * The maximum number of values that are cached per type
+     */
+    public static final int MAX_NUMBER_CACHED_VALUES = 1 << 24;
+    static volatile Cache cache = new Cache(null, -128, 127);
+    static volatile boolean countAllocations = false;
+    static final LongAdder sintAllocations = new LongAdder();
+    static final LongAdder slongAllocations = new LongAdder();
+    static final LongAdder sdoubleAllocations = new LongAdder();
+    static final LongAdder scharAllocations = new LongAdder();
+
+    static final class Cache {
+        final int low;
+        final int high;
+        final Sint.ConcSint[] sints;
+        final Slong.ConcSlong[] slongs;
+        final Sdouble.ConcSdouble[] sdoubles;
+        // Chars are cached from 0 to high
+        final Schar.ConcSchar[] schars;
+
+        private Cache(Cache previous, int low, int high) {
+            this.low = low;
+            this.high = high;
+            int size = high - low + 1;
+            this.sints = new Sint.ConcSint[size];
+            this.slongs = new Slong.ConcSlong[size];
+            this.sdoubles = new Sdouble.ConcSdouble[size];
+            this.schars = new Schar.ConcSchar[Math.max(0, Math.min(high, Character.MAX_VALUE) + 1)];
+            for (int i = low; i <= high; i++) {
+                int index = i - low;
+                if (previous != null && i >= previous.low && i <= previous.high) {
+                    // Reuse the already cached values so that they stay unique
+                    int previousIndex = i - previous.low;
+                    sints[index] = previous.sints[previousIndex];
+                    slongs[index] = previous.slongs[previousIndex];
+                    sdoubles[index] = previous.sdoubles[previousIndex];
+                    if (i >= 0 && i < previous.schars.length) {
+                        schars[i] = previous.schars[i];
+                    }
+                    continue;
+                }
+                sints[index] = i == 0 ? Sint.ConcSint.ZERO : i == 1 ? Sint.ConcSint.ONE : i == -1 ? Sint.ConcSint.MINUS_ONE : new Sint.ConcSint(i);
+                slongs[index] = i == 0 ? Slong.ConcSlong.ZERO : i == 1 ? Slong.ConcSlong.ONE : i == -1 ? Slong.ConcSlong.MINUS_ONE : new Slong.ConcSlong(i);
+                sdoubles[index] = i == 0 ? Sdouble.ConcSdouble.ZERO : i == 1 ? Sdouble.ConcSdouble.ONE : i == -1 ? Sdouble.ConcSdouble.MINUS_ONE : new Sdouble.ConcSdouble(i);
+                if (i >= 0 && i < schars.length) {
+                    schars[i] = i == 0 ? Schar.ConcSchar.ZERO : new Schar.ConcSchar((char) i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Widens the range of cached values according to the configuration and starts or stops counting the allocations
+     * of values that are not cached, as configured
+     * @param config The configuration
+     */
+    public static synchronized void configure(MulibConfig config) {
+        Cache current = cache;
+        if (config.VALS_CONC_CACHE_LB < current.low || config.VALS_CONC_CACHE_UB > current.high) {
+            int low = Math.min(config.VALS_CONC_CACHE_LB, current.low);
+            int high = Math.max(config.VALS_CONC_CACHE_UB, current.high);
+            if ((long) high - low + 1 > MAX_NUMBER_CACHED_VALUES) {
+                Mulib.log.fine("The combined range of cached values would exceed " + MAX_NUMBER_CACHED_VALUES
+                        + " values; - only the range of the current configuration is cached");
+                low = config.VALS_CONC_CACHE_LB;
+                high = config.VALS_CONC_CACHE_UB;
+            }
+            cache = new Cache(current, low, high);
+        }
+        if (config.LOG_CONC_ALLOCATIONS) {
+            sintAllocations.reset();
+            slongAllocations.reset();
+            sdoubleAllocations.reset();
+            scharAllocations.reset();
+        }
+        countAllocations = config.LOG_CONC_ALLOCATIONS;
+    }
+
+    /**
+     * @return The current range of cached values and, if counted, the number of allocated values that were not cached
+     */
+    public static LinkedHashMap<String, String> getStatistics() {
+        Cache current = cache;
+        LinkedHashMap<String, String> result = new LinkedHashMap<>();
+        result.put("concCacheLb", String.valueOf(current.low));
+        result.put("concCacheUb", String.valueOf(current.high));
+        if (countAllocations) {
+            result.put("concSintAllocations", String.valueOf(sintAllocations.sum()));
+            result.put("concSlongAllocations", String.valueOf(slongAllocations.sum()));
+            result.put("concSdoubleAllocations", String.valueOf(sdoubleAllocations.sum()));
+            result.put("concScharAllocations", String.valueOf(scharAllocations.sum()));
+        }
+        return result;
+    }
+}
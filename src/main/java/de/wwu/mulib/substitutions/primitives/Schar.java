@@ -12,11 +12,18 @@ public abstract class Schar extends Sint {
     private Schar() {}
 
     /**
-     * Might cache some values
+     * Might cache some values, see {@link ConcSnumberCache}
      * @param c A char to wrap
      * @return The representation of a concrete char
      */
     public static Schar.ConcSchar concSchar(char c) {
+        ConcSnumberCache.Cache cache = ConcSnumberCache.cache;
+        if (c < cache.schars.length) {
+            return cache.schars[c];
+        }
+        if (ConcSnumberCache.countAllocations) {
+            ConcSnumberCache.scharAllocations.increment();
+        }
         return new Schar.ConcSchar(c);
     }
 
@@ -55,7 +62,7 @@ public abstract class Schar extends Sint {
 
         private final char value;
 
-        private ConcSchar(char value) {
+        ConcSchar(char value) {
             this.value = value;
         }
 
@@ -14,11 +14,20 @@ public abstract class Sdouble extends Sfpnumber {
     private Sdouble() {}
 
     /**
-     * Might cache some values
+     * Might cache some values, see {@link ConcSnumberCache}
      * @param d A double to wrap
      * @return The representation of a concrete double
      */
     public static Sdouble.ConcSdouble concSdouble(double d) {
+        ConcSnumberCache.Cache cache = ConcSnumberCache.cache;
+        int i = (int) d;
+        // Only integral values are cached; -0.0 is not
+        if (i == d && i >= cache.low && i <= cache.high && (i != 0 || Double.doubleToRawLongBits(d) == 0L)) {
+            return cache.sdoubles[i - cache.low];
+        }
+        if (ConcSnumberCache.countAllocations) {
+            ConcSnumberCache.sdoubleAllocations.increment();
+        }
         return new ConcSdouble(d);
     }
 
@@ -57,7 +66,10 @@ public abstract class Sdouble extends Sfpnumber {
      * @return 'this' + other
      */
     public final Sdouble add(Sdouble rhs, SymbolicExecution se) {
-        return se.add(this, rhs);
+        if (this instanceof ConcSdouble && rhs instanceof ConcSdouble) {
+            return Sdouble.concSdouble(((ConcSdouble) this).doubleVal() + ((ConcSdouble) rhs).doubleVal());
+        }
+        return se.getCalculationFactory().add(se, this, rhs);
     }
 
     /**
@@ -66,7 +78,10 @@ public abstract class Sdouble extends Sfpnumber {
      * @return 'this' - other
      */
     public final Sdouble sub(Sdouble rhs, SymbolicExecution se) {
-        return se.sub(this, rhs);
+        if (this instanceof ConcSdouble && rhs instanceof ConcSdouble) {
+            return Sdouble.concSdouble(((ConcSdouble) this).doubleVal() - ((ConcSdouble) rhs).doubleVal());
+        }
+        return se.getCalculationFactory().sub(se, this, rhs);
     }
 
     /**
@@ -75,7 +90,10 @@ public abstract class Sdouble extends Sfpnumber {
      * @return 'this' / other
      */
     public final Sdouble div(Sdouble rhs, SymbolicExecution se) {
-        return se.div(this, rhs);
+        if (this instanceof ConcSdouble && rhs instanceof ConcSdouble) {
+            return Sdouble.concSdouble(((ConcSdouble) this).doubleVal() / ((ConcSdouble) rhs).doubleVal());
+        }
+        return se.getCalculationFactory().div(se, this, rhs);
     }
 
     /**
@@ -84,7 +102,10 @@ public abstract class Sdouble extends Sfpnumber {
      * @return 'this' * other
      */
     public final Sdouble mul(Sdouble rhs, SymbolicExecution se) {
-        return se.mul(this, rhs);
+        if (this instanceof ConcSdouble && rhs instanceof ConcSdouble) {
+            return Sdouble.concSdouble(((ConcSdouble) this).doubleVal() * ((ConcSdouble) rhs).doubleVal());
+        }
+        return se.getCalculationFactory().mul(se, this, rhs);
     }
 
     /**
@@ -93,7 +114,10 @@ public abstract class Sdouble extends Sfpnumber {
      * @return 'this' % other
      */
     public final Sdouble mod(Sdouble rhs, SymbolicExecution se) {
-        return se.mod(this, rhs);
+        if (this instanceof ConcSdouble && rhs instanceof ConcSdouble) {
+            return Sdouble.concSdouble(((ConcSdouble) this).doubleVal() % ((ConcSdouble) rhs).doubleVal());
+        }
+        return se.getCalculationFactory().mod(se, this, rhs);
     }
 
     /**
@@ -101,7 +125,10 @@ public abstract class Sdouble extends Sfpnumber {
      * @return -'this'
      */
     public final Sdouble neg(SymbolicExecution se) {
-        return se.neg(this);
+        if (this instanceof ConcSdouble) {
+            return Sdouble.concSdouble(- ((ConcSdouble) this).doubleVal());
+        }
+        return se.getCalculationFactory().neg(se, this);
     }
 
     /**
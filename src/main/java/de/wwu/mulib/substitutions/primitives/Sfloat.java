@@ -57,7 +57,10 @@ public abstract class Sfloat extends Sfpnumber {
      * @return 'this' + other
      */
     public final Sfloat add(Sfloat rhs, SymbolicExecution se) {
-        return se.add(this, rhs);
+        if (this instanceof ConcSfloat && rhs instanceof ConcSfloat) {
+            return Sfloat.concSfloat(((ConcSfloat) this).floatVal() + ((ConcSfloat) rhs).floatVal());
+        }
+        return se.getCalculationFactory().add(se, this, rhs);
     }
 
     /**
@@ -66,7 +69,10 @@ public abstract class Sfloat extends Sfpnumber {
      * @return 'this' - other
      */
     public final Sfloat sub(Sfloat rhs, SymbolicExecution se) {
-        return se.sub(this, rhs);
+        if (this instanceof ConcSfloat && rhs instanceof ConcSfloat) {
+            return Sfloat.concSfloat(((ConcSfloat) this).floatVal() - ((ConcSfloat) rhs).floatVal());
+        }
+        return se.getCalculationFactory().sub(se, this, rhs);
     }
 
     /**
@@ -75,7 +81,10 @@ public abstract class Sfloat extends Sfpnumber {
      * @return 'this' / other
      */
     public final Sfloat div(Sfloat rhs, SymbolicExecution se) {
-        return se.div(this, rhs);
+        if (this instanceof ConcSfloat && rhs instanceof ConcSfloat) {
+            return Sfloat.concSfloat(((ConcSfloat) this).floatVal() / ((ConcSfloat) rhs).floatVal());
+        }
+        return se.getCalculationFactory().div(se, this, rhs);
     }
 
     /**
@@ -84,7 +93,10 @@ public abstract class Sfloat extends Sfpnumber {
      * @return 'this' * other
      */
     public final Sfloat mul(Sfloat rhs, SymbolicExecution se) {
-        return se.mul(this, rhs);
+        if (this instanceof ConcSfloat && rhs instanceof ConcSfloat) {
+            return Sfloat.concSfloat(((ConcSfloat) this).floatVal() * ((ConcSfloat) rhs).floatVal());
+        }
+        return se.getCalculationFactory().mul(se, this, rhs);
     }
 
     /**
@@ -93,7 +105,10 @@ public abstract class Sfloat extends Sfpnumber {
      * @return 'this' % other
      */
     public final Sfloat mod(Sfloat rhs, SymbolicExecution se) {
-        return se.mod(this, rhs);
+        if (this instanceof ConcSfloat && rhs instanceof ConcSfloat) {
+            return Sfloat.concSfloat(((ConcSfloat) this).floatVal() % ((ConcSfloat) rhs).floatVal());
+        }
+        return se.getCalculationFactory().mod(se, this, rhs);
     }
 
     /**
@@ -101,7 +116,10 @@ public abstract class Sfloat extends Sfpnumber {
      * @return -'this'
      */
     public final Sfloat neg(SymbolicExecution se) {
-        return se.neg(this);
+        if (this instanceof ConcSfloat) {
+            return Sfloat.concSfloat(- ((ConcSfloat) this).floatVal());
+        }
+        return se.getCalculationFactory().neg(se, this);
     }
 
     /**
@@ -6,9 +6,6 @@ import de.wwu.mulib.substitutions.ValueFactory;
 
 import java.util.concurrent.atomic.AtomicLong;
 
-import static de.wwu.mulib.substitutions.primitives.Sint.ConcSint.lowCache;
-import static de.wwu.mulib.substitutions.primitives.Sint.ConcSint.smallConcSints;
-
 /**
  * Represents int values
  */
@@ -16,16 +13,19 @@ public abstract class Sint extends AbstractSnumber {
     Sint() {}
 
     /**
-     * Might cache some values
+     * Might cache some values, see {@link ConcSnumberCache}
      * @param i An int to wrap
      * @return The representation of a concrete int
      */
     public static Sint.ConcSint concSint(int i) {
-        if (i >= ConcSint.lowCache && i <= ConcSint.highCache) {
-            return smallConcSints[i + (-lowCache)];
+        ConcSnumberCache.Cache cache = ConcSnumberCache.cache;
+        if (i >= cache.low && i <= cache.high) {
+            return cache.sints[i - cache.low];
+        }
+        if (ConcSnumberCache.countAllocations) {
+            ConcSnumberCache.sintAllocations.increment();
         }
-        ConcSint result = new ConcSint(i);
-        return result;
+        return new ConcSint(i);
     }
 
     /**
@@ -63,7 +63,15 @@ public abstract class Sint extends AbstractSnumber {
      * @return 'this' + other
      */
     public final Sint add(Sint rhs, SymbolicExecution se) {
-        return se.add(this, rhs);
+        // Both operands are concrete in most of the executed arithmetic. Since this method is final and small, the guard
+        // is inlined into the partner classes' code so that the calculation factory is only called for symbolic operands.
+        // This is the only place where concrete results are computed; - the arithmetic methods of SymbolicExecution
+        // delegate here and the calculation factories always construct expressions.
+        // The arithmetic methods of Slong, Sdouble, Sfloat, and of the other operations follow the same pattern.
+        if (this instanceof ConcSnumber && rhs instanceof ConcSnumber) {
+            return Sint.concSint(((ConcSnumber) this).intVal() + ((ConcSnumber) rhs).intVal());
+        }
+        return se.getCalculationFactory().add(se, this, rhs);
     }
 
     /**
@@ -72,7 +80,10 @@ public abstract class Sint extends AbstractSnumber {
      * @return 'this' - other
      */
     public final Sint sub(Sint rhs, SymbolicExecution se) {
-        return se.sub(this, rhs);
+        if (this instanceof ConcSnumber && rhs instanceof ConcSnumber) {
+            return Sint.concSint(((ConcSnumber) this).intVal() - ((ConcSnumber) rhs).intVal());
+        }
+        return se.getCalculationFactory().sub(se, this, rhs);
     }
 
     /**
@@ -81,7 +92,10 @@ public abstract class Sint extends AbstractSnumber {
      * @return 'this' / other
      */
     public final Sint div(Sint rhs, SymbolicExecution se) {
-        return se.div(this, rhs);
+        if (this instanceof ConcSnumber && rhs instanceof ConcSnumber) {
+            return Sint.concSint(((ConcSnumber) this).intVal() / ((ConcSnumber) rhs).intVal());
+        }
+        return se.getCalculationFactory().div(se, this, rhs);
     }
 
     /**
@@ -90,7 +104,10 @@ public abstract class Sint extends AbstractSnumber {
      * @return 'this' * other
      */
     public final Sint mul(Sint rhs, SymbolicExecution se) {
-        return se.mul(this, rhs);
+        if (this instanceof ConcSnumber && rhs instanceof ConcSnumber) {
+            return Sint.concSint(((ConcSnumber) this).intVal() * ((ConcSnumber) rhs).intVal());
+        }
+        return se.getCalculationFactory().mul(se, this, rhs);
     }
 
     /**
@@ -99,7 +116,10 @@ public abstract class Sint extends AbstractSnumber {
      * @return 'this' % other
      */
     public final Sint mod(Sint rhs, SymbolicExecution se) {
-        return se.mod(this, rhs);
+        if (this instanceof ConcSnumber && rhs instanceof ConcSnumber) {
+            return Sint.concSint(((ConcSnumber) this).intVal() % ((ConcSnumber) rhs).intVal());
+        }
+        return se.getCalculationFactory().mod(se, this, rhs);
     }
 
     /**
@@ -107,7 +127,10 @@ public abstract class Sint extends AbstractSnumber {
      * @return -'this'
      */
     public final Sint neg(SymbolicExecution se) {
-        return se.neg(this);
+        if (this instanceof ConcSnumber) {
+            return Sint.concSint(- ((ConcSnumber) this).intVal());
+        }
+        return se.getCalculationFactory().neg(se, this);
     }
 
     /**
@@ -479,39 +502,18 @@ public abstract class Sint extends AbstractSnumber {
      * Class representing a concrete Sint
      */
     public static final class ConcSint extends Sint implements ConcSnumber {
-        static final int lowCache = -128;
-        static final int highCache = 127;
-        static final ConcSint[] smallConcSints = new ConcSint[-lowCache + highCache + 1];
-        static {
-            ConcSint minus_one = new ConcSint(-1);
-            ConcSint zero = new ConcSint(0);
-            ConcSint one = new ConcSint(1);
-            MINUS_ONE = minus_one;
-            ZERO = zero;
-            ONE = one;
-            smallConcSints[-lowCache - 1] = minus_one;
-            smallConcSints[-lowCache] = zero;
-            smallConcSints[-lowCache + 1] = one;
-            for (int i = 0; i < smallConcSints.length; i++) {
-                if (smallConcSints[i] != null) {
-                    continue;
-                }
-                smallConcSints[i] = new ConcSint(i + lowCache);
-            }
-        }
-
         /**
          * -1
          */
-        public static final ConcSint MINUS_ONE;
+        public static final ConcSint MINUS_ONE = new ConcSint(-1);
         /**
          * 0
          */
-        public static final ConcSint ZERO;
+        public static final ConcSint ZERO = new ConcSint(0);
         /**
          * 1
          */
-        public static final ConcSint ONE;
+        public static final ConcSint ONE = new ConcSint(1);
         private final int value;
 
         ConcSint(int value) {
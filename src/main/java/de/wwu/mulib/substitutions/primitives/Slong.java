@@ -14,11 +14,18 @@ public abstract class Slong extends AbstractSnumber {
     private Slong() {}
 
     /**
-     * Might cache some values
+     * Might cache some values, see {@link ConcSnumberCache}
      * @param l A long to wrap
      * @return The representation of a concrete long
      */
     public static Slong.ConcSlong concSlong(long l) {
+        ConcSnumberCache.Cache cache = ConcSnumberCache.cache;
+        if (l >= cache.low && l <= cache.high) {
+            return cache.slongs[(int) l - cache.low];
+        }
+        if (ConcSnumberCache.countAllocations) {
+            ConcSnumberCache.slongAllocations.increment();
+        }
         return new ConcSlong(l);
     }
 
@@ -60,7 +67,10 @@ public abstract class Slong extends AbstractSnumber {
      * @return 'this' + other
      */
     public final Slong add(Slong rhs, SymbolicExecution se) {
-        return se.add(this, rhs);
+        if (this instanceof ConcSlong && rhs instanceof ConcSlong) {
+            return Slong.concSlong(((ConcSlong) this).longVal() + ((ConcSlong) rhs).longVal());
+        }
+        return se.getCalculationFactory().add(se, this, rhs);
     }
 
     /**
@@ -69,7 +79,10 @@ public abstract class Slong extends AbstractSnumber {
      * @return 'this' - other
      */
     public final Slong sub(Slong rhs, SymbolicExecution se) {
-        return se.sub(this, rhs);
+        if (this instanceof ConcSlong && rhs instanceof ConcSlong) {
+            return Slong.concSlong(((ConcSlong) this).longVal() - ((ConcSlong) rhs).longVal());
+        }
+        return se.getCalculationFactory().sub(se, this, rhs);
     }
 
     /**
@@ -78,7 +91,10 @@ public abstract class Slong extends AbstractSnumber {
      * @return 'this' / other
      */
     public final Slong div(Slong rhs, SymbolicExecution se) {
-        return se.div(this, rhs);
+        if (this instanceof ConcSlong && rhs instanceof ConcSlong) {
+            return Slong.concSlong(((ConcSlong) this).longVal() / ((ConcSlong) rhs).longVal());
+        }
+        return se.getCalculationFactory().div(se, this, rhs);
     }
 
     /**
@@ -87,7 +103,10 @@ public abstract class Slong extends AbstractSnumber {
      * @return 'this' * other
      */
     public final Slong mul(Slong rhs, SymbolicExecution se) {
-        return se.mul(this, rhs);
+        if (this instanceof ConcSlong && rhs instanceof ConcSlong) {
+            return Slong.concSlong(((ConcSlong) this).longVal() * ((ConcSlong) rhs).longVal());
+        }
+        return se.getCalculationFactory().mul(se, this, rhs);
     }
 
     /**
@@ -96,7 +115,10 @@ public abstract class Slong extends AbstractSnumber {
      * @return 'this' % other
      */
     public final Slong mod(Slong rhs, SymbolicExecution se) {
-        return se.mod(this, rhs);
+        if (this instanceof ConcSlong && rhs instanceof ConcSlong) {
+            return Slong.concSlong(((ConcSlong) this).longVal() % ((ConcSlong) rhs).longVal());
+        }
+        return se.getCalculationFactory().mod(se, this, rhs);
     }
 
     /**
@@ -104,7 +126,10 @@ public abstract class Slong extends AbstractSnumber {
      * @return -'this'
      */
     public final Slong neg(SymbolicExecution se) {
-        return se.neg(this);
+        if (this instanceof ConcSlong) {
+            return Slong.concSlong(- ((ConcSlong) this).longVal());
+        }
+        return se.getCalculationFactory().neg(se, this);
     }
 
     /**
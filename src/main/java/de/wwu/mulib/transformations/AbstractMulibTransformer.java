@@ -1,16 +1,22 @@
 package de.wwu.mulib.transformations;
 
+import de.wwu.mulib.Mulib;
 import de.wwu.mulib.MulibConfig;
 import de.wwu.mulib.model.ModelMethods;
 import de.wwu.mulib.search.executors.SymbolicExecution;
 import de.wwu.mulib.substitutions.*;
 import de.wwu.mulib.substitutions.primitives.*;
+import de.wwu.mulib.throwables.MulibIllegalStateException;
 import de.wwu.mulib.throwables.MulibRuntimeException;
 import de.wwu.mulib.throwables.NotYetImplementedException;
 import de.wwu.mulib.util.Utility;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 import static de.wwu.mulib.transformations.StringConstants._TRANSFORMATION_INDICATOR;
 import static de.wwu.mulib.transformations.TransformationUtility.*;
@@ -38,9 +44,10 @@ public abstract class AbstractMulibTransformer<T> implements MulibTransformer {
     private final Set<Class<?>> explicitlyAddedClasses = new HashSet<>();
 
     /**
-     * original class -> class transformed for symbolic execution
+     * original class -> class transformed for symbolic execution.
+     * Is concurrently read while a shared transformer transforms further classes, see {@link MulibConfig#TRANSF_SHARE_TRANSFORMER}
      */
-    protected final Map<String, Class<?>> transformedClasses = new HashMap<>();
+    protected final Map<String, Class<?>> transformedClasses = new ConcurrentHashMap<>();
     /**
      * The configuration
      */
@@ -53,7 +60,7 @@ public abstract class AbstractMulibTransformer<T> implements MulibTransformer {
      * A valid instance should be set as soon as possible to avoid any issues due to cycles. {@link #transformEnrichAndValidate(String)}
      * will put an entry after executing {@link #transformClassNode(Object)}.
      */
-    protected final Map<String, T> transformedClassNodes = new HashMap<>();
+    protected final Map<String, T> transformedClassNodes = new ConcurrentHashMap<>();
     /**
      * The class loader used for loading partner classes.
      * If {@link MulibConfig#TRANSF_LOAD_WITH_SYSTEM_CLASSLOADER} is not true, a new class loader is used by Mulib that
@@ -61,6 +68,16 @@ public abstract class AbstractMulibTransformer<T> implements MulibTransformer {
      * @see MulibClassLoader
      */
     protected final ClassLoader classLoader;
+    // partner class name -> class file of the classes defined by the MulibClassLoader; only filled if
+    // retainClassFiles is set
+    private final Map<String, byte[]> retainedClassFiles = new HashMap<>();
+    private volatile boolean retainClassFiles = false;
+    // original class name -> class file generated in transformAndLoadClasses that has not yet been defined
+    private final Map<String, byte[]> generatedClassFiles = new ConcurrentHashMap<>();
+    // Only set while transforming classes with TRANSF_PARALLELISM > 1
+    private ForkJoinPool transformationPool;
+    // phase of the transformation -> accumulated duration
+    private final Map<String, Long> phaseDurationsInNanos = Collections.synchronizedMap(new LinkedHashMap<>());
 
     /**
      * Constructs an instance of MulibTranformer according to the configuration.
@@ -85,75 +102,241 @@ public abstract class AbstractMulibTransformer<T> implements MulibTransformer {
 
     @Override
     public void transformAndLoadClasses(Class<?>... toTransform) {
-        synchronized (syncObject) {
-            List<Class<?>> definitelyTransform = Arrays.asList(toTransform);
-            explicitlyAddedClasses.addAll(definitelyTransform);
-            classesToTransform.addAll(definitelyTransform);
-
-            while (!classesToTransform.isEmpty()) {
-                transformClass(classesToTransform.poll());
+        synchronized (classLoadingLock()) {
+            synchronized (syncObject) {
+                if (config.TRANSF_PARALLELISM > 1) {
+                    transformationPool = new ForkJoinPool(config.TRANSF_PARALLELISM);
+                }
+                try {
+                    _transformAndLoadClasses(toTransform);
+                } finally {
+                    if (transformationPool != null) {
+                        transformationPool.shutdown();
+                        transformationPool = null;
+                    }
+                }
+                Mulib.log.fine("Durations of the transformation phases: " + getTransformationStatistics());
             }
+        }
+    }
 
-            // Replace GETFIELD and PUTFIELD
-            // This must happen now, since only now we have assured that the respective methods have been generated for
-            // each class
-            for (Map.Entry<String, T> entry : transformedClassNodes.entrySet()) {
-                T classNode = getClassNodeForName(entry.getKey());
-                // Replace accesses to fields with methods conducting more checks
-                replaceGetFieldsAndPutFieldsWithGeneratedMethods(classNode, entry.getValue());
-                replaceStaticFieldInsnsWithGeneratedMethods(classNode, entry.getValue());
-                // Insert method calls checking whether 'this' is null into each method. This is done to account for
-                // symbolic aliasing
-                generateNullChecksForMethods(classNode, entry.getValue());
+    /**
+     * While resolving a class, the JVM holds the lock of the {@link MulibClassLoader}. Since classes might be transformed
+     * when they are resolved, see {@link MulibConfig#TRANSF_LAZY_TRANSFORMATION}, this lock must always be acquired
+     * before {@link #syncObject} if classes might be loaded while holding {@link #syncObject}.
+     * @return The lock of the class loader, if it is a {@link MulibClassLoader}, else {@link #syncObject}
+     */
+    protected final Object classLoadingLock() {
+        return classLoader instanceof MulibClassLoader ? classLoader : syncObject;
+    }
+
+    /**
+     * For {@link MulibClassLoader}.
+     * Transforms a class that is resolved but that has not been transformed yet, if {@link MulibConfig#TRANSF_LAZY_TRANSFORMATION}
+     * is set
+     * @param originalClassName The name of the original class
+     * @return The partner class
+     */
+    protected Class<?> transformOnDemand(String originalClassName) {
+        if (!shouldBeTransformed(originalClassName)) {
+            throw new MulibRuntimeException("Class " + originalClassName + " is ignored and thus has no partner class");
+        }
+        Mulib.log.fine("Transforming " + originalClassName + " on demand");
+        transformAndLoadClasses(getClassForName(originalClassName, classLoader));
+        return transformedClasses.get(originalClassName);
+    }
+
+    private void _transformAndLoadClasses(Class<?>... toTransform) {
+        long start = System.nanoTime();
+        // The transformer might be shared and thus be called repeatedly; - only the class nodes added by this call
+        // must be processed
+        Set<String> previouslyTransformed = new HashSet<>(transformedClassNodes.keySet());
+        List<Class<?>> definitelyTransform = Arrays.asList(toTransform);
+        explicitlyAddedClasses.addAll(definitelyTransform);
+        classesToTransform.addAll(definitelyTransform);
+
+        while (!classesToTransform.isEmpty()) {
+            transformClass(classesToTransform.poll());
+        }
+        start = addToPhaseDuration("transformClassNodes", start);
+
+        Map<String, T> newlyTransformedClassNodes = new HashMap<>(transformedClassNodes);
+        newlyTransformedClassNodes.keySet().removeAll(previouslyTransformed);
+        // Replace GETFIELD and PUTFIELD
+        // This must happen now, since only now we have assured that the respective methods have been generated for
+        // each class
+        for (Map.Entry<String, T> entry : newlyTransformedClassNodes.entrySet()) {
+            T classNode = getClassNodeForName(entry.getKey());
+            // Replace accesses to fields with methods conducting more checks
+            replaceGetFieldsAndPutFieldsWithGeneratedMethods(classNode, entry.getValue());
+            replaceStaticFieldInsnsWithGeneratedMethods(classNode, entry.getValue());
+            // Insert method calls checking whether 'this' is null into each method. This is done to account for
+            // symbolic aliasing
+            generateNullChecksForMethods(classNode, entry.getValue());
+        }
+
+        Map<String, T> typeStringToGeneratedSpecificPartnerClassSarrayClass = getArrayTypeNameToGeneratedSpecializedPartnerClassSarrayClass();
+        transformedClassNodes.putAll(typeStringToGeneratedSpecificPartnerClassSarrayClass);
+        for (Map.Entry<String, T> entry : typeStringToGeneratedSpecificPartnerClassSarrayClass.entrySet()) {
+            if (!previouslyTransformed.contains(entry.getKey())) {
+                newlyTransformedClassNodes.put(entry.getKey(), entry.getValue());
             }
+        }
+        start = addToPhaseDuration("replaceFieldAccesses", start);
 
-            Map<String, T> typeStringToGeneratedSpecificPartnerClassSarrayClass = getArrayTypeNameToGeneratedSpecializedPartnerClassSarrayClass();
-            transformedClassNodes.putAll(typeStringToGeneratedSpecificPartnerClassSarrayClass);
+        if (config.TRANSF_TREAT_SPECIAL_METHOD_CALLS) {
+            // Treat defined method calls
+            for (Map.Entry<String, T> entry : newlyTransformedClassNodes.entrySet()) {
+                treatSpecialMethodCallsInClassNodesMethods(entry.getValue());
+            }
+            start = addToPhaseDuration("treatSpecialMethodCalls", start);
+        }
 
-            if (config.TRANSF_TREAT_SPECIAL_METHOD_CALLS) {
-                // Treat defined method calls
-                for (Map.Entry<String, T> entry : transformedClassNodes.entrySet()) {
-                    treatSpecialMethodCallsInClassNodesMethods(entry.getValue());
+        // original class name -> class node for which a class file is needed
+        Map<String, T> toGenerate = new HashMap<>();
+        for (Map.Entry<String, T> entry : newlyTransformedClassNodes.entrySet()) {
+            maybeCheckIsValidWrittenClassNode(entry.getValue());
+            // Write class node to class file
+            if (config.TRANSF_LOAD_WITH_SYSTEM_CLASSLOADER && !config.TRANSF_OVERWRITE_FILE_FOR_SYSTEM_CLASSLOADER) {
+                try {
+                    Class<?> loadedClass = classLoader.loadClass(getNameToLoadOfClassNode(entry.getValue()));
+                    transformedClasses.put(entry.getKey(), loadedClass);
+                    // If loading succeeded there already is a class file in the build
+                    // To trigger all subroutines, we still will transform everything. We just won't put the class
+                    // into this.transformedClasses
+                } catch (ClassNotFoundException ignored) {
+                    toGenerate.put(entry.getKey(), entry.getValue());
+                } catch (ClassFormatError e) {
+                    throw new MulibRuntimeException("Non-overwritten class is erroneous", e);
                 }
+            } else {
+                toGenerate.put(entry.getKey(), entry.getValue());
             }
-
-            for (Map.Entry<String, T> entry : transformedClassNodes.entrySet()) {
-                maybeCheckIsValidWrittenClassNode(entry.getValue());
-                // Write class node to class file
-                if (config.TRANSF_LOAD_WITH_SYSTEM_CLASSLOADER && !config.TRANSF_OVERWRITE_FILE_FOR_SYSTEM_CLASSLOADER) {
+        }
+        start = addToPhaseDuration("validateClassNodes", start);
+
+        if (config.TRANSF_LAZY_TRANSFORMATION) {
+            // Only the requested classes are loaded; - all other classes are generated and defined by the
+            // MulibClassLoader once they are resolved
+            for (Class<?> c : toTransform) {
+                String originalName = config.TRANSF_REPLACE_TO_BE_TRANSFORMED_CLASS_WITH_SPECIFIED_CLASS.getOrDefault(c, c).getName();
+                T classNode = transformedClassNodes.get(originalName);
+                if (classNode != null && transformedClasses.get(originalName) == null) {
                     try {
-                        Class<?> loadedClass = classLoader.loadClass(getNameToLoadOfClassNode(entry.getValue()));
-                        transformedClasses.put(entry.getKey(), loadedClass);
-                        // If loading succeeded there already is a class file in the build
-                        // To trigger all subroutines, we still will transform everything. We just won't put the class
-                        // into this.transformedClasses
-                    } catch (ClassNotFoundException ignored) {
-                        maybeWriteToFile(entry.getValue());
-                    } catch (ClassFormatError e) {
-                        throw new MulibRuntimeException("Non-overwritten class is erroneous", e);
+                        transformedClasses.put(originalName, classLoader.loadClass(getNameToLoadOfClassNode(classNode)));
+                    } catch (ClassNotFoundException e) {
+                        throw new MulibRuntimeException(e);
                     }
-                } else {
-                    maybeWriteToFile(entry.getValue());
                 }
             }
+            addToPhaseDuration("loadClasses", start);
+            return;
+        }
 
-            for (Map.Entry<String, T> entry : transformedClassNodes.entrySet()) {
-                if (transformedClasses.get(entry.getKey()) != null) {
-                    // Is already loaded
-                    continue;
+        // The class files are independent of each other and are generated in parallel, if configured. They are
+        // written to disk and/or retrieved by the MulibClassLoader
+        boolean retainForMulibClassLoader = !config.TRANSF_LOAD_WITH_SYSTEM_CLASSLOADER;
+        if (retainForMulibClassLoader || config.TRANSF_WRITE_TO_FILE) {
+            MulibClassFileWriter<T> classFileWriter = generateMulibClassFileWriter();
+            forEachInParallel(toGenerate.entrySet(), entry -> {
+                byte[] classFile = classFileWriter.toByteArray(entry.getValue());
+                if (config.TRANSF_WRITE_TO_FILE) {
+                    classFileWriter.writeClassFileToFile(
+                            generatedClassesPathPattern,
+                            config.TRANSF_INCLUDE_PACKAGE_NAME,
+                            getNameToLoadOfClassNode(entry.getValue()),
+                            classFile
+                    );
                 }
-                try {
-                    Class<?> result = classLoader.loadClass(getNameToLoadOfClassNode(entry.getValue()));
-                    transformedClasses.put(entry.getKey(), result);
-                } catch (ClassNotFoundException e) {
-                    throw new MulibRuntimeException(e);
+                if (retainForMulibClassLoader) {
+                    generatedClassFiles.put(entry.getKey(), classFile);
                 }
+            });
+            start = addToPhaseDuration("generateClassFiles", start);
+        }
+
+        for (Map.Entry<String, T> entry : newlyTransformedClassNodes.entrySet()) {
+            if (transformedClasses.get(entry.getKey()) != null) {
+                // Is already loaded
+                continue;
+            }
+            try {
+                Class<?> result = classLoader.loadClass(getNameToLoadOfClassNode(entry.getValue()));
+                transformedClasses.put(entry.getKey(), result);
+            } catch (ClassNotFoundException e) {
+                throw new MulibRuntimeException(e);
             }
+        }
+        start = addToPhaseDuration("loadClasses", start);
 
-            maybeCheckAreValidInitializedClasses(transformedClasses.values());
+        maybeCheckAreValidInitializedClasses(transformedClasses.values());
+        if (config.TRANSF_VALIDATE_TRANSFORMATION) {
+            addToPhaseDuration("validateInitializedClasses", start);
         }
     }
 
+    /**
+     * Executes the action for each element. If {@link MulibConfig#TRANSF_PARALLELISM} is larger than 1 and
+     * this is called from within {@link #transformAndLoadClasses(Class[])}, the elements are processed in parallel.
+     * The action must hence not mutate state shared among the elements.
+     * @param elements The elements
+     * @param action The action
+     * @param <E> The type of elements
+     */
+    protected final <E> void forEachInParallel(Collection<E> elements, Consumer<E> action) {
+        ForkJoinPool pool = transformationPool;
+        if (pool == null || elements.size() < 2) {
+            elements.forEach(action);
+            return;
+        }
+        try {
+            pool.submit(() -> elements.parallelStream().forEach(action)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MulibRuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MulibRuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Adds the time passed since start to the duration of a phase of the transformation
+     * @param phase The name of the phase
+     * @param start The start of the phase as given by {@link System#nanoTime()}
+     * @return The current time as given by {@link System#nanoTime()}, i.e., the start of the next phase
+     */
+    protected final long addToPhaseDuration(String phase, long start) {
+        long now = System.nanoTime();
+        phaseDurationsInNanos.merge(phase, now - start, Long::sum);
+        return now;
+    }
+
+    /**
+     * @return The accumulated durations of the phases of all transformations performed by this transformer in milliseconds
+     */
+    public LinkedHashMap<String, String> getTransformationStatistics() {
+        LinkedHashMap<String, String> result = new LinkedHashMap<>();
+        synchronized (phaseDurationsInNanos) {
+            for (Map.Entry<String, Long> entry : phaseDurationsInNanos.entrySet()) {
+                result.put(entry.getKey() + "InMs", String.valueOf(entry.getValue() / 1e6));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * For subclasses of {@link MulibClassLoader}.
+     * Removes the class file that has been generated during {@link #transformAndLoadClasses(Class[])}
+     * @param originalClassName The class name of the original class
+     * @return The class file of the partner class, or null, if it has not been generated yet
+     */
+    public byte[] takeGeneratedClassFile(String originalClassName) {
+        return generatedClassFiles.remove(originalClassName);
+    }
+
     /**
      * According to the configuration, alter the bytecode
      * @param classNode The representation of the class
@@ -197,6 +380,12 @@ public abstract class AbstractMulibTransformer<T> implements MulibTransformer {
 
     @Override
     public Class<?> transformType(Class<?> toTransform, boolean sarraysToRealArrayTypes) {
+        synchronized (classLoadingLock()) {
+            return _transformType(toTransform, sarraysToRealArrayTypes);
+        }
+    }
+
+    private Class<?> _transformType(Class<?> toTransform, boolean sarraysToRealArrayTypes) {
         synchronized (syncObject) {
             if (toTransform == null) {
                 throw new MulibRuntimeException("Type to transform must not be null.");
@@ -366,6 +555,12 @@ public abstract class AbstractMulibTransformer<T> implements MulibTransformer {
     @Override
     public Class<?> getTransformedClass(Class<?> beforeTransformation) {
         Class<?> result = transformedClasses.get(beforeTransformation.getName());
+        if (result == null && config.TRANSF_LAZY_TRANSFORMATION) {
+            T classNode = transformedClassNodes.get(beforeTransformation.getName());
+            if (classNode != null) {
+                result = getClassForName(getNameToLoadOfClassNode(classNode), classLoader);
+            }
+        }
         if (result == null) {
             throw new MulibRuntimeException("Class has not been transformed: " + beforeTransformation);
         }
@@ -724,6 +919,81 @@ public abstract class AbstractMulibTransformer<T> implements MulibTransformer {
         transformedClasses.put(className, c);
     }
 
+    /**
+     * For {@link MulibClassLoader}.
+     * Retains the class file of a defined class, if {@link #retainClassFiles()} was called. For a lazy transformation,
+     * also writes the class file, if configured
+     * @param className The name of the defined class
+     * @param classFile The class file of the defined class
+     */
+    protected void addClassFile(String className, byte[] classFile) {
+        if (config.TRANSF_LAZY_TRANSFORMATION && config.TRANSF_WRITE_TO_FILE) {
+            // Has not been written while transforming
+            generateMulibClassFileWriter().writeClassFileToFile(
+                    generatedClassesPathPattern, config.TRANSF_INCLUDE_PACKAGE_NAME, className, classFile);
+        }
+        if (retainClassFiles) {
+            synchronized (retainedClassFiles) {
+                retainedClassFiles.put(className, classFile);
+            }
+        }
+    }
+
+    /**
+     * Retains the class files of all classes that are defined by the {@link MulibClassLoader} from now on so that they
+     * can be exported via {@link #toManifest()}. Must be called before {@link #transformAndLoadClasses(Class[])}.
+     */
+    public void retainClassFiles() {
+        if (config.TRANSF_LOAD_WITH_SYSTEM_CLASSLOADER) {
+            throw new MulibIllegalStateException("Class files can only be retained if classes are loaded with a MulibClassLoader");
+        }
+        retainClassFiles = true;
+    }
+
+    /**
+     * Exports all partner classes and specialized sarray classes that have been loaded by this transformer.
+     * Classes that have not been generated by Mulib, such as {@link PartnerClassObject}, are not contained.
+     * {@link #retainClassFiles()} must have been called before the classes were transformed.
+     * @return The manifest
+     */
+    public TransformedClassesManifest toManifest() {
+        if (!retainClassFiles) {
+            throw new MulibIllegalStateException("retainClassFiles() must be called before transforming the classes");
+        }
+        synchronized (syncObject) {
+            Map<String, String> originalToPartnerClassName = new LinkedHashMap<>();
+            Map<String, byte[]> partnerClassNameToClassFile = new LinkedHashMap<>();
+            Map<String, String> originalClassNameToHash = new LinkedHashMap<>();
+            synchronized (retainedClassFiles) {
+                for (Map.Entry<String, Class<?>> entry : transformedClasses.entrySet()) {
+                    String partnerClassName = entry.getValue().getName();
+                    byte[] classFile = retainedClassFiles.get(partnerClassName);
+                    if (classFile == null) {
+                        // Not generated by Mulib
+                        continue;
+                    }
+                    originalToPartnerClassName.put(entry.getKey(), partnerClassName);
+                    partnerClassNameToClassFile.put(partnerClassName, classFile);
+                    if (entry.getKey().startsWith("[")) {
+                        continue;
+                    }
+                    byte[] originalClassFile = TransformedClassesManifest.readClassFile(entry.getKey(), classLoader);
+                    if (originalClassFile == null) {
+                        throw new MulibRuntimeException("Class file of " + entry.getKey() + " cannot be found");
+                    }
+                    originalClassNameToHash.put(entry.getKey(), TransformedClassesManifest.hash(originalClassFile));
+                }
+            }
+            return new TransformedClassesManifest(
+                    originalToPartnerClassName,
+                    partnerClassNameToClassFile,
+                    originalClassNameToHash,
+                    config.TRANSF_CFG_GENERATE_CHOICE_POINTS_WITH_ID ? getNumberNumberedChoicePoints() : -1,
+                    transformationFingerprint(config)
+            );
+        }
+    }
+
     /**
      * Transforms one class. Checks whether the class is ignored and whether the class has already been transformed.
      * @param toTransform The original class to transform
@@ -809,13 +1079,4 @@ public abstract class AbstractMulibTransformer<T> implements MulibTransformer {
             generateMulibClassFileWriter().validateClassNode(classNode);
         }
     }
-
-    // Writes the class to a file to be evaluated using a decompiler.
-    private void maybeWriteToFile(T classNode) {
-        if (config.TRANSF_WRITE_TO_FILE) {
-            synchronized (syncObject) {
-                generateMulibClassFileWriter().writeClassToFile(generatedClassesPathPattern, config.TRANSF_INCLUDE_PACKAGE_NAME, classNode);
-            }
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package de.wwu.mulib.transformations;
+
+import de.wwu.mulib.Mulib;
+import de.wwu.mulib.MulibConfig;
+import de.wwu.mulib.throwables.MisconfigurationException;
+import de.wwu.mulib.transformations.soot_transformations.SootMulibTransformer;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transforms the classes of search regions ahead of time, e.g., as a step of the build.
+ * The resulting jar contains a {@link TransformedClassesManifest} and can be used via
+ * {@link MulibConfig#TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR} so that no classes need to be transformed at runtime.
+ * Usage: {@code AheadOfTimeTransformation [--numbered-choice-points] [--treat-special-method-calls] <jar> <class>...}
+ * The options must match the options of the configuration used at runtime. For more complex configurations,
+ * {@link #transform(MulibConfig, Path, Class[])} can be used.
+ */
+public final class AheadOfTimeTransformation {
+    private AheadOfTimeTransformation() {}
+
+    /**
+     * @param args The options, the path of the jar to write, and the names of the classes containing search regions
+     */
+    public static void main(String[] args) {
+        MulibConfig.MulibConfigBuilder builder = MulibConfig.builder()
+                .setTRANSF_WRITE_TO_FILE(false)
+                .setTRANSF_VALIDATE_TRANSFORMATION(true);
+        int i = 0;
+        for (; i < args.length && args[i].startsWith("--"); i++) {
+            switch (args[i]) {
+                case "--numbered-choice-points":
+                    // The usage of the CFG at runtime does not influence the partner classes
+                    builder.setTRANSF_CFG_GENERATE_CHOICE_POINTS_WITH_ID(false, false, false);
+                    break;
+                case "--treat-special-method-calls":
+                    builder.setTRANSF_TREAT_SPECIAL_METHOD_CALLS(true);
+                    break;
+                default:
+                    throw new MisconfigurationException("Unknown option: " + args[i]);
+            }
+        }
+        if (args.length - i < 2) {
+            throw new MisconfigurationException("Usage: AheadOfTimeTransformation [--numbered-choice-points] "
+                    + "[--treat-special-method-calls] <jar> <class>...");
+        }
+        Path jar = Paths.get(args[i++]);
+        List<Class<?>> toTransform = new ArrayList<>();
+        for (; i < args.length; i++) {
+            toTransform.add(TransformationUtility.getClassForName(args[i], ClassLoader.getSystemClassLoader()));
+        }
+        transform(builder.build(), jar, toTransform.toArray(new Class<?>[0]));
+    }
+
+    /**
+     * Transforms the classes and writes the partner classes into a jar
+     * @param config The configuration. The transformation-relevant options must match the configuration used at runtime
+     * @param jar The jar to write
+     * @param toTransform The classes containing search regions
+     */
+    public static void transform(MulibConfig config, Path jar, Class<?>... toTransform) {
+        if (config.TRANSF_LOAD_WITH_SYSTEM_CLASSLOADER) {
+            throw new MisconfigurationException("Partner classes to be stored must be loaded with a MulibClassLoader");
+        }
+        long start = System.nanoTime();
+        SootMulibTransformer transformer = new SootMulibTransformer(config);
+        transformer.retainClassFiles();
+        transformer.transformAndLoadClasses(toTransform);
+        TransformedClassesManifest manifest = transformer.toManifest();
+        manifest.writeToJar(jar);
+        Mulib.log.info("Wrote " + manifest.getOriginalToPartnerClassName().size() + " partner classes to " + jar
+                + " in " + ((System.nanoTime() - start) / 1e6) + "ms");
+    }
+}
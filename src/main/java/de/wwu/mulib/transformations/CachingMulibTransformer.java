@@ -0,0 +1,142 @@
+package de.wwu.mulib.transformations;
+
+import de.wwu.mulib.Mulib;
+import de.wwu.mulib.MulibConfig;
+import de.wwu.mulib.transformations.soot_transformations.SootMulibTransformer;
+
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Is used if {@link MulibConfig#TRANSF_CACHE_DIRECTORY} is set.
+ * Looks up the partner classes in the cache directory before transforming classes. The entries of the cache directory
+ * are keyed by {@link TransformationUtility#transformationFingerprint(MulibConfig)}, by
+ * {@link TransformationUtility#sootFingerprint()}, and by the hashes of the class files
+ * of the classes passed to {@link #transformAndLoadClasses(Class[])}. Since the partner classes also depend on the
+ * classes referenced by these classes, an entry is only used if the hashes of all original classes stored in the
+ * {@link TransformedClassesManifest} still match. In this case, the partner classes are loaded by a
+ * {@link PrecomputedMulibTransformer} and the bytecode framework is not used at all.
+ * Otherwise, the classes are transformed by a {@link SootMulibTransformer} and the result is stored in the cache directory.
+ */
+public final class CachingMulibTransformer implements MulibTransformer {
+    private final MulibConfig config;
+    private final Path cacheDirectory;
+    // Is set either when transforming the classes or if any other method is called beforehand
+    private MulibTransformer delegate;
+
+    /**
+     * @param config The configuration. {@link MulibConfig#TRANSF_CACHE_DIRECTORY} must be set
+     */
+    public CachingMulibTransformer(MulibConfig config) {
+        this.config = config;
+        this.cacheDirectory = Paths.get(config.TRANSF_CACHE_DIRECTORY.orElseThrow());
+    }
+
+    @Override
+    public synchronized void transformAndLoadClasses(Class<?>... toTransform) {
+        if (delegate != null) {
+            delegate.transformAndLoadClasses(toTransform);
+            return;
+        }
+        String key = computeKey(toTransform);
+        if (key == null) {
+            Mulib.log.fine("Class files to transform cannot be found; - partner classes are not cached");
+            delegate = new SootMulibTransformer(config);
+            delegate.transformAndLoadClasses(toTransform);
+            return;
+        }
+        Path entry = cacheDirectory.resolve(key);
+        Optional<TransformedClassesManifest> cached = TransformedClassesManifest.readFrom(entry);
+        if (cached.isPresent() && cached.get().containsPartnerClassesFor(toTransform) && cached.get().isUpToDate(originalClassLoader(toTransform))) {
+            Mulib.log.fine("Loading cached partner classes from " + entry);
+            delegate = new PrecomputedMulibTransformer(config, cached.get());
+            delegate.transformAndLoadClasses(toTransform);
+            return;
+        }
+        SootMulibTransformer transformer = new SootMulibTransformer(config);
+        transformer.retainClassFiles();
+        transformer.transformAndLoadClasses(toTransform);
+        delegate = transformer;
+        Mulib.log.fine("Storing partner classes in " + entry);
+        transformer.toManifest().writeTo(entry);
+    }
+
+    private String computeKey(Class<?>... toTransform) {
+        StringBuilder sb = new StringBuilder(TransformationUtility.transformationFingerprint(config));
+        // The cached partner classes are only reused if they were generated by the same version of Soot
+        sb.append(",soot=").append(TransformationUtility.sootFingerprint());
+        for (Class<?> c : toTransform) {
+            byte[] classFile = TransformedClassesManifest.readClassFile(c.getName(), c.getClassLoader());
+            if (classFile == null) {
+                return null;
+            }
+            sb.append(',').append(c.getName()).append('=').append(TransformedClassesManifest.hash(classFile));
+        }
+        return TransformedClassesManifest.hash(sb.toString());
+    }
+
+    // The class loader of the classes to transform; - the classes they reference are loaded via the same class loader
+    private static ClassLoader originalClassLoader(Class<?>... toTransform) {
+        for (Class<?> c : toTransform) {
+            if (c.getClassLoader() != null) {
+                return c.getClassLoader();
+            }
+        }
+        return ClassLoader.getSystemClassLoader();
+    }
+
+    private synchronized MulibTransformer getDelegate() {
+        if (delegate == null) {
+            delegate = new SootMulibTransformer(config);
+        }
+        return delegate;
+    }
+
+    @Override
+    public Map<Field, Field> getAccessibleStaticFieldsOfTransformedClassesToOriginalClasses() {
+        return getDelegate().getAccessibleStaticFieldsOfTransformedClassesToOriginalClasses();
+    }
+
+    @Override
+    public Class<?> transformType(Class<?> toTransform, boolean sarraysToRealArrayTypes) {
+        return getDelegate().transformType(toTransform, sarraysToRealArrayTypes);
+    }
+
+    @Override
+    public Class<?> transformMulibTypeBackIfNeeded(Class<?> toTransform) {
+        return getDelegate().transformMulibTypeBackIfNeeded(toTransform);
+    }
+
+    @Override
+    public Class<?> getTransformedClass(Class<?> beforeTransformation) {
+        return getDelegate().getTransformedClass(beforeTransformation);
+    }
+
+    @Override
+    public Class<?> getPossiblyTransformedClass(Class<?> beforeTransformation) {
+        return getDelegate().getPossiblyTransformedClass(beforeTransformation);
+    }
+
+    @Override
+    public Map<Class<?>, Class<?>> getArrayTypesToSpecializedSarrayClass() {
+        return getDelegate().getArrayTypesToSpecializedSarrayClass();
+    }
+
+    @Override
+    public void setPartnerClass(Class<?> clazz, Class<?> partnerClass) {
+        getDelegate().setPartnerClass(clazz, partnerClass);
+    }
+
+    @Override
+    public boolean shouldBeTransformed(String classAsPath) {
+        return getDelegate().shouldBeTransformed(classAsPath);
+    }
+
+    @Override
+    public long getNumberNumberedChoicePoints() {
+        return getDelegate().getNumberNumberedChoicePoints();
+    }
+}
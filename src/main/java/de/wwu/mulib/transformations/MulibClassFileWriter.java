@@ -1,5 +1,12 @@
 package de.wwu.mulib.transformations;
 
+import de.wwu.mulib.throwables.MulibRuntimeException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 /**
  * Writes class files from bytecode framework representations
  * @param <T>
@@ -24,4 +31,26 @@ public interface MulibClassFileWriter<T> {
      * @return A byte array representing the class
      */
     byte[] toByteArray(T classNode);
+
+    /**
+     * Writes an already generated class file to a file
+     * @param generatedClassesPathPattern The path to write it to
+     * @param includePackageName Whether to include the package name in the path
+     * @param className The name of the class
+     * @param classFile The class file, e.g., generated via {@link #toByteArray(Object)}
+     */
+    default void writeClassFileToFile(String generatedClassesPathPattern, boolean includePackageName, String className, byte[] classFile) {
+        if (!includePackageName) {
+            className = className.substring(className.lastIndexOf('.') + 1);
+        }
+        Path path = Paths.get(String.format(generatedClassesPathPattern, className.replace(".", "/")));
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.write(path, classFile);
+        } catch (IOException e) {
+            throw new MulibRuntimeException("Class file could not be written to file. Class name: " + className, e);
+        }
+    }
 }
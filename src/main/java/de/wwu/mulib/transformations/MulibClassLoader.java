@@ -25,7 +25,8 @@ public abstract class MulibClassLoader<T> extends ClassLoader {
 
     /**
      * Defines a class using the byte[] representation and adds it as a transformed class via
-     * {@link AbstractMulibTransformer#addTransformedClass(String, Class)}
+     * {@link AbstractMulibTransformer#addTransformedClass(String, Class)}. The class file is passed to
+     * {@link AbstractMulibTransformer#addClassFile(String, byte[])}
      * @param originalName The original name of the class
      * @param name The transformed name of the class
      * @param classFileBytes The class represented as bytes
@@ -34,6 +35,7 @@ public abstract class MulibClassLoader<T> extends ClassLoader {
     protected final Class<?> defineClass(String originalName, String name, byte[] classFileBytes) {
         Class<?> result = defineClass(name, classFileBytes, 0, classFileBytes.length);
         transformer.addTransformedClass(originalName, result);
+        transformer.addClassFile(name, classFileBytes);
         return result;
     }
 
@@ -46,16 +48,27 @@ public abstract class MulibClassLoader<T> extends ClassLoader {
                 throw new MulibRuntimeException(e);
             }
         }
-        String adjusted = transformer.getSpecializedArrayTypeNameToOriginalTypeName().get(name);
-        if (adjusted == null) {
-            adjusted = name.replace(_TRANSFORMATION_INDICATOR, "");
-        }
-        Class<?> result = transformer.getTransformedClassForOriginalClassName(adjusted);
-        if (result != null) {
-            return result;
+        // Partner classes are requested explicitly, e.g., via AbstractMulibTransformer#getTransformedClass, and by the
+        // JVM while resolving classes. The JVM holds the lock of this class loader while doing so. We take the same
+        // lock so that a partner class is not defined twice and so that it is acquired before the lock of the transformer.
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> result = findLoadedClass(name);
+            if (result != null) {
+                return result;
+            }
+            String adjusted = transformer.getSpecializedArrayTypeNameToOriginalTypeName().get(name);
+            if (adjusted == null) {
+                adjusted = name.replace(_TRANSFORMATION_INDICATOR, "");
+            }
+            result = transformer.getTransformedClassForOriginalClassName(adjusted);
+            if (result != null) {
+                return result;
+            }
+            if (transformer.config.TRANSF_LAZY_TRANSFORMATION && transformer.getTransformedClassNode(adjusted) == null) {
+                return transformer.transformOnDemand(adjusted);
+            }
+            return getPartnerClassForOriginal(adjusted);
         }
-        result = getPartnerClassForOriginal(adjusted);
-        return result;
     }
 
     /**
@@ -98,9 +98,21 @@ public interface MulibTransformer {
 
     /**
      * @param config The configuration
-     * @return The transformer
+     * @return The transformer. If {@link MulibConfig#TRANSF_CACHE_DIRECTORY} is set, a {@link CachingMulibTransformer}.
+     * If {@link MulibConfig#TRANSF_SHARE_TRANSFORMER} is set, a transformer shared with other compatible configurations.
+     * If {@link MulibConfig#TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR} is set, a {@link PrecomputedMulibTransformer}
+     * @see SharedMulibTransformers
      */
-    static MulibTransformer get(MulibConfig config) { // TODO Share SootMulibTransformer if configs are compatible?
+    static MulibTransformer get(MulibConfig config) {
+        if (config.TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR.isPresent()) {
+            return PrecomputedMulibTransformer.fromJar(config);
+        }
+        if (config.TRANSF_SHARE_TRANSFORMER) {
+            return SharedMulibTransformers.get(config);
+        }
+        if (config.TRANSF_CACHE_DIRECTORY.isPresent()) {
+            return new CachingMulibTransformer(config);
+        }
         return new SootMulibTransformer(config);
     }
 
@@ -0,0 +1,267 @@
+package de.wwu.mulib.transformations;
+
+import de.wwu.mulib.MulibConfig;
+import de.wwu.mulib.throwables.MisconfigurationException;
+import de.wwu.mulib.throwables.MulibIllegalStateException;
+import de.wwu.mulib.throwables.MulibRuntimeException;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Loads the partner classes contained in a {@link TransformedClassesManifest} instead of transforming classes.
+ * This transformer does not require a bytecode framework; - the class files are defined as they were stored by the
+ * transformer that originally generated them. Only the classes contained in the manifest can be loaded.
+ */
+public final class PrecomputedMulibTransformer extends AbstractMulibTransformer<byte[]> {
+    private final TransformedClassesManifest manifest;
+    // specialized sarray class name -> array type name
+    private final Map<String, String> specializedArrayTypeNameToOriginalTypeName = new HashMap<>();
+
+    /**
+     * @param config The configuration
+     * @param manifest The manifest containing the partner classes
+     */
+    public PrecomputedMulibTransformer(MulibConfig config, TransformedClassesManifest manifest) {
+        super(config);
+        if (config.TRANSF_LOAD_WITH_SYSTEM_CLASSLOADER) {
+            throw new MisconfigurationException("Precomputed partner classes cannot be loaded with the system class loader");
+        }
+        this.manifest = manifest;
+        for (Map.Entry<String, String> entry : manifest.getOriginalToPartnerClassName().entrySet()) {
+            transformedClassNodes.put(entry.getKey(), manifest.getClassFile(entry.getValue()));
+            if (entry.getKey().startsWith("[")) {
+                specializedArrayTypeNameToOriginalTypeName.put(entry.getValue(), entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Creates a transformer for the partner classes in {@link MulibConfig#TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR}
+     * @param config The configuration
+     * @return The transformer
+     */
+    public static PrecomputedMulibTransformer fromJar(MulibConfig config) {
+        Path jar = Paths.get(config.TRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR.orElseThrow());
+        TransformedClassesManifest manifest = TransformedClassesManifest.readFromJar(jar)
+                .orElseThrow(() -> new MulibRuntimeException("No precomputed partner classes found in " + jar));
+        if (!manifest.getTransformationFingerprint().equals(TransformationUtility.transformationFingerprint(config))) {
+            throw new MisconfigurationException("The precomputed partner classes in " + jar + " were generated with" +
+                    " other transformation options or another version of Mulib");
+        }
+        PrecomputedMulibTransformer result = new PrecomputedMulibTransformer(config, manifest);
+        if (!manifest.isUpToDate(result.classLoader)) {
+            throw new MulibRuntimeException("The precomputed partner classes in " + jar + " are outdated since" +
+                    " some of the original classes changed");
+        }
+        return result;
+    }
+
+    @Override
+    public void transformAndLoadClasses(Class<?>... toTransform) {
+        synchronized (syncObject) {
+            for (Class<?> c : toTransform) {
+                if (!manifest.containsPartnerClassesFor(c)) {
+                    throw new MulibRuntimeException("There is no precomputed partner class for " + c.getName());
+                }
+            }
+            for (Map.Entry<String, String> entry : manifest.getOriginalToPartnerClassName().entrySet()) {
+                if (transformedClasses.get(entry.getKey()) != null) {
+                    // Is already loaded
+                    continue;
+                }
+                try {
+                    transformedClasses.put(entry.getKey(), classLoader.loadClass(entry.getValue()));
+                } catch (ClassNotFoundException e) {
+                    throw new MulibRuntimeException(e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Map<Class<?>, Class<?>> getArrayTypesToSpecializedSarrayClass() {
+        // The specialized sarray classes might be defined here; - the lock of the class loader is acquired first
+        synchronized (classLoadingLock()) {
+            Map<Class<?>, Class<?>> result = new HashMap<>();
+            for (Map.Entry<String, String> entry : specializedArrayTypeNameToOriginalTypeName.entrySet()) {
+                try {
+                    Class<?> keyTypeTransformedToArrayType = transformType(Class.forName(entry.getValue()), true);
+                    Class<?> actualClass = classLoader.loadClass(entry.getKey());
+                    result.put(keyTypeTransformedToArrayType, actualClass);
+                } catch (ClassNotFoundException e) {
+                    throw new MulibRuntimeException(e);
+                }
+            }
+            return result;
+        }
+    }
+
+    @Override
+    public long getNumberNumberedChoicePoints() {
+        if (!config.TRANSF_CFG_GENERATE_CHOICE_POINTS_WITH_ID) {
+            throw new MulibRuntimeException("Must not call this method if choice points are not to be generated with an ID");
+        }
+        if (manifest.getNumberNumberedChoicePoints() < 0) {
+            throw new MulibRuntimeException("The precomputed partner classes were generated without numbering choice points");
+        }
+        return manifest.getNumberNumberedChoicePoints();
+    }
+
+    @Override
+    protected Class<?> getTransformedSpecializedPartnerClassSarrayClass(Class<?> c) {
+        if (!c.isArray()) {
+            throw new MulibRuntimeException("This method can only be used to get the specialized array type for an array type. A non-array type was passed.");
+        }
+        String specializedPartnerClassSarrayName = manifest.getOriginalToPartnerClassName().get(c.getName());
+        if (specializedPartnerClassSarrayName == null) {
+            throw new MulibRuntimeException("Specialized sarray type for '" + c.getName() + "' not found.");
+        }
+        try {
+            return classLoader.loadClass(specializedPartnerClassSarrayName);
+        } catch (ClassNotFoundException e) {
+            throw new MulibRuntimeException(e);
+        }
+    }
+
+    @Override
+    protected Map<String, String> getSpecializedArrayTypeNameToOriginalTypeName() {
+        return specializedArrayTypeNameToOriginalTypeName;
+    }
+
+    @Override
+    protected MulibClassLoader<byte[]> generateMulibClassLoader() {
+        return new MulibClassLoader<>(this) {
+            @Override
+            protected Class<?> getPartnerClassForOriginal(String original) {
+                byte[] classFile = transformer.getTransformedClassNode(original);
+                if (classFile == null) {
+                    throw new MulibRuntimeException("Precomputed partner class for '" + original + "' not found.");
+                }
+                String name = ((PrecomputedMulibTransformer) transformer).manifest.getOriginalToPartnerClassName().get(original);
+                return defineClass(original, name, classFile);
+            }
+        };
+    }
+
+    @Override
+    public MulibClassFileWriter<byte[]> generateMulibClassFileWriter() {
+        return new MulibClassFileWriter<>() {
+            @Override
+            public void validateClassNode(byte[] classNode) {}
+
+            @Override
+            public void writeClassToFile(String generatedClassesPathPattern, boolean includePackageName, byte[] classNode) {
+                throw notTransforming();
+            }
+
+            @Override
+            public byte[] toByteArray(byte[] classNode) {
+                return classNode;
+            }
+        };
+    }
+
+    private static MulibIllegalStateException notTransforming() {
+        return new MulibIllegalStateException("A PrecomputedMulibTransformer does not transform classes");
+    }
+
+    /* THE FOLLOWING METHODS ARE ONLY USED WHILE TRANSFORMING CLASSES */
+
+    @Override
+    protected void treatSpecialMethodCallsInClassNodesMethods(byte[] classNode) {
+        throw notTransforming();
+    }
+
+    @Override
+    protected String getNameToLoadOfClassNode(byte[] classNode) {
+        throw notTransforming();
+    }
+
+    @Override
+    protected Map<String, byte[]> getArrayTypeNameToGeneratedSpecializedPartnerClassSarrayClass() {
+        throw notTransforming();
+    }
+
+    @Override
+    protected boolean isInterface(byte[] classNode) {
+        throw notTransforming();
+    }
+
+    @Override
+    protected byte[] getClassNodeForName(String name) {
+        throw notTransforming();
+    }
+
+    @Override
+    protected void generateNullChecksForMethods(byte[] old, byte[] result) {
+        throw notTransforming();
+    }
+
+    @Override
+    protected void generateBlockCacheInPartnerClassFieldsAndInitializeLazyFieldsAndGetFieldNameToSubstitutedVar(byte[] old, byte[] result) {
+        throw notTransforming();
+    }
+
+    @Override
+    protected void generateAccessorAndSetterMethodsForFieldsAndDiscardIsFinal(byte[] old, byte[] result) {
+        throw notTransforming();
+    }
+
+    @Override
+    protected void replaceGetFieldsAndPutFieldsWithGeneratedMethods(byte[] old, byte[] result) {
+        throw notTransforming();
+    }
+
+    @Override
+    protected void replaceStaticFieldInsnsWithGeneratedMethods(byte[] old, byte[] result) {
+        throw notTransforming();
+    }
+
+    @Override
+    protected void generateAndAddSymbolicExecutionConstructor(byte[] old, byte[] result) {
+        throw notTransforming();
+    }
+
+    @Override
+    protected void generateAndAddTransformationConstructor(byte[] old, byte[] result) {
+        throw notTransforming();
+    }
+
+    @Override
+    protected void generateAndAddCopyConstructor(byte[] old, byte[] result) {
+        throw notTransforming();
+    }
+
+    @Override
+    protected void generateAndAddCopyMethod(byte[] old, byte[] result) {
+        throw notTransforming();
+    }
+
+    @Override
+    protected void generateAndAddLabelTypeMethod(byte[] old, byte[] result) {
+        throw notTransforming();
+    }
+
+    @Override
+    protected void generateAndAddOriginalClassMethod(byte[] old, byte[] result) {
+        throw notTransforming();
+    }
+
+    @Override
+    protected void generateOrReplaceClinit(byte[] old, byte[] result) {
+        throw notTransforming();
+    }
+
+    @Override
+    protected void ensureInitializedLibraryTypeFieldsInConstructors(byte[] result) {
+        throw notTransforming();
+    }
+
+    @Override
+    protected byte[] transformClassNode(byte[] toTransform) {
+        throw notTransforming();
+    }
+}
@@ -0,0 +1,53 @@
+package de.wwu.mulib.transformations;
+
+import de.wwu.mulib.Mulib;
+import de.wwu.mulib.MulibConfig;
+import de.wwu.mulib.transformations.soot_transformations.SootMulibTransformer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of the transformers that are shared if {@link MulibConfig#TRANSF_SHARE_TRANSFORMER} is set.
+ * Transformers are shared among configurations with the same {@link TransformationUtility#transformationFingerprint(MulibConfig)}
+ * and the same options for writing, loading, and validating partner classes.
+ * Since the partner classes are defined by the shared transformer's class loader, the same partner class is
+ * used by all {@link de.wwu.mulib.MulibContext}s sharing the transformer.
+ * {@link AbstractMulibTransformer#transformAndLoadClasses(Class[])} only transforms those classes that have not been
+ * transformed before.
+ */
+public final class SharedMulibTransformers {
+    private static final Map<String, MulibTransformer> sharedTransformers = new ConcurrentHashMap<>();
+
+    private SharedMulibTransformers() {}
+
+    /**
+     * @param config The configuration
+     * @return A transformer shared with all compatible configurations
+     */
+    static MulibTransformer get(MulibConfig config) {
+        return sharedTransformers.computeIfAbsent(key(config), k -> {
+            Mulib.log.fine("Creating shared transformer for " + k);
+            return new SootMulibTransformer(config);
+        });
+    }
+
+    /**
+     * Removes all shared transformers. Partner classes that are still referenced remain loaded; - the next
+     * {@link de.wwu.mulib.MulibContext} transforms the classes anew.
+     */
+    public static void clear() {
+        sharedTransformers.clear();
+    }
+
+    private static String key(MulibConfig config) {
+        return TransformationUtility.transformationFingerprint(config)
+                + ",TRANSF_LOAD_WITH_SYSTEM_CLASSLOADER=" + config.TRANSF_LOAD_WITH_SYSTEM_CLASSLOADER
+                + ",TRANSF_OVERWRITE_FILE_FOR_SYSTEM_CLASSLOADER=" + config.TRANSF_OVERWRITE_FILE_FOR_SYSTEM_CLASSLOADER
+                + ",TRANSF_WRITE_TO_FILE=" + config.TRANSF_WRITE_TO_FILE
+                + ",TRANSF_GENERATED_CLASSES_PATH=" + config.TRANSF_GENERATED_CLASSES_PATH
+                + ",TRANSF_INCLUDE_PACKAGE_NAME=" + config.TRANSF_INCLUDE_PACKAGE_NAME
+                + ",TRANSF_VALIDATE_TRANSFORMATION=" + config.TRANSF_VALIDATE_TRANSFORMATION
+                + ",TRANSF_LAZY_TRANSFORMATION=" + config.TRANSF_LAZY_TRANSFORMATION;
+    }
+}
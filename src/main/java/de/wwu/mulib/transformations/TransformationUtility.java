@@ -1,10 +1,38 @@
 package de.wwu.mulib.transformations;
 
+import de.wwu.mulib.Mulib;
+import de.wwu.mulib.MulibConfig;
 import de.wwu.mulib.throwables.MulibRuntimeException;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class TransformationUtility {
+    private static final String TRANSFORMATIONS_PACKAGE = "de/wwu/mulib/transformations/";
+    private static final String SUBSTITUTIONS_PACKAGE = "de/wwu/mulib/substitutions/";
+    private static final String SOOT_SCENE_CLASS_FILE = "soot/Scene.class";
+    // Is computed once, see implementationFingerprint()
+    private static volatile String implementationFingerprint;
+    // Is computed once, see sootFingerprint()
+    private static volatile String sootFingerprint;
+
     public static String determineNestHostFieldName(String classPath) {
         Class<?> c;
         try {
@@ -42,4 +70,173 @@ public class TransformationUtility {
         return s.replace("/", ".");
     }
 
+    /**
+     * Two configurations with the same fingerprint yield the same partner classes for the same original classes.
+     * The fingerprint also accounts for the transformer's implementation, see {@link #implementationFingerprint()}.
+     * @param config The configuration
+     * @return A hash of the options of the configuration that influence the generated partner classes
+     */
+    @SuppressWarnings("deprecation") // The deprecated options still influence the generated partner classes
+    public static String transformationFingerprint(MulibConfig config) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("TRANSF_REPLACE_TO_BE_TRANSFORMED_CLASS_WITH_SPECIFIED_CLASS=")
+                .append(sorted(config.TRANSF_REPLACE_TO_BE_TRANSFORMED_CLASS_WITH_SPECIFIED_CLASS.entrySet().stream()
+                        .map(e -> e.getKey().getName() + "->" + e.getValue().getName())
+                        .collect(Collectors.toList())))
+                .append(",TRANSF_USE_DEFAULT_METHODS_TO_REPLACE_METHOD_CALLS_OF_NON_SUBSTITUTED_CLASS_WITH=")
+                .append(config.TRANSF_USE_DEFAULT_METHODS_TO_REPLACE_METHOD_CALLS_OF_NON_SUBSTITUTED_CLASS_WITH)
+                .append(",TRANSF_REPLACE_METHOD_WITH_OTHER_METHOD=")
+                .append(sorted(config.TRANSF_REPLACE_METHOD_WITH_OTHER_METHOD.entrySet().stream()
+                        .map(e -> e.getKey() + "->" + e.getValue())
+                        .collect(Collectors.toList())))
+                .append(",TRANSF_IGNORE_FROM_PACKAGES=").append(sorted(config.TRANSF_IGNORE_FROM_PACKAGES))
+                .append(",TRANSF_IGNORE_CLASSES=").append(sortedClassNames(config.TRANSF_IGNORE_CLASSES))
+                .append(",TRANSF_REGARD_SPECIAL_CASE=").append(sortedClassNames(config.TRANSF_REGARD_SPECIAL_CASE))
+                .append(",TRANSF_CONCRETIZE_FOR=").append(sortedClassNames(config.TRANSF_CONCRETIZE_FOR))
+                .append(",TRANSF_TRY_USE_MORE_GENERAL_METHOD_FOR=").append(sortedClassNames(config.TRANSF_TRY_USE_MORE_GENERAL_METHOD_FOR))
+                .append(",TRANSF_TREAT_SPECIAL_METHOD_CALLS=").append(config.TRANSF_TREAT_SPECIAL_METHOD_CALLS)
+                .append(",TRANSF_CFG_GENERATE_CHOICE_POINTS_WITH_ID=").append(config.TRANSF_CFG_GENERATE_CHOICE_POINTS_WITH_ID)
+                .append(",TRANSF_INCLUDE_PACKAGE_NAME=").append(config.TRANSF_INCLUDE_PACKAGE_NAME)
+                .append(",implementation=").append(implementationFingerprint());
+        return TransformedClassesManifest.hash(sb.toString());
+    }
+
+    /**
+     * The partner classes depend on all classes of the transformation as well as on the substitution classes they
+     * refer to, e.g., {@link de.wwu.mulib.substitutions.primitives.Sint}.
+     * Hence, the class files of the packages {@value #TRANSFORMATIONS_PACKAGE} and {@value #SUBSTITUTIONS_PACKAGE}
+     * (including subpackages) are hashed. Only the content of the class files is regarded, not their location, so that
+     * the fingerprint does not depend on the classpath. In particular, Soot is not regarded since partner classes
+     * are also loaded from precomputed jars without Soot on the classpath, see {@link #sootFingerprint()}.
+     * The result is computed once per JVM. If the classes of Mulib cannot be enumerated, a value unique to this JVM
+     * is returned so that partner classes stored by other processes are never used.
+     * @return A hash of the implementation of Mulib relevant for the generated partner classes
+     */
+    public static String implementationFingerprint() {
+        String result = implementationFingerprint;
+        if (result == null) {
+            result = computeImplementationFingerprint();
+            implementationFingerprint = result;
+        }
+        return result;
+    }
+
+    /**
+     * The partner classes further depend on the version of Soot. This is regarded by transformers that look up
+     * previously generated partner classes before transforming with Soot, see {@link CachingMulibTransformer}.
+     * If the jar containing Soot states its version in its manifest, this version is used. Otherwise, the content of
+     * the class files of Soot is hashed. The result is computed once per JVM.
+     * @return A representation of the version of Soot on the classpath, or the empty String, if Soot is not on the classpath
+     */
+    public static String sootFingerprint() {
+        String result = sootFingerprint;
+        if (result == null) {
+            result = computeSootFingerprint();
+            sootFingerprint = result;
+        }
+        return result;
+    }
+
+    private static String computeImplementationFingerprint() {
+        ClassLoader classLoader = TransformationUtility.class.getClassLoader();
+        StringBuilder sb = new StringBuilder();
+        try {
+            for (String classFile : listClassFilesOfMulib(TRANSFORMATIONS_PACKAGE, SUBSTITUTIONS_PACKAGE)) {
+                byte[] bytes = TransformedClassesManifest.readClassFile(
+                        classFile.substring(0, classFile.length() - ".class".length()).replace('/', '.'),
+                        classLoader
+                );
+                if (bytes == null) {
+                    throw new IOException("Cannot read " + classFile);
+                }
+                sb.append(classFile).append('=').append(TransformedClassesManifest.hash(bytes)).append(',');
+            }
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            Mulib.log.fine("Cannot determine the implementation of Mulib; - stored partner classes will not be used: " + e.getMessage());
+            return "unknown-" + UUID.randomUUID();
+        }
+        return TransformedClassesManifest.hash(sb.toString());
+    }
+
+    private static String computeSootFingerprint() {
+        URL soot = TransformationUtility.class.getClassLoader().getResource(SOOT_SCENE_CLASS_FILE);
+        if (soot == null) {
+            return "";
+        }
+        try {
+            URLConnection connection = soot.openConnection();
+            if (!(connection instanceof JarURLConnection)) {
+                // Soot's classes are not contained in a jar; - only the central class is hashed
+                try (InputStream is = connection.getInputStream()) {
+                    return "content:" + TransformedClassesManifest.hash(is.readAllBytes());
+                }
+            }
+            connection.setUseCaches(false);
+            try (JarFile jar = ((JarURLConnection) connection).getJarFile()) {
+                Manifest manifest = jar.getManifest();
+                if (manifest != null) {
+                    Attributes attributes = manifest.getMainAttributes();
+                    String version = attributes.getValue(Attributes.Name.IMPLEMENTATION_VERSION);
+                    if (version == null) {
+                        version = attributes.getValue("Bundle-Version");
+                    }
+                    if (version != null) {
+                        return "version:" + version;
+                    }
+                }
+                StringBuilder sb = new StringBuilder();
+                List<JarEntry> classFiles = jar.stream()
+                        .filter(e -> e.getName().startsWith("soot/") && e.getName().endsWith(".class"))
+                        .sorted(Comparator.comparing(JarEntry::getName))
+                        .collect(Collectors.toList());
+                for (JarEntry e : classFiles) {
+                    try (InputStream is = jar.getInputStream(e)) {
+                        sb.append(e.getName()).append('=').append(TransformedClassesManifest.hash(is.readAllBytes())).append(',');
+                    }
+                }
+                return "content:" + TransformedClassesManifest.hash(sb.toString());
+            }
+        } catch (IOException e) {
+            Mulib.log.fine("Cannot determine the version of Soot; - stored partner classes will not be used: " + e.getMessage());
+            return "unknown-" + UUID.randomUUID();
+        }
+    }
+
+    // Returns the sorted paths of the class files in the packages, e.g., de/wwu/mulib/substitutions/Sarray.class
+    private static SortedSet<String> listClassFilesOfMulib(String... packagePaths) throws IOException, URISyntaxException {
+        CodeSource codeSource = TransformationUtility.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null) {
+            throw new IOException("The location of the classes of Mulib is unknown");
+        }
+        Path location = Paths.get(codeSource.getLocation().toURI());
+        SortedSet<String> result = new TreeSet<>();
+        if (Files.isDirectory(location)) {
+            for (String packagePath : packagePaths) {
+                try (Stream<Path> files = Files.walk(location.resolve(packagePath))) {
+                    files.filter(f -> f.toString().endsWith(".class"))
+                            .forEach(f -> result.add(location.relativize(f).toString().replace(File.separatorChar, '/')));
+                }
+            }
+        } else {
+            try (JarFile jar = new JarFile(location.toFile())) {
+                jar.stream()
+                        .map(JarEntry::getName)
+                        .filter(n -> n.endsWith(".class") && Arrays.stream(packagePaths).anyMatch(n::startsWith))
+                        .forEach(result::add);
+            }
+        }
+        if (result.isEmpty()) {
+            throw new IOException("No classes found in " + location);
+        }
+        return result;
+    }
+
+    private static String sortedClassNames(Collection<Class<?>> classes) {
+        return sorted(classes.stream().map(Class::getName).collect(Collectors.toList()));
+    }
+
+    private static String sorted(Collection<String> strings) {
+        return strings.stream().sorted().collect(Collectors.joining(";", "[", "]"));
+    }
+
 }
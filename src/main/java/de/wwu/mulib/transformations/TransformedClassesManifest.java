@@ -0,0 +1,339 @@
+package de.wwu.mulib.transformations;
+
+import de.wwu.mulib.Mulib;
+import de.wwu.mulib.throwables.MulibRuntimeException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * The result of a transformation in a form that can be stored and loaded again without transforming the classes anew.
+ * Contains the class files of the generated partner classes and of the specialized sarray classes, the names of the
+ * original classes, and the hashes of the bytecode of the original classes at the time of the transformation.
+ * A manifest is stored as a directory containing the file {@value #MANIFEST_FILE_NAME} and the class files
+ * in the subdirectory {@value #CLASSES_DIRECTORY_NAME}. In a jar, this directory is {@value #JAR_DIRECTORY_NAME}.
+ * @see PrecomputedMulibTransformer
+ */
+public final class TransformedClassesManifest {
+    /**
+     * The name of the properties file describing the stored partner classes
+     */
+    public static final String MANIFEST_FILE_NAME = "manifest.properties";
+    /**
+     * The name of the directory containing the class files of the stored partner classes
+     */
+    public static final String CLASSES_DIRECTORY_NAME = "classes";
+    /**
+     * The directory in a jar containing the manifest
+     */
+    public static final String JAR_DIRECTORY_NAME = "META-INF/mulib";
+    private static final String FORMAT_VERSION = "1";
+    private static final String VERSION_KEY = "version";
+    private static final String NUMBER_NUMBERED_CHOICE_POINTS_KEY = "numberNumberedChoicePoints";
+    private static final String TRANSFORMATION_FINGERPRINT_KEY = "transformationFingerprint";
+    private static final String PARTNER_CLASS_PREFIX = "partner.";
+    private static final String HASH_PREFIX = "hash.";
+    private static final String PROPERTIES_COMMENT = "Partner classes generated by Mulib";
+
+    // original class name or array type name -> name of partner class or specialized sarray class
+    private final Map<String, String> originalToPartnerClassName;
+    // name of partner class or specialized sarray class -> class file
+    private final Map<String, byte[]> partnerClassNameToClassFile;
+    // original class name -> hash of class file; the array type names are not contained
+    private final Map<String, String> originalClassNameToHash;
+    // -1, if choice points were not numbered during the transformation
+    private final long numberNumberedChoicePoints;
+    // The fingerprint of the configuration used for the transformation
+    private final String transformationFingerprint;
+
+    /**
+     * @param originalToPartnerClassName A map of (original class name or array type name, name of partner class or
+     *                                   specialized sarray class)-pairs
+     * @param partnerClassNameToClassFile A map of (name of partner class or specialized sarray class, class file)-pairs
+     * @param originalClassNameToHash A map of (original class name, hash of the original class file)-pairs
+     * @param numberNumberedChoicePoints The number of numbered choice points, or -1, if choice points were not numbered
+     * @param transformationFingerprint The {@link TransformationUtility#transformationFingerprint(de.wwu.mulib.MulibConfig)}
+     *                                  of the configuration used for the transformation
+     */
+    public TransformedClassesManifest(
+            Map<String, String> originalToPartnerClassName,
+            Map<String, byte[]> partnerClassNameToClassFile,
+            Map<String, String> originalClassNameToHash,
+            long numberNumberedChoicePoints,
+            String transformationFingerprint) {
+        for (String partnerClassName : originalToPartnerClassName.values()) {
+            if (!partnerClassNameToClassFile.containsKey(partnerClassName)) {
+                throw new MulibRuntimeException("Class file of partner class " + partnerClassName + " is missing");
+            }
+        }
+        this.originalToPartnerClassName = Collections.unmodifiableMap(new LinkedHashMap<>(originalToPartnerClassName));
+        this.partnerClassNameToClassFile = Collections.unmodifiableMap(new LinkedHashMap<>(partnerClassNameToClassFile));
+        this.originalClassNameToHash = Collections.unmodifiableMap(new LinkedHashMap<>(originalClassNameToHash));
+        this.numberNumberedChoicePoints = numberNumberedChoicePoints;
+        this.transformationFingerprint = transformationFingerprint;
+    }
+
+    /**
+     * @return The {@link TransformationUtility#transformationFingerprint(de.wwu.mulib.MulibConfig)} of the configuration
+     * used for the transformation
+     */
+    public String getTransformationFingerprint() {
+        return transformationFingerprint;
+    }
+
+    /**
+     * @return An unmodifiable map of (original class name or array type name, name of partner class or specialized
+     * sarray class)-pairs
+     */
+    public Map<String, String> getOriginalToPartnerClassName() {
+        return originalToPartnerClassName;
+    }
+
+    /**
+     * @param partnerClassName The name of a partner class or specialized sarray class
+     * @return The class file, or null, if the class is not contained in this manifest
+     */
+    public byte[] getClassFile(String partnerClassName) {
+        return partnerClassNameToClassFile.get(partnerClassName);
+    }
+
+    /**
+     * @return The number of numbered choice points, or -1, if choice points were not numbered during the transformation
+     */
+    public long getNumberNumberedChoicePoints() {
+        return numberNumberedChoicePoints;
+    }
+
+    /**
+     * @param classes The original classes
+     * @return true, if partner classes for all of the classes are contained in this manifest
+     */
+    public boolean containsPartnerClassesFor(Class<?>... classes) {
+        for (Class<?> c : classes) {
+            if (!originalToPartnerClassName.containsKey(c.getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the bytecode of the original classes is still the bytecode that was transformed.
+     * For this, the current class files are hashed.
+     * @param classLoader The class loader via which the original classes are loaded
+     * @return true, if all original classes are unchanged, else false
+     */
+    public boolean isUpToDate(ClassLoader classLoader) {
+        for (Map.Entry<String, String> entry : originalClassNameToHash.entrySet()) {
+            byte[] currentClassFile = readClassFile(entry.getKey(), classLoader);
+            if (currentClassFile == null || !entry.getValue().equals(hash(currentClassFile))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes this manifest to the specified directory. To avoid other processes reading a partially written manifest,
+     * the manifest is first written to a temporary sibling directory which is then moved.
+     * If the directory already exists, it is replaced.
+     * @param directory The directory
+     */
+    public void writeTo(Path directory) {
+        try {
+            Path parent = directory.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempDirectory(parent, directory.getFileName().toString());
+            Path classesDirectory = tmp.resolve(CLASSES_DIRECTORY_NAME);
+            Files.createDirectories(classesDirectory);
+            for (Map.Entry<String, byte[]> entry : partnerClassNameToClassFile.entrySet()) {
+                Files.write(classesDirectory.resolve(entry.getKey() + ".class"), entry.getValue());
+            }
+            try (OutputStream os = Files.newOutputStream(tmp.resolve(MANIFEST_FILE_NAME))) {
+                toProperties().store(os, PROPERTIES_COMMENT);
+            }
+            try {
+                if (Files.exists(directory)) {
+                    deleteRecursively(directory);
+                }
+                Files.move(tmp, directory);
+            } catch (IOException e) {
+                // Another process might have stored the same manifest in the meantime
+                deleteRecursively(tmp);
+                if (!Files.isDirectory(directory)) {
+                    throw e;
+                }
+            }
+        } catch (IOException e) {
+            throw new MulibRuntimeException("Failed to write the transformed classes to " + directory, e);
+        }
+    }
+
+    /**
+     * Writes this manifest into a new jar. The jar only contains the manifest in {@value #JAR_DIRECTORY_NAME}.
+     * @param jar The path of the jar. An existing file is overwritten
+     */
+    public void writeToJar(Path jar) {
+        try {
+            Path parent = jar.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            try (JarOutputStream jos = new JarOutputStream(Files.newOutputStream(jar))) {
+                jos.putNextEntry(new JarEntry(JAR_DIRECTORY_NAME + "/" + MANIFEST_FILE_NAME));
+                toProperties().store(jos, PROPERTIES_COMMENT);
+                jos.closeEntry();
+                for (Map.Entry<String, byte[]> entry : partnerClassNameToClassFile.entrySet()) {
+                    jos.putNextEntry(new JarEntry(JAR_DIRECTORY_NAME + "/" + CLASSES_DIRECTORY_NAME + "/" + entry.getKey() + ".class"));
+                    jos.write(entry.getValue());
+                    jos.closeEntry();
+                }
+            }
+        } catch (IOException e) {
+            throw new MulibRuntimeException("Failed to write the transformed classes to " + jar, e);
+        }
+    }
+
+    /**
+     * Reads a manifest from a jar written by {@link #writeToJar(Path)}.
+     * @param jar The path of the jar
+     * @return The manifest, or {@link Optional#empty()}, if the jar does not contain a complete manifest
+     */
+    public static Optional<TransformedClassesManifest> readFromJar(Path jar) {
+        if (!Files.isRegularFile(jar)) {
+            return Optional.empty();
+        }
+        try (FileSystem jarFileSystem = FileSystems.newFileSystem(jar, (ClassLoader) null)) {
+            return readFrom(jarFileSystem.getPath(JAR_DIRECTORY_NAME));
+        } catch (IOException e) {
+            Mulib.log.fine("Could not read the transformed classes from " + jar + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Properties toProperties() {
+        Properties properties = new Properties();
+        properties.setProperty(VERSION_KEY, FORMAT_VERSION);
+        properties.setProperty(NUMBER_NUMBERED_CHOICE_POINTS_KEY, String.valueOf(numberNumberedChoicePoints));
+        properties.setProperty(TRANSFORMATION_FINGERPRINT_KEY, transformationFingerprint);
+        for (Map.Entry<String, String> entry : originalToPartnerClassName.entrySet()) {
+            properties.setProperty(PARTNER_CLASS_PREFIX + entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, String> entry : originalClassNameToHash.entrySet()) {
+            properties.setProperty(HASH_PREFIX + entry.getKey(), entry.getValue());
+        }
+        return properties;
+    }
+
+    /**
+     * Reads a manifest from the specified directory.
+     * @param directory The directory
+     * @return The manifest, or {@link Optional#empty()}, if there is no complete manifest in the directory
+     */
+    public static Optional<TransformedClassesManifest> readFrom(Path directory) {
+        Path manifestFile = directory.resolve(MANIFEST_FILE_NAME);
+        if (!Files.isRegularFile(manifestFile)) {
+            return Optional.empty();
+        }
+        try {
+            Properties properties = new Properties();
+            try (InputStream is = Files.newInputStream(manifestFile)) {
+                properties.load(is);
+            }
+            if (!FORMAT_VERSION.equals(properties.getProperty(VERSION_KEY))) {
+                return Optional.empty();
+            }
+            Map<String, String> originalToPartnerClassName = new LinkedHashMap<>();
+            Map<String, byte[]> partnerClassNameToClassFile = new LinkedHashMap<>();
+            Map<String, String> originalClassNameToHash = new LinkedHashMap<>();
+            for (String key : properties.stringPropertyNames()) {
+                String value = properties.getProperty(key);
+                if (key.startsWith(PARTNER_CLASS_PREFIX)) {
+                    originalToPartnerClassName.put(key.substring(PARTNER_CLASS_PREFIX.length()), value);
+                    Path classFile = directory.resolve(CLASSES_DIRECTORY_NAME).resolve(value + ".class");
+                    if (!Files.isRegularFile(classFile)) {
+                        return Optional.empty();
+                    }
+                    partnerClassNameToClassFile.put(value, Files.readAllBytes(classFile));
+                } else if (key.startsWith(HASH_PREFIX)) {
+                    originalClassNameToHash.put(key.substring(HASH_PREFIX.length()), value);
+                }
+            }
+            return Optional.of(new TransformedClassesManifest(
+                    originalToPartnerClassName,
+                    partnerClassNameToClassFile,
+                    originalClassNameToHash,
+                    Long.parseLong(properties.getProperty(NUMBER_NUMBERED_CHOICE_POINTS_KEY, "-1")),
+                    properties.getProperty(TRANSFORMATION_FINGERPRINT_KEY, "")
+            ));
+        } catch (IOException | NumberFormatException e) {
+            Mulib.log.fine("Could not read the transformed classes from " + directory + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the class file of a class via a class loader without loading the class
+     * @param className The name of the class
+     * @param classLoader The class loader via which the class is loaded. If null, the system class loader is used
+     * @return The class file, or null, if it cannot be found
+     */
+    public static byte[] readClassFile(String className, ClassLoader classLoader) {
+        ClassLoader loader = classLoader == null ? ClassLoader.getSystemClassLoader() : classLoader;
+        try (InputStream is = loader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            return is == null ? null : is.readAllBytes();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param parts The bytes to hash, in this order
+     * @return The hexadecimal representation of the SHA-256 hash of the bytes
+     */
+    public static String hash(byte[]... parts) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new MulibRuntimeException(e);
+        }
+        for (byte[] part : parts) {
+            digest.update(part);
+        }
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param s The String to hash
+     * @return The hexadecimal representation of the SHA-256 hash of the UTF-8 encoded String
+     */
+    public static String hash(String s) {
+        return hash(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void deleteRecursively(Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> children = Files.list(path)) {
+                for (Path child : (Iterable<Path>) children::iterator) {
+                    deleteRecursively(child);
+                }
+            }
+        }
+        Files.deleteIfExists(path);
+    }
+}
@@ -21,7 +21,11 @@ public final class SootClassLoader extends MulibClassLoader<SootClass> {
         if (classNode == null) {
             throw new MulibRuntimeException("Partner class node for '" + original  + "' not found.");
         }
-        MulibClassFileWriter<SootClass> classWriter = transformer.generateMulibClassFileWriter();
-        return defineClass(original, classNode.getName().replace("/", "."), classWriter.toByteArray(classNode));
+        byte[] classFile = transformer.takeGeneratedClassFile(original);
+        if (classFile == null) {
+            MulibClassFileWriter<SootClass> classWriter = transformer.generateMulibClassFileWriter();
+            classFile = classWriter.toByteArray(classNode);
+        }
+        return defineClass(original, classNode.getName().replace("/", "."), classFile);
     }
 }
@@ -17,8 +17,10 @@ import soot.tagkit.Tag;
 import soot.util.Chain;
 
 import java.io.File;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -354,33 +356,21 @@ public class SootMulibTransformer extends AbstractMulibTransformer<SootClass> {
     }
 
     @Override
-    public synchronized Class<?> getTransformedClass(Class<?> beforeTransformation) {
-        return super.getTransformedClass(beforeTransformation);
-    }
-
-    @Override
-    public synchronized Class<?> getPossiblyTransformedClass(Class<?> beforeTransformation) {
-        return super.getPossiblyTransformedClass(beforeTransformation);
-    }
-
-    @Override
-    public synchronized void setPartnerClass(Class<?> original, Class<?> partnerClass) {
-        super.setPartnerClass(original, partnerClass);
-    }
-
-    @Override
-    public synchronized Map<Class<?>, Class<?>> getArrayTypesToSpecializedSarrayClass() {
-        Map<Class<?>, Class<?>> result = new HashMap<>();
-        for (Map.Entry<String, SootClass> entry : this.arrayTypeToSpecialPartnerClassSarray.entrySet()) {
-            try {
-                Class<?> keyTypeTransformedToArrayType = transformType(Class.forName(entry.getKey()), true);
-                Class<?> actualClass = classLoader.loadClass(entry.getValue().getName());
-                result.put(keyTypeTransformedToArrayType, actualClass);
-            } catch (ClassNotFoundException e) {
-                throw new MulibRuntimeException(e);
+    public Map<Class<?>, Class<?>> getArrayTypesToSpecializedSarrayClass() {
+        // The specialized sarray classes might be defined here; - the lock of the class loader is acquired first
+        synchronized (classLoadingLock()) {
+            Map<Class<?>, Class<?>> result = new HashMap<>();
+            for (Map.Entry<String, SootClass> entry : this.arrayTypeToSpecialPartnerClassSarray.entrySet()) {
+                try {
+                    Class<?> keyTypeTransformedToArrayType = transformType(Class.forName(entry.getKey()), true);
+                    Class<?> actualClass = classLoader.loadClass(entry.getValue().getName());
+                    result.put(keyTypeTransformedToArrayType, actualClass);
+                } catch (ClassNotFoundException e) {
+                    throw new MulibRuntimeException(e);
+                }
             }
+            return result;
         }
-        return result;
     }
 
     @Override
@@ -461,12 +451,70 @@ public class SootMulibTransformer extends AbstractMulibTransformer<SootClass> {
             if ((c = resolvedClasses.get(name)) != null) {
                 return c;
             }
+            long start = System.nanoTime();
             c = Scene.v().forceResolve(name, SootClass.BODIES);
+            addToPhaseDuration("resolveClasses", start);
             resolvedClasses.put(name, c);
         }
         return c;
     }
 
+    // The Scene is shared by all instances of SootMulibTransformer. Classes that are not transformed are thus only
+    // resolved once per JVM; - since their bodies are not needed, their signatures suffice.
+    private static SootClass getLibraryClassNodeForName(String name) {
+        return Scene.v().forceResolve(name, SootClass.SIGNATURES);
+    }
+
+    // Partner classes of previous transformations remain in the shared Scene. They are removed before a partner class
+    // with the same name is generated so that only the application classes are set up anew for each transformation.
+    // Another transformer that still is reachable might still need its partner classes, e.g., to transform further
+    // classes or to lazily generate class files; - thus, only those partner classes are removed that were created by
+    // this transformer or by a transformer that is not reachable anymore
+    private void removeStalePartnerClassesFromScene(String partnerClassName) {
+        synchronized (syncObject) {
+            List<CreatedPartnerClass> created = partnerClassNameToCreatedPartnerClasses.get(partnerClassName);
+            if (created == null) {
+                return;
+            }
+            created.removeIf(c -> {
+                SootMulibTransformer creator = c.creator.get();
+                if (creator != null && creator != this) {
+                    return false;
+                }
+                if (c.partnerClass.isInScene()) {
+                    Scene.v().removeClass(c.partnerClass);
+                }
+                return true;
+            });
+            if (created.isEmpty()) {
+                partnerClassNameToCreatedPartnerClasses.remove(partnerClassName);
+            }
+        }
+    }
+
+    private void addCreatedPartnerClassToScene(SootClass partnerClass) {
+        synchronized (syncObject) {
+            Scene.v().addClass(partnerClass);
+            partnerClassNameToCreatedPartnerClasses
+                    .computeIfAbsent(partnerClass.getName(), k -> new ArrayList<>())
+                    .add(new CreatedPartnerClass(partnerClass, this));
+        }
+    }
+
+    // Guarded by syncObject
+    private static final Map<String, List<CreatedPartnerClass>> partnerClassNameToCreatedPartnerClasses = new HashMap<>();
+
+    private static final class CreatedPartnerClass {
+        final SootClass partnerClass;
+        // The creator must not be kept reachable by the Scene
+        final WeakReference<SootMulibTransformer> creator;
+
+        CreatedPartnerClass(SootClass partnerClass, SootMulibTransformer creator) {
+            this.partnerClass = partnerClass;
+            this.creator = new WeakReference<>(creator);
+        }
+    }
+
     private static boolean classRepresentedByType(Class<?> c, Type t) {
         if (c.isPrimitive()) {
             if (c == int.class) {
@@ -2475,12 +2523,14 @@ public class SootMulibTransformer extends AbstractMulibTransformer<SootClass> {
     @Override
     protected SootClass transformClassNode(SootClass toTransform) {
         // Create new SootClass with the transformation prefix
-        SootClass result = new SootClass(addTransformationIndicatorToName(toTransform.getName()));
+        String partnerClassName = addTransformationIndicatorToName(toTransform.getName());
+        removeStalePartnerClassesFromScene(partnerClassName);
+        SootClass result = new SootClass(partnerClassName);
         // Set modifiers
         result.setModifiers(toTransform.getModifiers());
         // The class is already added and added to the set of resolved classes. This is done to ensure that
         // we can use it later on
-        Scene.v().addClass(result);
+        addCreatedPartnerClassToScene(result);
         resolvedClasses.put(result.getName(), result);
         // Set super class and interfaces
         SootClass sootSuperClass = transformEnrichAndValidateIfNotSpecialCase(toTransform.getSuperclass().getName());
@@ -2534,6 +2584,7 @@ public class SootMulibTransformer extends AbstractMulibTransformer<SootClass> {
         }
 
         // Transform methods
+        Map<SootMethod, TaintAnalysis> taintAnalyses = analyzeMethods(toTransform);
         for (SootMethod m : toTransform.getMethods()) {
             if (m.isNative()) {
                 SootMethod substituted = sootReplaceMethodWithOtherMethod.get(m);
@@ -2543,7 +2594,7 @@ public class SootMulibTransformer extends AbstractMulibTransformer<SootClass> {
                 }
                 continue;
             }
-            SootMethod transformedMethod = transformMethod(m, result);
+            SootMethod transformedMethod = transformMethod(m, result, taintAnalyses.get(m));
             result.addMethod(transformedMethod);
         }
 
@@ -2577,7 +2628,29 @@ public class SootMulibTransformer extends AbstractMulibTransformer<SootClass> {
     }
 
 
-    private SootMethod transformMethod(final SootMethod toTransform, final SootClass declaringTransformedClass) {
+    // The taint analyses of the methods of a class are independent of each other and are executed in parallel, if
+    // configured. The analyzers retrieve the bodies of the methods, which mutates the Scene; - they are thus constructed
+    // sequentially. In this case, the analyzers also resolve all references and types beforehand so that the analyses
+    // themselves do not access the Scene, see TaintAnalyzer#resolveReferences.
+    private Map<SootMethod, TaintAnalysis> analyzeMethods(SootClass toTransform) {
+        long start = System.nanoTime();
+        List<TaintAnalyzer> analyzers = new ArrayList<>();
+        for (SootMethod m : toTransform.getMethods()) {
+            if (m.isNative() || m.isAbstract()) {
+                continue;
+            }
+            analyzers.add(new TaintAnalyzer(config, this, m, v));
+        }
+        Map<SootMethod, TaintAnalysis> result = new ConcurrentHashMap<>();
+        forEachInParallel(analyzers, analyzer -> result.put(analyzer.getOriginalSootMethod(), analyzer.analyze()));
+        addToPhaseDuration("taintAnalysis", start);
+        return result;
+    }
+
+    private SootMethod transformMethod(
+            final SootMethod toTransform,
+            final SootClass declaringTransformedClass,
+            final TaintAnalysis a) {
         // Replace parameter types and return types
         List<Type> transformedParameterTypes = transformTypes(toTransform.getParameterTypes());
         Type transformedReturnType = transformType(toTransform.getReturnType());
@@ -2596,10 +2669,7 @@ public class SootMulibTransformer extends AbstractMulibTransformer<SootClass> {
         if (toTransform.isAbstract()) {
             return result;
         }
-        // Analyze which parts of the jimple body need to be replaced
-        TaintAnalyzer gta = new TaintAnalyzer(config, this, toTransform, v);
-        TaintAnalysis a = gta.analyze();
-
+        // The analysis of which parts of the jimple body need to be replaced was conducted in analyzeMethods
         JimpleBody transformedBody = Jimple.v().newBody(result);
         result.setActiveBody(transformedBody);
         JimpleBody toTransformBody = a.analyzedBody;
@@ -4704,7 +4774,7 @@ public class SootMulibTransformer extends AbstractMulibTransformer<SootClass> {
                 assert transformedClassNodes.get(toTransformName) != null : "Setting class in transformedClassNodes failed! Config: " + config;
                 return result;
             } else {
-                return getClassNodeForName(toTransformName);
+                return getLibraryClassNodeForName(toTransformName);
             }
         }
     }
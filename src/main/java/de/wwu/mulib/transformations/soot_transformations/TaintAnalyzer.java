@@ -2,6 +2,7 @@ package de.wwu.mulib.transformations.soot_transformations;
 
 import de.wwu.mulib.Mulib;
 import de.wwu.mulib.MulibConfig;
+import de.wwu.mulib.throwables.MulibIllegalStateException;
 import de.wwu.mulib.throwables.NotYetImplementedException;
 import soot.*;
 import soot.jimple.*;
@@ -33,6 +34,13 @@ public class TaintAnalyzer {
     // FieldRef, ArrayRef or Local -> Type
     private final Map<Value, Type> valueHolderToClassConstantType = new HashMap<>();
     private final SootMulibClassesAndMethods sootMulibClassesAndMethods;
+    private final SootMethodRef freeObjectRef;
+    private final SootMethodRef namedFreeObjectRef;
+    // Null, if the analyses are not executed in parallel. Otherwise, for each field reference and invoke expression, the
+    // resolved field or method, or the exception thrown while resolving it
+    private final Map<Value, Object> resolvedReferences;
+    // Only used if the analyses are executed in parallel
+    private final Map<ClassConstant, Type> classConstantToType = new HashMap<>();
 
     public TaintAnalyzer(
             MulibConfig config,
@@ -60,6 +68,78 @@ public class TaintAnalyzer {
             }
         }
         this.sootMulibClassesAndMethods = sootMulibClassesAndMethods;
+        this.freeObjectRef = sootMulibClassesAndMethods.SM_MULIB_FREE_OBJECT.makeRef();
+        this.namedFreeObjectRef = sootMulibClassesAndMethods.SM_MULIB_NAMED_FREE_OBJECT.makeRef();
+        if (config.TRANSF_PARALLELISM > 1) {
+            this.resolvedReferences = new HashMap<>();
+            resolveReferences();
+        } else {
+            this.resolvedReferences = null;
+        }
+    }
+
+    // Resolving field and method references and computing types might mutate the Scene, which is not thread-safe.
+    // If the analyses of multiple methods are executed in parallel, everything the analysis derives from the Scene is
+    // thus computed beforehand, while constructing the analyzers sequentially. A reference that cannot be resolved is
+    // not resolved anew during the analysis; - instead, the failure is rethrown if the analysis needs the reference.
+    private void resolveReferences() {
+        for (Value v : values) {
+            // Computing the type of, e.g., an array reference or a new array creates and caches the array types
+            v.getType();
+            if (v instanceof ClassConstant) {
+                classConstantToType.put((ClassConstant) v, ((ClassConstant) v).toSootType());
+            }
+            if (!(v instanceof FieldRef) && !(v instanceof InvokeExpr)) {
+                continue;
+            }
+            Object resolved;
+            try {
+                resolved = v instanceof FieldRef ? ((FieldRef) v).getField() : ((InvokeExpr) v).getMethod();
+            } catch (RuntimeException e) {
+                resolved = e;
+            }
+            resolvedReferences.put(v, resolved);
+        }
+    }
+
+    private SootField getField(FieldRef fieldRef) {
+        if (resolvedReferences == null) {
+            return fieldRef.getField();
+        }
+        return (SootField) getResolved(fieldRef);
+    }
+
+    private SootMethod getMethod(InvokeExpr invokeExpr) {
+        if (resolvedReferences == null) {
+            return invokeExpr.getMethod();
+        }
+        return (SootMethod) getResolved(invokeExpr);
+    }
+
+    private Object getResolved(Value reference) {
+        if (!resolvedReferences.containsKey(reference)) {
+            throw new MulibIllegalStateException("Reference " + reference + " in " + originalSootMethod.getSignature()
+                    + " was not resolved before the analysis");
+        }
+        Object resolved = resolvedReferences.get(reference);
+        if (resolved instanceof RuntimeException) {
+            throw (RuntimeException) resolved;
+        }
+        return resolved;
+    }
+
+    private Type getClassConstantType(ClassConstant classConstant) {
+        if (resolvedReferences == null) {
+            return classConstant.toSootType();
+        }
+        return classConstantToType.get(classConstant);
+    }
+
+    /**
+     * @return The method that is analyzed
+     */
+    public SootMethod getOriginalSootMethod() {
+        return originalSootMethod;
     }
 
     public TaintAnalysis analyze() {
@@ -95,7 +175,7 @@ public class TaintAnalyzer {
                 if (!mulibTransformer.shouldBeTransformed(((FieldRef) v).getFieldRef().declaringClass().getName())) {
                     continue;
                 }
-                Type t = ((FieldRef) v).getField().getType();
+                Type t = getField((FieldRef) v).getType();
                 if (!(t instanceof RefType)) {
                     // Ref types can be statically replaced
                     taintedValues.add(v);
@@ -306,7 +386,7 @@ public class TaintAnalyzer {
         }
         if (v instanceof InvokeExpr) {
             InvokeExpr invokeExpr = (InvokeExpr) v;
-            SootClass declaringClass = invokeExpr.getMethod().getDeclaringClass();
+            SootClass declaringClass = getMethod(invokeExpr).getDeclaringClass();
             if (!mulibTransformer.shouldBeTransformed(declaringClass.getName())) {
                 return false;
             }
@@ -320,8 +400,7 @@ public class TaintAnalyzer {
         }
         if (u.getRightOp() instanceof InvokeExpr) {
             InvokeExpr ie = (InvokeExpr) u.getRightOp();
-            if (!ie.getMethodRef().equals(sootMulibClassesAndMethods.SM_MULIB_FREE_OBJECT.makeRef())
-                    && !ie.getMethodRef().equals(sootMulibClassesAndMethods.SM_MULIB_NAMED_FREE_OBJECT.makeRef())) {
+            if (!ie.getMethodRef().equals(freeObjectRef) && !ie.getMethodRef().equals(namedFreeObjectRef)) {
                 return false;
             }
             Value potentiallyUsedClassConstant;
@@ -331,7 +410,7 @@ public class TaintAnalyzer {
                 potentiallyUsedClassConstant = ie.getArg(0);
             }
             Type typeOfClass = potentiallyUsedClassConstant instanceof ClassConstant ?
-                    ((ClassConstant) potentiallyUsedClassConstant).toSootType()
+                    getClassConstantType((ClassConstant) potentiallyUsedClassConstant)
                     :
                     valueHolderToClassConstantType.get(potentiallyUsedClassConstant);
             return typeOfClass instanceof ArrayType;
@@ -397,7 +476,7 @@ public class TaintAnalyzer {
         if (!declaringClassName.equals(Mulib.class.getName())) {
             return false;
         }
-        String methodName = s.getInvokeExpr().getMethod().getName();
+        String methodName = getMethod(s.getInvokeExpr()).getName();
         return sootMulibClassesAndMethods.isIndicatorMethodName(methodName);
     }
 }
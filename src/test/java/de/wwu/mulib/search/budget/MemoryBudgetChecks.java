@@ -0,0 +1,89 @@
+package de.wwu.mulib.search.budget;
+
+import de.wwu.mulib.MulibConfig;
+import de.wwu.mulib.TestUtility;
+import de.wwu.mulib.search.examples.BoolCounter;
+import de.wwu.mulib.search.executors.AbstractMulibExecutor;
+import de.wwu.mulib.search.executors.MulibExecutor;
+import de.wwu.mulib.search.trees.PathSolution;
+import de.wwu.mulib.throwables.MisconfigurationException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MemoryBudgetChecks {
+
+    @Test
+    public void testLimits() {
+        MemoryBudget exceeded = MemoryBudget.getMemoryBudget(1, 1);
+        assertTrue(exceeded.isExceeded());
+        assertTrue(exceeded.isSoftLimitExceeded());
+        // Staying above the soft limit does not count as another crossing
+        assertEquals(1, exceeded.getSoftLimitCrossings());
+        exceeded.increment();
+        assertEquals(1, exceeded.getSoftLimitCrossings());
+
+        MemoryBudget notExceeded = MemoryBudget.getMemoryBudget(Long.MAX_VALUE, Long.MAX_VALUE);
+        assertFalse(notExceeded.isExceeded());
+        assertFalse(notExceeded.isSoftLimitExceeded());
+        assertEquals(0, notExceeded.getSoftLimitCrossings());
+    }
+
+    @Test
+    public void testSoftLimitMustNotExceedHardLimit() {
+        assertThrows(MisconfigurationException.class, () -> MulibConfig.builder()
+                .setBUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES(2)
+                .setBUDGETS_HARD_MEMORY_LIMIT_IN_BYTES(1)
+                .build());
+        assertThrows(MisconfigurationException.class, () -> MulibConfig.builder()
+                .setBUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES(-1)
+                .build());
+        MulibConfig.builder()
+                .setBUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES(1)
+                .setBUDGETS_HARD_MEMORY_LIMIT_IN_BYTES(1)
+                .build();
+    }
+
+    @Test
+    public void testHardLimitStopsSearch() {
+        TestUtility.getAllSolutions(mb -> {
+            mb.setBUDGETS_HARD_MEMORY_LIMIT_IN_BYTES(1);
+            List<PathSolution> result = TestUtility.executeMulib("_count4", BoolCounter.class, mb, false);
+            assertTrue(result.size() < 16);
+        }, "testHardLimitStopsSearch");
+    }
+
+    @Test
+    public void testCrossingSoftLimitEvictsCachesOncePerExecutor() {
+        TestUtility.getAllSolutions(mb -> {
+            Map<MulibExecutor, Integer> handledCrossings = Collections.synchronizedMap(new IdentityHashMap<>());
+            mb.setBUDGETS_SOFT_MEMORY_LIMIT_IN_BYTES(1)
+                    .setCALLBACK_PATH_SOLUTION((executor, pathSolution, solverManager) ->
+                            handledCrossings.put(executor, handledSoftMemoryLimitCrossings(executor)));
+            List<PathSolution> result = TestUtility.executeMulib("_count4", BoolCounter.class, mb, false);
+            // The soft limit does not stop the search
+            assertEquals(16, result.size());
+            assertFalse(handledCrossings.isEmpty());
+            // The occupied memory stays above the soft limit; - each executor evicted its caches exactly once
+            for (int handled : handledCrossings.values()) {
+                assertEquals(1, handled);
+            }
+        }, "testCrossingSoftLimitEvictsCachesOncePerExecutor");
+    }
+
+    private static int handledSoftMemoryLimitCrossings(MulibExecutor executor) {
+        try {
+            Field handled = AbstractMulibExecutor.class.getDeclaredField("handledSoftMemoryLimitCrossings");
+            handled.setAccessible(true);
+            return (int) handled.get(executor);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
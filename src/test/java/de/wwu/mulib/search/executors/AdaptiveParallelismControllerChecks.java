@@ -0,0 +1,124 @@
+package de.wwu.mulib.search.executors;
+
+import de.wwu.mulib.MulibConfig;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveParallelismControllerChecks {
+
+    @Test
+    public void testDoesNotGrowWithoutChoiceOptions() {
+        AdaptiveParallelismController controller = new AdaptiveParallelismController(config(4, 0));
+        AtomicLong paths = new AtomicLong();
+        List<MulibExecutor> executors = List.of(executor(paths));
+        for (int i = 0; i < 10; i++) {
+            paths.addAndGet(10);
+            controller.sample(1, executors);
+            assertFalse(controller.tryActivate());
+        }
+    }
+
+    @Test
+    public void testGrowsAndShrinksWithTheNumberOfChoiceOptions() throws InterruptedException {
+        AdaptiveParallelismController controller = new AdaptiveParallelismController(config(3, 0));
+        AtomicLong paths = new AtomicLong();
+        List<MulibExecutor> executors = List.of(executor(paths));
+        int activated = 0;
+        for (int i = 0; i < 10; i++) {
+            // Strongly increasing throughput so that growing pays off
+            Thread.sleep(5);
+            paths.addAndGet(1L << (4 * i));
+            controller.sample(1_000, executors);
+            while (controller.tryActivate()) {
+                activated++;
+            }
+        }
+        assertEquals(controller.getMaxActive() - 1, activated);
+        Thread.sleep(5);
+        controller.sample(0, executors);
+        int parked = 0;
+        while (controller.tryPark()) {
+            parked++;
+        }
+        assertEquals(activated, parked);
+    }
+
+    @Test
+    public void testConcurrentSamplingKeepsTheNumberOfActiveExecutorsInBounds() throws InterruptedException {
+        AdaptiveParallelismController controller = new AdaptiveParallelismController(config(4, 0));
+        AtomicLong paths = new AtomicLong();
+        List<MulibExecutor> executors = List.of(executor(paths), executor(paths));
+        AtomicInteger active = new AtomicInteger(1);
+        AtomicInteger maxObserved = new AtomicInteger(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        int numberOfThreads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < numberOfThreads; t++) {
+            final int seed = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < 5_000; i++) {
+                        paths.incrementAndGet();
+                        controller.sample((i + seed) % 3 == 0 ? 0 : 1_000, executors);
+                        if (controller.tryActivate()) {
+                            maxObserved.accumulateAndGet(active.incrementAndGet(), Math::max);
+                            if (controller.tryPark()) {
+                                active.decrementAndGet();
+                            } else {
+                                active.decrementAndGet();
+                                controller.deactivate();
+                            }
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertNull(failure.get());
+        assertEquals(1, active.get());
+        assertTrue(maxObserved.get() <= 4);
+        assertTrue(controller.getMaxActive() >= 2 && controller.getMaxActive() <= 4);
+    }
+
+    private static MulibConfig config(int maxExecutors, long samplingIntervalInMs) {
+        return MulibConfig.builder()
+                .setSEARCH_ADAPTIVE_PARALLELISM_MAX_EXECUTORS(maxExecutors)
+                .setSEARCH_ADAPTIVE_PARALLELISM_SAMPLING_INTERVAL_IN_MS(samplingIntervalInMs)
+                .build();
+    }
+
+    private static MulibExecutor executor(AtomicLong evaluatedPaths) {
+        return (MulibExecutor) Proxy.newProxyInstance(
+                MulibExecutor.class.getClassLoader(),
+                new Class[] { MulibExecutor.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getNumberOfEvaluatedPaths":
+                            return evaluatedPaths.get();
+                        case "getTimeSpentInSolverInNanos":
+                            return 0L;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                }
+        );
+    }
+}
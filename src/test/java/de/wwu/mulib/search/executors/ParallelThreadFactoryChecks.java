@@ -0,0 +1,71 @@
+package de.wwu.mulib.search.executors;
+
+import de.wwu.mulib.TestUtility;
+import de.wwu.mulib.search.trees.PathSolution;
+import de.wwu.mulib.substitutions.primitives.Sint;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static de.wwu.mulib.search.executors.SearchStrategy.DFS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelThreadFactoryChecks {
+
+    @Test
+    public void testCustomThreadFactoryIsUsedForParallelExecutors() {
+        TestUtility.getAllSolutions(mb -> {
+            Set<Thread> created = ConcurrentHashMap.newKeySet();
+            Set<Thread> pathSolutionThreads = ConcurrentHashMap.newKeySet();
+            CountDownLatch foundByCreatedThread = new CountDownLatch(1);
+            Thread testThread = Thread.currentThread();
+            mb.setSEARCH_MAIN_STRATEGY(DFS)
+                    .setSEARCH_ADDITIONAL_PARALLEL_STRATEGIES(DFS, DFS)
+                    .setSEARCH_ACTIVATE_PARALLEL_FOR(1)
+                    .setSEARCH_PARALLEL_THREAD_FACTORY(r -> {
+                        Thread t = new Thread(r, "custom-mulib-executor-" + created.size());
+                        created.add(t);
+                        return t;
+                    })
+                    .setCALLBACK_PATH_SOLUTION((executor, pathSolution, solverManager) -> {
+                        Thread current = Thread.currentThread();
+                        pathSolutionThreads.add(current);
+                        if (created.contains(current)) {
+                            foundByCreatedThread.countDown();
+                        } else {
+                            // Give the executors on the created threads the chance to find a path solution
+                            try {
+                                foundByCreatedThread.await(50, TimeUnit.MILLISECONDS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                    });
+            List<PathSolution> result = TestUtility.executeMulib("_countLeaves", ParallelThreadFactoryChecks.class, mb, false);
+            assertEquals(256, result.size());
+            assertEquals(256, result.stream().map(ps -> ps.getSolution().returnValue).collect(Collectors.toSet()).size());
+            assertFalse(created.isEmpty());
+            assertEquals(0, foundByCreatedThread.getCount());
+            // All other executors run on threads of the factory
+            for (Thread t : pathSolutionThreads) {
+                assertTrue(t == testThread || created.contains(t), t.getName());
+            }
+        }, "testCustomThreadFactoryIsUsedForParallelExecutors");
+    }
+
+    public static Sint _countLeaves() {
+        SymbolicExecution se = SymbolicExecution.get();
+        Sint count = Sint.concSint(0);
+        for (int i = 0; i < 8; i++) {
+            if (se.boolChoice(se.symSbool())) {
+                count = count.add(Sint.concSint(1 << i), se);
+            }
+        }
+        return count;
+    }
+}
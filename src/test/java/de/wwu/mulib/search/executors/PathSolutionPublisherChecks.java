@@ -0,0 +1,183 @@
+package de.wwu.mulib.search.executors;
+
+import de.wwu.mulib.Mulib;
+import de.wwu.mulib.MulibContext;
+import de.wwu.mulib.TestUtility;
+import de.wwu.mulib.search.examples.BoolCounter;
+import de.wwu.mulib.search.trees.PathSolution;
+import de.wwu.mulib.solving.Solution;
+import de.wwu.mulib.substitutions.primitives.Sint;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PathSolutionPublisherChecks {
+
+    private static final AtomicInteger reachedLeaves = new AtomicInteger();
+
+    @Test
+    public void testDemandThrottlesThePublishedSolutions() {
+        TestUtility.getAllSolutions(mb -> {
+            mb.setTRANSF_TRANSFORMATION_REQUIRED(false);
+            MulibContext mc = Mulib.getMulibContext(BoolCounter.class, "_count4", mb);
+            List<Solution> received = new ArrayList<>();
+            AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            CountDownLatch firstTwo = new CountDownLatch(2);
+            CountDownLatch completed = new CountDownLatch(1);
+            mc.getSolutionPublisher().subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription s) {
+                    subscription.set(s);
+                    s.request(2);
+                }
+
+                @Override
+                public void onNext(Solution item) {
+                    synchronized (received) {
+                        received.add(item);
+                    }
+                    firstTwo.countDown();
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    failure.set(throwable);
+                    completed.countDown();
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.countDown();
+                }
+            });
+            try {
+                assertTrue(firstTwo.await(30, TimeUnit.SECONDS));
+                // No further solutions are published without further demand
+                assertFalse(completed.await(200, TimeUnit.MILLISECONDS));
+                synchronized (received) {
+                    assertEquals(2, received.size());
+                }
+                subscription.get().request(Long.MAX_VALUE);
+                assertTrue(completed.await(30, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            assertNull(failure.get());
+            synchronized (received) {
+                assertEquals(16, received.size());
+                Set<Object> returnValues = new HashSet<>();
+                for (Solution s : received) {
+                    returnValues.add(s.returnValue);
+                }
+                assertEquals(16, returnValues.size());
+            }
+        }, "testDemandThrottlesThePublishedSolutions");
+    }
+
+    @Test
+    public void testCancellationStopsTheSearch() {
+        TestUtility.getAllSolutions(mb -> {
+            mb.setTRANSF_TRANSFORMATION_REQUIRED(false);
+            MulibContext mc = Mulib.getMulibContext(PathSolutionPublisherChecks.class, "_countLeaves", mb);
+            reachedLeaves.set(0);
+            AtomicInteger received = new AtomicInteger();
+            AtomicBoolean terminated = new AtomicBoolean(false);
+            CountDownLatch first = new CountDownLatch(1);
+            mc.getPathSolutionPublisher().subscribe(new Flow.Subscriber<>() {
+                private Flow.Subscription subscription;
+                @Override
+                public void onSubscribe(Flow.Subscription s) {
+                    subscription = s;
+                    s.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(PathSolution item) {
+                    received.incrementAndGet();
+                    subscription.cancel();
+                    first.countDown();
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    terminated.set(true);
+                }
+
+                @Override
+                public void onComplete() {
+                    terminated.set(true);
+                }
+            });
+            try {
+                assertTrue(first.await(30, TimeUnit.SECONDS));
+                // Executors that are currently evaluating a path are allowed to finish it
+                Thread.sleep(200);
+                int leavesAfterCancel = reachedLeaves.get();
+                Thread.sleep(300);
+                assertEquals(leavesAfterCancel, reachedLeaves.get());
+                assertTrue(leavesAfterCancel < 1024);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            // After cancelling, neither further elements nor the termination are signalled
+            assertEquals(1, received.get());
+            assertFalse(terminated.get());
+        }, "testCancellationStopsTheSearch");
+    }
+
+    @Test
+    public void testTrySplitSplitsOffComputedSolutions() {
+        TestUtility.getAllSolutions(mb -> {
+            mb.setTRANSF_TRANSFORMATION_REQUIRED(false);
+            Spliterator<Solution> spliterator =
+                    Mulib.getSolutionStream(BoolCounter.class, "_count4", mb, new Class<?>[0], new Object[0]).spliterator();
+            Set<Object> returnValues = new HashSet<>();
+            Spliterator<Solution> split = spliterator.trySplit();
+            assertNotNull(split);
+            assertTrue(split.hasCharacteristics(Spliterator.NONNULL));
+            int inSplit = 0;
+            while (split.tryAdvance(s -> returnValues.add(s.returnValue))) {
+                inSplit++;
+            }
+            assertTrue(inSplit > 0);
+            int inRemainder = 0;
+            while (spliterator.tryAdvance(s -> returnValues.add(s.returnValue))) {
+                inRemainder++;
+            }
+            assertEquals(16, inSplit + inRemainder);
+            assertEquals(16, returnValues.size());
+
+            long inParallel = Mulib.getSolutionStream(BoolCounter.class, "_count4", mb, new Class<?>[0], new Object[0])
+                    .parallel()
+                    .map(s -> s.returnValue)
+                    .distinct()
+                    .count();
+            assertEquals(16, inParallel);
+        }, "testTrySplitSplitsOffComputedSolutions");
+    }
+
+    public static Sint _countLeaves() {
+        SymbolicExecution se = SymbolicExecution.get();
+        Sint count = Sint.concSint(0);
+        for (int i = 0; i < 10; i++) {
+            if (se.boolChoice(se.symSbool())) {
+                count = count.add(Sint.concSint(1 << i), se);
+            }
+        }
+        reachedLeaves.incrementAndGet();
+        return count;
+    }
+}
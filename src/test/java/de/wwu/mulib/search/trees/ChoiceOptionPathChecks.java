@@ -0,0 +1,116 @@
+package de.wwu.mulib.search.trees;
+
+import de.wwu.mulib.constraints.Constraint;
+import de.wwu.mulib.substitutions.primitives.Sbool;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChoiceOptionPathChecks {
+
+    @Test
+    public void testBitsFor() {
+        assertEquals(0, ChoiceOptionPath.bitsFor(1));
+        assertEquals(1, ChoiceOptionPath.bitsFor(2));
+        assertEquals(2, ChoiceOptionPath.bitsFor(3));
+        assertEquals(2, ChoiceOptionPath.bitsFor(4));
+        assertEquals(3, ChoiceOptionPath.bitsFor(5));
+        assertEquals(8, ChoiceOptionPath.bitsFor(256));
+    }
+
+    @Test
+    public void testNavigationFromRoot() {
+        // Deep enough so that the paths span several 64-bit words
+        List<Choice.ChoiceOption> leaves = new ArrayList<>();
+        Choice root = new Choice(null, Sbool.ConcSbool.TRUE);
+        buildRandomPath(root.getOption(0), 200, new Random(42), leaves);
+        buildRandomPath(firstUnevaluatedFrom(leaves, 50), 150, new Random(7), leaves);
+        for (Choice.ChoiceOption target : leaves) {
+            List<Choice.ChoiceOption> expected = naivePathTo(target);
+            Choice.ChoiceOption current = root.getOption(0);
+            assertSame(expected.get(0), current);
+            for (int i = 1; i < expected.size(); i++) {
+                current = SearchTree.getNextOnPathTo(current, target);
+                assertSame(expected.get(i), current);
+            }
+            assertSame(target, current);
+        }
+    }
+
+    @Test
+    public void testDeepestSharedAncestor() {
+        List<Choice.ChoiceOption> options = new ArrayList<>();
+        Choice root = new Choice(null, Sbool.ConcSbool.TRUE);
+        buildRandomPath(root.getOption(0), 150, new Random(3), options);
+        buildRandomPath(firstUnevaluatedFrom(options, 30), 100, new Random(5), options);
+        buildRandomPath(firstUnevaluatedFrom(options, 120), 40, new Random(11), options);
+        Random r = new Random(13);
+        for (int i = 0; i < 2_000; i++) {
+            Choice.ChoiceOption co0 = options.get(r.nextInt(options.size()));
+            Choice.ChoiceOption co1 = options.get(r.nextInt(options.size()));
+            assertSame(naiveDeepestSharedAncestor(co0, co1), SearchTree.getDeepestSharedAncestor(co0, co1));
+            assertSame(naiveDeepestSharedAncestor(co0, co1), SearchTree.getDeepestSharedAncestor(co1, co0));
+        }
+    }
+
+    @Test
+    public void testAllConstraintsAreCollectedFromTheRoot() {
+        List<Choice.ChoiceOption> options = new ArrayList<>();
+        Choice root = new Choice(null, Sbool.ConcSbool.TRUE);
+        buildRandomPath(root.getOption(0), 80, new Random(17), options);
+        Choice.ChoiceOption target = options.get(options.size() - 1);
+        Constraint[] constraints = SearchTree.getAllConstraintsForChoiceOption(target).constraints;
+        List<Choice.ChoiceOption> expected = naivePathTo(target);
+        assertEquals(expected.size(), constraints.length);
+        for (int i = 0; i < constraints.length; i++) {
+            assertSame(expected.get(i).getOptionConstraint(), constraints[i]);
+        }
+    }
+
+    // Appends a path of choices with a random number of options, including single-option choices. All options
+    // are collected, the path is continued with a random option
+    private static void buildRandomPath(Choice.ChoiceOption start, int length, Random r, List<Choice.ChoiceOption> collectTo) {
+        Choice.ChoiceOption current = start;
+        for (int i = 0; i < length; i++) {
+            int numberOfOptions = 1 + r.nextInt(5);
+            Constraint[] constraints = new Constraint[numberOfOptions];
+            for (int j = 0; j < numberOfOptions; j++) {
+                constraints[j] = Sbool.newInputSymbolicSbool();
+            }
+            current.setSatisfiable();
+            Choice c = new Choice(current, constraints);
+            collectTo.addAll(c.getChoiceOptions());
+            current = c.getOption(r.nextInt(numberOfOptions));
+        }
+    }
+
+    private static Choice.ChoiceOption firstUnevaluatedFrom(List<Choice.ChoiceOption> options, int index) {
+        while (!options.get(index).isUnknown()) {
+            index++;
+        }
+        return options.get(index);
+    }
+
+    private static List<Choice.ChoiceOption> naivePathTo(Choice.ChoiceOption co) {
+        List<Choice.ChoiceOption> result = new ArrayList<>();
+        while (co != null) {
+            result.add(0, co);
+            co = co.getParentEdge();
+        }
+        return result;
+    }
+
+    private static Choice.ChoiceOption naiveDeepestSharedAncestor(Choice.ChoiceOption co0, Choice.ChoiceOption co1) {
+        List<Choice.ChoiceOption> p0 = naivePathTo(co0);
+        List<Choice.ChoiceOption> p1 = naivePathTo(co1);
+        Choice.ChoiceOption result = p0.get(0);
+        for (int i = 0; i < Math.min(p0.size(), p1.size()) && p0.get(i) == p1.get(i); i++) {
+            result = p0.get(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,68 @@
+package de.wwu.mulib.search.trees;
+
+import de.wwu.mulib.TestUtility;
+import de.wwu.mulib.search.executors.SymbolicExecution;
+import de.wwu.mulib.substitutions.Sarray;
+import de.wwu.mulib.substitutions.primitives.Sint;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PathSolutionChecks {
+
+    @Test
+    public void testLazilyAccumulatedConstraintsEqualConstraintsUponCreation() {
+        TestUtility.getAllSolutions(mb -> {
+            // Selects with symbolic indices are represented via partner class object constraints
+            mb.setSOLVER_HIGH_LEVEL_SYMBOLIC_OBJECT_APPROACH(true);
+            Map<PathSolution, SearchTree.AccumulatedChoiceOptionConstraints> uponCreation =
+                    Collections.synchronizedMap(new IdentityHashMap<>());
+            // Accumulate the constraints as they were copied into path solutions before the path solution is returned
+            mb.setCALLBACK_PATH_SOLUTION((executor, pathSolution, solverManager) ->
+                    uponCreation.put(pathSolution, SearchTree.getAllConstraintsForChoiceOption(pathSolution.parentEdge)));
+            List<PathSolution> result = TestUtility.executeMulib("_accessArray", PathSolutionChecks.class, mb, false);
+            assertEquals(8, result.size());
+            Set<Object> returnValues = result.stream().map(ps -> ps.getSolution().returnValue).collect(Collectors.toSet());
+            assertEquals(8, returnValues.size());
+            assertEquals(8, uponCreation.size());
+            // The search tree was explored further after each path solution was created
+            for (PathSolution ps : result) {
+                SearchTree.AccumulatedChoiceOptionConstraints expected = uponCreation.get(ps);
+                assertNotNull(expected);
+                assertArraysSame(expected.constraints, ps.getPathConstraints());
+                assertArraysSame(expected.partnerClassObjectConstraints, ps.getPartnerClassObjectConstraints());
+                // The accumulated constraints are cached
+                assertSame(ps.getPathConstraints(), ps.getPathConstraints());
+            }
+            assertTrue(result.stream().anyMatch(ps -> ps.getPartnerClassObjectConstraints().length > 0));
+        }, "testLazilyAccumulatedConstraintsEqualConstraintsUponCreation");
+    }
+
+    private static void assertArraysSame(Object[] expected, Object[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertSame(expected[i], actual[i]);
+        }
+    }
+
+    public static Sint _accessArray() {
+        SymbolicExecution se = SymbolicExecution.get();
+        Sarray.SintSarray array = se.sintSarray(se.concSint(4), true);
+        Sint count = Sint.concSint(0);
+        for (int i = 0; i < 3; i++) {
+            Sint element = array.select(se.symSint(), se);
+            if (element.gtChoice(se.concSint(0), se)) {
+                count = count.add(Sint.concSint(1 << i), se);
+                array.store(se.concSint(i), count, se);
+            }
+        }
+        return count;
+    }
+}
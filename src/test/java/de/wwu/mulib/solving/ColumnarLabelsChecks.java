@@ -0,0 +1,133 @@
+package de.wwu.mulib.solving;
+
+import de.wwu.mulib.substitutions.Substituted;
+import de.wwu.mulib.substitutions.primitives.Sbool;
+import de.wwu.mulib.substitutions.primitives.Sint;
+import de.wwu.mulib.throwables.MulibRuntimeException;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ColumnarLabelsChecks {
+
+    @Test
+    public void testSameLabelsAsStdLabels() {
+        Map<String, Object> idToLabel = new LinkedHashMap<>();
+        idToLabel.put("bool", true);
+        idToLabel.put("byte", (byte) -3);
+        idToLabel.put("short", (short) 300);
+        idToLabel.put("char", 'x');
+        idToLabel.put("int", Integer.MIN_VALUE);
+        idToLabel.put("long", Long.MAX_VALUE);
+        idToLabel.put("float", -1.5f);
+        idToLabel.put("double", Math.PI);
+        idToLabel.put("null", null);
+        idToLabel.put("string", "label");
+        Map<String, Substituted> idToNamedVar = new HashMap<>();
+        idToNamedVar.put("bool", Sbool.ConcSbool.TRUE);
+        idToNamedVar.put("int", Sint.concSint(Integer.MIN_VALUE));
+
+        ColumnarLabels.Builder builder = new ColumnarLabels.Builder(new LabelsSchema());
+        for (Map.Entry<String, Object> entry : idToLabel.entrySet()) {
+            builder.put(entry.getKey(), idToNamedVar.get(entry.getKey()), LabelSnapshot.ofLabel(entry.getValue()));
+        }
+        LabelSnapshot.ArraySnapshot array = LabelSnapshot.newArraySnapshot(int.class, 2);
+        array.setElement(1, LabelSnapshot.ofLabel(7));
+        builder.put("array", null, array);
+        // The array label is constructed here so that both implementations share it
+        idToLabel.put("array", array.getLabel());
+
+        ColumnarLabels actual = builder.build();
+        StdLabels expected = new StdLabels(idToNamedVar, idToLabel);
+        for (String name : idToLabel.keySet()) {
+            assertEquals(expected.getLabelForId(name), actual.getLabelForId(name), name);
+            assertEquals(expected.getNamedVar(name), actual.getNamedVar(name), name);
+        }
+        assertNull(actual.getLabelForId("unknown"));
+        assertNull(actual.getNamedVar("unknown"));
+        assertEquals(expected.getIdToLabel(), actual.getIdToLabel());
+        assertEquals(actual.getIdToLabel(), expected.getIdToLabel());
+        assertEquals(expected.getIdToNamedVar(), actual.getIdToNamedVar());
+        assertEquals(new HashSet<>(expected.getNames()), new HashSet<>(actual.getNames()));
+        assertTrue(actual.getIdToLabel().containsKey("null"));
+        assertFalse(actual.getIdToNamedVar().containsKey("null"));
+        assertArrayEquals(new int[] { 0, 7 }, (int[]) actual.getLabelForId("array"));
+    }
+
+    @Test
+    public void testSchemaIsSharedBetweenSolutions() {
+        LabelsSchema schema = new LabelsSchema();
+        ColumnarLabels labels0 = new ColumnarLabels.Builder(schema)
+                .put("a", null, LabelSnapshot.ofLabel(1))
+                .put("b", null, LabelSnapshot.ofLabel(2))
+                .build();
+        ColumnarLabels.Builder builder1 = new ColumnarLabels.Builder(schema)
+                .put("b", null, LabelSnapshot.ofLabel(3))
+                .put("c", null, LabelSnapshot.ofLabel(4));
+        assertTrue(builder1.contains("b"));
+        assertFalse(builder1.contains("a"));
+        // Overwriting a label
+        builder1.put("c", null, LabelSnapshot.ofLabel("overwritten"));
+        builder1.put("c", null, LabelSnapshot.ofLabel(5));
+        ColumnarLabels labels1 = builder1.build();
+
+        assertEquals(3, schema.size());
+        assertEquals(schema.getColumn("b"), labels0.getSchema().getColumn("b"));
+        assertEquals(-1, schema.getColumn("d"));
+        assertEquals(Map.of("a", 1, "b", 2), labels0.getIdToLabel());
+        assertEquals(Map.of("b", 3, "c", 5), labels1.getIdToLabel());
+        // labels0 was built before the column for "c" was added
+        assertNull(labels0.getLabelForId("c"));
+        assertFalse(labels0.getIdToLabel().containsKey("c"));
+    }
+
+    @Test
+    public void testMatrixExport() {
+        LabelsSchema schema0 = new LabelsSchema();
+        LabelsSchema schema1 = new LabelsSchema();
+        List<Solution> solutions = List.of(
+                new Solution(null, new ColumnarLabels.Builder(schema0)
+                        .put("x", null, LabelSnapshot.ofLabel(1))
+                        .put("flag", null, LabelSnapshot.ofLabel(true))
+                        .put("d", null, LabelSnapshot.ofLabel(0.5))
+                        .build()),
+                new Solution(null, new ColumnarLabels.Builder(schema1)
+                        .put("flag", null, LabelSnapshot.ofLabel(false))
+                        .put("d", null, LabelSnapshot.ofLabel(2L))
+                        .put("x", null, LabelSnapshot.ofLabel((short) -2))
+                        .build()),
+                new Solution(null, new ColumnarLabels.Builder(schema0)
+                        .put("x", null, LabelSnapshot.ofLabel('a'))
+                        .put("flag", null, LabelSnapshot.ofLabel(true))
+                        .put("d", null, LabelSnapshot.ofLabel(-1.25f))
+                        .build()),
+                new Solution(null, new StdLabels(Map.of(), Map.of("x", 9, "flag", false, "d", 3.0)))
+        );
+        assertArrayEquals(
+                new int[][] { { 1, 1 }, { -2, 0 }, { 'a', 1 }, { 9, 0 } },
+                ColumnarLabels.toIntMatrix(solutions, "x", "flag")
+        );
+        double[][] doubles = ColumnarLabels.toDoubleMatrix(solutions, "d", "x");
+        assertArrayEquals(new double[] { 0.5, 1 }, doubles[0]);
+        assertArrayEquals(new double[] { 2, -2 }, doubles[1]);
+        assertArrayEquals(new double[] { -1.25, 'a' }, doubles[2]);
+        assertArrayEquals(new double[] { 3, 9 }, doubles[3]);
+        // The exports are consistent with the labels
+        int[][] ints = ColumnarLabels.toIntMatrix(solutions, "flag");
+        for (int i = 0; i < solutions.size(); i++) {
+            assertEquals((Boolean) solutions.get(i).labels.getLabelForId("flag") ? 1 : 0, ints[i][0]);
+        }
+
+        assertThrows(MulibRuntimeException.class, () -> ColumnarLabels.toIntMatrix(solutions, "d"));
+        assertThrows(MulibRuntimeException.class, () -> ColumnarLabels.toIntMatrix(solutions, "unknown"));
+        assertThrows(MulibRuntimeException.class, () -> ColumnarLabels.toDoubleMatrix(List.of(
+                new Solution(null, new ColumnarLabels.Builder(schema0).put("d", null, LabelSnapshot.ofLabel("no number")).build())
+        ), "d"));
+    }
+}
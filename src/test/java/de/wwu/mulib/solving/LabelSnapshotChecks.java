@@ -0,0 +1,74 @@
+package de.wwu.mulib.solving;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LabelSnapshotChecks {
+
+    @Test
+    public void testSnapshotsYieldSameLabelsAsEagerConstruction() throws NoSuchFieldException {
+        // Eagerly constructed
+        Node expected = new Node();
+        expected.val = 42;
+        expected.values = new int[] { 1, 0, 3 };
+        expected.next = new Node();
+        expected.next.val = -1;
+
+        // From snapshots
+        LabelSnapshot.ArraySnapshot values = LabelSnapshot.newArraySnapshot(int.class, 3);
+        values.setElement(0, LabelSnapshot.ofLabel(1));
+        values.setElement(2, LabelSnapshot.ofLabel(3));
+        LabelSnapshot.ObjectSnapshot next = LabelSnapshot.newObjectSnapshot(Node.class);
+        next.setField(field("val"), LabelSnapshot.ofLabel(-1));
+        LabelSnapshot.ObjectSnapshot node = LabelSnapshot.newObjectSnapshot(Node.class);
+        node.setField(field("val"), LabelSnapshot.ofLabel(42));
+        node.setField(field("values"), values);
+        node.setField(field("next"), next);
+        node.setField(field("other"), LabelSnapshot.ofLabel(null));
+
+        Node actual = (Node) node.getLabel();
+        assertEquals(expected.val, actual.val);
+        assertArrayEquals(expected.values, actual.values);
+        assertEquals(expected.next.val, actual.next.val);
+        assertNull(actual.next.next);
+        assertNull(actual.next.values);
+        assertNull(actual.other);
+        // The label is constructed once
+        assertSame(actual, node.getLabel());
+        assertSame(actual.next, next.getLabel());
+    }
+
+    @Test
+    public void testSnapshotsPreserveAliasingAndCycles() throws NoSuchFieldException {
+        LabelSnapshot.ObjectSnapshot node = LabelSnapshot.newObjectSnapshot(Node.class);
+        LabelSnapshot.ObjectSnapshot other = LabelSnapshot.newObjectSnapshot(Node.class);
+        node.setField(field("next"), node);
+        node.setField(field("other"), other);
+        other.setField(field("other"), node);
+        LabelSnapshot.ArraySnapshot nodes = LabelSnapshot.newArraySnapshot(Node.class, 3);
+        nodes.setElement(0, node);
+        nodes.setElement(1, other);
+        nodes.setElement(2, node);
+
+        Node[] labels = (Node[]) nodes.getLabel();
+        assertSame(labels[0], labels[2]);
+        assertSame(labels[0], labels[0].next);
+        assertSame(labels[1], labels[0].other);
+        assertSame(labels[0], labels[1].other);
+        assertNull(labels[1].next);
+    }
+
+    private static Field field(String name) throws NoSuchFieldException {
+        return Node.class.getDeclaredField(name);
+    }
+
+    private static class Node {
+        int val;
+        int[] values;
+        Node next;
+        Node other;
+    }
+}
@@ -0,0 +1,234 @@
+package de.wwu.mulib.solving.object_representations;
+
+import de.wwu.mulib.MulibConfig;
+import de.wwu.mulib.constraints.*;
+import de.wwu.mulib.solving.Solvers;
+import de.wwu.mulib.solving.solvers.SolverManager;
+import de.wwu.mulib.substitutions.PartnerClass;
+import de.wwu.mulib.substitutions.Sarray;
+import de.wwu.mulib.substitutions.primitives.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArrayHistorySolverRepresentationChecks {
+
+    @Test
+    public void testConcreteSelectIsAnsweredByLastConcreteStore() {
+        ArrayHistorySolverRepresentation history =
+                new ArrayHistorySolverRepresentation(new ArrayAccessConstraint[0], Sint.class);
+        List<Sint> stored = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Sint value = Sint.newInputSymbolicSint();
+            stored.add(value);
+            history = history.store(Sbool.ConcSbool.TRUE, Sint.concSint(i), value);
+        }
+        Sint selected = Sint.newInputSymbolicSint();
+        Constraint c = history.select(Sbool.ConcSbool.TRUE, Sint.concSint(5), selected, true, false, Sint.class, false);
+        // No constraints for the other 19 stores are created
+        assertTrue(c instanceof Eq);
+        assertSame(stored.get(5), ((Eq) c).getLhs());
+        assertSame(selected, ((Eq) c).getRhs());
+
+        // Overwriting index 5 concretely removes the previous store to it
+        Sint overwritten = Sint.newInputSymbolicSint();
+        history = history.store(Sbool.ConcSbool.TRUE, Sint.concSint(5), overwritten);
+        Set<? extends Sprimitive> values = history.getValuesKnownToPossiblyBeContainedInArray(true);
+        assertTrue(values.contains(overwritten));
+        assertFalse(values.contains(stored.get(5)));
+        assertEquals(20, values.size());
+        c = history.select(Sbool.ConcSbool.TRUE, Sint.concSint(5), selected, true, false, Sint.class, false);
+        assertTrue(c instanceof Eq);
+        assertSame(overwritten, ((Eq) c).getLhs());
+    }
+
+    @Test
+    public void testConstraintsAreEquivalentToUnindexedHistory() {
+        SolverManager solverManager = Solvers.getSolverManager(MulibConfig.builder().build());
+        try {
+            for (int seed = 0; seed < 30; seed++) {
+                checkRandomHistory(new Random(seed), solverManager, "seed=" + seed);
+            }
+        } finally {
+            solverManager.shutdown();
+        }
+    }
+
+    // Performs the same random sequence of stores and selects on the indexed representation and on the
+    // unindexed reference below. After each step, the conjunctions of all select constraints must be equivalent
+    private static void checkRandomHistory(Random r, SolverManager solverManager, String message) {
+        Class<?> valueType = r.nextInt(5) < 3 ? Sint.class : Sarray.class;
+        boolean arrayIsCompletelyInitialized = r.nextBoolean();
+        boolean allowAliasing = r.nextBoolean();
+        boolean defaultValueForUnknownsShouldBeEnforced = r.nextBoolean();
+        Sint[] symbolicIndices = { Sint.newInputSymbolicSint(), Sint.newInputSymbolicSint(), Sint.newInputSymbolicSint() };
+        Sbool[] symbolicGuards = { Sbool.newInputSymbolicSbool(), Sbool.newInputSymbolicSbool() };
+
+        ArrayHistorySolverRepresentation actual =
+                new ArrayHistorySolverRepresentation(new ArrayAccessConstraint[0], valueType);
+        UnindexedArrayHistory expected = new UnindexedArrayHistory(valueType);
+        Constraint actualConstraints = Sbool.ConcSbool.TRUE;
+        Constraint expectedConstraints = Sbool.ConcSbool.TRUE;
+        for (int i = 0; i < 40; i++) {
+            Constraint guard = r.nextInt(4) < 3 ? Sbool.ConcSbool.TRUE : symbolicGuards[r.nextInt(symbolicGuards.length)];
+            Sint index = r.nextInt(5) < 3 ? Sint.concSint(r.nextInt(4)) : symbolicIndices[r.nextInt(symbolicIndices.length)];
+            if (r.nextInt(5) < 2) {
+                Sint value = r.nextBoolean() ? Sint.newInputSymbolicSint() : Sint.concSint(r.nextInt(4));
+                actual = actual.store(guard, index, value);
+                expected = expected.store(guard, index, value);
+            } else {
+                Sint value = Sint.newInputSymbolicSint();
+                actualConstraints = And.newInstance(actualConstraints, actual.select(
+                        guard, index, value, arrayIsCompletelyInitialized, allowAliasing, valueType,
+                        defaultValueForUnknownsShouldBeEnforced
+                ));
+                expectedConstraints = And.newInstance(expectedConstraints, expected.select(
+                        guard, index, value, arrayIsCompletelyInitialized, allowAliasing, valueType,
+                        defaultValueForUnknownsShouldBeEnforced
+                ));
+            }
+            if (i % 5 == 4) {
+                assertFalse(
+                        solverManager.checkWithNewConstraint(
+                                Not.newInstance(Equivalence.newInstance(expectedConstraints, actualConstraints))),
+                        message + ", step=" + i
+                );
+            }
+        }
+    }
+
+    // The representation before concrete accesses were indexed: each select regards every store and every
+    // recorded select
+    private static final class UnindexedArrayHistory {
+        private final List<Access> selects = new ArrayList<>();
+        private final Access store;
+        private final UnindexedArrayHistory beforeStore;
+        private final Sint defaultValue;
+
+        UnindexedArrayHistory(Class<?> valueType) {
+            this.store = null;
+            this.beforeStore = null;
+            this.defaultValue = Sint.class.isAssignableFrom(valueType) ? Sint.ConcSint.ZERO : Sint.ConcSint.MINUS_ONE;
+        }
+
+        private UnindexedArrayHistory(UnindexedArrayHistory beforeStore, Access store) {
+            this.store = store;
+            this.beforeStore = beforeStore;
+            this.defaultValue = beforeStore.defaultValue;
+        }
+
+        Constraint select(
+                Constraint guard,
+                Sint index,
+                Sint value,
+                boolean arrayIsCompletelyInitialized,
+                boolean allowAliasing,
+                Class<?> valueType,
+                boolean defaultValueForUnknownsShouldBeEnforced) {
+            if (guard instanceof Sbool.ConcSbool && ((Sbool.ConcSbool) guard).isFalse()) {
+                return Sbool.ConcSbool.TRUE;
+            }
+            Constraint selectConstraint = _select(
+                    index,
+                    value,
+                    !arrayIsCompletelyInitialized
+                            && (valueType.isArray() || PartnerClass.class.isAssignableFrom(valueType))
+                            && !allowAliasing
+            );
+            if (defaultValueForUnknownsShouldBeEnforced) {
+                Constraint indexEqualsToAnyPreviousIndex = getFromHistory(a -> a.indexIsValid(index))
+                        .stream()
+                        .reduce(Sbool.ConcSbool.FALSE, Or::newInstance);
+                selectConstraint = And.newInstance(
+                        selectConstraint,
+                        Implication.newInstance(
+                                Not.newInstance(indexEqualsToAnyPreviousIndex),
+                                Eq.newInstance(value, defaultValue)
+                        )
+                );
+            }
+            if (!arrayIsCompletelyInitialized) {
+                selects.add(new Access(guard, index, value));
+            }
+            return Implication.newInstance(guard, selectConstraint);
+        }
+
+        private Constraint _select(Sint index, Sint value, boolean enforceDistinctLazilyInitializedValues) {
+            Constraint indexEqualsToStoreIndex;
+            Constraint indexEqualsToStoreCase;
+            Constraint resultForSelectOperations;
+            if (store != null) {
+                indexEqualsToStoreIndex = store.indexIsValid(index);
+                indexEqualsToStoreCase = Eq.newInstance(store.value, value);
+                resultForSelectOperations = beforeStore._select(index, value, enforceDistinctLazilyInitializedValues);
+            } else {
+                indexEqualsToStoreIndex = Sbool.ConcSbool.FALSE;
+                indexEqualsToStoreCase = Sbool.ConcSbool.TRUE;
+                resultForSelectOperations = Sbool.ConcSbool.TRUE;
+            }
+            for (Access s : selects) {
+                Constraint indexEqualsToSelectIndex = s.indexIsValid(index);
+                Constraint valuesEqual = Eq.newInstance(s.value, value);
+                if (indexEqualsToSelectIndex instanceof Sbool.ConcSbool) {
+                    if (((Sbool.ConcSbool) indexEqualsToSelectIndex).isTrue()) {
+                        resultForSelectOperations = valuesEqual;
+                        break;
+                    }
+                    if (enforceDistinctLazilyInitializedValues) {
+                        resultForSelectOperations = And.newInstance(resultForSelectOperations, Not.newInstance(valuesEqual));
+                    }
+                    continue;
+                }
+                resultForSelectOperations = And.newInstance(
+                        enforceDistinctLazilyInitializedValues
+                                ? Equivalence.newInstance(indexEqualsToSelectIndex, valuesEqual)
+                                : Implication.newInstance(indexEqualsToSelectIndex, valuesEqual),
+                        resultForSelectOperations
+                );
+            }
+            return BoolIte.newInstance(indexEqualsToStoreIndex, indexEqualsToStoreCase, resultForSelectOperations);
+        }
+
+        UnindexedArrayHistory store(Constraint guard, Sint index, Sint value) {
+            if (guard instanceof Sbool.ConcSbool && ((Sbool.ConcSbool) guard).isFalse()) {
+                return this;
+            }
+            return new UnindexedArrayHistory(this, new Access(guard, index, value));
+        }
+
+        private <T> Set<T> getFromHistory(Function<Access, T> get) {
+            Set<T> result = new HashSet<>();
+            if (beforeStore != null) {
+                result.addAll(beforeStore.getFromHistory(get));
+                result.add(get.apply(store));
+            }
+            for (Access a : selects) {
+                result.add(get.apply(a));
+            }
+            return result;
+        }
+    }
+
+    private static final class Access {
+        final Constraint guard;
+        final Sint index;
+        final Sint value;
+
+        Access(Constraint guard, Sint index, Sint value) {
+            this.guard = guard;
+            this.index = index;
+            this.value = value;
+        }
+
+        Constraint indexIsValid(Sint i) {
+            return And.newInstance(guard, Eq.newInstance(index, i));
+        }
+    }
+}
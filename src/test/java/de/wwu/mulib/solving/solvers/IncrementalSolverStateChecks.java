@@ -0,0 +1,273 @@
+package de.wwu.mulib.solving.solvers;
+
+import de.wwu.mulib.MulibConfig;
+import de.wwu.mulib.constraints.*;
+import de.wwu.mulib.substitutions.primitives.Sbool;
+import de.wwu.mulib.substitutions.primitives.Sint;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IncrementalSolverStateChecks {
+
+    @Test
+    public void testPopRestoresRepresentationsOfPreviousLevel() {
+        IncrementalSolverState<String, String> state = newState();
+        Sint arrayId = Sint.concSint(0);
+        Sint objectId = Sint.concSint(1);
+        state.initializeArrayRepresentation(arrayInitialization(arrayId), "a0");
+        state.initializePartnerClassObjectRepresentation(objectInitialization(objectId), "o0");
+        state.pushConstraint(Sbool.ConcSbool.TRUE);
+        state.addNewRepresentationInitializingArrayConstraint(select(arrayId), "a1");
+        state.pushConstraint(Sbool.ConcSbool.TRUE);
+        state.addNewRepresentationInitializingPartnerClassFieldConstraint(getfield(objectId), "o2");
+        state.addNewRepresentationInitializingPartnerClassFieldConstraint(getfield(objectId), "o2'");
+        assertEquals("a1", state.getCurrentArrayRepresentation(arrayId));
+        assertEquals("o2'", state.getCurrentPartnerClassObjectRepresentation(objectId));
+        assertEquals("o0", state.getSymbolicPartnerClassObjectStates().getRepresentationForId(objectId).getRepresentationForDepth(1));
+
+        state.popConstraint();
+        assertEquals("a1", state.getCurrentArrayRepresentation(arrayId));
+        assertEquals("o0", state.getCurrentPartnerClassObjectRepresentation(objectId));
+        state.popConstraint();
+        assertEquals("a0", state.getCurrentArrayRepresentation(arrayId));
+        assertEquals("o0", state.getCurrentPartnerClassObjectRepresentation(objectId));
+    }
+
+    @Test
+    public void testPushAndPopYieldSameStateAsPreviousImplementation() {
+        for (int seed = 0; seed < 50; seed++) {
+            checkRandomPushesAndPops(new Random(seed), "seed=" + seed);
+        }
+    }
+
+    // Performs the same random sequence of pushes, pops, initializations, new representations, and constraints on the
+    // level-scoped state and on the reference below. After each pop, the representations for every object and every
+    // depth, as well as the partner class object constraints, must be the same
+    private static void checkRandomPushesAndPops(Random r, String message) {
+        IncrementalSolverState<String, String> actual = newState();
+        ReferenceIncrementalSolverState expected = new ReferenceIncrementalSolverState();
+        // Arrays and partner class objects share their identifiers; - identifiers beyond the initial capacity and
+        // symbolic identifiers are included
+        List<Sint> arrayIds = new ArrayList<>();
+        List<Sint> objectIds = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            (i % 2 == 0 ? arrayIds : objectIds).add(Sint.concSint(i));
+        }
+        for (int i = 0; i < 4; i++) {
+            arrayIds.add(Sint.newInputSymbolicSint());
+            objectIds.add(Sint.newInputSymbolicSint());
+        }
+        List<Sint> allIds = new ArrayList<>(arrayIds);
+        allIds.addAll(objectIds);
+        int representationNumber = 0;
+        int pops = 0;
+        for (int step = 0; step < 400; step++) {
+            int action = r.nextInt(10);
+            boolean isArray = r.nextBoolean();
+            Sint id = (isArray ? arrayIds : objectIds).get(r.nextInt(arrayIds.size()));
+            String representation = (isArray ? "a" : "o") + representationNumber++;
+            boolean isInitialized = expected.getNewestRepresentation(id) != null;
+            if (action < 2) {
+                Constraint c = Sbool.newInputSymbolicSbool();
+                actual.pushConstraint(c);
+                expected.pushConstraint(c);
+            } else if (action < 4 && expected.level > 0) {
+                actual.popConstraint();
+                expected.popConstraint();
+                pops++;
+                assertSameState(expected, actual, allIds, message + ", step=" + step);
+            } else if (action < 5 && !isInitialized) {
+                if (isArray) {
+                    actual.initializeArrayRepresentation(arrayInitialization(id), representation);
+                } else {
+                    actual.initializePartnerClassObjectRepresentation(objectInitialization(id), representation);
+                }
+                expected.initializeRepresentation(id, representation);
+            } else if (action < 6 && !isInitialized) {
+                // Aliasing objects are represented directly via the states
+                if (isArray) {
+                    actual.getSymbolicArrayStates().addRepresentationForId(id, representation, actual.getLevel());
+                } else {
+                    actual.getSymbolicPartnerClassObjectStates().addRepresentationForId(id, representation, actual.getLevel());
+                }
+                expected.initializeRepresentation(id, representation);
+            } else if (action < 8 && isInitialized) {
+                if (isArray) {
+                    actual.addNewRepresentationInitializingArrayConstraint(select(id), representation);
+                } else {
+                    actual.addNewRepresentationInitializingPartnerClassFieldConstraint(getfield(id), representation);
+                }
+                expected.addNewRepresentation(id, representation);
+            } else if (isInitialized) {
+                PartnerClassObjectConstraint c = isArray ? select(id) : getfield(id);
+                if (isArray) {
+                    actual.addArrayConstraint((ArrayConstraint) c);
+                } else {
+                    actual.addPartnerClassObjectConstraint(c);
+                }
+                expected.addPartnerClassObjectConstraint(c);
+            }
+        }
+        while (expected.level > 0) {
+            actual.popConstraint();
+            expected.popConstraint();
+            pops++;
+            assertSameState(expected, actual, allIds, message + ", final pops");
+        }
+        assertTrue(pops > 0, message);
+    }
+
+    private static void assertSameState(
+            ReferenceIncrementalSolverState expected,
+            IncrementalSolverState<String, String> actual,
+            List<Sint> ids,
+            String message) {
+        assertEquals(expected.level, actual.getLevel(), message);
+        assertEquals(expected.constraints.size(), actual.getConstraints().size(), message);
+        assertEquals(expected.getAllPartnerClassObjectConstraints(), actual.getAllPartnerClassObjectConstraints(), message);
+        for (Sint id : ids) {
+            IncrementalSolverState.PartnerClassObjectRepresentation<String> representation =
+                    actual.getSymbolicPartnerClassObjectStates().getRepresentationForId(id);
+            // Representations without any remaining level are not kept
+            assertEquals(
+                    expected.getNewestRepresentation(id),
+                    representation == null ? null : representation.getNewestRepresentation(),
+                    message + ", id=" + id
+            );
+            for (int depth = 0; depth <= expected.level; depth++) {
+                assertEquals(
+                        expected.getRepresentationForDepth(id, depth),
+                        representation == null ? null : representation.getRepresentationForDepth(depth),
+                        message + ", id=" + id + ", depth=" + depth
+                );
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static IncrementalSolverState<String, String> newState() {
+        // The solver manager is only needed for adding metadata constraints
+        return IncrementalSolverState.newInstance(MulibConfig.builder().build(), null);
+    }
+
+    private static ArrayInitializationConstraint arrayInitialization(Sint id) {
+        return new ArrayInitializationConstraint(
+                id, Sint.concSint(4), Sbool.ConcSbool.FALSE, Sint.class, new ArrayAccessConstraint[0], false
+        );
+    }
+
+    private static PartnerClassObjectInitializationConstraint objectInitialization(Sint id) {
+        return new PartnerClassObjectInitializationConstraint(
+                Object.class, id, Sbool.ConcSbool.FALSE, new PartnerClassObjectFieldConstraint[0], false
+        );
+    }
+
+    private static ArrayAccessConstraint select(Sint id) {
+        return new ArrayAccessConstraint(id, Sint.newInputSymbolicSint(), Sint.newInputSymbolicSint(), ArrayAccessConstraint.Type.SELECT);
+    }
+
+    private static PartnerClassObjectFieldConstraint getfield(Sint id) {
+        return new PartnerClassObjectFieldConstraint(id, "Object.field", Sint.newInputSymbolicSint(), PartnerClassObjectFieldConstraint.Type.GETFIELD);
+    }
+
+    // The state before the representations were scoped to levels: a pop regards the representations of every
+    // object that was ever represented and emptied representations are kept
+    private static final class ReferenceIncrementalSolverState {
+        private final ArrayDeque<Constraint> constraints = new ArrayDeque<>();
+        private final List<List<PartnerClassObjectConstraint>> partnerClassObjectConstraints = new ArrayList<>();
+        private final Map<Sint, ArrayDeque<RepresentationsForLevel>> idToRepresentationsForLevels = new HashMap<>();
+        private int level = 0;
+
+        void pushConstraint(Constraint c) {
+            constraints.push(c);
+            level++;
+        }
+
+        void popConstraint() {
+            for (ArrayDeque<RepresentationsForLevel> representationsForLevels : idToRepresentationsForLevels.values()) {
+                RepresentationsForLevel top = representationsForLevels.peek();
+                if (top != null && top.depth == level) {
+                    representationsForLevels.pop();
+                }
+            }
+            if (partnerClassObjectConstraints.size() > level) {
+                partnerClassObjectConstraints.get(level).clear();
+            }
+            constraints.poll();
+            level--;
+        }
+
+        void initializeRepresentation(Sint id, String representation) {
+            idToRepresentationsForLevels.put(id, new ArrayDeque<>());
+            addNewRepresentation(id, representation);
+        }
+
+        void addNewRepresentation(Sint id, String representation) {
+            ArrayDeque<RepresentationsForLevel> representationsForLevels = idToRepresentationsForLevels.get(id);
+            RepresentationsForLevel top = representationsForLevels.peek();
+            if (top == null || top.depth < level) {
+                top = new RepresentationsForLevel(level);
+                representationsForLevels.push(top);
+            }
+            top.representations.push(representation);
+        }
+
+        void addPartnerClassObjectConstraint(PartnerClassObjectConstraint c) {
+            while (partnerClassObjectConstraints.size() <= level) {
+                partnerClassObjectConstraints.add(new ArrayList<>());
+            }
+            partnerClassObjectConstraints.get(level).add(c);
+        }
+
+        List<PartnerClassObjectConstraint> getAllPartnerClassObjectConstraints() {
+            List<PartnerClassObjectConstraint> result = new ArrayList<>();
+            for (List<PartnerClassObjectConstraint> pcocs : partnerClassObjectConstraints) {
+                result.addAll(pcocs);
+            }
+            return result;
+        }
+
+        String getNewestRepresentation(Sint id) {
+            ArrayDeque<RepresentationsForLevel> representationsForLevels = idToRepresentationsForLevels.get(id);
+            if (representationsForLevels == null || representationsForLevels.isEmpty()) {
+                return null;
+            }
+            return representationsForLevels.peek().representations.peek();
+        }
+
+        String getRepresentationForDepth(Sint id, int depth) {
+            ArrayDeque<RepresentationsForLevel> representationsForLevels = idToRepresentationsForLevels.get(id);
+            if (representationsForLevels == null) {
+                return null;
+            }
+            String current = null;
+            Iterator<RepresentationsForLevel> it = representationsForLevels.descendingIterator();
+            while (it.hasNext()) {
+                RepresentationsForLevel r = it.next();
+                if (r.depth > depth) {
+                    break;
+                }
+                current = r.representations.peek();
+            }
+            return current;
+        }
+    }
+
+    private static final class RepresentationsForLevel {
+        final int depth;
+        final ArrayDeque<String> representations = new ArrayDeque<>();
+
+        RepresentationsForLevel(int depth) {
+            this.depth = depth;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package de.wwu.mulib.substitutions;
+
+import de.wwu.mulib.MulibConfig;
+import de.wwu.mulib.search.executors.MulibValueCopier;
+import de.wwu.mulib.substitutions.primitives.Sint;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SarrayElementsChecks {
+
+    @Test
+    public void testDenseStorageIsAllocatedUponWrite() {
+        SarrayElements<Object> elements = new SarrayElements<>(Sint.concSint(1_000_000));
+        assertEquals(0, denseCapacity(elements));
+        assertNull(elements.get(Sint.concSint(5)));
+        assertFalse(elements.containsKey(Sint.concSint(5)));
+        assertEquals(0, denseCapacity(elements));
+
+        Object o = new Object();
+        assertNull(elements.put(Sint.concSint(5), o));
+        assertTrue(denseCapacity(elements) < 1_000);
+        assertSame(o, elements.get(Sint.concSint(5)));
+        assertEquals(1, elements.size());
+
+        // Growing keeps the stored elements
+        Object o1 = new Object();
+        elements.put(Sint.concSint(999_999), o1);
+        assertEquals(1_000_000, denseCapacity(elements));
+        assertSame(o, elements.get(Sint.concSint(5)));
+        assertSame(o1, elements.get(Sint.concSint(999_999)));
+        assertEquals(2, elements.size());
+
+        // null is a valid element
+        assertSame(o, elements.put(Sint.concSint(5), null));
+        assertTrue(elements.containsKey(Sint.concSint(5)));
+        assertNull(elements.remove(Sint.concSint(5)));
+        assertFalse(elements.containsKey(Sint.concSint(5)));
+        assertEquals(1, elements.size());
+
+        elements.clear();
+        assertEquals(0, elements.size());
+        assertEquals(0, denseCapacity(elements));
+    }
+
+    @Test
+    public void testSparseStorage() {
+        Sint symbolicIndex = Sint.newInputSymbolicSint(0);
+        Sint outOfBounds = Sint.concSint(10);
+        SarrayElements<Object> elements = new SarrayElements<>(Sint.concSint(4));
+        Object o = new Object();
+        Object o1 = new Object();
+        Object o2 = new Object();
+        elements.put(symbolicIndex, o);
+        elements.put(outOfBounds, o1);
+        elements.put(Sint.concSint(2), o2);
+        assertEquals(3, elements.size());
+        assertEquals(4, denseCapacity(elements));
+        assertSame(o, elements.get(symbolicIndex));
+        assertSame(o1, elements.get(outOfBounds));
+        Map<Sint, Object> expected = new HashMap<>();
+        expected.put(symbolicIndex, o);
+        expected.put(outOfBounds, o1);
+        expected.put(Sint.concSint(2), o2);
+        assertEquals(expected, new HashMap<>(elements));
+
+        // Arrays with a symbolic length only use the sparse storage
+        SarrayElements<Object> symbolicLength = new SarrayElements<>(Sint.newInputSymbolicSint(1));
+        symbolicLength.put(Sint.concSint(0), o);
+        assertEquals(0, denseCapacity(symbolicLength));
+        assertSame(o, symbolicLength.get(Sint.concSint(0)));
+        assertSame(o, symbolicLength.remove(Sint.concSint(0)));
+        assertTrue(symbolicLength.isEmpty());
+    }
+
+    @Test
+    public void testCopiesAreIsolated() {
+        Sint symbolicIndex = Sint.newInputSymbolicSint(0);
+        SarrayElements<Object> original = new SarrayElements<>(Sint.concSint(4));
+        Object o = new Object();
+        Object o1 = new Object();
+        original.put(Sint.concSint(0), o);
+        original.put(symbolicIndex, o1);
+
+        SarrayElements<Object> copy = original.copy();
+        Object o2 = new Object();
+        copy.put(Sint.concSint(0), o2);
+        copy.put(Sint.concSint(1), o2);
+        copy.remove(symbolicIndex);
+        assertSame(o, original.get(Sint.concSint(0)));
+        assertFalse(original.containsKey(Sint.concSint(1)));
+        assertSame(o1, original.get(symbolicIndex));
+        assertEquals(2, original.size());
+        assertSame(o2, copy.get(Sint.concSint(0)));
+        assertEquals(2, copy.size());
+
+        // Modifying the original does not modify a copy either
+        SarrayElements<Object> secondCopy = original.copy();
+        original.put(Sint.concSint(3), o2);
+        original.clear();
+        assertSame(o, secondCopy.get(Sint.concSint(0)));
+        assertSame(o1, secondCopy.get(symbolicIndex));
+        assertFalse(secondCopy.containsKey(Sint.concSint(3)));
+        assertEquals(2, secondCopy.size());
+    }
+
+    @Test
+    public void testLazyCopiesReturnCopiedElements() {
+        SarrayElements<Object> original = new SarrayElements<>(Sint.concSint(4));
+        Object o = new Object();
+        Object o1 = new Object();
+        original.put(Sint.concSint(0), o);
+        original.put(Sint.concSint(1), o1);
+        MulibValueCopier mvc = new MulibValueCopier(null, MulibConfig.builder().build(), true);
+        Object copyOfO = new Object();
+        Object copyOfO1 = new Object();
+        mvc.registerCopy(o, copyOfO);
+        mvc.registerCopy(o1, copyOfO1);
+
+        SarrayElements<Object> copy = original.lazyCopy(mvc);
+        // Overwriting a not yet copied element returns its copy, not null or the original
+        assertSame(copyOfO, copy.put(Sint.concSint(0), new Object()));
+        assertSame(copyOfO1, copy.get(Sint.concSint(1)));
+        assertSame(o, original.get(Sint.concSint(0)));
+        assertSame(o1, original.get(Sint.concSint(1)));
+    }
+
+    private static int denseCapacity(SarrayElements<?> elements) {
+        try {
+            Field dense = SarrayElements.class.getDeclaredField("dense");
+            dense.setAccessible(true);
+            return ((Object[]) dense.get(elements)).length;
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
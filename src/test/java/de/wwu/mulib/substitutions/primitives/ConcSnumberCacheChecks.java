@@ -0,0 +1,98 @@
+package de.wwu.mulib.substitutions.primitives;
+
+import de.wwu.mulib.MulibConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcSnumberCacheChecks {
+
+    @Test
+    public void testCachedValuesAreIdentical() {
+        try {
+            ConcSnumberCache.configure(MulibConfig.builder().setVALS_CONC_CACHE_LB(-10).setVALS_CONC_CACHE_UB(300).build());
+            Sint.ConcSint cachedBeforeWidening = Sint.concSint(300);
+            assertSame(Sint.concSint(-10), Sint.concSint(-10));
+            assertSame(Slong.concSlong(42), Slong.concSlong(42));
+            assertSame(Sdouble.concSdouble(7.0), Sdouble.concSdouble(7.0));
+            assertSame(Schar.concSchar('a'), Schar.concSchar('a'));
+            assertSame(Sint.ConcSint.ZERO, Sint.concSint(0));
+            assertSame(Sint.ConcSint.MINUS_ONE, Sint.concSint(-1));
+            // Non-integral doubles and -0.0 are not cached
+            assertNotSame(Sdouble.concSdouble(0.5), Sdouble.concSdouble(0.5));
+            assertNotSame(Sdouble.concSdouble(-0.0), Sdouble.concSdouble(-0.0));
+            assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(Sdouble.concSdouble(-0.0).doubleVal()));
+
+            // Widening keeps the already cached values
+            ConcSnumberCache.configure(MulibConfig.builder().setVALS_CONC_CACHE_LB(-10).setVALS_CONC_CACHE_UB(1000).build());
+            assertSame(cachedBeforeWidening, Sint.concSint(300));
+            assertSame(Sint.concSint(1000), Sint.concSint(1000));
+            assertNotSame(Sint.concSint(1001), Sint.concSint(1001));
+            assertEquals(1001, Sint.concSint(1001).intVal());
+            // A narrower configuration does not narrow the cache
+            ConcSnumberCache.configure(MulibConfig.builder().build());
+            assertSame(Sint.concSint(1000), Sint.concSint(1000));
+        } finally {
+            ConcSnumberCache.configure(MulibConfig.builder().build());
+        }
+    }
+
+    @Test
+    public void testCombinedRangeIsCapped() {
+        try {
+            ConcSnumberCache.configure(MulibConfig.builder().build());
+            int low = ConcSnumberCache.MAX_NUMBER_CACHED_VALUES;
+            ConcSnumberCache.configure(MulibConfig.builder().setVALS_CONC_CACHE_LB(low).setVALS_CONC_CACHE_UB(low + 10).build());
+            Map<String, String> statistics = ConcSnumberCache.getStatistics();
+            // Only the range of the last configuration is cached
+            assertEquals(String.valueOf(low), statistics.get("concCacheLb"));
+            assertEquals(String.valueOf(low + 10), statistics.get("concCacheUb"));
+            assertSame(Sint.concSint(low + 5), Sint.concSint(low + 5));
+            assertNotSame(Sint.concSint(100), Sint.concSint(100));
+        } finally {
+            ConcSnumberCache.configure(MulibConfig.builder().build());
+        }
+        Map<String, String> statistics = ConcSnumberCache.getStatistics();
+        assertTrue(Long.parseLong(statistics.get("concCacheUb")) - Long.parseLong(statistics.get("concCacheLb"))
+                < ConcSnumberCache.MAX_NUMBER_CACHED_VALUES);
+        assertSame(Sint.concSint(100), Sint.concSint(100));
+    }
+
+    @Test
+    public void testAllocationsAreCounted() {
+        try {
+            ConcSnumberCache.configure(MulibConfig.builder().setLOG_CONC_ALLOCATIONS(true).build());
+            Map<String, String> statistics = ConcSnumberCache.getStatistics();
+            assertEquals("0", statistics.get("concSintAllocations"));
+            assertEquals("0", statistics.get("concSlongAllocations"));
+            assertEquals("0", statistics.get("concSdoubleAllocations"));
+            assertEquals("0", statistics.get("concScharAllocations"));
+            Sint.concSint(1 << 30);
+            Sint.concSint(1 << 30);
+            Sint.concSint(1);
+            Slong.concSlong(Long.MAX_VALUE);
+            Sdouble.concSdouble(0.5);
+            Sdouble.concSdouble(2.0);
+            Schar.concSchar(Character.MAX_VALUE);
+            statistics = ConcSnumberCache.getStatistics();
+            assertEquals("2", statistics.get("concSintAllocations"));
+            assertEquals("1", statistics.get("concSlongAllocations"));
+            assertEquals("1", statistics.get("concSdoubleAllocations"));
+            assertEquals("1", statistics.get("concScharAllocations"));
+
+            // A context counting the allocations resets the counters
+            ConcSnumberCache.configure(MulibConfig.builder().setLOG_CONC_ALLOCATIONS(true).build());
+            assertEquals("0", ConcSnumberCache.getStatistics().get("concSintAllocations"));
+
+            // A context not counting the allocations stops counting
+            ConcSnumberCache.configure(MulibConfig.builder().build());
+            Sint.concSint(1 << 30);
+            assertFalse(ConcSnumberCache.getStatistics().containsKey("concSintAllocations"));
+            assertEquals(0, ConcSnumberCache.sintAllocations.sum());
+        } finally {
+            ConcSnumberCache.configure(MulibConfig.builder().build());
+        }
+    }
+}
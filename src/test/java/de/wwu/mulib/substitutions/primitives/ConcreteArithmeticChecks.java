@@ -0,0 +1,111 @@
+package de.wwu.mulib.substitutions.primitives;
+
+import de.wwu.mulib.search.executors.SymbolicExecution;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcreteArithmeticChecks {
+
+    // No SymbolicExecution is passed; - if the calculation factory were called for concrete operands, this would fail
+    private static final SymbolicExecution NO_SE = null;
+
+    @Test
+    public void testIntArithmetic() {
+        int[] values = { Integer.MIN_VALUE, -7, -1, 0, 1, 3, 127, 128, Integer.MAX_VALUE };
+        for (int l : values) {
+            Sint lhs = Sint.concSint(l);
+            assertEquals(-l, ((ConcSnumber) lhs.neg(NO_SE)).intVal());
+            for (int r : values) {
+                Sint rhs = Sint.concSint(r);
+                assertEquals(l + r, ((ConcSnumber) lhs.add(rhs, NO_SE)).intVal());
+                assertEquals(l - r, ((ConcSnumber) lhs.sub(rhs, NO_SE)).intVal());
+                assertEquals(l * r, ((ConcSnumber) lhs.mul(rhs, NO_SE)).intVal());
+                if (r == 0) {
+                    assertThrows(ArithmeticException.class, () -> lhs.div(rhs, NO_SE));
+                    assertThrows(ArithmeticException.class, () -> lhs.mod(rhs, NO_SE));
+                } else {
+                    assertEquals(l / r, ((ConcSnumber) lhs.div(rhs, NO_SE)).intVal());
+                    assertEquals(l % r, ((ConcSnumber) lhs.mod(rhs, NO_SE)).intVal());
+                }
+                assertTrue(lhs.add(rhs, NO_SE) instanceof Sint.ConcSint);
+            }
+        }
+    }
+
+    @Test
+    public void testLongArithmetic() {
+        long[] values = { Long.MIN_VALUE, -7, -1, 0, 1, 3, 1L << 40, Long.MAX_VALUE };
+        for (long l : values) {
+            Slong lhs = Slong.concSlong(l);
+            assertEquals(-l, ((ConcSnumber) lhs.neg(NO_SE)).longVal());
+            for (long r : values) {
+                Slong rhs = Slong.concSlong(r);
+                assertEquals(l + r, ((ConcSnumber) lhs.add(rhs, NO_SE)).longVal());
+                assertEquals(l - r, ((ConcSnumber) lhs.sub(rhs, NO_SE)).longVal());
+                assertEquals(l * r, ((ConcSnumber) lhs.mul(rhs, NO_SE)).longVal());
+                if (r == 0) {
+                    assertThrows(ArithmeticException.class, () -> lhs.div(rhs, NO_SE));
+                    assertThrows(ArithmeticException.class, () -> lhs.mod(rhs, NO_SE));
+                } else {
+                    assertEquals(l / r, ((ConcSnumber) lhs.div(rhs, NO_SE)).longVal());
+                    assertEquals(l % r, ((ConcSnumber) lhs.mod(rhs, NO_SE)).longVal());
+                }
+                assertTrue(lhs.mul(rhs, NO_SE) instanceof Slong.ConcSlong);
+            }
+        }
+    }
+
+    @Test
+    public void testDoubleArithmetic() {
+        double[] values = { Double.NEGATIVE_INFINITY, -2.5, -0.0, 0.0, 1, 3.75, Double.MAX_VALUE, Double.NaN };
+        for (double l : values) {
+            Sdouble lhs = Sdouble.concSdouble(l);
+            assertSameDouble(-l, ((ConcSnumber) lhs.neg(NO_SE)).doubleVal());
+            for (double r : values) {
+                Sdouble rhs = Sdouble.concSdouble(r);
+                assertSameDouble(l + r, ((ConcSnumber) lhs.add(rhs, NO_SE)).doubleVal());
+                assertSameDouble(l - r, ((ConcSnumber) lhs.sub(rhs, NO_SE)).doubleVal());
+                assertSameDouble(l * r, ((ConcSnumber) lhs.mul(rhs, NO_SE)).doubleVal());
+                assertSameDouble(l / r, ((ConcSnumber) lhs.div(rhs, NO_SE)).doubleVal());
+                assertSameDouble(l % r, ((ConcSnumber) lhs.mod(rhs, NO_SE)).doubleVal());
+                assertTrue(lhs.div(rhs, NO_SE) instanceof Sdouble.ConcSdouble);
+            }
+        }
+    }
+
+    @Test
+    public void testFloatArithmetic() {
+        float[] values = { Float.NEGATIVE_INFINITY, -2.5f, -0.0f, 0.0f, 1, 3.75f, Float.MAX_VALUE, Float.NaN };
+        for (float l : values) {
+            Sfloat lhs = Sfloat.concSfloat(l);
+            assertSameFloat(-l, ((ConcSnumber) lhs.neg(NO_SE)).floatVal());
+            for (float r : values) {
+                Sfloat rhs = Sfloat.concSfloat(r);
+                assertSameFloat(l + r, ((ConcSnumber) lhs.add(rhs, NO_SE)).floatVal());
+                assertSameFloat(l - r, ((ConcSnumber) lhs.sub(rhs, NO_SE)).floatVal());
+                assertSameFloat(l * r, ((ConcSnumber) lhs.mul(rhs, NO_SE)).floatVal());
+                assertSameFloat(l / r, ((ConcSnumber) lhs.div(rhs, NO_SE)).floatVal());
+                assertSameFloat(l % r, ((ConcSnumber) lhs.mod(rhs, NO_SE)).floatVal());
+                assertTrue(lhs.sub(rhs, NO_SE) instanceof Sfloat.ConcSfloat);
+            }
+        }
+    }
+
+    @Test
+    public void testSymbolicOperandsAreNotComputedConcretely() {
+        // Symbolic operands are passed to the calculation factory of the SymbolicExecution
+        Sint sym = Sint.newInputSymbolicSint();
+        assertThrows(NullPointerException.class, () -> sym.add(Sint.concSint(1), NO_SE));
+        assertThrows(NullPointerException.class, () -> Sint.concSint(1).mul(sym, NO_SE));
+        assertThrows(NullPointerException.class, () -> sym.neg(NO_SE));
+    }
+
+    private static void assertSameDouble(double expected, double actual) {
+        assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(actual));
+    }
+
+    private static void assertSameFloat(float expected, float actual) {
+        assertEquals(Float.floatToIntBits(expected), Float.floatToIntBits(actual));
+    }
+}
@@ -38,10 +38,77 @@ public class AliasingAndIdsEq {
         }
     }
 
+    public static int untouchedAliasingTargets() {
+        A a0 = Mulib.freeObject(A.class);
+        A a1 = Mulib.freeObject(A.class);
+        A a2 = Mulib.freeObject(A.class);
+        return aliasingIndicator(a0, a1, a2);
+    }
+
+    public static int touchedAliasingTargets() {
+        A a0 = Mulib.freeObject(A.class);
+        A a1 = Mulib.freeObject(A.class);
+        if (a1.i == 42) {
+            throw Mulib.fail();
+        }
+        A a2 = Mulib.freeObject(A.class);
+        return aliasingIndicator(a0, a1, a2);
+    }
+
+    public static int aliasingTargetsToldApartAfterInitialization() {
+        A a0 = Mulib.freeObject(A.class);
+        A a1 = Mulib.freeObject(A.class);
+        A b = Mulib.freeObject(A.class);
+        // a0 and a1 are only told apart after b has been initialized
+        if (b == a1) {
+            return 1;
+        }
+        if (b == a0) {
+            return 2;
+        }
+        return 0;
+    }
+
+    public static AliasingTargets untouchedAliasingTargetsInContainer() {
+        A a0 = Mulib.freeObject(A.class);
+        A a1 = Mulib.freeObject(A.class);
+        A a2 = Mulib.freeObject(A.class);
+        return new AliasingTargets(a0, a1, a2);
+    }
+
+    public static int aliasingIndicator(AliasingTargets targets) {
+        return aliasingIndicator(targets.a0, targets.a1, targets.a2);
+    }
+
+    private static int aliasingIndicator(A a0, A a1, A a2) {
+        int result = 0;
+        if (a2 == a0) {
+            result += 1;
+        }
+        if (a2 == a1) {
+            result += 2;
+        }
+        if (a1 == a0) {
+            result += 4;
+        }
+        return result;
+    }
+
     public static class A {
         int i = 0;
     }
 
+    public static class AliasingTargets {
+        private final A a0;
+        private final A a1;
+        private final A a2;
+        public AliasingTargets(A a0, A a1, A a2) {
+            this.a0 = a0;
+            this.a1 = a1;
+            this.a2 = a2;
+        }
+    }
+
     public static class ResultContainer {
         private final A aliasingObject;
         private final A aliasingTarget;
@@ -0,0 +1,91 @@
+package de.wwu.mulib.transform_and_execute.examples;
+
+import de.wwu.mulib.Mulib;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+public class CollectionScenario {
+
+    public static int checkList() {
+        int a = Mulib.rememberedFreeInt("a");
+        List<Integer> list = new ArrayList<>();
+        list.add(a);
+        list.add(3);
+        list.add(4);
+        list.remove(2);
+        int sum = 0;
+        for (int e : list) {
+            sum += e;
+        }
+        if (list.contains(5)) {
+            return -1;
+        }
+        return sum;
+    }
+
+    public static int checkMap() {
+        int k = Mulib.rememberedFreeInt("k");
+        Map<Integer, Integer> map = new HashMap<>();
+        map.put(1, 10);
+        map.put(2, 20);
+        map.put(k, 30);
+        if (map.keySet().size() != map.values().size() || map.entrySet().size() != map.size()) {
+            throw new IllegalStateException();
+        }
+        int sum = 0;
+        for (Map.Entry<Integer, Integer> e : map.entrySet()) {
+            sum += e.getValue();
+        }
+        int keys = 0;
+        for (int key : map.keySet()) {
+            keys++;
+        }
+        for (int value : map.values()) {
+            sum += value;
+        }
+        Iterator<Integer> it = map.keySet().iterator();
+        while (it.hasNext()) {
+            if (it.next() == 2) {
+                it.remove();
+            }
+        }
+        if (map.size() != keys - 1 || map.containsKey(2)) {
+            throw new IllegalStateException();
+        }
+        return sum / 2;
+    }
+
+    public static int sumSelected() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            if (Mulib.freeBoolean()) {
+                list.add(i);
+            }
+        }
+        int sum = 0;
+        for (int e : list) {
+            sum += e;
+        }
+        return sum * 10 + list.size();
+    }
+
+    public static int iterateBeyondEnd() {
+        List<Integer> list = new ArrayList<>();
+        if (Mulib.freeBoolean()) {
+            list.add(1);
+        }
+        Iterator<Integer> it = list.iterator();
+        try {
+            it.next();
+            it.next();
+            return 0;
+        } catch (NoSuchElementException e) {
+            return -list.size() - 1;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package de.wwu.mulib.transform_and_execute.examples;
+
+import de.wwu.mulib.Mulib;
+
+public class ConcolicBranches {
+
+    public static int classify() {
+        int x = Mulib.freeInt();
+        int y = Mulib.freeInt();
+        int result = 0;
+        if (x > 10) {
+            result += 1;
+            if (x < 5) {
+                // Infeasible
+                result += 100;
+            }
+        }
+        if (y > x) {
+            result += 2;
+            if (x > 10 && y < 11) {
+                // Infeasible
+                result += 100;
+            }
+        }
+        if (x + y == 7) {
+            result += 4;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,29 @@
+package de.wwu.mulib.transform_and_execute.examples;
+
+import de.wwu.mulib.Mulib;
+
+public class LazilyCopiedInputs {
+
+    public static class Box {
+        public int value;
+
+        public Box(int value) {
+            this.value = value;
+        }
+    }
+
+    public static int check(Box[] boxes) {
+        Box first = boxes[0];
+        // Overwrite elements that have not been accessed yet
+        boxes[0] = boxes[1];
+        boxes[1] = new Box(0);
+        first.value++;
+        boxes[0].value += 10;
+        boxes[2].value += 100;
+        int result = first.value + boxes[0].value + boxes[1].value + boxes[2].value;
+        if (Mulib.freeBoolean()) {
+            return result;
+        }
+        return -result;
+    }
+}
@@ -0,0 +1,16 @@
+package de.wwu.mulib.transform_and_execute.examples.free_arrays;
+
+import de.wwu.mulib.Mulib;
+
+public class UnrolledSymbolicLength {
+
+    public static int[] store() {
+        int[] a = Mulib.freeObject(int[].class);
+        if (a.length == 0 || a.length > 2) {
+            throw Mulib.fail();
+        }
+        int i = Mulib.rememberedFreeInt("i");
+        a[i] = 42;
+        return a;
+    }
+}
@@ -1,5 +1,6 @@
 package de.wwu.mulib.transform_and_execute.examples_executor;
 
+import de.wwu.mulib.MulibConfig;
 import de.wwu.mulib.TestUtility;
 import de.wwu.mulib.search.trees.PathSolution;
 import de.wwu.mulib.solving.Solution;
@@ -7,6 +8,8 @@ import de.wwu.mulib.transform_and_execute.examples.AliasingAndIdsEq;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -80,4 +83,48 @@ public class AliasingAndIdsEqTransfExec {
         }, "AliasingAndIdsEq.objectsEq");
     }
 
+    @Test
+    public void testSymmetryBreakingBetweenAliasingTargets() {
+        TestUtility.getAllSolutions((mb) -> {
+            mb.setSOLVER_HIGH_LEVEL_SYMBOLIC_OBJECT_APPROACH(true)
+                    .setFREE_INIT_ALIASING_FOR_FREE_OBJECTS(true);
+            // a1 can alias a0; a2 can alias a0 or a1
+            List<Solution> untouchedWithoutSymmetryBreaking = getSolutions("untouchedAliasingTargets", mb);
+            List<Solution> touchedWithoutSymmetryBreaking = getSolutions("touchedAliasingTargets", mb);
+            assertEquals(Set.of(0, 1, 2, 4, 7), returnValues(untouchedWithoutSymmetryBreaking));
+            assertEquals(Set.of(0, 1, 2, 4, 7), returnValues(touchedWithoutSymmetryBreaking));
+
+            List<Solution> toldApartWithoutSymmetryBreaking = getSolutions("aliasingTargetsToldApartAfterInitialization", mb);
+            assertEquals(Set.of(0, 1, 2), returnValues(toldApartWithoutSymmetryBreaking));
+            List<Solution> containerWithoutSymmetryBreaking = getSolutions("untouchedAliasingTargetsInContainer", mb);
+            assertFalse(containerWithoutSymmetryBreaking.isEmpty());
+
+            mb.setFREE_INIT_ALIASING_SYMMETRY_BREAKING(true);
+            // All objects are told apart via their identifiers; - no solution is omitted
+            assertEquals(Set.of(0, 1, 2, 4, 7), returnValues(getSolutions("untouchedAliasingTargets", mb)));
+            assertEquals(Set.of(0, 1, 2, 4, 7), returnValues(getSolutions("touchedAliasingTargets", mb)));
+            // b is initialized before a0 and a1 are told apart; - b aliasing a1 must still be found
+            assertEquals(Set.of(0, 1, 2), returnValues(getSolutions("aliasingTargetsToldApartAfterInitialization", mb)));
+            // a0 and a1 stay untouched; - a2 aliasing a1, while a0 is a new object and not aliased, is symmetric to
+            // a2 aliasing a0 and is omitted
+            List<Solution> containerWithSymmetryBreaking = getSolutions("untouchedAliasingTargetsInContainer", mb);
+            assertFalse(containerWithSymmetryBreaking.isEmpty());
+            for (Solution s : containerWithSymmetryBreaking) {
+                assertNotEquals(2, AliasingAndIdsEq.aliasingIndicator((AliasingAndIdsEq.AliasingTargets) s.returnValue));
+            }
+        }, "AliasingAndIdsEq.symmetryBreaking");
+    }
+
+    private static List<Solution> getSolutions(String methodName, MulibConfig.MulibConfigBuilder mb) {
+        return TestUtility.getUpToNSolutions(
+                20,
+                methodName,
+                AliasingAndIdsEq.class,
+                mb
+        );
+    }
+
+    private static Set<Object> returnValues(List<Solution> solutions) {
+        return solutions.stream().map(s -> s.returnValue).collect(Collectors.toSet());
+    }
 }
@@ -1259,4 +1259,28 @@ public class FreeArraysExec {
         );
     }
 
+    @Test
+    public void testUnrolledArrayWithSymbolicLength() {
+        TestUtility.getAllSolutions(
+                (mb) -> {
+                    // The free array is unrolled up to the upper bound of symbolic ints, which exceeds its labeled length
+                    mb.setVALS_SYMSINT_DOMAIN(-8, 8)
+                            .setARRAYS_UNROLL_LENGTH_THRESHOLD(8);
+                    List<Solution> solutions = TestUtility.getUpToNSolutions(
+                            10,
+                            "store",
+                            UnrolledSymbolicLength.class,
+                            mb
+                    );
+                    assertFalse(solutions.isEmpty());
+                    for (Solution s : solutions) {
+                        int[] values = (int[]) s.returnValue;
+                        int i = (Integer) s.labels.getLabelForId("i");
+                        assertTrue(values.length == 1 || values.length == 2, Arrays.toString(values));
+                        assertEquals(42, values[i]);
+                    }
+                },
+                "testUnrolledArrayWithSymbolicLength"
+        );
+    }
 }
@@ -0,0 +1,48 @@
+package de.wwu.mulib.transform_and_execute.examples_executor;
+
+import de.wwu.mulib.TestUtility;
+import de.wwu.mulib.search.trees.PathSolution;
+import de.wwu.mulib.search.trees.ThrowablePathSolution;
+import de.wwu.mulib.transform_and_execute.examples.ConcolicBranches;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GenerationalConcolicExec {
+
+    @Test
+    public void testGenerationalSearchFindsSameSolutionsAsConcolicSearch() {
+        TestUtility.getAllSolutions(mb -> {
+            mb.setSEARCH_CONCOLIC(true);
+            mb.setSEARCH_CONCOLIC_GENERATIONAL(false);
+            List<PathSolution> concolic = TestUtility.executeMulib(
+                    "classify",
+                    ConcolicBranches.class,
+                    mb,
+                    true
+            );
+            mb.setSEARCH_CONCOLIC_GENERATIONAL(true);
+            List<PathSolution> generational = TestUtility.executeMulib(
+                    "classify",
+                    ConcolicBranches.class,
+                    mb,
+                    true
+            );
+            assertTrue(concolic.stream().noneMatch(ps -> ps instanceof ThrowablePathSolution));
+            assertTrue(generational.stream().noneMatch(ps -> ps instanceof ThrowablePathSolution));
+            Set<Object> expected = Set.of(0, 1, 2, 3, 4, 5, 6);
+            assertEquals(expected, returnValues(concolic));
+            assertEquals(expected, returnValues(generational));
+            assertEquals(concolic.size(), generational.size());
+        }, "testGenerationalSearchFindsSameSolutionsAsConcolicSearch");
+    }
+
+    private static Set<Object> returnValues(List<PathSolution> pathSolutions) {
+        return pathSolutions.stream().map(ps -> ps.getSolution().returnValue).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,53 @@
+package de.wwu.mulib.transform_and_execute.examples_executor;
+
+import de.wwu.mulib.TestUtility;
+import de.wwu.mulib.search.trees.PathSolution;
+import de.wwu.mulib.search.trees.ThrowablePathSolution;
+import de.wwu.mulib.transform_and_execute.examples.LazilyCopiedInputs;
+import de.wwu.mulib.transform_and_execute.examples.LazilyCopiedInputs.Box;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazilyCopiedInputsExec {
+
+    @Test
+    public void testInputsAreNotAliasedAfterWrites() {
+        TestUtility.getAllSolutions(
+                mb -> {
+                    mb.setSEARCH_COPY_ARRAY_ELEMENTS_OF_INPUTS_LAZILY(true);
+                    Box box0 = new Box(1);
+                    Box box1 = new Box(2);
+                    Box box2 = new Box(3);
+                    Box[] boxes = new Box[] { box0, box1, box2 };
+                    List<PathSolution> result = TestUtility.executeMulib(
+                            "check",
+                            LazilyCopiedInputs.class,
+                            mb,
+                            true,
+                            new Class[] { Box[].class },
+                            new Object[] { boxes }
+                    );
+                    assertEquals(2, result.size());
+                    assertTrue(result.stream().noneMatch(ps -> ps instanceof ThrowablePathSolution));
+                    // Each path starts from unmodified copies of the inputs: 2 + 12 + 0 + 103
+                    Set<Object> returnValues = result.stream()
+                            .map(ps -> ps.getSolution().returnValue)
+                            .collect(Collectors.toSet());
+                    assertEquals(Set.of(117, -117), returnValues);
+                    // The inputs themselves are not modified
+                    assertSame(box0, boxes[0]);
+                    assertSame(box1, boxes[1]);
+                    assertSame(box2, boxes[2]);
+                    assertEquals(1, box0.value);
+                    assertEquals(2, box1.value);
+                    assertEquals(3, box2.value);
+                },
+                "testInputsAreNotAliasedAfterWrites"
+        );
+    }
+}
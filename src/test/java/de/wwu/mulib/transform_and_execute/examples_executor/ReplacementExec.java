@@ -6,10 +6,15 @@ import de.wwu.mulib.model.classes.java.lang.NumberReplacement;
 import de.wwu.mulib.search.trees.ThrowablePathSolution;
 import de.wwu.mulib.search.trees.PathSolution;
 import de.wwu.mulib.solving.Solution;
+import de.wwu.mulib.transform_and_execute.examples.CollectionScenario;
 import de.wwu.mulib.transform_and_execute.examples.IntegerScenario;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -48,4 +53,116 @@ public class ReplacementExec {
                 "checkInit");
     }
 
+    @Test
+    public void checkTransformListReplacement() {
+        TestUtility.getAllSolutions(
+                (mb) -> {
+                    mb.setTRANSF_USE_COLLECTION_MODEL_CLASSES(true);
+                    List<PathSolution> result = TestUtility.executeMulib(
+                            "checkList",
+                            CollectionScenario.class,
+                            mb,
+                            true
+                    );
+                    assertTrue(result.size() >= 2);
+                    assertTrue(result.stream().noneMatch(ps -> ps instanceof ThrowablePathSolution));
+                    boolean containsFive = false;
+                    for (PathSolution ps : result) {
+                        Solution s = ps.getSolution();
+                        int a = (Integer) s.labels.getLabelForId("a");
+                        if (a == 5) {
+                            containsFive = true;
+                            assertEquals(-1, s.returnValue);
+                        } else {
+                            assertEquals(a + 3, s.returnValue);
+                        }
+                    }
+                    assertTrue(containsFive);
+                },
+                "checkList");
+    }
+
+    @Test
+    public void checkTransformMapReplacement() {
+        TestUtility.getAllSolutions(
+                (mb) -> {
+                    mb.setTRANSF_USE_COLLECTION_MODEL_CLASSES(true);
+                    List<PathSolution> result = TestUtility.executeMulib(
+                            "checkMap",
+                            CollectionScenario.class,
+                            mb,
+                            true
+                    );
+                    assertTrue(result.size() >= 3);
+                    assertTrue(result.stream().noneMatch(ps -> ps instanceof ThrowablePathSolution));
+                    Set<Object> returnValues = new HashSet<>();
+                    for (PathSolution ps : result) {
+                        Solution s = ps.getSolution();
+                        int k = (Integer) s.labels.getLabelForId("k");
+                        // The mapping for k overwrites the existing mapping for an equal key
+                        assertEquals(k == 1 ? 50 : k == 2 ? 40 : 60, s.returnValue);
+                        returnValues.add(s.returnValue);
+                    }
+                    assertEquals(Set.of(40, 50, 60), returnValues);
+                },
+                "checkMap");
+    }
+
+    @Test
+    public void checkListReplacementYieldsSamePathsAsArrayList() {
+        TestUtility.getAllSolutions(
+                (mb) -> {
+                    List<String> methodNames = List.of("sumSelected", "iterateBeyondEnd");
+                    // Building the configuration adds the model classes to the builder; - java.util.ArrayList is used first
+                    mb.setTRANSF_USE_COLLECTION_MODEL_CLASSES(false);
+                    Map<String, List<PathSolution>> withoutModel = new HashMap<>();
+                    for (String methodName : methodNames) {
+                        withoutModel.put(methodName, TestUtility.executeMulib(
+                                methodName,
+                                CollectionScenario.class,
+                                mb,
+                                true
+                        ));
+                    }
+                    mb.setTRANSF_USE_COLLECTION_MODEL_CLASSES(true);
+                    for (String methodName : methodNames) {
+                        List<PathSolution> withModel = TestUtility.executeMulib(
+                                methodName,
+                                CollectionScenario.class,
+                                mb,
+                                true
+                        );
+                        assertTrue(withoutModel.get(methodName).stream().noneMatch(ps -> ps instanceof ThrowablePathSolution), methodName);
+                        assertTrue(withModel.stream().noneMatch(ps -> ps instanceof ThrowablePathSolution), methodName);
+                        // The model does not branch on resizing the backing array
+                        assertEquals(withoutModel.get(methodName).size(), withModel.size(), methodName);
+                        assertEquals(returnValues(withoutModel.get(methodName)), returnValues(withModel), methodName);
+                    }
+                    List<PathSolution> result = TestUtility.executeMulib(
+                            "sumSelected",
+                            CollectionScenario.class,
+                            mb,
+                            true
+                    );
+                    assertEquals(8, result.size());
+                    assertEquals(Set.of(0, 11, 21, 31, 32, 42, 52, 63), returnValues(result));
+                    result = TestUtility.executeMulib(
+                            "iterateBeyondEnd",
+                            CollectionScenario.class,
+                            mb,
+                            true
+                    );
+                    // Calling next() on an exhausted iterator throws a NoSuchElementException
+                    assertEquals(Set.of(-1, -2), returnValues(result));
+                },
+                "checkListReplacementYieldsSamePathsAsArrayList");
+    }
+
+    private static Set<Object> returnValues(List<PathSolution> pathSolutions) {
+        Set<Object> result = new HashSet<>();
+        for (PathSolution ps : pathSolutions) {
+            result.add(ps.getSolution().returnValue);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,62 @@
+package de.wwu.mulib.transform_and_execute.examples_executor;
+
+import de.wwu.mulib.Mulib;
+import de.wwu.mulib.MulibConfig;
+import de.wwu.mulib.MulibContext;
+import de.wwu.mulib.search.trees.PathSolution;
+import de.wwu.mulib.search.trees.ThrowablePathSolution;
+import de.wwu.mulib.throwables.MisconfigurationException;
+import de.wwu.mulib.transform_and_execute.examples.BoolCounterTransf;
+import de.wwu.mulib.transform_and_execute.examples.ConcolicBranches;
+import de.wwu.mulib.transformations.SharedMulibTransformers;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SharedTransformerExec {
+
+    @Test
+    public void testContextsWithDifferentEntryClassesShareTransformer() {
+        SharedMulibTransformers.clear();
+        try {
+            MulibContext boolCounter = Mulib.getMulibContext(BoolCounterTransf.class, "count4", sharingConfig());
+            MulibContext branches = Mulib.getMulibContext(ConcolicBranches.class, "classify", sharingConfig());
+            // The contexts are used interleaved; - each only regards its own search region
+            for (int i = 0; i < 2; i++) {
+                List<PathSolution> boolCounterResult = boolCounter.getPathSolutions();
+                assertEquals(16, boolCounterResult.size());
+                assertEquals(Set.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15), returnValues(boolCounterResult));
+                List<PathSolution> branchesResult = branches.getPathSolutions();
+                assertEquals(7, branchesResult.size());
+                assertEquals(Set.of(0, 1, 2, 3, 4, 5, 6), returnValues(branchesResult));
+            }
+            // A context created later with the shared transformer still yields the same results
+            MulibContext boolCounterAgain = Mulib.getMulibContext(BoolCounterTransf.class, "count4", sharingConfig());
+            assertEquals(16, boolCounterAgain.getPathSolutions().size());
+        } finally {
+            SharedMulibTransformers.clear();
+        }
+    }
+
+    @Test
+    public void testSharingCannotBeCombinedWithNumberedChoicePoints() {
+        assertThrows(MisconfigurationException.class, () -> sharingConfig()
+                .setTRANSF_CFG_GENERATE_CHOICE_POINTS_WITH_ID(false, true, false)
+                .build());
+    }
+
+    private static MulibConfig.MulibConfigBuilder sharingConfig() {
+        return MulibConfig.builder()
+                .setTRANSF_SHARE_TRANSFORMER(true)
+                .setTRANSF_VALIDATE_TRANSFORMATION(true);
+    }
+
+    private static Set<Object> returnValues(List<PathSolution> pathSolutions) {
+        assertTrue(pathSolutions.stream().noneMatch(ps -> ps instanceof ThrowablePathSolution));
+        return pathSolutions.stream().map(ps -> ps.getSolution().returnValue).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,222 @@
+package de.wwu.mulib.transformer;
+
+import de.wwu.mulib.MulibConfig;
+import de.wwu.mulib.TestUtility;
+import de.wwu.mulib.throwables.MisconfigurationException;
+import de.wwu.mulib.transformations.MulibTransformer;
+import de.wwu.mulib.transformations.PrecomputedMulibTransformer;
+import de.wwu.mulib.transformations.TransformationUtility;
+import de.wwu.mulib.transformations.TransformedClassesManifest;
+import de.wwu.mulib.transformer.examples.IntOperations;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TransformedClassesManifestChecks {
+
+    private static final ClassLoader classLoader = TransformedClassesManifestChecks.class.getClassLoader();
+
+    @Test
+    public void testRoundTripViaDirectory() throws IOException {
+        Path directory = Files.createTempDirectory("mulib_manifest").resolve("entry");
+        TransformedClassesManifest manifest = manifest(hashOf(IntOperations.class));
+        manifest.writeTo(directory);
+        Optional<TransformedClassesManifest> read = TransformedClassesManifest.readFrom(directory);
+        assertTrue(read.isPresent());
+        assertEqualManifests(manifest, read.get());
+        assertTrue(read.get().isUpToDate(classLoader));
+        // Overwriting an existing entry
+        manifest.writeTo(directory);
+        assertTrue(TransformedClassesManifest.readFrom(directory).isPresent());
+    }
+
+    @Test
+    public void testRoundTripViaJar() throws IOException {
+        Path jar = Files.createTempDirectory("mulib_manifest").resolve("partner-classes.jar");
+        TransformedClassesManifest manifest = manifest(hashOf(IntOperations.class));
+        manifest.writeToJar(jar);
+        Optional<TransformedClassesManifest> read = TransformedClassesManifest.readFromJar(jar);
+        assertTrue(read.isPresent());
+        assertEqualManifests(manifest, read.get());
+        assertTrue(read.get().isUpToDate(classLoader));
+    }
+
+    @Test
+    public void testIncompleteManifestIsNotRead() throws IOException {
+        Path directory = Files.createTempDirectory("mulib_manifest").resolve("entry");
+        assertTrue(TransformedClassesManifest.readFrom(directory).isEmpty());
+        manifest(hashOf(IntOperations.class)).writeTo(directory);
+        try (Stream<Path> classFiles = Files.list(directory.resolve(TransformedClassesManifest.CLASSES_DIRECTORY_NAME))) {
+            for (Path classFile : classFiles.collect(Collectors.toList())) {
+                Files.delete(classFile);
+            }
+        }
+        assertTrue(TransformedClassesManifest.readFrom(directory).isEmpty());
+        assertTrue(TransformedClassesManifest.readFromJar(directory.resolve("missing.jar")).isEmpty());
+    }
+
+    @Test
+    public void testChangedOriginalClassIsNotUpToDate() {
+        assertFalse(manifest(TransformedClassesManifest.hash("changed")).isUpToDate(classLoader));
+        TransformedClassesManifest missingOriginal = new TransformedClassesManifest(
+                Map.of(),
+                Map.of(),
+                Map.of("de.wwu.mulib.transformer.examples.DoesNotExist", hashOf(IntOperations.class)),
+                -1,
+                "fingerprint"
+        );
+        assertFalse(missingOriginal.isUpToDate(classLoader));
+    }
+
+    @Test
+    public void testFingerprintDependsOnTransformationOptions() {
+        String fingerprint = TransformationUtility.transformationFingerprint(MulibConfig.builder().build());
+        assertEquals(fingerprint, TransformationUtility.transformationFingerprint(MulibConfig.builder().build()));
+        // Options not influencing the partner classes do not change the fingerprint
+        assertEquals(fingerprint, TransformationUtility.transformationFingerprint(
+                MulibConfig.builder().setTRANSF_VALIDATE_TRANSFORMATION(true).build()));
+        assertNotEquals(fingerprint, TransformationUtility.transformationFingerprint(
+                MulibConfig.builder().setTRANSF_IGNORE_CLASSES(List.of(IntOperations.class)).build()));
+        // Setting the path for generated classes includes the package name into the partner classes' names
+        assertNotEquals(fingerprint, TransformationUtility.transformationFingerprint(
+                MulibConfig.builder().setTRANSF_GENERATED_CLASSES_PATH(TestUtility.TEST_BUILD_PATH).build()));
+        // The classes of Mulib can be enumerated and hashed
+        assertFalse(TransformationUtility.implementationFingerprint().startsWith("unknown-"));
+        assertEquals(TransformationUtility.implementationFingerprint(), TransformationUtility.implementationFingerprint());
+    }
+
+    @Test
+    public void testJarWithFingerprintComputedUnderOtherClasspathIsLoaded() throws Exception {
+        // Copy the classes of Mulib to another location and remove Soot from the classpath
+        Path mulibClasses = Paths.get(TransformationUtility.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path copiedMulibClasses = Files.createTempDirectory("mulib_classes").resolve(mulibClasses.getFileName());
+        try (Stream<Path> files = Files.walk(mulibClasses)) {
+            for (Path f : files.collect(Collectors.toList())) {
+                Files.copy(f, copiedMulibClasses.resolve(mulibClasses.relativize(f).toString()));
+            }
+        }
+        List<URL> otherClasspath = new ArrayList<>();
+        otherClasspath.add(copiedMulibClasses.toUri().toURL());
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            Path p = Paths.get(entry).toAbsolutePath();
+            if (!p.equals(mulibClasses.toAbsolutePath()) && !p.getFileName().toString().contains("soot")) {
+                otherClasspath.add(p.toUri().toURL());
+            }
+        }
+        String fingerprintUnderOtherClasspath;
+        try (URLClassLoader otherClassLoader =
+                     new URLClassLoader(otherClasspath.toArray(URL[]::new), ClassLoader.getPlatformClassLoader())) {
+            assertNull(otherClassLoader.getResource("soot/Scene.class"));
+            Class<?> otherConfigClass = otherClassLoader.loadClass(MulibConfig.class.getName());
+            assertNotSame(MulibConfig.class, otherConfigClass);
+            Object otherBuilder = otherConfigClass.getMethod("builder").invoke(null);
+            Object otherConfig = otherBuilder.getClass().getMethod("build").invoke(otherBuilder);
+            fingerprintUnderOtherClasspath = (String) otherClassLoader.loadClass(TransformationUtility.class.getName())
+                    .getMethod("transformationFingerprint", otherConfigClass)
+                    .invoke(null, otherConfig);
+        }
+        assertEquals(TransformationUtility.transformationFingerprint(MulibConfig.builder().build()), fingerprintUnderOtherClasspath);
+
+        Path jar = Files.createTempDirectory("mulib_manifest").resolve("partner-classes.jar");
+        new TransformedClassesManifest(
+                Map.of(IntOperations.class.getName(), "__mulib__IntOperations"),
+                Map.of("__mulib__IntOperations", new byte[] { (byte) 0xCA, (byte) 0xFE, 1, 2 }),
+                Map.of(IntOperations.class.getName(), hashOf(IntOperations.class)),
+                -1,
+                fingerprintUnderOtherClasspath
+        ).writeToJar(jar);
+        PrecomputedMulibTransformer transformer = PrecomputedMulibTransformer.fromJar(
+                MulibConfig.builder().setTRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR(jar.toString()).build());
+        assertNotNull(transformer);
+        // Other transformation options are still rejected
+        manifest(hashOf(IntOperations.class)).writeToJar(jar);
+        assertThrows(MisconfigurationException.class, () -> PrecomputedMulibTransformer.fromJar(
+                MulibConfig.builder().setTRANSF_PRECOMPUTED_PARTNER_CLASSES_JAR(jar.toString()).build()));
+    }
+
+    @Test
+    public void testCachedPartnerClassesAreInvalidatedIfOriginalClassChanges() throws IOException {
+        Path cacheDirectory = Files.createTempDirectory("mulib_cache");
+        MulibConfig config = MulibConfig.builder()
+                .setTRANSF_CACHE_DIRECTORY(cacheDirectory.toString())
+                .build();
+        transformIntOperations(config);
+        Path entry;
+        try (Stream<Path> entries = Files.list(cacheDirectory)) {
+            List<Path> entryList = entries.collect(Collectors.toList());
+            assertEquals(1, entryList.size());
+            entry = entryList.get(0);
+        }
+        Path manifestFile = entry.resolve(TransformedClassesManifest.MANIFEST_FILE_NAME);
+        assertTrue(TransformedClassesManifest.readFrom(entry).orElseThrow().isUpToDate(classLoader));
+
+        // A hit does not store the partner classes anew
+        FileTime stored = Files.getLastModifiedTime(manifestFile);
+        transformIntOperations(config);
+        assertEquals(stored, Files.getLastModifiedTime(manifestFile));
+
+        // Simulate that IntOperations changed after storing its partner class
+        Properties properties = new Properties();
+        try (InputStream is = Files.newInputStream(manifestFile)) {
+            properties.load(is);
+        }
+        properties.setProperty("hash." + IntOperations.class.getName(), TransformedClassesManifest.hash("changed"));
+        try (OutputStream os = Files.newOutputStream(manifestFile)) {
+            properties.store(os, null);
+        }
+        assertFalse(TransformedClassesManifest.readFrom(entry).orElseThrow().isUpToDate(classLoader));
+        transformIntOperations(config);
+        // The outdated entry was replaced
+        assertTrue(TransformedClassesManifest.readFrom(entry).orElseThrow().isUpToDate(classLoader));
+    }
+
+    private static void transformIntOperations(MulibConfig config) {
+        MulibTransformer transformer = MulibTransformer.get(config);
+        transformer.transformAndLoadClasses(IntOperations.class);
+        Class<?> transformedClass = transformer.getTransformedClass(IntOperations.class);
+        assertTrue(transformedClass.getSimpleName().startsWith("__mulib__"));
+    }
+
+    private static TransformedClassesManifest manifest(String hashOfIntOperations) {
+        return new TransformedClassesManifest(
+                Map.of(IntOperations.class.getName(), "__mulib__IntOperations"),
+                Map.of("__mulib__IntOperations", new byte[] { (byte) 0xCA, (byte) 0xFE, 1, 2 }),
+                Map.of(IntOperations.class.getName(), hashOfIntOperations),
+                3,
+                "fingerprint"
+        );
+    }
+
+    private static String hashOf(Class<?> c) {
+        byte[] classFile = TransformedClassesManifest.readClassFile(c.getName(), classLoader);
+        assertNotNull(classFile);
+        return TransformedClassesManifest.hash(classFile);
+    }
+
+    private static void assertEqualManifests(TransformedClassesManifest expected, TransformedClassesManifest actual) {
+        assertEquals(expected.getOriginalToPartnerClassName(), actual.getOriginalToPartnerClassName());
+        for (String partnerClassName : expected.getOriginalToPartnerClassName().values()) {
+            assertArrayEquals(expected.getClassFile(partnerClassName), actual.getClassFile(partnerClassName));
+        }
+        assertEquals(expected.getNumberNumberedChoicePoints(), actual.getNumberNumberedChoicePoints());
+        assertEquals(expected.getTransformationFingerprint(), actual.getTransformationFingerprint());
+    }
+}
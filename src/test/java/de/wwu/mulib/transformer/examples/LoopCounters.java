@@ -0,0 +1,17 @@
+package de.wwu.mulib.transformer.examples;
+
+import de.wwu.mulib.Mulib;
+
+public class LoopCounters {
+
+    public static int sumOfFreeInts() {
+        int[] values = new int[4];
+        int sum = 0;
+        // i is not tainted; - it only is wrapped where it is compared to the length of and used as an index for values
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Mulib.freeInt();
+            sum += values[i];
+        }
+        return sum;
+    }
+}
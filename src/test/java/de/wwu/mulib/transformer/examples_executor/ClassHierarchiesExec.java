@@ -3,12 +3,21 @@ package de.wwu.mulib.transformer.examples_executor;
 import de.wwu.mulib.MulibConfig;
 import de.wwu.mulib.search.executors.SymbolicExecution;
 import de.wwu.mulib.transformations.MulibTransformer;
+import de.wwu.mulib.transformations.TransformedClassesManifest;
+import de.wwu.mulib.transformations.soot_transformations.SootMulibTransformer;
 import de.wwu.mulib.transformer.examples.class_hierarchies.*;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -94,4 +103,136 @@ public class ClassHierarchiesExec {
             fail("Exception should not have been thrown");
         }
     }
+
+    @Test
+    public void testConcurrentResolutionOfLazilyDefinedPartnerClasses() throws InterruptedException {
+        List<Class<?>> originals = List.of(C0.class, C3.class, C1.class, C5.class);
+        for (int round = 0; round < 5; round++) {
+            MulibConfig config =
+                    MulibConfig.builder()
+                            .setTRANSF_WRITE_TO_FILE(false)
+                            .setTRANSF_VALIDATE_TRANSFORMATION(true)
+                            .setTRANSF_LAZY_TRANSFORMATION(true)
+                            .setTRANSF_REGARD_SPECIAL_CASE(List.of(
+                                    C0.class, C1.class, C2.class, C3.class, C4.class, C5.class,
+                                    I0.class, I1.class, I2.class, I3.class, I4.class, I5.class
+                            ))
+                            .build();
+            MulibTransformer transformer = MulibTransformer.get(config);
+            transformer.transformAndLoadClasses(C5.class);
+            int numberOfThreads = 8;
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            Map<Class<?>, Set<Class<?>>> originalToSeenPartnerClasses = new ConcurrentHashMap<>();
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < numberOfThreads; t++) {
+                final int offset = t;
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < originals.size(); i++) {
+                            Class<?> original = originals.get((i + offset) % originals.size());
+                            // Explicitly requests the partner class while other threads resolve it via the JVM
+                            Class<?> partnerClass = transformer.getTransformedClass(original);
+                            originalToSeenPartnerClasses
+                                    .computeIfAbsent(original, k -> ConcurrentHashMap.newKeySet())
+                                    .add(partnerClass);
+                            if (!Modifier.isAbstract(partnerClass.getModifiers())) {
+                                // Resolves the partner classes of the super classes
+                                Constructor<?> cons = partnerClass.getDeclaredConstructor(SymbolicExecution.class);
+                                assertNotNull(cons.newInstance(new Object[] { null }));
+                            }
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            if (failure.get() != null) {
+                fail(failure.get());
+            }
+            for (Class<?> original : originals) {
+                Set<Class<?>> seen = originalToSeenPartnerClasses.get(original);
+                assertEquals(1, seen.size());
+                assertTrue(seen.iterator().next().getSimpleName().startsWith("__mulib__"));
+            }
+        }
+    }
+
+    @Test
+    public void testParallelTransformationYieldsSameClassFilesAsSequentialTransformation() {
+        TransformedClassesManifest sequential = transformClassHierarchy(1);
+        TransformedClassesManifest parallel = transformClassHierarchy(4);
+        Map<String, String> originalToPartnerClassName = sequential.getOriginalToPartnerClassName();
+        assertEquals(originalToPartnerClassName, parallel.getOriginalToPartnerClassName());
+        for (Class<?> c : List.of(C0.class, C1.class, C2.class, C3.class, C4.class, C5.class, I0.class, I1.class)) {
+            assertTrue(originalToPartnerClassName.containsKey(c.getName()), c.getName());
+        }
+        for (String partnerClassName : originalToPartnerClassName.values()) {
+            assertArrayEquals(sequential.getClassFile(partnerClassName), parallel.getClassFile(partnerClassName), partnerClassName);
+        }
+    }
+
+    @Test
+    public void testRepeatedTransformationsWithInterleavedTransformers() {
+        SootMulibTransformer reference = newClassHierarchyTransformer(1);
+        reference.transformAndLoadClasses(C0.class);
+        reference.transformAndLoadClasses(C3.class);
+        TransformedClassesManifest expected = reference.toManifest();
+        for (int i = 0; i < 3; i++) {
+            SootMulibTransformer first = newClassHierarchyTransformer(1);
+            SootMulibTransformer second = newClassHierarchyTransformer(1);
+            first.transformAndLoadClasses(C0.class);
+            // The second transformer generates partner classes with the same names
+            second.transformAndLoadClasses(C0.class, C3.class);
+            assertTrue(first.getTransformedClassNode(C0.class.getName()).isInScene());
+            // The partner class of C3 extends the partner class of C0 that the first transformer created
+            first.transformAndLoadClasses(C3.class);
+            for (SootMulibTransformer transformer : List.of(first, second)) {
+                assertTrue(transformer.getTransformedClassNode(C0.class.getName()).isInScene());
+                assertTrue(transformer.getTransformedClassNode(C3.class.getName()).isInScene());
+                assertSame(
+                        transformer.getTransformedClassNode(C0.class.getName()),
+                        transformer.getTransformedClassNode(C3.class.getName()).getSuperclass()
+                );
+                TransformedClassesManifest actual = transformer.toManifest();
+                assertEquals(expected.getOriginalToPartnerClassName(), actual.getOriginalToPartnerClassName());
+                for (String partnerClassName : expected.getOriginalToPartnerClassName().values()) {
+                    assertArrayEquals(expected.getClassFile(partnerClassName), actual.getClassFile(partnerClassName), partnerClassName);
+                }
+                assertEquals(
+                        transformer.getTransformedClass(C0.class),
+                        transformer.getTransformedClass(C3.class).getSuperclass()
+                );
+            }
+            assertNotSame(first.getTransformedClass(C3.class), second.getTransformedClass(C3.class));
+        }
+    }
+
+    private static TransformedClassesManifest transformClassHierarchy(int parallelism) {
+        SootMulibTransformer transformer = newClassHierarchyTransformer(parallelism);
+        transformer.transformAndLoadClasses(C0.class, C1.class, C2.class, C3.class, C4.class, C5.class);
+        return transformer.toManifest();
+    }
+
+    private static SootMulibTransformer newClassHierarchyTransformer(int parallelism) {
+        MulibConfig config =
+                MulibConfig.builder()
+                        .setTRANSF_VALIDATE_TRANSFORMATION(true)
+                        .setTRANSF_PARALLELISM(parallelism)
+                        .setTRANSF_REGARD_SPECIAL_CASE(List.of(
+                                C0.class, C1.class, C2.class, C3.class, C4.class, C5.class,
+                                I0.class, I1.class, I2.class, I3.class, I4.class, I5.class
+                        ))
+                        .build();
+        SootMulibTransformer transformer = new SootMulibTransformer(config);
+        transformer.retainClassFiles();
+        return transformer;
+    }
 }
@@ -0,0 +1,56 @@
+package de.wwu.mulib.transformer.examples_executor;
+
+import de.wwu.mulib.MulibConfig;
+import de.wwu.mulib.substitutions.primitives.Sint;
+import de.wwu.mulib.transformations.soot_transformations.SootMulibTransformer;
+import de.wwu.mulib.transformer.examples.LoopCounters;
+import org.junit.jupiter.api.Test;
+import soot.Body;
+import soot.IntType;
+import soot.Local;
+import soot.RefType;
+import soot.SootClass;
+import soot.Unit;
+import soot.jimple.AddExpr;
+import soot.jimple.AssignStmt;
+import soot.jimple.IntConstant;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoopCountersExec {
+
+    @Test
+    public void testUntaintedLoopCounterStaysPrimitive() {
+        MulibConfig config =
+                MulibConfig.builder()
+                        .setTRANSF_VALIDATE_TRANSFORMATION(true)
+                        .setTRANSF_REGARD_SPECIAL_CASE(List.of(LoopCounters.class))
+                        .build();
+        SootMulibTransformer transformer = new SootMulibTransformer(config);
+        transformer.transformAndLoadClasses(LoopCounters.class);
+        assertTrue(transformer.getTransformedClass(LoopCounters.class).getSimpleName().startsWith("__mulib__"));
+        SootClass partnerClass = transformer.getTransformedClassNode(LoopCounters.class.getName());
+        Body body = partnerClass.getMethodByName("sumOfFreeInts").getActiveBody();
+
+        // i++ is the only increment by a constant; - it is not routed through the calculation factory
+        List<Local> incrementedLocals = new ArrayList<>();
+        for (Unit u : body.getUnits()) {
+            if (!(u instanceof AssignStmt) || !(((AssignStmt) u).getRightOp() instanceof AddExpr)) {
+                continue;
+            }
+            AssignStmt assignStmt = (AssignStmt) u;
+            AddExpr addExpr = (AddExpr) assignStmt.getRightOp();
+            if (addExpr.getOp1() == assignStmt.getLeftOp() && IntConstant.v(1).equivTo(addExpr.getOp2())) {
+                incrementedLocals.add((Local) assignStmt.getLeftOp());
+            }
+        }
+        assertEquals(1, incrementedLocals.size());
+        assertEquals(IntType.v(), incrementedLocals.get(0).getType());
+        // The sum depends on free values and is substituted
+        assertTrue(body.getLocals().stream()
+                .anyMatch(l -> l.getType() instanceof RefType && ((RefType) l.getType()).getClassName().equals(Sint.class.getName())));
+    }
+}